@@ -84,6 +84,7 @@ public abstract class AbstractRedisClient {
 
     private final boolean sharedResources;
     private final AtomicBoolean shutdown = new AtomicBoolean();
+    private final ReadHedger readHedger;
 
     /**
      * Create a new instance with client resources.
@@ -104,6 +105,7 @@ public abstract class AbstractRedisClient {
         genericWorkerPool = this.clientResources.eventExecutorGroup();
         channels = new DefaultChannelGroup(genericWorkerPool.next());
         timer = (HashedWheelTimer) this.clientResources.timer();
+        readHedger = new ReadHedger(() -> getOptions().getHedgingOptions(), timer);
     }
 
     /**
@@ -547,6 +549,17 @@ public abstract class AbstractRedisClient {
         this.clientOptions = clientOptions;
     }
 
+    /**
+     * Returns the {@link ReadHedger} that hedges reads of connections created by this client according to
+     * {@link ClientOptions#getHedgingOptions()}. The {@link ReadHedger} exposes hedging metrics.
+     *
+     * @return the {@link ReadHedger} for this client.
+     * @since 5.2
+     */
+    public ReadHedger getReadHedger() {
+        return readHedger;
+    }
+
     private static CompletableFuture<Void> toCompletableFuture(Future<?> future) {
 
         CompletableFuture<Void> promise = new CompletableFuture<>();
@@ -434,7 +434,13 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
                             .next())));
         }
 
-        return Mono.from(new RedisPublisher<>(commandSupplier, connection, false, getScheduler().next()));
+        EventExecutorGroup scheduler = getScheduler();
+
+        if (scheduler == ImmediateEventExecutor.INSTANCE) {
+            return new RedisMono<>(commandSupplier, connection);
+        }
+
+        return Mono.from(new RedisPublisher<>(commandSupplier, connection, false, scheduler.next()));
     }
 
     private <T> Supplier<RedisCommand<K, V, T>> decorate(Supplier<RedisCommand<K, V, T>> commandSupplier,
@@ -32,35 +32,53 @@ public class ClientOptions implements Serializable {
     public static final boolean DEFAULT_AUTO_RECONNECT = true;
     public static final boolean DEFAULT_CANCEL_CMD_RECONNECT_FAIL = false;
     public static final boolean DEFAULT_PUBLISH_ON_SCHEDULER = false;
+    public static final boolean DEFAULT_COALESCE_READ_COMMANDS = false;
     public static final boolean DEFAULT_SUSPEND_RECONNECT_PROTO_FAIL = false;
     public static final int DEFAULT_REQUEST_QUEUE_SIZE = Integer.MAX_VALUE;
+    public static final int DEFAULT_DEMAND_BUFFER_SIZE = 64;
+    public static final int DEFAULT_DEMAND_BUFFER_BUDGET = 1024;
     public static final DisconnectedBehavior DEFAULT_DISCONNECTED_BEHAVIOR = DisconnectedBehavior.DEFAULT;
     public static final SocketOptions DEFAULT_SOCKET_OPTIONS = SocketOptions.create();
     public static final SslOptions DEFAULT_SSL_OPTIONS = SslOptions.create();
     public static final TimeoutOptions DEFAULT_TIMEOUT_OPTIONS = TimeoutOptions.create();
+    public static final HedgingOptions DEFAULT_HEDGING_OPTIONS = HedgingOptions.create();
+    public static final ConnectionWarmup DEFAULT_CONNECTION_WARMUP = ConnectionWarmup.NONE;
+    public static final PubSubDispatchOptions DEFAULT_PUBSUB_DISPATCH_OPTIONS = PubSubDispatchOptions.create();
 
     private final boolean pingBeforeActivateConnection;
     private final boolean autoReconnect;
     private final boolean cancelCommandsOnReconnectFailure;
     private final boolean publishOnScheduler;
+    private final boolean coalesceReadCommands;
     private final boolean suspendReconnectOnProtocolFailure;
     private final int requestQueueSize;
+    private final int demandBufferSize;
+    private final int demandBufferBudget;
     private final DisconnectedBehavior disconnectedBehavior;
     private final SocketOptions socketOptions;
     private final SslOptions sslOptions;
     private final TimeoutOptions timeoutOptions;
+    private final HedgingOptions hedgingOptions;
+    private final ConnectionWarmup connectionWarmup;
+    private final PubSubDispatchOptions pubSubDispatchOptions;
 
     protected ClientOptions(Builder builder) {
         this.pingBeforeActivateConnection = builder.pingBeforeActivateConnection;
         this.cancelCommandsOnReconnectFailure = builder.cancelCommandsOnReconnectFailure;
         this.publishOnScheduler = builder.publishOnScheduler;
+        this.coalesceReadCommands = builder.coalesceReadCommands;
         this.autoReconnect = builder.autoReconnect;
         this.suspendReconnectOnProtocolFailure = builder.suspendReconnectOnProtocolFailure;
         this.requestQueueSize = builder.requestQueueSize;
+        this.demandBufferSize = builder.demandBufferSize;
+        this.demandBufferBudget = builder.demandBufferBudget;
         this.disconnectedBehavior = builder.disconnectedBehavior;
         this.socketOptions = builder.socketOptions;
         this.sslOptions = builder.sslOptions;
         this.timeoutOptions = builder.timeoutOptions;
+        this.hedgingOptions = builder.hedgingOptions;
+        this.connectionWarmup = builder.connectionWarmup;
+        this.pubSubDispatchOptions = builder.pubSubDispatchOptions;
     }
 
     protected ClientOptions(ClientOptions original) {
@@ -68,12 +86,18 @@ public class ClientOptions implements Serializable {
         this.autoReconnect = original.isAutoReconnect();
         this.cancelCommandsOnReconnectFailure = original.isCancelCommandsOnReconnectFailure();
         this.publishOnScheduler = original.isPublishOnScheduler();
+        this.coalesceReadCommands = original.isCoalesceReadCommands();
         this.suspendReconnectOnProtocolFailure = original.isSuspendReconnectOnProtocolFailure();
         this.requestQueueSize = original.getRequestQueueSize();
+        this.demandBufferSize = original.getDemandBufferSize();
+        this.demandBufferBudget = original.getDemandBufferBudget();
         this.disconnectedBehavior = original.getDisconnectedBehavior();
         this.socketOptions = original.getSocketOptions();
         this.sslOptions = original.getSslOptions();
         this.timeoutOptions = original.getTimeoutOptions();
+        this.hedgingOptions = original.getHedgingOptions();
+        this.connectionWarmup = original.getConnectionWarmup();
+        this.pubSubDispatchOptions = original.getPubSubDispatchOptions();
     }
 
     /**
@@ -113,12 +137,18 @@ public class ClientOptions implements Serializable {
         private boolean autoReconnect = DEFAULT_AUTO_RECONNECT;
         private boolean cancelCommandsOnReconnectFailure = DEFAULT_CANCEL_CMD_RECONNECT_FAIL;
         private boolean publishOnScheduler = DEFAULT_PUBLISH_ON_SCHEDULER;
+        private boolean coalesceReadCommands = DEFAULT_COALESCE_READ_COMMANDS;
         private boolean suspendReconnectOnProtocolFailure = DEFAULT_SUSPEND_RECONNECT_PROTO_FAIL;
         private int requestQueueSize = DEFAULT_REQUEST_QUEUE_SIZE;
+        private int demandBufferSize = DEFAULT_DEMAND_BUFFER_SIZE;
+        private int demandBufferBudget = DEFAULT_DEMAND_BUFFER_BUDGET;
         private DisconnectedBehavior disconnectedBehavior = DEFAULT_DISCONNECTED_BEHAVIOR;
         private SocketOptions socketOptions = DEFAULT_SOCKET_OPTIONS;
         private SslOptions sslOptions = DEFAULT_SSL_OPTIONS;
         private TimeoutOptions timeoutOptions = DEFAULT_TIMEOUT_OPTIONS;
+        private HedgingOptions hedgingOptions = DEFAULT_HEDGING_OPTIONS;
+        private ConnectionWarmup connectionWarmup = DEFAULT_CONNECTION_WARMUP;
+        private PubSubDispatchOptions pubSubDispatchOptions = DEFAULT_PUBSUB_DISPATCH_OPTIONS;
 
         protected Builder() {
         }
@@ -191,6 +221,23 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Coalesce identical concurrent read commands on standalone connections. While a read-only command such as {@code GET}
+         * or {@code HGET} is in flight, commands with the same type and arguments do not send a request but complete with the
+         * response of the in-flight command. Enabling this option reduces server load for hot-key reads at the cost that a
+         * caller may observe a response to a command sent before its own invocation. Defaults to {@literal false}, see
+         * {@link #DEFAULT_COALESCE_READ_COMMANDS}.
+         *
+         * @param coalesceReadCommands true/false
+         * @return {@code this}
+         * @since 5.2
+         * @see io.lettuce.core.protocol.CommandCoalescingWriter
+         */
+        public Builder coalesceReadCommands(boolean coalesceReadCommands) {
+            this.coalesceReadCommands = coalesceReadCommands;
+            return this;
+        }
+
         /**
          * Set the per-connection request queue size. The command invocation will lead to a {@link RedisException} if the queue
          * size is exceeded. Setting the {@code requestQueueSize} to a lower value will lead earlier to exceptions during
@@ -206,6 +253,39 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Set the number of decoded elements a single reactive command may buffer while its subscriber has no demand. Commands
+         * that exceed their buffer or the {@link #demandBufferBudget(int) connection-wide budget} pause reading from the
+         * connection until the subscriber catches up. Setting the {@code demandBufferSize} to {@code 0} pauses the connection
+         * as soon as a subscriber falls behind. Defaults to {@code 64}. See {@link #DEFAULT_DEMAND_BUFFER_SIZE}.
+         *
+         * @param demandBufferSize the per-command buffer size, must not be negative.
+         * @return {@code this}
+         * @since 5.2
+         */
+        public Builder demandBufferSize(int demandBufferSize) {
+
+            LettuceAssert.isTrue(demandBufferSize >= 0, "Demand buffer size must be greater or equal to zero");
+            this.demandBufferSize = demandBufferSize;
+            return this;
+        }
+
+        /**
+         * Set the total number of decoded elements that reactive commands may buffer per connection while their subscribers
+         * have no demand. Reading from the connection is paused only once this budget is exhausted. Defaults to {@code 1024}.
+         * See {@link #DEFAULT_DEMAND_BUFFER_BUDGET}.
+         *
+         * @param demandBufferBudget the per-connection buffer budget, must not be negative.
+         * @return {@code this}
+         * @since 5.2
+         */
+        public Builder demandBufferBudget(int demandBufferBudget) {
+
+            LettuceAssert.isTrue(demandBufferBudget >= 0, "Demand buffer budget must be greater or equal to zero");
+            this.demandBufferBudget = demandBufferBudget;
+            return this;
+        }
+
         /**
          * Sets the behavior for command invocation when connections are in a disconnected state. Defaults to {@literal true}.
          * See {@link #DEFAULT_DISCONNECTED_BEHAVIOR}.
@@ -261,6 +341,50 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Sets the {@link HedgingOptions} to hedge reads from replicas. See {@link #DEFAULT_HEDGING_OPTIONS}.
+         *
+         * @param hedgingOptions must not be {@literal null}.
+         * @return {@code this}
+         * @since 5.2
+         */
+        public Builder hedgingOptions(HedgingOptions hedgingOptions) {
+
+            LettuceAssert.notNull(hedgingOptions, "HedgingOptions must not be null");
+            this.hedgingOptions = hedgingOptions;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ConnectionWarmup} mode to open node connections of Redis Cluster and Master/Replica connections
+         * eagerly. Defaults to {@link ConnectionWarmup#NONE}. See {@link #DEFAULT_CONNECTION_WARMUP}.
+         *
+         * @param connectionWarmup must not be {@literal null}.
+         * @return {@code this}
+         * @since 5.2
+         */
+        public Builder connectionWarmup(ConnectionWarmup connectionWarmup) {
+
+            LettuceAssert.notNull(connectionWarmup, "ConnectionWarmup must not be null");
+            this.connectionWarmup = connectionWarmup;
+            return this;
+        }
+
+        /**
+         * Sets the {@link PubSubDispatchOptions} to control how Pub/Sub messages are dispatched to listeners. See
+         * {@link #DEFAULT_PUBSUB_DISPATCH_OPTIONS}.
+         *
+         * @param pubSubDispatchOptions must not be {@literal null}.
+         * @return {@code this}
+         * @since 5.2
+         */
+        public Builder pubSubDispatchOptions(PubSubDispatchOptions pubSubDispatchOptions) {
+
+            LettuceAssert.notNull(pubSubDispatchOptions, "PubSubDispatchOptions must not be null");
+            this.pubSubDispatchOptions = pubSubDispatchOptions;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClientOptions}.
          *
@@ -285,9 +409,13 @@ public class ClientOptions implements Serializable {
 
         builder.autoReconnect(isAutoReconnect()).cancelCommandsOnReconnectFailure(isCancelCommandsOnReconnectFailure())
                 .disconnectedBehavior(getDisconnectedBehavior()).publishOnScheduler(isPublishOnScheduler())
+                .coalesceReadCommands(isCoalesceReadCommands())
                 .pingBeforeActivateConnection(isPingBeforeActivateConnection()).requestQueueSize(getRequestQueueSize())
+                .demandBufferSize(getDemandBufferSize()).demandBufferBudget(getDemandBufferBudget())
                 .socketOptions(getSocketOptions()).sslOptions(getSslOptions())
-                .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions());
+                .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions())
+                .hedgingOptions(getHedgingOptions()).connectionWarmup(getConnectionWarmup())
+                .pubSubDispatchOptions(getPubSubDispatchOptions());
 
         return builder;
     }
@@ -342,6 +470,17 @@ public class ClientOptions implements Serializable {
         return publishOnScheduler;
     }
 
+    /**
+     * Coalesce identical concurrent read commands on standalone connections so that only one request per distinct read is in
+     * flight. Defaults to {@literal false}, see {@link #DEFAULT_COALESCE_READ_COMMANDS}.
+     *
+     * @return {@literal true} if identical concurrent read commands are coalesced.
+     * @since 5.2
+     */
+    public boolean isCoalesceReadCommands() {
+        return coalesceReadCommands;
+    }
+
     /**
      * If this flag is {@literal true} the reconnect will be suspended on protocol errors. Protocol errors are errors while SSL
      * negotiation or when PING before connect fails.
@@ -363,6 +502,28 @@ public class ClientOptions implements Serializable {
         return requestQueueSize;
     }
 
+    /**
+     * Number of decoded elements a single reactive command may buffer while its subscriber has no demand. Defaults to
+     * {@code 64}.
+     *
+     * @return the per-command demand buffer size.
+     * @since 5.2
+     */
+    public int getDemandBufferSize() {
+        return demandBufferSize;
+    }
+
+    /**
+     * Total number of decoded elements reactive commands may buffer per connection before reading from the connection is
+     * paused. Defaults to {@code 1024}.
+     *
+     * @return the per-connection demand buffer budget.
+     * @since 5.2
+     */
+    public int getDemandBufferBudget() {
+        return demandBufferBudget;
+    }
+
     /**
      * Behavior for command invocation when connections are in a disconnected state. Defaults to
      * {@link DisconnectedBehavior#DEFAULT true}. See {@link #DEFAULT_DISCONNECTED_BEHAVIOR}.
@@ -401,6 +562,37 @@ public class ClientOptions implements Serializable {
         return timeoutOptions;
     }
 
+    /**
+     * Returns the {@link HedgingOptions}.
+     *
+     * @return the {@link HedgingOptions}.
+     * @since 5.2
+     */
+    public HedgingOptions getHedgingOptions() {
+        return hedgingOptions;
+    }
+
+    /**
+     * Returns the {@link ConnectionWarmup} mode. Node connections are opened eagerly in parallel when connecting and after
+     * each topology change unless the mode is {@link ConnectionWarmup#NONE}.
+     *
+     * @return the {@link ConnectionWarmup} mode.
+     * @since 5.2
+     */
+    public ConnectionWarmup getConnectionWarmup() {
+        return connectionWarmup;
+    }
+
+    /**
+     * Returns the {@link PubSubDispatchOptions}.
+     *
+     * @return the {@link PubSubDispatchOptions}.
+     * @since 5.2
+     */
+    public PubSubDispatchOptions getPubSubDispatchOptions() {
+        return pubSubDispatchOptions;
+    }
+
     /**
      * Behavior of connections in disconnected state.
      */
@@ -421,4 +613,34 @@ public class ClientOptions implements Serializable {
          */
         REJECT_COMMANDS,
     }
+
+    /**
+     * Node connections that are opened eagerly by Redis Cluster and Master/Replica connections.
+     *
+     * @since 5.2
+     */
+    public enum ConnectionWarmup {
+
+        /**
+         * Open node connections lazily on first use.
+         */
+        NONE,
+
+        /**
+         * Open connections to all masters.
+         */
+        MASTERS,
+
+        /**
+         * Open connections to all masters and replicas.
+         */
+        ALL;
+
+        /**
+         * @return {@literal true} if connections to replicas are opened eagerly.
+         */
+        public boolean isReplicas() {
+            return this == ALL;
+        }
+    }
 }
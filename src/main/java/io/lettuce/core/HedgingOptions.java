@@ -0,0 +1,194 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options for hedged reads. Hedging sends a duplicate of a read-only command to another eligible node if the command has not
+ * completed within a delay derived from a percentile of recently observed read latencies. The first reply completes the
+ * command, the other reply is ignored. Hedging applies to Redis Cluster and Master/Replica connections that read from
+ * replicas through a {@link ReadFrom} setting other than {@link ReadFrom#MASTER}.
+ * <p>
+ * Duplicates are limited by a client-wide budget expressed as percentage of additional read load.
+ *
+ * @since 5.2
+ */
+@SuppressWarnings("serial")
+public class HedgingOptions implements Serializable {
+
+    public static final boolean DEFAULT_HEDGE_READS = false;
+    public static final double DEFAULT_PERCENTILE = 95.0;
+    public static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(1);
+    public static final double DEFAULT_BUDGET = 5.0;
+
+    private final boolean hedgeReads;
+    private final double percentile;
+    private final Duration minDelay;
+    private final double budget;
+
+    private HedgingOptions(boolean hedgeReads, double percentile, Duration minDelay, double budget) {
+
+        this.hedgeReads = hedgeReads;
+        this.percentile = percentile;
+        this.minDelay = minDelay;
+        this.budget = budget;
+    }
+
+    /**
+     * Returns a new {@link HedgingOptions.Builder} to construct {@link HedgingOptions}.
+     *
+     * @return a new {@link HedgingOptions.Builder} to construct {@link HedgingOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link HedgingOptions} with default settings.
+     *
+     * @return a new instance of {@link HedgingOptions} with default settings.
+     */
+    public static HedgingOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link HedgingOptions} with enabled hedging using default settings.
+     *
+     * @return a new instance of {@link HedgingOptions} with enabled hedging using default settings.
+     */
+    public static HedgingOptions enabled() {
+        return builder().hedgeReads().build();
+    }
+
+    /**
+     * Builder for {@link HedgingOptions}.
+     */
+    public static class Builder {
+
+        private boolean hedgeReads = DEFAULT_HEDGE_READS;
+        private double percentile = DEFAULT_PERCENTILE;
+        private Duration minDelay = DEFAULT_MIN_DELAY;
+        private double budget = DEFAULT_BUDGET;
+
+        /**
+         * Enable hedged reads. Disabled by default, see {@link #DEFAULT_HEDGE_READS}.
+         *
+         * @return {@code this}
+         */
+        public Builder hedgeReads() {
+            return hedgeReads(true);
+        }
+
+        /**
+         * Configure whether reads should be hedged. Disabled by default, see {@link #DEFAULT_HEDGE_READS}.
+         *
+         * @param enabled {@literal true} to enable hedging; {@literal false} to disable hedging.
+         * @return {@code this}
+         */
+        public Builder hedgeReads(boolean enabled) {
+
+            this.hedgeReads = enabled;
+            return this;
+        }
+
+        /**
+         * Set the latency percentile after which a read is hedged. Defaults to {@literal 95}, see
+         * {@link #DEFAULT_PERCENTILE}.
+         *
+         * @param percentile the percentile, must be greater than {@literal 0} and less than {@literal 100}.
+         * @return {@code this}
+         */
+        public Builder percentile(double percentile) {
+
+            LettuceAssert.isTrue(percentile > 0 && percentile < 100, "Percentile must be between 0 and 100");
+
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Set the minimum delay before a read is hedged. Defaults to {@literal 1 millisecond}, see
+         * {@link #DEFAULT_MIN_DELAY}.
+         *
+         * @param minDelay the minimum delay, must not be {@literal null} or negative.
+         * @return {@code this}
+         */
+        public Builder minDelay(Duration minDelay) {
+
+            LettuceAssert.notNull(minDelay, "Minimum delay must not be null");
+            LettuceAssert.isTrue(!minDelay.isNegative(), "Minimum delay must not be negative");
+
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Set the hedging budget as percentage of additional read load. Defaults to {@literal 5}, see {@link #DEFAULT_BUDGET}.
+         *
+         * @param budget the budget in percent, must be greater than {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder budget(double budget) {
+
+            LettuceAssert.isTrue(budget > 0, "Budget must be greater than 0");
+
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link HedgingOptions}.
+         *
+         * @return new instance of {@link HedgingOptions}
+         */
+        public HedgingOptions build() {
+            return new HedgingOptions(hedgeReads, percentile, minDelay, budget);
+        }
+    }
+
+    /**
+     * @return {@literal true} if reads are hedged.
+     */
+    public boolean isHedgeReads() {
+        return hedgeReads;
+    }
+
+    /**
+     * @return the latency percentile after which a read is hedged.
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * @return the minimum delay before a read is hedged.
+     */
+    public Duration getMinDelay() {
+        return minDelay;
+    }
+
+    /**
+     * @return the hedging budget as percentage of additional read load.
+     */
+    public double getBudget() {
+        return budget;
+    }
+}
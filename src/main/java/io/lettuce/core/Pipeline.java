@@ -0,0 +1,181 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static io.lettuce.core.protocol.CommandType.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.Futures;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.support.ConnectionWrapping;
+
+/**
+ * Pipeline that collects commands and writes them as one batch. Commands are recorded through {@link #commands()} and sent
+ * with {@link #flush()}, which writes the collected commands in a single write to the {@link RedisChannelWriter} of the
+ * connection. Pooled connection wrappers are unwrapped to their target connection.
+ * <p>
+ * In contrast to {@link StatefulRedisConnection#setAutoFlushCommands(boolean)}, which affects all users of a connection, a
+ * {@link Pipeline} only buffers its own commands. Multiple threads can use their own {@link Pipeline} on a shared connection
+ * without flushing each other's commands, while regular commands continue to be written immediately.
+ * <p>
+ * Record commands only with methods returning {@link RedisFuture}. Their futures complete once the command is flushed and
+ * its response is received. A {@link Pipeline} can be flushed multiple times; each flush sends the commands recorded since
+ * the previous flush. {@literal MULTI}, {@literal EXEC}, {@literal DISCARD} and {@literal WATCH} cannot be recorded, use
+ * {@link TransactionBuilder} for transactions. {@link Pipeline} is thread-safe.
+ * <p>
+ * {@code commands().flushCommands()} flushes the pipeline. Methods that would change the shared connection or block on a
+ * response, such as {@code setAutoFlushCommands}, {@code reset}, {@code auth} and {@code select}, throw
+ * {@link UnsupportedOperationException}.
+ *
+ * <pre class="code">
+ * Pipeline&lt;String, String&gt; pipeline = Pipeline.create(connection);
+ *
+ * RedisFuture&lt;String&gt; set = pipeline.commands().set("key", "value");
+ * RedisFuture&lt;Long&gt; incr = pipeline.commands().incr("counter");
+ *
+ * pipeline.flush();
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 5.2
+ * @see TransactionBuilder
+ */
+public class Pipeline<K, V> {
+
+    private final RedisChannelHandler<K, V> target;
+    private final RedisAsyncCommands<K, V> commands;
+
+    private List<AsyncCommand<K, V, ?>> recorded = new ArrayList<>();
+
+    private Pipeline(StatefulRedisConnection<K, V> connection, RedisChannelHandler<K, V> target, RedisCodec<K, V> codec) {
+
+        this.target = target;
+        this.commands = new RecordingRedisAsyncCommands<>(connection, codec, this::record, this::flush);
+    }
+
+    /**
+     * Create a new {@link Pipeline} for a connection created by {@link RedisClient} or a pooled wrapper of such a connection.
+     *
+     * @param connection the connection, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Pipeline}.
+     * @throws IllegalArgumentException if the codec of the connection cannot be determined. Use
+     *         {@link #create(StatefulRedisConnection, RedisCodec)} in that case.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> Pipeline<K, V> create(StatefulRedisConnection<K, V> connection) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+
+        Object target = ConnectionWrapping.unwrap(connection);
+
+        LettuceAssert.isTrue(target instanceof StatefulRedisConnectionImpl,
+                "Cannot determine codec of connection. Use create(connection, codec) instead");
+
+        StatefulRedisConnectionImpl<K, V> impl = (StatefulRedisConnectionImpl<K, V>) target;
+        return new Pipeline<>(connection, impl, impl.getCodec());
+    }
+
+    /**
+     * Create a new {@link Pipeline} for a connection using the given {@link RedisCodec}.
+     *
+     * @param connection the connection, must not be {@literal null}.
+     * @param codec the codec of the connection, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Pipeline}.
+     * @throws IllegalArgumentException if the connection is not backed by a {@link RedisChannelWriter}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> Pipeline<K, V> create(StatefulRedisConnection<K, V> connection, RedisCodec<K, V> codec) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        Object target = ConnectionWrapping.unwrap(connection);
+
+        LettuceAssert.isTrue(target instanceof RedisChannelHandler, "Connection must be backed by a RedisChannelWriter");
+
+        return new Pipeline<>(connection, (RedisChannelHandler<K, V>) target, codec);
+    }
+
+    /**
+     * Returns the API to record commands. Recorded commands are sent with {@link #flush()}.
+     *
+     * @return the recording API.
+     */
+    public RedisAsyncCommands<K, V> commands() {
+        return commands;
+    }
+
+    /**
+     * @return the number of commands recorded since the last flush.
+     */
+    public synchronized int size() {
+        return recorded.size();
+    }
+
+    /**
+     * Write the commands recorded since the last flush as one batch to the {@link RedisChannelWriter} of the connection.
+     *
+     * @return a {@link CompletableFuture} completed when all commands of the batch are completed. Completes exceptionally if a
+     *         command of the batch fails.
+     */
+    public CompletableFuture<Void> flush() {
+
+        List<AsyncCommand<K, V, ?>> batch;
+
+        synchronized (this) {
+
+            if (recorded.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            batch = recorded;
+            recorded = new ArrayList<>(batch.size());
+        }
+
+        try {
+            target.getChannelWriter().write(batch);
+        } catch (RuntimeException e) {
+
+            for (AsyncCommand<K, V, ?> command : batch) {
+                command.completeExceptionally(e);
+            }
+        }
+
+        return Futures.allOf(batch);
+    }
+
+    private synchronized void record(AsyncCommand<K, V, ?> command) {
+
+        String type = command.getType().name();
+
+        LettuceAssert.isTrue(!type.equals(MULTI.name()) && !type.equals(EXEC.name()) && !type.equals(DISCARD.name())
+                && !type.equals(WATCH.name()), "Cannot record " + type + " in a pipeline");
+
+        recorded.add(command);
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.io.Serializable;
+import java.util.concurrent.Executor;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options to control how Pub/Sub messages are dispatched to {@link io.lettuce.core.pubsub.RedisPubSubListener listeners}.
+ * By default, listeners are notified on the I/O thread that decoded the message. With {@link Builder#dispatchOffEventLoop()
+ * off-event-loop dispatch} enabled, decoded messages are handed to an {@link Executor} so a slow listener does not delay
+ * decoding of subsequent messages and command responses.
+ * <p>
+ * Messages are assigned to a partition by their channel (or pattern for pattern messages). Each partition is a bounded queue
+ * that is processed by one thread at a time, so the order of messages is retained per channel while different channels are
+ * processed in parallel. Messages that do not fit into a partition queue are handled according to the {@link OverflowPolicy}.
+ * Subscription confirmations ({@code subscribe}, {@code unsubscribe}, {@code psubscribe} and {@code punsubscribe}) are always
+ * queued and never dropped.
+ *
+ * @since 5.2
+ */
+@SuppressWarnings("serial")
+public class PubSubDispatchOptions implements Serializable {
+
+    public static final boolean DEFAULT_DISPATCH_OFF_EVENT_LOOP = false;
+    public static final int DEFAULT_PARTITIONS = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.DROP_NEWEST;
+
+    private final boolean dispatchOffEventLoop;
+    private final transient Executor executor;
+    private final int partitions;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+
+    private PubSubDispatchOptions(boolean dispatchOffEventLoop, Executor executor, int partitions, int queueCapacity,
+            OverflowPolicy overflowPolicy) {
+
+        this.dispatchOffEventLoop = dispatchOffEventLoop;
+        this.executor = executor;
+        this.partitions = partitions;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns a new {@link PubSubDispatchOptions.Builder} to construct {@link PubSubDispatchOptions}.
+     *
+     * @return a new {@link PubSubDispatchOptions.Builder} to construct {@link PubSubDispatchOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link PubSubDispatchOptions} with default settings.
+     *
+     * @return a new instance of {@link PubSubDispatchOptions} with default settings.
+     */
+    public static PubSubDispatchOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder for {@link PubSubDispatchOptions}.
+     */
+    public static class Builder {
+
+        private boolean dispatchOffEventLoop = DEFAULT_DISPATCH_OFF_EVENT_LOOP;
+        private Executor executor;
+        private int partitions = DEFAULT_PARTITIONS;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private OverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+
+        /**
+         * Enable dispatching of Pub/Sub messages off the event loop. Disabled by default, see
+         * {@link #DEFAULT_DISPATCH_OFF_EVENT_LOOP}.
+         *
+         * @return {@code this}
+         */
+        public Builder dispatchOffEventLoop() {
+            return dispatchOffEventLoop(true);
+        }
+
+        /**
+         * Configure whether Pub/Sub messages are dispatched off the event loop. Disabled by default, see
+         * {@link #DEFAULT_DISPATCH_OFF_EVENT_LOOP}.
+         *
+         * @param dispatchOffEventLoop {@literal true} to dispatch messages using an {@link Executor}; {@literal false} to
+         *        notify listeners on the I/O thread.
+         * @return {@code this}
+         */
+        public Builder dispatchOffEventLoop(boolean dispatchOffEventLoop) {
+
+            this.dispatchOffEventLoop = dispatchOffEventLoop;
+            return this;
+        }
+
+        /**
+         * Set the {@link Executor} to notify listeners. Defaults to a dedicated executor per connection with up to
+         * {@link #partitions(int) partitions} daemon threads that are started on demand and shut down along with the
+         * connection. Setting an {@link Executor} enables {@link #dispatchOffEventLoop() off-event-loop dispatch}. The
+         * {@link Executor} is not serialized along with these options.
+         *
+         * @param executor the executor, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+
+            LettuceAssert.notNull(executor, "Executor must not be null");
+
+            this.executor = executor;
+            this.dispatchOffEventLoop = true;
+            return this;
+        }
+
+        /**
+         * Set the number of partitions. Messages of a partition are processed sequentially, different partitions are
+         * processed in parallel. Defaults to the number of available processors, see {@link #DEFAULT_PARTITIONS}.
+         *
+         * @param partitions the number of partitions, must be greater than {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder partitions(int partitions) {
+
+            LettuceAssert.isTrue(partitions > 0, "Partitions must be greater than 0");
+
+            this.partitions = partitions;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of messages queued by each partition. Defaults to {@literal 1024}, see
+         * {@link #DEFAULT_QUEUE_CAPACITY}.
+         *
+         * @param queueCapacity the queue capacity, must be greater than {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder queueCapacity(int queueCapacity) {
+
+            LettuceAssert.isTrue(queueCapacity > 0, "Queue capacity must be greater than 0");
+
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Set the {@link OverflowPolicy} applied when a partition queue is full. Defaults to
+         * {@link OverflowPolicy#DROP_NEWEST}, see {@link #DEFAULT_OVERFLOW_POLICY}.
+         *
+         * @param overflowPolicy the overflow policy, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+
+            LettuceAssert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link PubSubDispatchOptions}.
+         *
+         * @return new instance of {@link PubSubDispatchOptions}
+         */
+        public PubSubDispatchOptions build() {
+            return new PubSubDispatchOptions(dispatchOffEventLoop, executor, partitions, queueCapacity, overflowPolicy);
+        }
+    }
+
+    /**
+     * @return {@literal true} if Pub/Sub messages are dispatched off the event loop.
+     */
+    public boolean isDispatchOffEventLoop() {
+        return dispatchOffEventLoop;
+    }
+
+    /**
+     * @return the {@link Executor} to notify listeners. Can be {@literal null} to use a dedicated executor per connection.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return the number of partitions.
+     */
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * @return the capacity of each partition queue.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * @return the {@link OverflowPolicy} applied when a partition queue is full.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Policy applied to messages that do not fit into their partition queue. Dropped messages are counted and logged.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Discard the message that was about to be queued.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Discard the oldest queued message of the partition to make room for the new message.
+         */
+        DROP_OLDEST;
+    }
+}
@@ -15,9 +15,11 @@
  */
 package io.lettuce.core;
 
+import java.util.Collection;
 import java.util.List;
 
 import io.lettuce.core.models.role.RedisNodeDescription;
+import io.lettuce.core.protocol.RedisCommand;
 
 /**
  * Defines from which Redis nodes data is read.
@@ -55,6 +57,18 @@ public abstract class ReadFrom {
      */
     public static final ReadFrom NEAREST = new ReadFromImpl.ReadFromNearest();
 
+    /**
+     * Create a new {@link ReadFrom} setting to read from the node with the lowest observed command latency. Selection uses
+     * power-of-two-choices over all suitable nodes, scoring each node by the moving average of its command latencies and its
+     * number of outstanding commands. Each call returns a new instance as the setting tracks per-node latency statistics.
+     *
+     * @return a new latency-aware {@link ReadFrom} setting.
+     * @since 5.2
+     */
+    public static ReadFrom lowestLatency() {
+        return new ReadFromImpl.ReadFromLowestLatency();
+    }
+
     /**
      * Chooses the nodes from the matching Redis nodes that match this read selector.
      *
@@ -63,6 +77,38 @@ public abstract class ReadFrom {
      */
     public abstract List<RedisNodeDescription> select(Nodes nodes);
 
+    /**
+     * Returns whether the selection of this {@link ReadFrom} changes from command to command. Connection providers must not
+     * cache the outcome of {@link #select(Nodes)} for dynamic settings.
+     *
+     * @return {@literal true} if {@link #select(Nodes)} must be invoked for each command.
+     * @since 5.2
+     */
+    public boolean isDynamic() {
+        return false;
+    }
+
+    /**
+     * Track a read {@link RedisCommand} that is dispatched to {@code node}. Latency-aware settings register a completion
+     * callback to update their per-node statistics. The default implementation does nothing.
+     *
+     * @param node the node that was selected to serve the command.
+     * @param command the command.
+     * @since 5.2
+     */
+    public void track(RedisNodeDescription node, RedisCommand<?, ?, ?> command) {
+    }
+
+    /**
+     * Retain per-node state only for {@code nodes}. Connection providers call this method when the topology is refreshed so
+     * that settings tracking per-node statistics drop nodes that left the topology. The default implementation does nothing.
+     *
+     * @param nodes the nodes of the current topology.
+     * @since 5.2
+     */
+    public void retain(Collection<? extends RedisNodeDescription> nodes) {
+    }
+
     /**
      * Retrieve the {@link ReadFrom} preset by name.
      *
@@ -96,6 +142,10 @@ public abstract class ReadFrom {
             return NEAREST;
         }
 
+        if (name.equalsIgnoreCase("lowestLatency")) {
+            return lowestLatency();
+        }
+
         throw new IllegalArgumentException("ReadFrom " + name + " not supported");
     }
 
@@ -16,12 +16,22 @@
 package io.lettuce.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.lettuce.core.internal.LettuceLists;
 import io.lettuce.core.models.role.RedisInstance;
 import io.lettuce.core.models.role.RedisNodeDescription;
+import io.lettuce.core.protocol.CompleteableCommand;
+import io.lettuce.core.protocol.RedisCommand;
 
 /**
  * Collection of common read setting implementations.
@@ -131,4 +141,124 @@ class ReadFromImpl {
             return nodes.getNodes();
         }
     }
+
+    /**
+     * Read from the node with the lowest observed latency. Picks two random candidates and prefers the one with the lower
+     * score (power of two choices). The remaining candidates follow in their original order as fallback.
+     */
+    static final class ReadFromLowestLatency extends ReadFrom {
+
+        private final Map<RedisURI, NodeLatency> latencies = new ConcurrentHashMap<>();
+
+        @Override
+        public List<RedisNodeDescription> select(Nodes nodes) {
+
+            List<RedisNodeDescription> candidates = nodes.getNodes();
+
+            if (candidates.size() < 2) {
+                return candidates;
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(candidates.size());
+            int second = random.nextInt(candidates.size() - 1);
+
+            if (second >= first) {
+                second++;
+            }
+
+            int selected = getScore(candidates.get(second)) < getScore(candidates.get(first)) ? second : first;
+
+            List<RedisNodeDescription> result = new ArrayList<>(candidates.size());
+            result.add(candidates.get(selected));
+
+            for (int i = 0; i < candidates.size(); i++) {
+                if (i != selected) {
+                    result.add(candidates.get(i));
+                }
+            }
+
+            return result;
+        }
+
+        @Override
+        public boolean isDynamic() {
+            return true;
+        }
+
+        @Override
+        public void track(RedisNodeDescription node, RedisCommand<?, ?, ?> command) {
+
+            if (!(command instanceof CompleteableCommand)) {
+                return;
+            }
+
+            NodeLatency latency = latencies.computeIfAbsent(node.getUri(), it -> new NodeLatency());
+            long start = latency.dispatched();
+
+            ((CompleteableCommand<?>) command).onComplete((result, throwable) -> latency.completed(start));
+        }
+
+        @Override
+        public void retain(Collection<? extends RedisNodeDescription> nodes) {
+
+            Set<RedisURI> uris = new HashSet<>(nodes.size());
+
+            for (RedisNodeDescription node : nodes) {
+                uris.add(node.getUri());
+            }
+
+            latencies.keySet().retainAll(uris);
+        }
+
+        private double getScore(RedisNodeDescription node) {
+
+            NodeLatency latency = latencies.get(node.getUri());
+            return latency != null ? latency.getScore() : 0;
+        }
+    }
+
+    /**
+     * Latency statistics of a single node. Combines a peak-sensitive exponentially weighted moving average of completion
+     * latencies with the number of outstanding commands so that a stalled node is avoided as soon as commands pile up, before
+     * any of them completes.
+     */
+    static class NodeLatency {
+
+        // weight of a new sample that is lower than the current average. Higher samples replace the average.
+        private static final double ALPHA = 0.25;
+
+        private final AtomicInteger outstanding = new AtomicInteger();
+
+        // bits of the average latency in nanoseconds as double.
+        private final AtomicLong averageNs = new AtomicLong(Double.doubleToRawLongBits(0));
+
+        long dispatched() {
+
+            outstanding.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        void completed(long start) {
+
+            outstanding.decrementAndGet();
+
+            long sample = System.nanoTime() - start;
+
+            for (;;) {
+
+                long bits = averageNs.get();
+                double average = Double.longBitsToDouble(bits);
+                double update = sample > average ? sample : average + ALPHA * (sample - average);
+
+                if (averageNs.compareAndSet(bits, Double.doubleToRawLongBits(update))) {
+                    return;
+                }
+            }
+        }
+
+        double getScore() {
+            return (Double.longBitsToDouble(averageNs.get()) + 1) * (outstanding.get() + 1);
+        }
+    }
 }
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.ReplayOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.RedisCommand;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+
+/**
+ * Client-wide support for hedged reads configured through {@link HedgingOptions}. A hedged read dispatches a copy of the
+ * command to the selected node and, if the copy has not completed within the hedging delay, a second copy to another eligible
+ * node. Both copies record their response and the first complete response is replayed into the output of the original
+ * command. The hedging delay follows a percentile of recently observed read latencies and hedges are limited by a token budget
+ * that is replenished by each read.
+ * <p>
+ * Exposes counters to monitor the hedge rate and the number of hedges that completed before the original read.
+ *
+ * @since 5.2
+ */
+public class ReadHedger {
+
+    // budget in thousandths of a hedge.
+    private static final long HEDGE_COST = 1000;
+    private static final long MAX_BALANCE = 100 * HEDGE_COST;
+
+    private final Supplier<HedgingOptions> hedgingOptionsSupplier;
+    private final Timer timer;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicLong balance = new AtomicLong();
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder hedgedReads = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    /**
+     * Creates a new {@link ReadHedger}.
+     *
+     * @param hedgingOptionsSupplier supplier for the current {@link HedgingOptions}, must not be {@literal null}.
+     * @param timer the timer to schedule hedges, must not be {@literal null}.
+     */
+    public ReadHedger(Supplier<HedgingOptions> hedgingOptionsSupplier, Timer timer) {
+
+        LettuceAssert.notNull(hedgingOptionsSupplier, "HedgingOptions supplier must not be null");
+        LettuceAssert.notNull(timer, "Timer must not be null");
+
+        this.hedgingOptionsSupplier = hedgingOptionsSupplier;
+        this.timer = timer;
+    }
+
+    /**
+     * @return {@literal true} if reads are hedged.
+     */
+    public boolean isEnabled() {
+        return hedgingOptionsSupplier.get().isHedgeReads();
+    }
+
+    /**
+     * Dispatch the read {@code command} to {@code connection} and hedge it to the connection obtained from {@code hedgeTarget}
+     * once the hedging delay elapses.
+     *
+     * @param command the read command.
+     * @param connection the connection to the selected node.
+     * @param hedgeTarget supplier for a connection to another eligible node. May return {@literal null} if no other node is
+     *        available.
+     */
+    public <K, V> void dispatch(RedisCommand<K, V, ?> command, StatefulRedisConnection<K, V> connection,
+            Supplier<StatefulRedisConnection<K, V>> hedgeTarget) {
+
+        HedgingOptions options = hedgingOptionsSupplier.get();
+
+        reads.increment();
+        deposit((long) (options.getBudget() * HEDGE_COST / 100));
+
+        HedgedRead<K, V> read = new HedgedRead<>(command);
+        read.dispatch(connection, false);
+
+        long delay = latencies.getPercentile(options.getPercentile());
+
+        if (delay >= 0) {
+            read.timeout = timer.newTimeout(t -> read.hedge(hedgeTarget), Math.max(delay, options.getMinDelay().toNanos()),
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @return number of dispatched reads.
+     */
+    public long getReads() {
+        return reads.sum();
+    }
+
+    /**
+     * @return number of hedges sent.
+     */
+    public long getHedgedReads() {
+        return hedgedReads.sum();
+    }
+
+    /**
+     * @return number of hedges that completed before the original read.
+     */
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    /**
+     * @return ratio of hedges to reads.
+     */
+    public double getHedgeRate() {
+
+        long reads = getReads();
+        return reads == 0 ? 0 : (double) getHedgedReads() / reads;
+    }
+
+    private void deposit(long amount) {
+
+        for (;;) {
+
+            long current = balance.get();
+            if (current >= MAX_BALANCE || balance.compareAndSet(current, Math.min(MAX_BALANCE, current + amount))) {
+                return;
+            }
+        }
+    }
+
+    private boolean withdraw() {
+
+        for (;;) {
+
+            long current = balance.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+
+            if (balance.compareAndSet(current, current - HEDGE_COST)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * State of a single read and its hedge.
+     */
+    class HedgedRead<K, V> {
+
+        private final RedisCommand<K, V, ?> command;
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private final AtomicInteger pending = new AtomicInteger();
+        volatile Timeout timeout;
+
+        HedgedRead(RedisCommand<K, V, ?> command) {
+            this.command = command;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        void dispatch(StatefulRedisConnection<K, V> connection, boolean hedge) {
+
+            ReplayOutput<K, V> output = new ReplayOutput<>();
+            AsyncCommand<K, V, Object> copy = new AsyncCommand<>(new Command<>(command.getType(), (CommandOutput) output,
+                    command.getArgs()));
+            long start = System.nanoTime();
+
+            pending.incrementAndGet();
+            copy.onComplete((result, throwable) -> onComplete(output, throwable, hedge, start));
+
+            try {
+                connection.dispatch(copy);
+            } catch (Exception e) {
+                copy.completeExceptionally(e);
+            }
+        }
+
+        void hedge(Supplier<StatefulRedisConnection<K, V>> hedgeTarget) {
+
+            if (completed.get() || command.isDone()) {
+                return;
+            }
+
+            StatefulRedisConnection<K, V> connection = hedgeTarget.get();
+
+            if (connection == null || !withdraw()) {
+                return;
+            }
+
+            hedgedReads.increment();
+            dispatch(connection, true);
+        }
+
+        private void onComplete(ReplayOutput<K, V> output, Throwable throwable, boolean hedge, long start) {
+
+            // error responses are complete responses and are replayed like any other response.
+            boolean failed = throwable != null && !output.hasError();
+
+            if (!hedge && !failed) {
+                latencies.record(System.nanoTime() - start);
+            }
+
+            if (pending.decrementAndGet() > 0 && failed) {
+                return;
+            }
+
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+
+            Timeout timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+
+            if (command.isDone()) {
+                return;
+            }
+
+            if (failed) {
+                command.completeExceptionally(throwable);
+                return;
+            }
+
+            if (hedge) {
+                hedgeWins.increment();
+            }
+
+            if (command.getOutput() != null) {
+                output.replay(command.getOutput());
+            }
+
+            command.complete();
+        }
+    }
+
+    /**
+     * Approximate latency histogram using power-of-two buckets in {@link TimeUnit#NANOSECONDS}. Bucket counts are halved every
+     * {@link #DECAY_INTERVAL} samples so that the estimate follows recent latencies independently of how often the percentile
+     * is read. Decay and percentile computation are guarded by the histogram monitor.
+     */
+    static class LatencyHistogram {
+
+        static final int MIN_SAMPLES = 100;
+        static final int DECAY_INTERVAL = 1024;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(64);
+        private final AtomicLong samples = new AtomicLong();
+        private volatile double percentile;
+        private volatile long value = -1;
+
+        void record(long latencyNs) {
+
+            buckets.incrementAndGet(63 - Long.numberOfLeadingZeros(Math.max(latencyNs, 1)));
+            long count = samples.incrementAndGet();
+
+            if (count == MIN_SAMPLES) {
+                recompute();
+            } else if (count % DECAY_INTERVAL == 0) {
+                decay();
+            }
+        }
+
+        /**
+         * @param percentile the percentile.
+         * @return the latency at {@code percentile} in {@link TimeUnit#NANOSECONDS} or {@literal -1} if not enough samples
+         *         were recorded yet.
+         */
+        long getPercentile(double percentile) {
+
+            if (this.percentile != percentile) {
+
+                synchronized (this) {
+                    if (this.percentile != percentile) {
+                        this.percentile = percentile;
+                        this.value = samples.get() < MIN_SAMPLES ? -1 : compute(percentile);
+                    }
+                }
+            }
+
+            return value;
+        }
+
+        private synchronized void recompute() {
+            this.value = compute(this.percentile);
+        }
+
+        private synchronized void decay() {
+
+            this.value = compute(this.percentile);
+
+            for (int i = 0; i < buckets.length(); i++) {
+                buckets.addAndGet(i, -(buckets.get(i) / 2));
+            }
+        }
+
+        private long compute(double percentile) {
+
+            long total = 0;
+            long[] counts = new long[buckets.length()];
+
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+
+            if (total == 0) {
+                return -1;
+            }
+
+            long threshold = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+
+            for (int i = 0; i < counts.length; i++) {
+
+                seen += counts[i];
+                if (seen >= threshold) {
+                    return 1L << Math.min(i + 1, 62);
+                }
+            }
+
+            return -1;
+        }
+    }
+}
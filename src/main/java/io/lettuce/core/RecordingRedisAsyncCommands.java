@@ -0,0 +1,102 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * {@link RedisAsyncCommandsImpl} that records commands instead of dispatching them. Used to collect commands for batches that
+ * are sent at a later time.
+ * <p>
+ * Methods that would affect the shared connection or block on a response are not supported. {@link #flushCommands()}
+ * delegates to the owner of the recorded commands.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 5.2
+ */
+class RecordingRedisAsyncCommands<K, V> extends RedisAsyncCommandsImpl<K, V> {
+
+    private final Consumer<AsyncCommand<K, V, ?>> recorder;
+    private final Runnable flush;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on.
+     * @param codec the codec for command encoding.
+     * @param recorder consumer receiving recorded commands.
+     * @param flush callback invoked by {@link #flushCommands()} to send the recorded commands.
+     */
+    RecordingRedisAsyncCommands(StatefulRedisConnection<K, V> connection, RedisCodec<K, V> codec,
+            Consumer<AsyncCommand<K, V, ?>> recorder, Runnable flush) {
+
+        super(connection, codec);
+        this.recorder = recorder;
+        this.flush = flush;
+    }
+
+    @Override
+    public <T> AsyncCommand<K, V, T> dispatch(RedisCommand<K, V, T> cmd) {
+
+        AsyncCommand<K, V, T> command = new AsyncCommand<>(cmd);
+        recorder.accept(command);
+        return command;
+    }
+
+    @Override
+    public void flushCommands() {
+        flush.run();
+    }
+
+    @Override
+    public void setAutoFlushCommands(boolean autoFlush) {
+        throw new UnsupportedOperationException("Cannot change auto-flush of the shared connection through recorded commands");
+    }
+
+    @Override
+    public void setTimeout(Duration timeout) {
+        throw new UnsupportedOperationException("Cannot change the timeout of the shared connection through recorded commands");
+    }
+
+    @Override
+    @Deprecated
+    public void setTimeout(long timeout, TimeUnit unit) {
+        throw new UnsupportedOperationException("Cannot change the timeout of the shared connection through recorded commands");
+    }
+
+    @Override
+    public String auth(String password) {
+        throw new UnsupportedOperationException("Cannot await AUTH as recorded command. Authenticate the connection instead");
+    }
+
+    @Override
+    public String select(int db) {
+        throw new UnsupportedOperationException("Cannot await SELECT as recorded command. Select the database instead");
+    }
+
+    @Override
+    public void reset() {
+        throw new UnsupportedOperationException("Cannot reset the shared connection through recorded commands");
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.internal.AsyncCloseable;
@@ -62,6 +63,7 @@ public abstract class RedisChannelHandler<K, V> implements Closeable, Connection
     private final boolean tracingEnabled;
     private final boolean debugEnabled = logger.isDebugEnabled();
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+    private final AtomicLong activations = new AtomicLong();
 
     // accessed via CLOSED
     @SuppressWarnings("unused")
@@ -266,6 +268,14 @@ public abstract class RedisChannelHandler<K, V> implements Closeable, Connection
     public void activated() {
         active = true;
         CLOSED.set(this, ST_OPEN);
+        activations.incrementAndGet();
+    }
+
+    /**
+     * @return the number of times the connection was activated.
+     */
+    long getActivationCount() {
+        return activations.get();
     }
 
     /**
@@ -20,6 +20,7 @@ import static io.lettuce.core.LettuceStrings.isNotEmpty;
 
 import java.net.SocketAddress;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -252,6 +253,90 @@ public class RedisClient extends AbstractRedisClient {
         return transformAsyncConnectionException(connectStandaloneAsync(codec, redisURI, redisURI.getTimeout()));
     }
 
+    /**
+     * Open a new striped connection to a Redis server using the supplied {@link RedisURI} and the supplied
+     * {@link RedisCodec codec} to encode/decode keys. A striped connection opens {@code stripes} physical channels to the same
+     * endpoint and spreads commands across these channels according to the {@link StripeRouting}. Each channel is served by
+     * its own event loop thread so that a single logical connection can make use of multiple cores.
+     * <p>
+     * Striped connections retain command order per key ({@link StripeRouting#KEY}) or per calling thread
+     * ({@link StripeRouting#THREAD}) only. Transactions are routed by the calling thread and must not be shared across threads.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param redisURI the Redis server to connect to, must not be {@literal null}
+     * @param stripes number of physical channels, must be greater than zero
+     * @param routing the routing strategy, must not be {@literal null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return A new striped connection
+     * @since 5.2
+     */
+    public <K, V> StatefulRedisConnection<K, V> connectStriped(RedisCodec<K, V> codec, RedisURI redisURI, int stripes,
+            StripeRouting routing) {
+
+        assertNotNull(redisURI);
+
+        return getConnection(connectStripedAsync(codec, redisURI, stripes, routing));
+    }
+
+    /**
+     * Open asynchronously a new striped connection to a Redis server using the supplied {@link RedisURI} and the supplied
+     * {@link RedisCodec codec} to encode/decode keys.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param redisURI the Redis server to connect to, must not be {@literal null}
+     * @param stripes number of physical channels, must be greater than zero
+     * @param routing the routing strategy, must not be {@literal null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return {@link CompletableFuture} to indicate success or failure to connect.
+     * @since 5.2
+     * @see #connectStriped(RedisCodec, RedisURI, int, StripeRouting)
+     */
+    public <K, V> CompletableFuture<StatefulRedisConnection<K, V>> connectStripedAsync(RedisCodec<K, V> codec,
+            RedisURI redisURI, int stripes, StripeRouting routing) {
+
+        assertNotNull(redisURI);
+        LettuceAssert.isTrue(stripes > 0, "Stripes must be greater than zero");
+        LettuceAssert.notNull(routing, "StripeRouting must not be null");
+
+        return transformAsyncConnectionException(
+                connectStripedAsync(codec, redisURI, redisURI.getTimeout(), stripes, routing), redisURI);
+    }
+
+    private <K, V> CompletableFuture<StatefulRedisConnection<K, V>> connectStripedAsync(RedisCodec<K, V> codec,
+            RedisURI redisURI, Duration timeout, int stripes, StripeRouting routing) {
+
+        List<CompletableFuture<StatefulRedisConnection<K, V>>> futures = new ArrayList<>(stripes);
+
+        for (int i = 0; i < stripes; i++) {
+            futures.add(connectStandaloneAsync(codec, redisURI, timeout).toCompletableFuture());
+        }
+
+        CompletableFuture<StatefulRedisConnection<K, V>> result = new CompletableFuture<>();
+
+        Futures.allOf(futures).whenComplete((ignore, throwable) -> {
+
+            if (throwable != null) {
+
+                futures.forEach(future -> future.thenAccept(StatefulRedisConnection::closeAsync));
+                result.completeExceptionally(throwable instanceof CompletionException ? throwable.getCause() : throwable);
+                return;
+            }
+
+            List<StatefulRedisConnection<K, V>> connections = new ArrayList<>(stripes);
+            futures.forEach(future -> connections.add(future.join()));
+
+            StripedChannelWriter writer = new StripedChannelWriter(connections, routing, clientResources);
+            StatefulRedisConnectionImpl<K, V> connection = newStatefulRedisConnection(writer, codec, timeout);
+            connection.setOptions(clientOptions);
+
+            result.complete(connection);
+        });
+
+        return result;
+    }
+
     private <K, V> ConnectionFuture<StatefulRedisConnection<K, V>> connectStandaloneAsync(RedisCodec<K, V> codec,
             RedisURI redisURI, Duration timeout) {
 
@@ -263,6 +348,10 @@ public class RedisClient extends AbstractRedisClient {
         DefaultEndpoint endpoint = new DefaultEndpoint(clientOptions, clientResources);
         RedisChannelWriter writer = endpoint;
 
+        if (clientOptions.isCoalesceReadCommands()) {
+            writer = new CommandCoalescingWriter(writer);
+        }
+
         if (CommandExpiryWriter.isSupported(clientOptions)) {
             writer = new CommandExpiryWriter(writer, clientOptions, clientResources);
         }
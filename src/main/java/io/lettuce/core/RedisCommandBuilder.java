@@ -2323,6 +2323,11 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
 
     public Command<K, V, List<StreamMessage<K, V>>> xreadgroup(Consumer<K> consumer, XReadArgs xReadArgs,
             StreamOffset<K>[] streams) {
+        return xreadgroup(consumer, xReadArgs, streams, false);
+    }
+
+    public Command<K, V, List<StreamMessage<K, V>>> xreadgroup(Consumer<K> consumer, XReadArgs xReadArgs,
+            StreamOffset<K>[] streams, boolean flatBody) {
         LettuceAssert.notNull(streams, "Streams " + MUST_NOT_BE_NULL);
         LettuceAssert.isTrue(streams.length > 0, "Streams " + MUST_NOT_BE_EMPTY);
         LettuceAssert.notNull(consumer, "Consumer " + MUST_NOT_BE_NULL);
@@ -2345,7 +2350,7 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
             args.add(stream.offset);
         }
 
-        return createCommand(XREADGROUP, new StreamReadOutput<>(codec), args);
+        return createCommand(XREADGROUP, new StreamReadOutput<>(codec, flatBody), args);
     }
 
     Command<K, V, KeyValue<K, ScoredValue<V>>> bzpopmin(long timeout, K... keys) {
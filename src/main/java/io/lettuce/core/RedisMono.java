@@ -0,0 +1,196 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.CommandWrapper;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Lightweight {@link Mono} for commands that reply with a single value. In contrast to {@link RedisPublisher},
+ * {@link RedisMono} does not maintain a demand-driven state machine. It dispatches the command on subscription and signals
+ * the command result once the command completes. Signals are emitted on the thread completing the command, so
+ * {@link RedisMono} is only used if {@link ClientOptions#isPublishOnScheduler() publishing on a scheduler} is disabled.
+ * <p>
+ * Like {@link RedisPublisher}, the first subscription uses the command created on assembly and subsequent subscriptions
+ * obtain a new command from the supplier. Cancelling the subscription cancels the command.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @param <T> Result type.
+ * @since 5.2
+ */
+class RedisMono<K, V, T> extends Mono<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<RedisMono, RedisCommand> FIRST = AtomicReferenceFieldUpdater.newUpdater(
+            RedisMono.class, RedisCommand.class, "first");
+
+    private final Supplier<RedisCommand<K, V, T>> commandSupplier;
+    private final StatefulConnection<K, V> connection;
+
+    // accessed via FIRST
+    @SuppressWarnings("unused")
+    private volatile RedisCommand<K, V, T> first;
+
+    /**
+     * Creates a new {@link RedisMono} for a command supplier.
+     *
+     * @param commandSupplier command supplier, must not be {@literal null}.
+     * @param connection the connection, must not be {@literal null}.
+     */
+    RedisMono(Supplier<RedisCommand<K, V, T>> commandSupplier, StatefulConnection<K, V> connection) {
+
+        LettuceAssert.notNull(commandSupplier, "CommandSupplier must not be null");
+        LettuceAssert.notNull(connection, "StatefulConnection must not be null");
+
+        this.commandSupplier = commandSupplier;
+        this.connection = connection;
+        this.first = commandSupplier.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void subscribe(CoreSubscriber<? super T> actual) {
+
+        RedisCommand<K, V, T> command = FIRST.getAndSet(this, null);
+
+        if (command == null) {
+            try {
+                command = commandSupplier.get();
+            } catch (Exception e) {
+                Operators.error(actual, e);
+                return;
+            }
+        }
+
+        MonoCommand<K, V, T> monoCommand = new MonoCommand<>(command, actual);
+        actual.onSubscribe(monoCommand.subscriber);
+
+        if (monoCommand.subscriber.isCancelled()) {
+            return;
+        }
+
+        try {
+            connection.dispatch(monoCommand);
+        } catch (Exception e) {
+            monoCommand.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * {@link CommandWrapper} that signals the command result to a {@link CommandSubscriber}.
+     */
+    static class MonoCommand<K, V, T> extends CommandWrapper<K, V, T> {
+
+        final CommandSubscriber<T> subscriber;
+
+        private volatile boolean completed;
+
+        MonoCommand(RedisCommand<K, V, T> command, CoreSubscriber<? super T> actual) {
+
+            super(command);
+            this.subscriber = new CommandSubscriber<>(actual, this);
+        }
+
+        @Override
+        public void complete() {
+
+            if (completed) {
+                return;
+            }
+
+            completed = true;
+            super.complete();
+
+            if (getOutput() == null) {
+                subscriber.onComplete();
+                return;
+            }
+
+            if (getOutput().hasError()) {
+                subscriber.onError(ExceptionFactory.createExecutionException(getOutput().getError()));
+                return;
+            }
+
+            T result = getOutput().get();
+
+            if (result == null) {
+                subscriber.onComplete();
+            } else {
+                subscriber.complete(result);
+            }
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable throwable) {
+
+            if (completed) {
+                return false;
+            }
+
+            completed = true;
+            boolean result = super.completeExceptionally(throwable);
+            subscriber.onError(throwable);
+
+            return result;
+        }
+
+        @Override
+        public void cancel() {
+
+            if (completed) {
+                return;
+            }
+
+            completed = true;
+            super.cancel();
+
+            if (!subscriber.isCancelled()) {
+                subscriber.onError(new CancellationException());
+            }
+        }
+    }
+
+    /**
+     * Subscriber handling demand and the single result value. Cancelling the subscription cancels the command.
+     */
+    static class CommandSubscriber<T> extends Operators.MonoSubscriber<T, T> {
+
+        private final MonoCommand<?, ?, T> command;
+
+        CommandSubscriber(CoreSubscriber<? super T> actual, MonoCommand<?, ?, T> command) {
+
+            super(actual);
+            this.command = command;
+        }
+
+        @Override
+        public void cancel() {
+
+            super.cancel();
+            command.cancel();
+        }
+    }
+}
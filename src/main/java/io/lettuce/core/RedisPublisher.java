@@ -156,6 +156,10 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
         static final AtomicIntegerFieldUpdater<RedisSubscription> COMPLETION = AtomicIntegerFieldUpdater.newUpdater(
                 RedisSubscription.class, "completion");
 
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        static final AtomicIntegerFieldUpdater<RedisSubscription> RESERVED = AtomicIntegerFieldUpdater.newUpdater(
+                RedisSubscription.class, "reserved");
+
         private final SubscriptionCommand<?, ?, T> subscriptionCommand;
         private final boolean traceEnabled = LOG.isTraceEnabled();
 
@@ -174,9 +178,13 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
         volatile int completion = ST_PROGRESS;
         @SuppressWarnings("unused")
         volatile CommandDispatch commandDispatch = CommandDispatch.UNDISPATCHED;
+        @SuppressWarnings("unused")
+        volatile int reserved;
 
         volatile boolean allDataRead = false;
 
+        volatile DemandAware.Source bufferSource;
+
         volatile RedisSubscriber<? super T> subscriber;
 
         @SuppressWarnings("unchecked")
@@ -355,13 +363,75 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
          * @return the data that was read or {@literal null}
          */
         protected T read() {
-            return data.poll();
+
+            T element = data.poll();
+
+            if (element != null) {
+                releaseBuffer(1);
+            }
+
+            return element;
         }
 
         boolean hasDemand() {
             return getDemand() > 0;
         }
 
+        /**
+         * Check whether elements buffered without downstream demand fit into the buffer space granted by the
+         * {@link DemandAware.Source}. Requests buffer space for elements that were buffered since the last check.
+         *
+         * @param source the current source, may be {@literal null}.
+         * @return {@literal true} if all buffered elements are covered by granted buffer space.
+         */
+        boolean hasBufferCapacity(DemandAware.Source source) {
+
+            int buffered = data.size();
+
+            if (buffered == 0) {
+                return true;
+            }
+
+            int reserved = RESERVED.get(this);
+            int pending = buffered - reserved;
+
+            if (pending <= 0) {
+                return true;
+            }
+
+            if (source == null || !source.reserve(reserved, pending)) {
+                return false;
+            }
+
+            this.bufferSource = source;
+            RESERVED.addAndGet(this, pending);
+            return true;
+        }
+
+        /**
+         * Return up to {@code elements} of granted buffer space to the {@link DemandAware.Source}.
+         *
+         * @param elements number of elements to release.
+         */
+        void releaseBuffer(int elements) {
+
+            for (;;) {
+
+                int reserved = RESERVED.get(this);
+
+                if (reserved == 0) {
+                    return;
+                }
+
+                int release = Math.min(reserved, elements);
+
+                if (RESERVED.compareAndSet(this, reserved, reserved - release)) {
+                    bufferSource.release(release);
+                    return;
+                }
+            }
+        }
+
         private long getDemand() {
             return DEMAND.get(this);
         }
@@ -659,6 +729,7 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
 
             subscription.command.cancel();
             if (subscription.changeState(this, COMPLETED)) {
+                subscription.releaseBuffer(Integer.MAX_VALUE);
                 readData(subscription);
             }
         }
@@ -682,6 +753,7 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
 
             if (subscription.data.isEmpty() && subscription.complete()) {
 
+                subscription.releaseBuffer(Integer.MAX_VALUE);
                 readData(subscription);
 
                 Subscriber<?> subscriber = subscription.subscriber;
@@ -696,6 +768,7 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
 
             if (subscription.changeState(this, COMPLETED)) {
 
+                subscription.releaseBuffer(Integer.MAX_VALUE);
                 readData(subscription);
 
                 Subscriber<?> subscriber = subscription.subscriber;
@@ -730,7 +803,7 @@ class RedisPublisher<K, V, T> implements Publisher<T> {
 
         @Override
         public boolean hasDemand() {
-            return completed || subscription.state() == State.COMPLETED || subscription.data.isEmpty();
+            return completed || subscription.state() == State.COMPLETED || subscription.hasBufferCapacity(source);
         }
 
         @Override
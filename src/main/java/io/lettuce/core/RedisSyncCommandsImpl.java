@@ -0,0 +1,89 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+
+/**
+ * A synchronous and thread-safe API for a Redis connection. Commands are invoked on {@link RedisAsyncCommandsImpl} and awaited
+ * without a reflective proxy.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 5.2
+ */
+public class RedisSyncCommandsImpl<K, V> extends AbstractRedisSyncCommands<K, V> implements RedisCommands<K, V>,
+        RedisClusterCommands<K, V> {
+
+    private final StatefulRedisConnection<K, V> connection;
+    private final RedisAsyncCommandsImpl<K, V> async;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on.
+     * @param async the asynchronous API to invoke commands on.
+     */
+    public RedisSyncCommandsImpl(StatefulRedisConnection<K, V> connection, RedisAsyncCommandsImpl<K, V> async) {
+
+        super(connection, async);
+
+        this.connection = connection;
+        this.async = async;
+    }
+
+    @Override
+    public String select(int db) {
+        return async.select(db);
+    }
+
+    @Override
+    public String swapdb(int db1, int db2) {
+        return await(async.swapdb(db1, db2));
+    }
+
+    @Override
+    public String discard() {
+        return awaitOrCancel(async.discard());
+    }
+
+    @Override
+    public TransactionResult exec() {
+        return awaitOrCancel(async.exec());
+    }
+
+    @Override
+    public String multi() {
+        return awaitOrCancel(async.multi());
+    }
+
+    @Override
+    public String watch(K... keys) {
+        return await(async.watch(keys));
+    }
+
+    @Override
+    public String unwatch() {
+        return await(async.unwatch());
+    }
+
+    @Override
+    public StatefulRedisConnection<K, V> getStatefulConnection() {
+        return connection;
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.io.Closeable;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import reactor.core.Disposable;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.event.ClusterTopologyChangedEvent;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.event.Event;
+import io.lettuce.core.event.connection.ConnectionActivatedEvent;
+import io.lettuce.core.internal.Futures;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandKeyword;
+import io.lettuce.core.protocol.CommandType;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Registry of {@link ScriptHandle Lua scripts} that keeps scripts loaded into the script cache of a Redis server or of all
+ * masters of a Redis Cluster. Scripts are loaded with {@code SCRIPT LOAD} when they are registered and loaded again when a
+ * connection is (re)activated or the cluster topology changes, so that {@link ScriptHandle} executions use {@code EVALSHA}
+ * without sending the script text.
+ * <p>
+ * Loading is asynchronous and best-effort. {@link ScriptHandle} falls back to {@code EVAL} if a script is not cached, for
+ * example if a node was restarted or a script was executed before loading completed. {@link ScriptCache} listens to
+ * connection events of the {@link io.lettuce.core.resource.ClientResources} and must be {@link #close() closed} to release
+ * its subscription. Events of other connections sharing the resources are ignored: a standalone {@link ScriptCache} reloads
+ * when its own connection is reactivated, a cluster {@link ScriptCache} reloads when a connection to one of its cluster nodes
+ * is activated or the topology of its cluster changes.
+ *
+ * @since 5.2
+ * @see ScriptHandle
+ */
+public class ScriptCache implements Closeable {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(ScriptCache.class);
+
+    private final Map<String, ScriptHandle> scripts = new ConcurrentHashMap<>();
+    private final Function<byte[], CompletableFuture<Void>> loader;
+    private final Disposable subscription;
+
+    private ScriptCache(StatefulConnection<?, ?> connection, Predicate<Event> requiresReload,
+            Function<byte[], CompletableFuture<Void>> loader) {
+
+        this.loader = loader;
+        this.subscription = connection.getResources().eventBus().get().filter(requiresReload).subscribe(event -> loadAll());
+    }
+
+    /**
+     * Create a new {@link ScriptCache} that loads scripts into the script cache of a Redis server.
+     *
+     * @param connection the connection, must not be {@literal null}.
+     * @return the {@link ScriptCache}.
+     */
+    public static ScriptCache create(StatefulRedisConnection<?, ?> connection) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+
+        return new ScriptCache(connection, reactivated(connection), script -> scriptLoad(connection, script));
+    }
+
+    /**
+     * Create a new {@link ScriptCache} that loads scripts into the script cache of all cluster masters.
+     *
+     * @param connection the cluster connection, must not be {@literal null}.
+     * @return the {@link ScriptCache}.
+     */
+    public static ScriptCache create(StatefulRedisClusterConnection<?, ?> connection) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+
+        return new ScriptCache(connection, event -> isClusterEvent(connection.getPartitions(), event), script -> {
+
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+
+            for (RedisClusterNode node : connection.getPartitions()) {
+
+                if (!node.is(RedisClusterNode.NodeFlag.MASTER)) {
+                    continue;
+                }
+
+                futures.add(connection.getConnectionAsync(node.getNodeId()).thenCompose(
+                        nodeConnection -> scriptLoad(nodeConnection, script)));
+            }
+
+            return Futures.allOf(futures);
+        });
+    }
+
+    /**
+     * Register a Lua script and load it asynchronously. Registering a script that is already registered returns the existing
+     * {@link ScriptHandle}.
+     *
+     * @param script the Lua script, must not be {@literal null} or empty.
+     * @return the {@link ScriptHandle} to execute the script.
+     */
+    public ScriptHandle register(String script) {
+
+        ScriptHandle candidate = ScriptHandle.of(script);
+        ScriptHandle existing = scripts.putIfAbsent(candidate.getDigest(), candidate);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        load(candidate);
+        return candidate;
+    }
+
+    /**
+     * Unregister a Lua script. The script remains in the script cache of Redis.
+     *
+     * @param handle the script handle, must not be {@literal null}.
+     */
+    public void unregister(ScriptHandle handle) {
+
+        LettuceAssert.notNull(handle, "ScriptHandle must not be null");
+
+        scripts.remove(handle.getDigest());
+    }
+
+    /**
+     * @return the registered scripts.
+     */
+    public Collection<ScriptHandle> getScripts() {
+        return Collections.unmodifiableCollection(scripts.values());
+    }
+
+    /**
+     * Load all registered scripts.
+     *
+     * @return a {@link CompletableFuture} completed when all scripts are loaded. Completes exceptionally if a script could not
+     *         be loaded.
+     */
+    public CompletableFuture<Void> loadAll() {
+
+        List<CompletableFuture<?>> futures = new ArrayList<>(scripts.size());
+
+        for (ScriptHandle handle : scripts.values()) {
+            futures.add(load(handle));
+        }
+
+        return Futures.allOf(futures);
+    }
+
+    /**
+     * Stop listening to connection events.
+     */
+    @Override
+    public void close() {
+        subscription.dispose();
+    }
+
+    private CompletableFuture<Void> load(ScriptHandle handle) {
+
+        CompletableFuture<Void> future;
+
+        try {
+            future = loader.apply(handle.getBytes());
+        } catch (RuntimeException e) {
+            future = Futures.failed(e);
+        }
+
+        future.whenComplete((ignore, throwable) -> {
+
+            if (throwable != null) {
+                logger.warn("Cannot load script {}", handle.getDigest(), throwable);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Create a {@link Predicate} that accepts {@link ConnectionActivatedEvent}s once per activation of {@code connection}.
+     * The event does not identify the connection, so a reactivation is detected by comparing the activation count.
+     */
+    private static Predicate<Event> reactivated(StatefulConnection<?, ?> connection) {
+
+        if (!(connection instanceof RedisChannelHandler)) {
+            return event -> false;
+        }
+
+        RedisChannelHandler<?, ?> handler = (RedisChannelHandler<?, ?>) connection;
+        AtomicLong seen = new AtomicLong(handler.getActivationCount());
+
+        return event -> {
+
+            if (!(event instanceof ConnectionActivatedEvent)) {
+                return false;
+            }
+
+            long current = handler.getActivationCount();
+            long previous = seen.get();
+
+            return current != previous && seen.compareAndSet(previous, current);
+        };
+    }
+
+    private static boolean isClusterEvent(Partitions partitions, Event event) {
+
+        if (event instanceof ConnectionActivatedEvent) {
+
+            SocketAddress remote = ((ConnectionActivatedEvent) event).remoteAddress();
+
+            if (!(remote instanceof InetSocketAddress)) {
+                return false;
+            }
+
+            InetSocketAddress address = (InetSocketAddress) remote;
+            return partitions.getPartition(address.getHostString(), address.getPort()) != null;
+        }
+
+        if (event instanceof ClusterTopologyChangedEvent) {
+
+            for (RedisClusterNode node : ((ClusterTopologyChangedEvent) event).after()) {
+                if (partitions.getPartitionByNodeId(node.getNodeId()) != null) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Issue {@code SCRIPT LOAD} with the raw script bytes. The command carries no keys or values, so the connection codec is
+     * not involved.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static CompletableFuture<Void> scriptLoad(StatefulRedisConnection<?, ?> connection, byte[] script) {
+
+        RedisAsyncCommands<byte[], byte[]> commands = (RedisAsyncCommands) connection.async();
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(ByteArrayCodec.INSTANCE).add(CommandKeyword.LOAD).add(script);
+
+        return commands.dispatch(CommandType.SCRIPT, new StatusOutput<>(ByteArrayCodec.INSTANCE), args).toCompletableFuture()
+                .thenApply(digest -> null);
+    }
+}
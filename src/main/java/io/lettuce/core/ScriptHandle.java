@@ -0,0 +1,248 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import reactor.core.publisher.Flux;
+import io.lettuce.core.api.async.RedisScriptingAsyncCommands;
+import io.lettuce.core.api.reactive.RedisScriptingReactiveCommands;
+import io.lettuce.core.api.sync.RedisScriptingCommands;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.LettuceCharsets;
+
+/**
+ * Handle to a Lua script. {@link ScriptHandle} computes the SHA1 digest of the script once and executes the script with
+ * {@code EVALSHA}. If Redis responds with {@code NOSCRIPT} because the script is not in its script cache, the script is
+ * transparently executed with {@code EVAL}, which also adds the script to the script cache.
+ * <p>
+ * Use {@link ScriptCache} to load scripts into the script cache of a standalone server or all cluster masters upfront.
+ * {@link ScriptHandle} is immutable and thread-safe.
+ *
+ * @since 5.2
+ * @see ScriptCache
+ */
+public final class ScriptHandle {
+
+    private final String script;
+    private final byte[] bytes;
+    private final String digest;
+
+    private ScriptHandle(String script) {
+
+        this.script = script;
+        this.bytes = script.getBytes(LettuceCharsets.UTF8);
+        this.digest = LettuceStrings.digest(bytes);
+    }
+
+    /**
+     * Create a new {@link ScriptHandle} for a Lua {@code script}.
+     *
+     * @param script the Lua script, must not be {@literal null} or empty.
+     * @return the {@link ScriptHandle}.
+     */
+    public static ScriptHandle of(String script) {
+
+        LettuceAssert.notEmpty(script, "Script must not be empty");
+
+        return new ScriptHandle(script);
+    }
+
+    /**
+     * @return the Lua script.
+     */
+    public String getScript() {
+        return script;
+    }
+
+    /**
+     * @return the Base16 encoded SHA1 digest of the script.
+     */
+    public String getDigest() {
+        return digest;
+    }
+
+    byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Execute the script using {@code EVALSHA} and fall back to {@code EVAL} if the script is not cached.
+     *
+     * @param commands the scripting commands, must not be {@literal null}.
+     * @param type the script output type, must not be {@literal null}.
+     * @param keys the keys.
+     * @param values the values.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @param <T> Expected return type.
+     * @return script result.
+     */
+    @SafeVarargs
+    public final <K, V, T> T execute(RedisScriptingCommands<K, V> commands, ScriptOutputType type, K[] keys, V... values) {
+
+        LettuceAssert.notNull(commands, "RedisScriptingCommands must not be null");
+
+        try {
+            return commands.evalsha(digest, type, keys, values);
+        } catch (RedisNoScriptException e) {
+            return commands.eval(script, type, keys, values);
+        }
+    }
+
+    /**
+     * Execute the script using {@code EVALSHA} and fall back to {@code EVAL} if the script is not cached.
+     *
+     * @param commands the scripting commands, must not be {@literal null}.
+     * @param type the script output type, must not be {@literal null}.
+     * @param keys the keys.
+     * @param values the values.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @param <T> Expected return type.
+     * @return a {@link RedisFuture} completed with the script result.
+     */
+    @SafeVarargs
+    public final <K, V, T> RedisFuture<T> executeAsync(RedisScriptingAsyncCommands<K, V> commands, ScriptOutputType type,
+            K[] keys, V... values) {
+
+        LettuceAssert.notNull(commands, "RedisScriptingAsyncCommands must not be null");
+
+        ScriptFuture<T> result = new ScriptFuture<>();
+        RedisFuture<T> evalsha = commands.evalsha(digest, type, keys, values);
+
+        evalsha.whenComplete((value, throwable) -> {
+
+            if (throwable == null) {
+                result.complete(value);
+                return;
+            }
+
+            if (!(unwrap(throwable) instanceof RedisNoScriptException)) {
+                result.completeExceptionally(evalsha.getError(), throwable);
+                return;
+            }
+
+            RedisFuture<T> eval = commands.eval(script, type, keys, values);
+            eval.whenComplete((evalValue, evalThrowable) -> {
+
+                if (evalThrowable != null) {
+                    result.completeExceptionally(eval.getError(), evalThrowable);
+                } else {
+                    result.complete(evalValue);
+                }
+            });
+        });
+
+        return result;
+    }
+
+    /**
+     * Execute the script using {@code EVALSHA} and fall back to {@code EVAL} if the script is not cached.
+     *
+     * @param commands the scripting commands, must not be {@literal null}.
+     * @param type the script output type, must not be {@literal null}.
+     * @param keys the keys.
+     * @param values the values.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @param <T> Expected return type.
+     * @return a {@link Flux} emitting the script result.
+     */
+    @SafeVarargs
+    public final <K, V, T> Flux<T> executeReactive(RedisScriptingReactiveCommands<K, V> commands, ScriptOutputType type,
+            K[] keys, V... values) {
+
+        LettuceAssert.notNull(commands, "RedisScriptingReactiveCommands must not be null");
+
+        Flux<T> evalsha = commands.evalsha(digest, type, keys, values);
+
+        return evalsha.onErrorResume(RedisNoScriptException.class, e -> commands.eval(script, type, keys, values));
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof ScriptHandle)) {
+            return false;
+        }
+
+        return digest.equals(((ScriptHandle) o).digest);
+    }
+
+    @Override
+    public int hashCode() {
+        return digest.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [digest=" + digest + "]";
+    }
+
+    /**
+     * {@link RedisFuture} completed with the result of {@code EVALSHA} or the {@code EVAL} fallback.
+     */
+    static class ScriptFuture<T> extends CompletableFuture<T> implements RedisFuture<T> {
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        private volatile String error;
+
+        @Override
+        public boolean complete(T value) {
+
+            boolean result = super.complete(value);
+            latch.countDown();
+            return result;
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable ex) {
+
+            boolean result = super.completeExceptionally(ex);
+            latch.countDown();
+            return result;
+        }
+
+        boolean completeExceptionally(String error, Throwable ex) {
+
+            this.error = error;
+            return completeExceptionally(ex);
+        }
+
+        @Override
+        public String getError() {
+            return error;
+        }
+
+        @Override
+        public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+            return latch.await(timeout, unit);
+        }
+    }
+}
@@ -27,9 +27,9 @@ import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.reactive.RedisReactiveCommands;
 import io.lettuce.core.api.sync.RedisCommands;
-import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.output.MultiOutput;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.protocol.*;
@@ -85,7 +85,7 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
      * @return a new instance
      */
     protected RedisCommands<K, V> newRedisSyncCommandsImpl() {
-        return syncHandler(async(), RedisCommands.class, RedisClusterCommands.class);
+        return new RedisSyncCommandsImpl<>(this, async);
     }
 
     /**
@@ -116,6 +116,14 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
         return sync;
     }
 
+    /**
+     * @return the {@link RedisCodec} used by this connection.
+     * @since 5.2
+     */
+    public RedisCodec<K, V> getCodec() {
+        return codec;
+    }
+
     @Override
     public boolean isMulti() {
         return multi != null;
@@ -174,6 +182,25 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
         return super.dispatch(sentCommands);
     }
 
+    /**
+     * Dispatch a complete transaction consisting of {@literal MULTI}, the transaction body and {@literal EXEC} as a single
+     * write. The commands carry their transaction state (see {@link TransactionalCommand}) so the transaction neither depends
+     * on nor affects the {@literal MULTI} state of this connection and can be used on a shared connection.
+     *
+     * @param commands the commands starting with {@literal MULTI} and ending with {@literal EXEC}.
+     * @return the dispatched commands.
+     * @since 5.2
+     */
+    Collection<RedisCommand<K, V, ?>> dispatchTransaction(List<? extends RedisCommand<K, V, ?>> commands) {
+
+        LettuceAssert.isTrue(commands.size() >= 2, "Transaction must contain MULTI and EXEC");
+        LettuceAssert.isTrue(commands.get(0).getType().name().equals(MULTI.name()), "Transaction must start with MULTI");
+        LettuceAssert.isTrue(commands.get(commands.size() - 1).getType().name().equals(EXEC.name()),
+                "Transaction must end with EXEC");
+
+        return super.dispatch(commands);
+    }
+
     protected <T> RedisCommand<K, V, T> preProcessCommand(RedisCommand<K, V, T> command) {
 
         RedisCommand<K, V, T> local = command;
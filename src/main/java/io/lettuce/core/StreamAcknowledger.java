@@ -0,0 +1,250 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.lettuce.core.api.async.RedisStreamAsyncCommands;
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Acknowledges stream messages of a consumer group in batches. Message ids are collected per stream and sent with a single
+ * {@code XACK} per stream once {@code batchSize} ids are pending or when {@link #flushIfDue()} is called after
+ * {@code interval} has elapsed since the first pending id. This class is thread-safe.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 5.2
+ * @see StreamConsumer
+ */
+public class StreamAcknowledger<K, V> {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(StreamAcknowledger.class);
+
+    private final RedisStreamAsyncCommands<K, V> commands;
+    private final K group;
+    private final int batchSize;
+    private final long intervalNanos;
+
+    private final AtomicLong acknowledged = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private List<PendingAcks<K>> pending = new ArrayList<>(1);
+    private int pendingCount;
+    private long firstPendingNanos;
+
+    /**
+     * Create a new {@link StreamAcknowledger}.
+     *
+     * @param commands the stream commands, must not be {@literal null}.
+     * @param group the consumer group, must not be {@literal null}.
+     * @param batchSize number of pending ids that triggers an {@code XACK}, must be greater than {@literal 0}.
+     * @param interval maximum time ids are held back when calling {@link #flushIfDue()}, must not be {@literal null}.
+     */
+    public StreamAcknowledger(RedisStreamAsyncCommands<K, V> commands, K group, int batchSize, Duration interval) {
+
+        LettuceAssert.notNull(commands, "RedisStreamAsyncCommands must not be null");
+        LettuceAssert.notNull(group, "Group must not be null");
+        LettuceAssert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+        LettuceAssert.notNull(interval, "Interval must not be null");
+
+        this.commands = commands;
+        this.group = group;
+        this.batchSize = batchSize;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * Acknowledge a {@link StreamMessage}.
+     *
+     * @param message the message, must not be {@literal null}.
+     */
+    public void acknowledge(StreamMessage<K, V> message) {
+
+        LettuceAssert.notNull(message, "StreamMessage must not be null");
+
+        acknowledge(message.getStream(), message.getId());
+    }
+
+    /**
+     * Acknowledge a message {@code id} of {@code stream}.
+     *
+     * @param stream the stream key, must not be {@literal null}.
+     * @param id the message id, must not be {@literal null}.
+     */
+    public void acknowledge(K stream, String id) {
+
+        LettuceAssert.notNull(stream, "Stream must not be null");
+        LettuceAssert.notNull(id, "Id must not be null");
+
+        List<PendingAcks<K>> toSend = null;
+
+        synchronized (this) {
+
+            getPendingAcks(stream).ids.add(id);
+
+            if (pendingCount++ == 0) {
+                firstPendingNanos = System.nanoTime();
+            }
+
+            if (pendingCount >= batchSize) {
+                toSend = drain();
+            }
+        }
+
+        if (toSend != null) {
+            send(toSend);
+        }
+    }
+
+    /**
+     * Send pending acknowledgements if the configured interval has elapsed since the first pending id.
+     *
+     * @return a {@link CompletableFuture} completed when the acknowledgements are sent.
+     */
+    public CompletableFuture<Void> flushIfDue() {
+
+        List<PendingAcks<K>> toSend;
+
+        synchronized (this) {
+
+            if (pendingCount == 0 || System.nanoTime() - firstPendingNanos < intervalNanos) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            toSend = drain();
+        }
+
+        return send(toSend);
+    }
+
+    /**
+     * Send all pending acknowledgements.
+     *
+     * @return a {@link CompletableFuture} completed when the acknowledgements are sent.
+     */
+    public CompletableFuture<Void> flush() {
+
+        List<PendingAcks<K>> toSend;
+
+        synchronized (this) {
+
+            if (pendingCount == 0) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            toSend = drain();
+        }
+
+        return send(toSend);
+    }
+
+    /**
+     * @return the number of ids that are not yet sent.
+     */
+    public synchronized int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * @return the number of ids that were acknowledged by Redis.
+     */
+    public long getAcknowledgedCount() {
+        return acknowledged.get();
+    }
+
+    /**
+     * @return the number of ids whose {@code XACK} failed.
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    private PendingAcks<K> getPendingAcks(K stream) {
+
+        for (PendingAcks<K> acks : pending) {
+            if (isSameKey(acks.stream, stream)) {
+                return acks;
+            }
+        }
+
+        PendingAcks<K> acks = new PendingAcks<>(stream);
+        pending.add(acks);
+        return acks;
+    }
+
+    private List<PendingAcks<K>> drain() {
+
+        List<PendingAcks<K>> result = pending;
+
+        pending = new ArrayList<>(result.size());
+        pendingCount = 0;
+
+        return result;
+    }
+
+    private CompletableFuture<Void> send(List<PendingAcks<K>> toSend) {
+
+        CompletableFuture<?>[] futures = new CompletableFuture[toSend.size()];
+
+        for (int i = 0; i < futures.length; i++) {
+
+            PendingAcks<K> acks = toSend.get(i);
+            int count = acks.ids.size();
+
+            futures[i] = commands.xack(acks.stream, group, acks.ids.toArray(new String[0])).toCompletableFuture()
+                    .handle((result, throwable) -> {
+
+                        if (throwable != null) {
+                            failed.addAndGet(count);
+                            logger.warn("Cannot acknowledge {} stream messages", count, throwable);
+                        } else {
+                            acknowledged.addAndGet(count);
+                        }
+
+                        return null;
+                    });
+        }
+
+        return CompletableFuture.allOf(futures);
+    }
+
+    private static boolean isSameKey(Object left, Object right) {
+
+        if (left instanceof byte[] && right instanceof byte[]) {
+            return Arrays.equals((byte[]) left, (byte[]) right);
+        }
+
+        return left.equals(right);
+    }
+
+    static class PendingAcks<K> {
+
+        final K stream;
+        final List<String> ids = new ArrayList<>();
+
+        PendingAcks(K stream) {
+            this.stream = stream;
+        }
+    }
+}
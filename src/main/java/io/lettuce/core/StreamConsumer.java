@@ -0,0 +1,626 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import io.lettuce.core.XReadArgs.StreamOffset;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.async.RedisStreamAsyncCommands;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.api.reactive.RedisStreamReactiveCommands;
+import io.lettuce.core.cluster.StatefulRedisClusterConnectionImpl;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.api.reactive.RedisAdvancedClusterReactiveCommands;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.AsyncCloseable;
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * High-level consumer for Redis Streams using a consumer group. {@link StreamConsumer} reads messages with
+ * {@code XREADGROUP}, passes each message to a handler and acknowledges successfully handled messages in batches using a
+ * {@link StreamAcknowledger}.
+ * <p>
+ * Reads are pipelined: up to {@link Builder#prefetch(int) prefetch} batches are read or buffered ahead of the batch that is
+ * currently processed, so fetching the next batch overlaps with processing. Batches are processed sequentially in the order
+ * they were read on the configured {@link Executor}. Messages whose handler throws an exception are not acknowledged and
+ * remain in the pending entries list of the consumer group.
+ * <p>
+ * Reads use {@code BLOCK} to wait for new messages. Blocking commands delay other commands on the same connection, so use a
+ * dedicated connection for each consumer. Acknowledgements sent on the reading connection queue up behind the outstanding
+ * reads and may be delayed by up to {@code prefetch} times the block duration. Use
+ * {@link Builder#build(RedisStreamAsyncCommands, RedisStreamAsyncCommands, java.util.function.Consumer)} to send
+ * {@code XACK} on a separate connection.
+ * <p>
+ * {@link Builder#flux(RedisStreamReactiveCommands)} provides a reactive variant that sizes each read by the demand of its
+ * subscriber.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 5.2
+ */
+public class StreamConsumer<K, V> implements AsyncCloseable {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(StreamConsumer.class);
+
+    private final RedisStreamAsyncCommands<K, V> commands;
+    private final Consumer<K> consumer;
+    private final StreamOffset<K>[] streams;
+    private final XReadArgs readArgs;
+    private final RedisCommandBuilder<K, V> flatBodyBuilder;
+    private final int prefetch;
+    private final Executor executor;
+    private final java.util.function.Consumer<? super StreamMessage<K, V>> handler;
+    private final StreamAcknowledger<K, V> acknowledger;
+
+    private final Queue<List<StreamMessage<K, V>>> batches = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean processing = new AtomicBoolean();
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+
+    private volatile boolean running;
+
+    private StreamConsumer(Builder<K> builder, RedisStreamAsyncCommands<K, V> commands,
+            RedisStreamAsyncCommands<K, V> ackCommands, java.util.function.Consumer<? super StreamMessage<K, V>> handler) {
+
+        this.commands = commands;
+        this.consumer = builder.consumer;
+        this.streams = builder.streams;
+        this.readArgs = builder.readArgs(builder.count);
+        this.flatBodyBuilder = builder.flatBody && commands instanceof AbstractRedisAsyncCommands ? flatBodyBuilder(commands)
+                : null;
+        this.prefetch = builder.prefetch;
+        this.executor = builder.executor;
+        this.handler = handler;
+        this.acknowledger = builder.acknowledger(ackCommands);
+    }
+
+    /**
+     * Create a new {@link Builder} for a {@link StreamConsumer} reading {@code streams} as {@code consumer}.
+     *
+     * @param consumer the consumer group and name, must not be {@literal null}.
+     * @param streams the streams to read, must not be {@literal null} or empty.
+     * @param <K> Key type.
+     * @return a new {@link Builder}.
+     */
+    @SafeVarargs
+    public static <K> Builder<K> builder(Consumer<K> consumer, StreamOffset<K>... streams) {
+
+        LettuceAssert.notNull(consumer, "Consumer must not be null");
+        LettuceAssert.notEmpty(streams, "Streams must not be empty");
+
+        return new Builder<>(consumer, streams);
+    }
+
+    /**
+     * Start reading. Calling {@code start()} on a started consumer has no effect.
+     *
+     * @return {@code this}.
+     */
+    public StreamConsumer<K, V> start() {
+
+        LettuceAssert.isTrue(!closeFuture.isDone(), "StreamConsumer is closed");
+
+        if (!running) {
+            running = true;
+            fill();
+        }
+
+        return this;
+    }
+
+    /**
+     * Stop reading, process already read batches and flush pending acknowledgements.
+     *
+     * @return a {@link CompletableFuture} completed once the consumer is stopped. Completes exceptionally if reading failed.
+     */
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+
+        running = false;
+
+        if (outstanding.get() == 0) {
+            terminate();
+        }
+
+        return closeFuture;
+    }
+
+    /**
+     * @return {@literal true} if the consumer is reading messages.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return the {@link StreamAcknowledger} used to acknowledge handled messages.
+     */
+    public StreamAcknowledger<K, V> getAcknowledger() {
+        return acknowledger;
+    }
+
+    /**
+     * @return the number of successfully handled messages.
+     */
+    public long getProcessedCount() {
+        return processed.get();
+    }
+
+    /**
+     * @return the number of messages whose handler failed.
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Issue reads until {@code prefetch} reads or unprocessed batches are outstanding.
+     */
+    private void fill() {
+
+        while (running) {
+
+            int current = outstanding.get();
+            if (current >= prefetch) {
+                return;
+            }
+
+            if (outstanding.compareAndSet(current, current + 1)) {
+                read();
+            }
+        }
+    }
+
+    private void read() {
+
+        RedisFuture<List<StreamMessage<K, V>>> future;
+
+        if (flatBodyBuilder != null) {
+            future = ((AbstractRedisAsyncCommands<K, V>) commands)
+                    .dispatch(flatBodyBuilder.xreadgroup(consumer, readArgs, streams, true));
+        } else {
+            future = commands.xreadgroup(consumer, readArgs, streams);
+        }
+
+        future.whenComplete((messages, throwable) -> {
+
+            if (throwable != null) {
+                logger.error("Cannot read from streams, stopping consumer", throwable);
+                failure.compareAndSet(null, throwable);
+                running = false;
+                release();
+                return;
+            }
+
+            if (messages.isEmpty()) {
+                acknowledger.flushIfDue();
+                release();
+                fill();
+                return;
+            }
+
+            batches.add(messages);
+            scheduleProcessing();
+        });
+    }
+
+    private void scheduleProcessing() {
+
+        if (processing.compareAndSet(false, true)) {
+            executor.execute(this::process);
+        }
+    }
+
+    private void process() {
+
+        List<StreamMessage<K, V>> batch;
+
+        while ((batch = batches.poll()) != null) {
+
+            for (StreamMessage<K, V> message : batch) {
+
+                try {
+                    handler.accept(message);
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                    logger.warn("Cannot handle stream message {}", message.getId(), e);
+                    continue;
+                }
+
+                processed.incrementAndGet();
+                acknowledger.acknowledge(message);
+            }
+
+            acknowledger.flushIfDue();
+            release();
+            fill();
+        }
+
+        processing.set(false);
+
+        if (!batches.isEmpty()) {
+            scheduleProcessing();
+        }
+    }
+
+    /**
+     * Release an outstanding read or batch and terminate the consumer once it is stopped and nothing is outstanding.
+     */
+    private void release() {
+
+        if (outstanding.decrementAndGet() == 0 && !running) {
+            terminate();
+        }
+    }
+
+    /**
+     * Flush pending acknowledgements and complete the close future, exceptionally with the first read failure if any.
+     */
+    private void terminate() {
+
+        if (closeFuture.isDone()) {
+            return;
+        }
+
+        acknowledger.flush().whenComplete((ignore, throwable) -> {
+
+            Throwable error = failure.get();
+
+            if (error != null) {
+                closeFuture.completeExceptionally(error);
+            } else {
+                closeFuture.complete(null);
+            }
+        });
+    }
+
+    /**
+     * Builder for {@link StreamConsumer}, its reactive variant and {@link StreamAcknowledger}.
+     *
+     * @param <K> Key type.
+     */
+    public static class Builder<K> {
+
+        private final Consumer<K> consumer;
+        private final StreamOffset<K>[] streams;
+
+        private int count = 100;
+        private Duration block = Duration.ofSeconds(1);
+        private int prefetch = 2;
+        private boolean flatBody = false;
+        private int ackBatchSize = 100;
+        private Duration ackInterval = Duration.ofMillis(100);
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private Builder(Consumer<K> consumer, StreamOffset<K>[] streams) {
+            this.consumer = consumer;
+            this.streams = streams;
+        }
+
+        /**
+         * Set the maximum number of messages per read. Defaults to {@literal 100}.
+         *
+         * @param count the maximum number of messages per read, must be greater than {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder<K> count(int count) {
+
+            LettuceAssert.isTrue(count > 0, "Count must be greater than 0");
+
+            this.count = count;
+            return this;
+        }
+
+        /**
+         * Set the duration a read blocks waiting for new messages. Defaults to {@literal 1 second}.
+         *
+         * @param block the block duration, must not be {@literal null} or negative.
+         * @return {@code this}
+         */
+        public Builder<K> block(Duration block) {
+
+            LettuceAssert.notNull(block, "Block duration must not be null");
+            LettuceAssert.isTrue(!block.isNegative(), "Block duration must not be negative");
+
+            this.block = block;
+            return this;
+        }
+
+        /**
+         * Set the number of reads or unprocessed batches kept outstanding. A value of {@literal 1} disables overlapping of
+         * reads and processing. Defaults to {@literal 2}.
+         *
+         * @param prefetch the number of outstanding reads, must be greater than {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder<K> prefetch(int prefetch) {
+
+            LettuceAssert.isTrue(prefetch > 0, "Prefetch must be greater than 0");
+
+            this.prefetch = prefetch;
+            return this;
+        }
+
+        /**
+         * Represent message bodies as flat key/value arrays that are accessed through
+         * {@link StreamMessage#forEachField(java.util.function.BiConsumer)} without creating a {@link java.util.Map}. Applies
+         * to Lettuce's command implementations, other implementations fall back to {@link java.util.Map} bodies. Disabled by
+         * default.
+         *
+         * @param flatBody {@literal true} to use flat message bodies.
+         * @return {@code this}
+         */
+        public Builder<K> flatBody(boolean flatBody) {
+
+            this.flatBody = flatBody;
+            return this;
+        }
+
+        /**
+         * Set the number of handled messages that triggers an {@code XACK}. Defaults to {@literal 100}.
+         *
+         * @param ackBatchSize the batch size, must be greater than {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder<K> ackBatchSize(int ackBatchSize) {
+
+            LettuceAssert.isTrue(ackBatchSize > 0, "Ack batch size must be greater than 0");
+
+            this.ackBatchSize = ackBatchSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum time acknowledgements are held back. Pending acknowledgements are checked after each processed
+         * batch and after each empty read, so the effective delay is bounded by this interval and the {@link #block(Duration)
+         * block duration}. Defaults to {@literal 100 milliseconds}.
+         *
+         * @param ackInterval the interval, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder<K> ackInterval(Duration ackInterval) {
+
+            LettuceAssert.notNull(ackInterval, "Ack interval must not be null");
+
+            this.ackInterval = ackInterval;
+            return this;
+        }
+
+        /**
+         * Set the {@link Executor} to run the message handler. Defaults to {@link ForkJoinPool#commonPool()}.
+         *
+         * @param executor the executor, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder<K> executor(Executor executor) {
+
+            LettuceAssert.notNull(executor, "Executor must not be null");
+
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Create a new {@link StreamConsumer}. Call {@link StreamConsumer#start()} to start reading.
+         *
+         * @param commands the stream commands, must not be {@literal null}.
+         * @param handler the message handler, must not be {@literal null}.
+         * @param <V> Value type.
+         * @return the {@link StreamConsumer}.
+         */
+        public <V> StreamConsumer<K, V> build(RedisStreamAsyncCommands<K, V> commands,
+                java.util.function.Consumer<? super StreamMessage<K, V>> handler) {
+            return build(commands, commands, handler);
+        }
+
+        /**
+         * Create a new {@link StreamConsumer} that reads using {@code commands} and sends {@code XACK} using
+         * {@code ackCommands}. Using a separate connection for acknowledgements avoids queueing them behind blocking reads.
+         * Call {@link StreamConsumer#start()} to start reading.
+         *
+         * @param commands the stream commands to read messages, must not be {@literal null}.
+         * @param ackCommands the stream commands to acknowledge messages, must not be {@literal null}.
+         * @param handler the message handler, must not be {@literal null}.
+         * @param <V> Value type.
+         * @return the {@link StreamConsumer}.
+         */
+        public <V> StreamConsumer<K, V> build(RedisStreamAsyncCommands<K, V> commands,
+                RedisStreamAsyncCommands<K, V> ackCommands, java.util.function.Consumer<? super StreamMessage<K, V>> handler) {
+
+            LettuceAssert.notNull(commands, "RedisStreamAsyncCommands must not be null");
+            LettuceAssert.notNull(ackCommands, "Ack RedisStreamAsyncCommands must not be null");
+            LettuceAssert.notNull(handler, "Handler must not be null");
+
+            return new StreamConsumer<>(this, commands, ackCommands, handler);
+        }
+
+        /**
+         * Create a {@link Flux} that reads messages on demand. Each read requests at most the outstanding demand of the
+         * subscriber capped at {@link #count(int)}. Messages are not acknowledged, use {@link #acknowledger} to acknowledge
+         * messages in batches.
+         *
+         * @param commands the stream commands, must not be {@literal null}.
+         * @param <V> Value type.
+         * @return a {@link Flux} emitting stream messages.
+         */
+        public <V> Flux<StreamMessage<K, V>> flux(RedisStreamReactiveCommands<K, V> commands) {
+
+            LettuceAssert.notNull(commands, "RedisStreamReactiveCommands must not be null");
+
+            Consumer<K> consumer = this.consumer;
+            StreamOffset<K>[] streams = this.streams;
+            Duration block = this.block;
+            int count = this.count;
+            boolean flatBody = this.flatBody;
+
+            return Flux.create(sink -> new DemandDrivenReader<>(sink, commands, consumer, streams, block, count, flatBody)
+                    .subscribe());
+        }
+
+        /**
+         * Create a {@link StreamAcknowledger} for the consumer group using the configured ack batch size and interval.
+         *
+         * @param commands the stream commands, must not be {@literal null}.
+         * @param <V> Value type.
+         * @return the {@link StreamAcknowledger}.
+         */
+        public <V> StreamAcknowledger<K, V> acknowledger(RedisStreamAsyncCommands<K, V> commands) {
+            return new StreamAcknowledger<>(commands, consumer.getGroup(), ackBatchSize, ackInterval);
+        }
+
+        XReadArgs readArgs(long count) {
+            return XReadArgs.Builder.count(count).block(block);
+        }
+    }
+
+    /**
+     * Create a {@link RedisCommandBuilder} using the codec of the connection behind {@code commands} to build
+     * {@code XREADGROUP} commands with flat message bodies.
+     *
+     * @return the {@link RedisCommandBuilder} or {@literal null} if the codec cannot be determined.
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> RedisCommandBuilder<K, V> flatBodyBuilder(Object commands) {
+
+        StatefulConnection<?, ?> connection = null;
+
+        if (commands instanceof RedisAsyncCommands) {
+            connection = ((RedisAsyncCommands<?, ?>) commands).getStatefulConnection();
+        } else if (commands instanceof RedisReactiveCommands) {
+            connection = ((RedisReactiveCommands<?, ?>) commands).getStatefulConnection();
+        } else if (commands instanceof RedisAdvancedClusterAsyncCommands) {
+            connection = ((RedisAdvancedClusterAsyncCommands<?, ?>) commands).getStatefulConnection();
+        } else if (commands instanceof RedisAdvancedClusterReactiveCommands) {
+            connection = ((RedisAdvancedClusterReactiveCommands<?, ?>) commands).getStatefulConnection();
+        }
+
+        RedisCodec<?, ?> codec = null;
+
+        if (connection instanceof StatefulRedisConnectionImpl) {
+            codec = ((StatefulRedisConnectionImpl<?, ?>) connection).getCodec();
+        } else if (connection instanceof StatefulRedisClusterConnectionImpl) {
+            codec = ((StatefulRedisClusterConnectionImpl<?, ?>) connection).getCodec();
+        }
+
+        return codec != null ? new RedisCommandBuilder<>((RedisCodec<K, V>) codec) : null;
+    }
+
+    /**
+     * Reader that issues one {@code XREADGROUP} at a time sized by the outstanding demand of a {@link FluxSink}.
+     */
+    static class DemandDrivenReader<K, V> {
+
+        private final FluxSink<StreamMessage<K, V>> sink;
+        private final RedisStreamReactiveCommands<K, V> commands;
+        private final Consumer<K> consumer;
+        private final StreamOffset<K>[] streams;
+        private final Duration block;
+        private final int count;
+        private final RedisCommandBuilder<K, V> flatBodyBuilder;
+        private final AtomicBoolean reading = new AtomicBoolean();
+
+        private volatile Disposable inFlight;
+        private volatile boolean disposed;
+
+        DemandDrivenReader(FluxSink<StreamMessage<K, V>> sink, RedisStreamReactiveCommands<K, V> commands,
+                Consumer<K> consumer, StreamOffset<K>[] streams, Duration block, int count, boolean flatBody) {
+
+            this.sink = sink;
+            this.commands = commands;
+            this.consumer = consumer;
+            this.streams = streams;
+            this.block = block;
+            this.count = count;
+            this.flatBodyBuilder = flatBody && commands instanceof AbstractRedisReactiveCommands ? flatBodyBuilder(commands)
+                    : null;
+        }
+
+        void subscribe() {
+
+            sink.onDispose(this::dispose);
+            sink.onRequest(n -> read());
+        }
+
+        private void dispose() {
+
+            disposed = true;
+
+            Disposable current = inFlight;
+            if (current != null) {
+                current.dispose();
+            }
+        }
+
+        private void read() {
+
+            if (disposed || !reading.compareAndSet(false, true)) {
+                return;
+            }
+
+            long demand = sink.requestedFromDownstream();
+
+            if (demand <= 0) {
+
+                reading.set(false);
+
+                if (sink.requestedFromDownstream() > 0) {
+                    read();
+                }
+                return;
+            }
+
+            XReadArgs args = XReadArgs.Builder.count(Math.min(demand, count)).block(block);
+
+            Flux<StreamMessage<K, V>> messages;
+
+            if (flatBodyBuilder != null) {
+                messages = ((AbstractRedisReactiveCommands<K, V>) commands)
+                        .createDissolvingFlux(() -> flatBodyBuilder.xreadgroup(consumer, args, streams, true));
+            } else {
+                messages = commands.xreadgroup(consumer, args, streams);
+            }
+
+            inFlight = messages.subscribe(sink::next, sink::error, () -> {
+                reading.set(false);
+                read();
+            });
+
+            if (disposed) {
+                inFlight.dispose();
+            }
+        }
+    }
+}
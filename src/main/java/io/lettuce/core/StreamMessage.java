@@ -15,11 +15,14 @@
  */
 package io.lettuce.core;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 /**
- * A stream message and its id.
+ * A stream message and its id. The message body is either backed by a {@link Map} or by a flat array of alternating keys and
+ * values. Flat bodies are converted to a {@link Map} lazily on {@link #getBody()}.
  *
  * @author Mark Paluch
  * @since 5.1
@@ -28,7 +31,8 @@ public class StreamMessage<K, V> {
 
     private final K stream;
     private final String id;
-    private final Map<K, V> body;
+    private final Object[] keyValues;
+    private Map<K, V> body;
 
     /**
      * Create a new {@link StreamMessage}.
@@ -41,9 +45,32 @@ public class StreamMessage<K, V> {
 
         this.stream = stream;
         this.id = id;
+        this.keyValues = null;
         this.body = body;
     }
 
+    private StreamMessage(K stream, String id, Object[] keyValues) {
+
+        this.stream = stream;
+        this.id = id;
+        this.keyValues = keyValues;
+    }
+
+    /**
+     * Create a new {@link StreamMessage} with a flat body.
+     *
+     * @param stream the stream.
+     * @param id the message id.
+     * @param keyValues alternating keys and values of the message body.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the {@link StreamMessage}.
+     * @since 5.2
+     */
+    public static <K, V> StreamMessage<K, V> fromKeyValues(K stream, String id, Object[] keyValues) {
+        return new StreamMessage<>(stream, id, keyValues);
+    }
+
     public K getStream() {
         return stream;
     }
@@ -52,10 +79,58 @@ public class StreamMessage<K, V> {
         return id;
     }
 
+    @SuppressWarnings("unchecked")
     public Map<K, V> getBody() {
+
+        if (body == null && keyValues != null) {
+
+            Map<K, V> body = new LinkedHashMap<>(keyValues.length);
+            for (int i = 0; i < keyValues.length; i += 2) {
+                body.put((K) keyValues[i], (V) keyValues[i + 1]);
+            }
+            this.body = body;
+        }
+
         return body;
     }
 
+    /**
+     * Returns the number of fields in the message body.
+     *
+     * @return the number of fields.
+     * @since 5.2
+     */
+    public int getFieldCount() {
+
+        if (keyValues != null) {
+            return keyValues.length / 2;
+        }
+
+        return body != null ? body.size() : 0;
+    }
+
+    /**
+     * Invoke {@code action} for each field of the message body in the order of the message. Does not create a {@link Map}
+     * for flat bodies.
+     *
+     * @param action the action, must not be {@literal null}.
+     * @since 5.2
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachField(BiConsumer<? super K, ? super V> action) {
+
+        if (keyValues != null) {
+            for (int i = 0; i < keyValues.length; i += 2) {
+                action.accept((K) keyValues[i], (V) keyValues[i + 1]);
+            }
+            return;
+        }
+
+        if (body != null) {
+            body.forEach(action);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -63,16 +138,16 @@ public class StreamMessage<K, V> {
         if (!(o instanceof StreamMessage))
             return false;
         StreamMessage<?, ?> that = (StreamMessage<?, ?>) o;
-        return Objects.equals(stream, that.stream) && Objects.equals(id, that.id) && Objects.equals(body, that.body);
+        return Objects.equals(stream, that.stream) && Objects.equals(id, that.id) && Objects.equals(getBody(), that.getBody());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(stream, id, body);
+        return Objects.hash(stream, id, getBody());
     }
 
     @Override
     public String toString() {
-        return String.format("StreamMessage[%s:%s]%s", stream, id, body);
+        return String.format("StreamMessage[%s:%s]%s", stream, id, getBody());
     }
 }
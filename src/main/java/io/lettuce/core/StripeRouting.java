@@ -0,0 +1,39 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+/**
+ * Routing strategy for striped connections obtained through
+ * {@link RedisClient#connectStriped(io.lettuce.core.codec.RedisCodec, RedisURI, int, StripeRouting)}. A striped connection
+ * spreads commands across multiple physical channels. The routing strategy determines which channel a command is written to
+ * and therefore which ordering guarantees apply.
+ *
+ * @since 5.2
+ */
+public enum StripeRouting {
+
+    /**
+     * Route commands by the hash slot of their first key. Commands for the same key are written to the same channel and
+     * retain their order. Commands without a key are routed by the calling thread.
+     */
+    KEY,
+
+    /**
+     * Route commands by the calling thread. Commands issued from the same thread are written to the same channel and retain
+     * their order.
+     */
+    THREAD;
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.internal.Futures;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.*;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Channel writer that stripes commands across multiple {@link StatefulRedisConnection connections} to the same endpoint. Each
+ * connection uses its own channel and therefore its own event loop so a single logical connection can use multiple cores for
+ * encoding, decoding and command completion.
+ * <p>
+ * Commands are routed according to {@link StripeRouting} and written directly to the channel writer of their stripe, so the
+ * transaction state is tracked only by the connection using this writer. Commands changing the connection state
+ * ({@code AUTH}, {@code SELECT}, {@code READONLY}, {@code READWRITE} and {@code CLIENT SETNAME}) are dispatched to all stripes
+ * so that each stripe restores the state after a reconnect. These commands complete once all stripes have completed them
+ * and fail if any stripe fails. Transactional commands are always routed by the calling thread.
+ *
+ * @since 5.2
+ */
+class StripedChannelWriter implements RedisChannelWriter {
+
+    private final StatefulRedisConnection<?, ?>[] stripes;
+    private final RedisChannelWriter[] writers;
+    private final StripeRouting routing;
+    private final ClientResources clientResources;
+
+    private volatile boolean closed = false;
+
+    StripedChannelWriter(List<? extends StatefulRedisConnection<?, ?>> connections, StripeRouting routing,
+            ClientResources clientResources) {
+
+        LettuceAssert.isTrue(!connections.isEmpty(), "Connections must not be empty");
+        LettuceAssert.notNull(routing, "StripeRouting must not be null");
+
+        this.stripes = connections.toArray(new StatefulRedisConnection<?, ?>[0]);
+        this.writers = new RedisChannelWriter[stripes.length];
+        this.routing = routing;
+
+        for (int i = 0; i < stripes.length; i++) {
+
+            LettuceAssert.isTrue(stripes[i] instanceof RedisChannelHandler, "Stripes must be RedisChannelHandler instances");
+            this.writers[i] = ((RedisChannelHandler<?, ?>) stripes[i]).getChannelWriter();
+        }
+        this.clientResources = clientResources;
+    }
+
+    @Override
+    public <K, V, T> RedisCommand<K, V, T> write(RedisCommand<K, V, T> command) {
+
+        LettuceAssert.notNull(command, "Command must not be null");
+
+        if (closed) {
+            throw new RedisException("Connection is closed");
+        }
+
+        if (isBroadcast(command) && !isTransactional(command)) {
+            broadcast(command);
+            return command;
+        }
+
+        return writers[getStripeIndex(command)].write(command);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        LettuceAssert.notNull(commands, "Commands must not be null");
+
+        if (closed) {
+            throw new RedisException("Connection is closed");
+        }
+
+        List<RedisCommand<K, V, ?>>[] batches = new List[stripes.length];
+
+        for (RedisCommand<K, V, ?> command : commands) {
+
+            if (isBroadcast(command) && !isTransactional(command)) {
+                writeBatches(batches);
+                broadcast(command);
+                continue;
+            }
+
+            int index = getStripeIndex(command);
+            if (batches[index] == null) {
+                batches[index] = new ArrayList<>(commands.size());
+            }
+
+            batches[index].add(command);
+        }
+
+        writeBatches(batches);
+
+        return (Collection) commands;
+    }
+
+    private <K, V> void writeBatches(List<RedisCommand<K, V, ?>>[] batches) {
+
+        for (int i = 0; i < batches.length; i++) {
+
+            if (batches[i] == null) {
+                continue;
+            }
+
+            writers[i].write(batches[i]);
+            batches[i] = null;
+        }
+    }
+
+    /**
+     * Dispatch a copy of {@code command} to each stripe. {@code command} completes with the result of the first stripe once
+     * all stripes have completed their copy, or exceptionally if a copy fails on any stripe.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private <K, V, T> void broadcast(RedisCommand<K, V, T> command) {
+
+        List<AsyncCommand<K, V, String>> copies = new ArrayList<>(stripes.length);
+
+        for (int i = 0; i < stripes.length; i++) {
+
+            AsyncCommand<K, V, String> copy = new AsyncCommand<>(new Command<>(command.getType(), new StatusOutput(
+                    StringCodec.UTF8), command.getArgs()));
+            copies.add(copy);
+
+            try {
+                this.<K, V> getStripe(i).dispatch(copy);
+            } catch (RuntimeException e) {
+                copy.completeExceptionally(e);
+            }
+        }
+
+        Futures.allOf(copies).whenComplete((ignore, throwable) -> {
+
+            if (command.isDone()) {
+                return;
+            }
+
+            if (throwable != null) {
+                command.completeExceptionally(throwable instanceof CompletionException ? throwable.getCause() : throwable);
+                return;
+            }
+
+            if (command.getOutput() != null) {
+                command.getOutput().set(StringCodec.ASCII.encodeValue(copies.get(0).join()));
+            }
+
+            command.complete();
+        });
+    }
+
+    int getStripeIndex(RedisCommand<?, ?, ?> command) {
+
+        if (stripes.length == 1) {
+            return 0;
+        }
+
+        if (routing == StripeRouting.KEY && !isTransactional(command)) {
+
+            CommandArgs<?, ?> args = command.getArgs();
+            ByteBuffer encodedKey = args != null ? args.getFirstEncodedKey() : null;
+
+            if (encodedKey != null) {
+                return SlotHash.getSlot(encodedKey) % stripes.length;
+            }
+        }
+
+        return (int) (Thread.currentThread().getId() % stripes.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> StatefulRedisConnection<K, V> getStripe(int index) {
+        return (StatefulRedisConnection<K, V>) stripes[index];
+    }
+
+    private static boolean isTransactional(RedisCommand<?, ?, ?> command) {
+
+        String name = command.getType().name();
+        return name.equals(CommandType.MULTI.name()) || name.equals(CommandType.EXEC.name())
+                || name.equals(CommandType.DISCARD.name()) || name.equals(CommandType.WATCH.name())
+                || name.equals(CommandType.UNWATCH.name())
+                || CommandWrapper.unwrap(command, TransactionalCommand.class) != null;
+    }
+
+    private static boolean isBroadcast(RedisCommand<?, ?, ?> command) {
+
+        String name = command.getType().name();
+
+        if (name.equals(CommandType.AUTH.name()) || name.equals(CommandType.SELECT.name())
+                || name.equals(CommandType.READONLY.name()) || name.equals(CommandType.READWRITE.name())) {
+            return true;
+        }
+
+        return name.equals(CommandType.CLIENT.name()) && command.getArgs() != null
+                && command.getArgs().toCommandString().startsWith(CommandKeyword.SETNAME.name());
+    }
+
+    @Override
+    public void close() {
+        closeAsync().join();
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+
+        if (closed) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        closed = true;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(stripes.length);
+        for (StatefulRedisConnection<?, ?> stripe : stripes) {
+            futures.add(stripe.closeAsync());
+        }
+
+        return Futures.allOf(futures);
+    }
+
+    @Override
+    public void reset() {
+
+        for (StatefulRedisConnection<?, ?> stripe : stripes) {
+            stripe.reset();
+        }
+    }
+
+    /**
+     * Each stripe is a connection on its own and restores its state through its own {@link ConnectionFacade} when it
+     * reconnects. Notifying the facade of the striped connection would re-apply the state a second time through this writer,
+     * so the facade is not retained.
+     */
+    @Override
+    public void setConnectionFacade(ConnectionFacade connection) {
+        // stripes are activated and deactivated individually
+    }
+
+    @Override
+    public void setAutoFlushCommands(boolean autoFlush) {
+
+        for (StatefulRedisConnection<?, ?> stripe : stripes) {
+            stripe.setAutoFlushCommands(autoFlush);
+        }
+    }
+
+    @Override
+    public void flushCommands() {
+
+        for (StatefulRedisConnection<?, ?> stripe : stripes) {
+            stripe.flushCommands();
+        }
+    }
+
+    @Override
+    public ClientResources getClientResources() {
+        return clientResources;
+    }
+
+    /**
+     * @return the number of stripes.
+     */
+    int getStripeCount() {
+        return stripes.length;
+    }
+}
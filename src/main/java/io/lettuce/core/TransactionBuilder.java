@@ -0,0 +1,192 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static io.lettuce.core.protocol.CommandType.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.MultiOutput;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.protocol.TransactionalCommand;
+import io.lettuce.core.support.ConnectionWrapping;
+
+/**
+ * Builder for {@literal MULTI}/{@literal EXEC} transactions that are sent in a single write. Commands are recorded through
+ * {@link #commands()} and sent together with {@literal MULTI} and {@literal EXEC} when calling {@link #execute()}. Each
+ * recorded command returns a {@link RedisFuture} that is completed with its individual result from the
+ * {@link TransactionResult}, so a transaction costs a single round-trip.
+ * <p>
+ * The transaction does not use the {@literal MULTI} state of the connection. It can be used on a shared connection without
+ * interleaving with commands of other threads as long as the connection is not used with {@link RedisAsyncCommands#multi()}
+ * at the same time. Pooled connection wrappers are unwrapped to their target connection. Connections that are not backed by
+ * a {@link RedisChannelWriter} are not supported.
+ * <p>
+ * Record commands only with methods returning {@link RedisFuture}. {@literal MULTI}, {@literal EXEC} and {@literal DISCARD}
+ * cannot be recorded. {@link TransactionBuilder} is not thread-safe and can be executed once.
+ *
+ * <pre class="code">
+ * TransactionBuilder&lt;String, String&gt; tx = TransactionBuilder.create(connection);
+ *
+ * RedisFuture&lt;String&gt; set = tx.commands().set("key", "value");
+ * RedisFuture&lt;Long&gt; incr = tx.commands().incr("counter");
+ *
+ * RedisFuture&lt;TransactionResult&gt; result = tx.execute();
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 5.2
+ */
+public class TransactionBuilder<K, V> {
+
+    private final RedisChannelHandler<K, V> target;
+    private final RedisCodec<K, V> codec;
+    private final RedisAsyncCommands<K, V> commands;
+    private final List<RedisCommand<K, V, ?>> recorded = new ArrayList<>();
+
+    private boolean executed;
+
+    private TransactionBuilder(StatefulRedisConnection<K, V> connection, RedisChannelHandler<K, V> target,
+            RedisCodec<K, V> codec) {
+
+        this.target = target;
+        this.codec = codec;
+        this.commands = new RecordingRedisAsyncCommands<>(connection, codec, this::record, () -> {
+            throw new UnsupportedOperationException("Recorded commands are sent with execute()");
+        });
+    }
+
+    /**
+     * Create a new {@link TransactionBuilder} for a connection created by {@link RedisClient} or a pooled wrapper of such a
+     * connection.
+     *
+     * @param connection the connection, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link TransactionBuilder}.
+     * @throws IllegalArgumentException if the codec of the connection cannot be determined. Use
+     *         {@link #create(StatefulRedisConnection, RedisCodec)} in that case.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> TransactionBuilder<K, V> create(StatefulRedisConnection<K, V> connection) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+
+        Object target = ConnectionWrapping.unwrap(connection);
+
+        LettuceAssert.isTrue(target instanceof StatefulRedisConnectionImpl,
+                "Cannot determine codec of connection. Use create(connection, codec) instead");
+
+        StatefulRedisConnectionImpl<K, V> impl = (StatefulRedisConnectionImpl<K, V>) target;
+        return new TransactionBuilder<>(connection, impl, impl.getCodec());
+    }
+
+    /**
+     * Create a new {@link TransactionBuilder} for a connection using the given {@link RedisCodec}.
+     *
+     * @param connection the connection, must not be {@literal null}.
+     * @param codec the codec of the connection, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link TransactionBuilder}.
+     * @throws IllegalArgumentException if the connection is not backed by a {@link RedisChannelWriter}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> TransactionBuilder<K, V> create(StatefulRedisConnection<K, V> connection, RedisCodec<K, V> codec) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        Object target = ConnectionWrapping.unwrap(connection);
+
+        LettuceAssert.isTrue(target instanceof RedisChannelHandler, "Connection must be backed by a RedisChannelWriter");
+
+        return new TransactionBuilder<>(connection, (RedisChannelHandler<K, V>) target, codec);
+    }
+
+    /**
+     * Returns the API to record commands. Recorded commands are sent with {@link #execute()}. Their futures complete once the
+     * transaction is executed.
+     *
+     * @return the recording API.
+     */
+    public RedisAsyncCommands<K, V> commands() {
+        return commands;
+    }
+
+    /**
+     * @return the number of recorded commands.
+     */
+    public int size() {
+        return recorded.size();
+    }
+
+    /**
+     * Send {@literal MULTI}, the recorded commands and {@literal EXEC} in a single write.
+     *
+     * @return the {@link RedisFuture} completed with the {@link TransactionResult}.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public RedisFuture<TransactionResult> execute() {
+
+        LettuceAssert.assertState(!executed, "Transaction was already executed");
+        executed = true;
+
+        // keep the transaction state with the commands instead of the connection.
+        MultiOutput<K, V> multiOutput = new MultiOutput<>(codec);
+        AsyncCommand<K, V, TransactionResult> exec = new AsyncCommand<>(new Command<>(EXEC, (MultiOutput) multiOutput));
+        List<RedisCommand<K, V, ?>> batch = new ArrayList<>(recorded.size() + 2);
+
+        batch.add(new AsyncCommand<>(new Command<>(MULTI, new StatusOutput<>(codec))));
+
+        for (RedisCommand<K, V, ?> command : recorded) {
+
+            RedisCommand<K, V, ?> transactional = new TransactionalCommand<>(command);
+            multiOutput.add(transactional);
+            batch.add(transactional);
+        }
+
+        batch.add(exec);
+
+        if (target instanceof StatefulRedisConnectionImpl) {
+            ((StatefulRedisConnectionImpl<K, V>) target).dispatchTransaction(batch);
+        } else {
+            target.getChannelWriter().write(batch);
+        }
+
+        return exec;
+    }
+
+    private void record(RedisCommand<K, V, ?> command) {
+
+        String type = command.getType().name();
+
+        LettuceAssert.assertState(!executed, "Transaction was already executed");
+        LettuceAssert.isTrue(!type.equals(MULTI.name()) && !type.equals(EXEC.name()) && !type.equals(DISCARD.name()),
+                "Cannot record " + type + " in a transaction");
+
+        recorded.add(command);
+    }
+}
@@ -21,6 +21,7 @@ import java.util.concurrent.CompletableFuture;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.ClusterConnectionProvider.Intent;
+import io.lettuce.core.protocol.RedisCommand;
 
 /**
  * Asynchronous connection provider for cluster operations.
@@ -42,6 +43,21 @@ interface AsyncClusterConnectionProvider extends Closeable {
      */
     <K, V> CompletableFuture<StatefulRedisConnection<K, V>> getConnectionAsync(Intent intent, int slot);
 
+    /**
+     * Provide a connection for the intent and cluster slot to dispatch {@code command}. The {@link io.lettuce.core.ReadFrom}
+     * setting can track the command on the node that was selected to read.
+     *
+     * @param intent {@link Intent#READ} or {@link Intent#WRITE}. {@literal READ} connections will be provided with
+     *        {@literal READONLY} mode set.
+     * @param slot the slot-hash of the key, see {@link SlotHash}.
+     * @param command the command to dispatch, can be {@literal null}.
+     * @return a valid connection which handles the slot.
+     * @throws RedisException if no know node can be found for the slot
+     * @since 5.2
+     */
+    <K, V> CompletableFuture<StatefulRedisConnection<K, V>> getConnectionAsync(Intent intent, int slot,
+            RedisCommand<?, ?, ?> command);
+
     /**
      * Provide a connection for the intent and host/port. The connection can survive cluster topology updates. The connection
      * will be closed if the node identified by {@code host} and {@code port} is no longer part of the cluster.
@@ -67,6 +83,17 @@ interface AsyncClusterConnectionProvider extends Closeable {
      */
     <K, V> CompletableFuture<StatefulRedisConnection<K, V>> getConnectionAsync(Intent intent, String nodeId);
 
+    /**
+     * Provide a connection to hedge a read for the cluster slot. The connection points to a node that is eligible for reading
+     * the slot according to the {@link io.lettuce.core.ReadFrom} setting and differs from {@code connection}.
+     *
+     * @param slot the slot-hash of the key, see {@link SlotHash}.
+     * @param connection the connection that serves the read.
+     * @return a connection to another eligible node or {@literal null} if no other node is available.
+     * @since 5.2
+     */
+    StatefulRedisConnection<?, ?> getHedgeConnection(int slot, StatefulRedisConnection<?, ?> connection);
+
     /**
      * Close the connections and free all resources.
      */
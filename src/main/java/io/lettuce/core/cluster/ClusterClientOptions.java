@@ -18,6 +18,8 @@ package io.lettuce.core.cluster;
 import java.time.Duration;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.HedgingOptions;
+import io.lettuce.core.PubSubDispatchOptions;
 import io.lettuce.core.SocketOptions;
 import io.lettuce.core.SslOptions;
 import io.lettuce.core.TimeoutOptions;
@@ -110,11 +112,16 @@ public class ClusterClientOptions extends ClientOptions {
                 .cancelCommandsOnReconnectFailure(clientOptions.isCancelCommandsOnReconnectFailure())
                 .disconnectedBehavior(clientOptions.getDisconnectedBehavior())
                 .publishOnScheduler(clientOptions.isPublishOnScheduler())
+                .coalesceReadCommands(clientOptions.isCoalesceReadCommands())
                 .pingBeforeActivateConnection(clientOptions.isPingBeforeActivateConnection())
-                .requestQueueSize(clientOptions.getRequestQueueSize()).socketOptions(clientOptions.getSocketOptions())
+                .requestQueueSize(clientOptions.getRequestQueueSize())
+                .demandBufferSize(clientOptions.getDemandBufferSize())
+                .demandBufferBudget(clientOptions.getDemandBufferBudget()).socketOptions(clientOptions.getSocketOptions())
                 .sslOptions(clientOptions.getSslOptions())
                 .suspendReconnectOnProtocolFailure(clientOptions.isSuspendReconnectOnProtocolFailure())
-                .timeoutOptions(clientOptions.getTimeoutOptions());
+                .timeoutOptions(clientOptions.getTimeoutOptions()).hedgingOptions(clientOptions.getHedgingOptions())
+                .connectionWarmup(clientOptions.getConnectionWarmup())
+                .pubSubDispatchOptions(clientOptions.getPubSubDispatchOptions());
 
         return builder;
     }
@@ -206,12 +213,30 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder coalesceReadCommands(boolean coalesceReadCommands) {
+            super.coalesceReadCommands(coalesceReadCommands);
+            return this;
+        }
+
         @Override
         public Builder requestQueueSize(int requestQueueSize) {
             super.requestQueueSize(requestQueueSize);
             return this;
         }
 
+        @Override
+        public Builder demandBufferSize(int demandBufferSize) {
+            super.demandBufferSize(demandBufferSize);
+            return this;
+        }
+
+        @Override
+        public Builder demandBufferBudget(int demandBufferBudget) {
+            super.demandBufferBudget(demandBufferBudget);
+            return this;
+        }
+
         @Override
         public Builder disconnectedBehavior(DisconnectedBehavior disconnectedBehavior) {
             super.disconnectedBehavior(disconnectedBehavior);
@@ -236,6 +261,24 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder hedgingOptions(HedgingOptions hedgingOptions) {
+            super.hedgingOptions(hedgingOptions);
+            return this;
+        }
+
+        @Override
+        public Builder connectionWarmup(ConnectionWarmup connectionWarmup) {
+            super.connectionWarmup(connectionWarmup);
+            return this;
+        }
+
+        @Override
+        public Builder pubSubDispatchOptions(PubSubDispatchOptions pubSubDispatchOptions) {
+            super.pubSubDispatchOptions(pubSubDispatchOptions);
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterClientOptions}
          *
@@ -261,9 +304,13 @@ public class ClusterClientOptions extends ClientOptions {
 
         builder.autoReconnect(isAutoReconnect()).cancelCommandsOnReconnectFailure(isCancelCommandsOnReconnectFailure())
                 .disconnectedBehavior(getDisconnectedBehavior()).publishOnScheduler(isPublishOnScheduler())
+                .coalesceReadCommands(isCoalesceReadCommands())
                 .pingBeforeActivateConnection(isPingBeforeActivateConnection()).requestQueueSize(getRequestQueueSize())
+                .demandBufferSize(getDemandBufferSize()).demandBufferBudget(getDemandBufferBudget())
                 .socketOptions(getSocketOptions()).sslOptions(getSslOptions())
                 .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions())
+                .hedgingOptions(getHedgingOptions()).connectionWarmup(getConnectionWarmup())
+                .pubSubDispatchOptions(getPubSubDispatchOptions())
                 .validateClusterNodeMembership(isValidateClusterNodeMembership()).maxRedirects(getMaxRedirects())
                 .topologyRefreshOptions(getTopologyRefreshOptions());
 
@@ -15,6 +15,8 @@
  */
 package io.lettuce.core.cluster;
 
+import java.nio.ByteBuffer;
+
 import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.protocol.*;
 import io.netty.buffer.ByteBuf;
@@ -25,6 +27,14 @@ import io.netty.buffer.ByteBuf;
  */
 class ClusterCommand<K, V, T> extends CommandWrapper<K, V, T> implements RedisCommand<K, V, T> {
 
+    /**
+     * Slot value for commands without a key argument.
+     */
+    static final int NO_SLOT = -1;
+
+    private static final int UNRESOLVED = -2;
+
+    private int slot = UNRESOLVED;
     private int redirections;
     private final int maxRedirections;
 
@@ -82,6 +92,24 @@ class ClusterCommand<K, V, T> extends CommandWrapper<K, V, T> implements RedisCo
         return false;
     }
 
+    /**
+     * Returns the slot of the first key argument. The slot is computed once and retained for redirects.
+     *
+     * @return the slot or {@link #NO_SLOT} if the command has no key argument.
+     */
+    int getSlot() {
+
+        if (slot == UNRESOLVED) {
+
+            CommandArgs<K, V> args = getArgs();
+            ByteBuffer encodedKey = args != null ? args.getFirstEncodedKey() : null;
+
+            slot = encodedKey != null ? SlotHash.getSlot(encodedKey) : NO_SLOT;
+        }
+
+        return slot;
+    }
+
     @Override
     public CommandArgs<K, V> getArgs() {
         return command.getArgs();
@@ -16,6 +16,7 @@
 package io.lettuce.core.cluster;
 
 import java.io.Closeable;
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
 
 import io.lettuce.core.ReadFrom;
@@ -99,6 +100,46 @@ interface ClusterConnectionProvider extends Closeable {
      */
     void setPartitions(Partitions partitions);
 
+    /**
+     * Apply a {@literal MOVED} redirection to the slot routing so that subsequent commands for {@code slot} are routed to the
+     * node at {@code host:port} without waiting for a topology refresh.
+     *
+     * @param slot the moved slot.
+     * @param host hostname of the redirection target.
+     * @param port port number of the redirection target.
+     * @since 5.2
+     */
+    void applyMovedRedirection(int slot, String host, int port);
+
+    /**
+     * Apply an incremental topology update. The {@link Partitions} were updated in place so only cached routes of
+     * {@code changedSlots} are discarded and connections to nodes no longer part of the cluster are closed.
+     *
+     * @param changedSlots slots whose owner or replicas changed.
+     * @since 5.2
+     */
+    void updateSlots(BitSet changedSlots);
+
+    /**
+     * Open connections to all masters and, if {@code replicas} is {@literal true}, to all replicas in parallel. Connections
+     * that are already open are reused.
+     *
+     * @param replicas {@literal true} to open connections to replicas.
+     * @return future that completes once all connection attempts have finished. The future completes exceptionally if any
+     *         connection attempt failed.
+     * @since 5.2
+     */
+    CompletableFuture<Void> warmup(boolean replicas);
+
+    /**
+     * Retrieve the future of the most recent {@link #warmup(boolean) warm-up}. The future is completed if no warm-up was
+     * performed.
+     *
+     * @return the future of the most recent warm-up.
+     * @since 5.2
+     */
+    CompletableFuture<Void> getWarmup();
+
     /**
      * Disable or enable auto-flush behavior. Default is {@literal true}. If autoFlushCommands is disabled, multiple commands
      * can be issued without writing them actually to the transport. Commands are buffered until a {@link #flushCommands()} is
@@ -15,9 +15,6 @@
  */
 package io.lettuce.core.cluster;
 
-import static io.lettuce.core.cluster.SlotHash.getSlot;
-
-import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.IntStream;
@@ -46,6 +43,7 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
 
     private ClusterConnectionProvider clusterConnectionProvider;
     private AsyncClusterConnectionProvider asyncClusterConnectionProvider;
+    private ReadHedger readHedger;
     private boolean closed = false;
     private volatile Partitions partitions;
 
@@ -85,6 +83,12 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
                 boolean asking;
                 if (clusterCommand.isMoved()) {
                     target = getMoveTarget(clusterCommand.getError());
+
+                    if (clusterCommand.getSlot() != ClusterCommand.NO_SLOT) {
+                        clusterConnectionProvider.applyMovedRedirection(clusterCommand.getSlot(), target.getHostText(),
+                                target.getPort());
+                    }
+
                     clusterEventListener.onMovedRedirection();
                     asking = false;
                 } else {
@@ -114,14 +118,25 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         // exclude CLIENT commands from cluster routing
         if (args != null && !CommandType.CLIENT.equals(commandToSend.getType())) {
 
-            ByteBuffer encodedKey = args.getFirstEncodedKey();
-            if (encodedKey != null) {
+            int hash = commandToSend.getSlot();
+            if (hash != ClusterCommand.NO_SLOT) {
 
-                int hash = getSlot(encodedKey);
                 Intent intent = getIntent(command.getType());
 
                 CompletableFuture<StatefulRedisConnection<K, V>> connectFuture = ((AsyncClusterConnectionProvider) clusterConnectionProvider)
-                        .getConnectionAsync(intent, hash);
+                        .getConnectionAsync(intent, hash, commandToSend);
+
+                if (intent == Intent.READ && isHedgeReads()) {
+
+                    if (isSuccessfullyCompleted(connectFuture)) {
+                        writeHedged(commandToSend, hash, connectFuture.join(), null);
+                    } else {
+                        connectFuture.whenComplete((connection, throwable) -> writeHedged(commandToSend, hash, connection,
+                                throwable));
+                    }
+
+                    return commandToSend;
+                }
 
                 if (isSuccessfullyCompleted(connectFuture)) {
                     writeCommand(commandToSend, false, connectFuture.join(), null);
@@ -139,6 +154,29 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         return commandToSend;
     }
 
+    private boolean isHedgeReads() {
+
+        if (readHedger == null || !readHedger.isEnabled()) {
+            return false;
+        }
+
+        ReadFrom readFrom = clusterConnectionProvider.getReadFrom();
+        return readFrom != null && readFrom != ReadFrom.MASTER;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> void writeHedged(RedisCommand<K, V, ?> command, int slot, StatefulRedisConnection<K, V> connection,
+            Throwable throwable) {
+
+        if (throwable != null) {
+            command.completeExceptionally(throwable);
+            return;
+        }
+
+        readHedger.dispatch(command, connection,
+                () -> (StatefulRedisConnection<K, V>) asyncClusterConnectionProvider.getHedgeConnection(slot, connection));
+    }
+
     private static boolean isSuccessfullyCompleted(CompletableFuture<?> connectFuture) {
         return connectFuture.isDone() && !connectFuture.isCompletedExceptionally();
     }
@@ -218,45 +256,99 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
                 continue;
             }
 
-            CommandArgs<K, V> args = cmd.getArgs();
-            ByteBuffer firstEncodedKey = args != null ? args.getFirstEncodedKey() : null;
+            ClusterCommand<K, V, ?> clusterCommand = new ClusterCommand<>(cmd, this, executionLimit);
+            int hash = clusterCommand.getSlot();
 
-            if (firstEncodedKey == null) {
-                defaultCommands.add(new ClusterCommand<>(cmd, this, executionLimit));
+            if (hash == ClusterCommand.NO_SLOT) {
+                defaultCommands.add(clusterCommand);
                 continue;
             }
 
-            int hash = getSlot(args.getFirstEncodedKey());
-
             List<ClusterCommand<K, V, ?>> commandPartition = partitions.computeIfAbsent(SlotIntent.of(intent, hash),
                     slotIntent -> new ArrayList<>());
 
-            commandPartition.add(new ClusterCommand<>(cmd, this, executionLimit));
+            commandPartition.add(clusterCommand);
         }
 
+        // slots served by the same node share a single write (and flush) per batch
+        Map<RedisChannelWriter, List<ClusterCommand<K, V, ?>>> nodePartitions = new LinkedHashMap<>();
+
         for (Map.Entry<SlotIntent, List<ClusterCommand<K, V, ?>>> entry : partitions.entrySet()) {
 
             SlotIntent slotIntent = entry.getKey();
-            RedisChannelHandler<K, V> connection = (RedisChannelHandler<K, V>) clusterConnectionProvider.getConnection(
-                    slotIntent.intent, slotIntent.slotHash);
+            List<ClusterCommand<K, V, ?>> partition = entry.getValue();
 
-            RedisChannelWriter channelWriter = connection.getChannelWriter();
-            if (channelWriter instanceof ClusterDistributionChannelWriter) {
-                ClusterDistributionChannelWriter writer = (ClusterDistributionChannelWriter) channelWriter;
-                channelWriter = writer.defaultWriter;
+            if (slotIntent.intent == Intent.READ && isHedgeReads()) {
+                partition.forEach(this::write);
+                continue;
             }
 
-            if (channelWriter != null && channelWriter != this && channelWriter != defaultWriter) {
-                channelWriter.write(entry.getValue());
+            CompletableFuture<StatefulRedisConnection<K, V>> connectFuture;
+            try {
+                connectFuture = asyncClusterConnectionProvider.getConnectionAsync(slotIntent.intent, slotIntent.slotHash,
+                        partition.get(partition.size() - 1));
+            } catch (Exception e) {
+                partition.forEach(command -> command.completeExceptionally(e));
+                continue;
+            }
+
+            if (isSuccessfullyCompleted(connectFuture)) {
+
+                RedisChannelWriter channelWriter = getChannelWriter(connectFuture.join());
+                if (channelWriter != null) {
+                    nodePartitions.computeIfAbsent(channelWriter, it -> new ArrayList<>()).addAll(partition);
+                }
+            } else {
+                connectFuture.whenComplete((connection, throwable) -> writeCommands(partition, connection, throwable));
             }
         }
 
+        for (Map.Entry<RedisChannelWriter, List<ClusterCommand<K, V, ?>>> entry : nodePartitions.entrySet()) {
+            entry.getKey().write(entry.getValue());
+        }
+
         clusterCommands.forEach(this::write);
         defaultCommands.forEach(defaultWriter::write);
 
         return (Collection) commands;
     }
 
+    private <K, V> void writeCommands(List<ClusterCommand<K, V, ?>> commands, StatefulRedisConnection<K, V> connection,
+            Throwable throwable) {
+
+        if (throwable != null) {
+            commands.forEach(command -> command.completeExceptionally(throwable));
+            return;
+        }
+
+        RedisChannelWriter channelWriter = getChannelWriter(connection);
+
+        if (channelWriter == null) {
+            return;
+        }
+
+        try {
+            channelWriter.write(commands);
+        } catch (Exception e) {
+            commands.forEach(command -> command.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Resolve the node writer of a connection. Returns {@literal null} if the connection routes back through this writer.
+     */
+    @SuppressWarnings("unchecked")
+    private <K, V> RedisChannelWriter getChannelWriter(StatefulRedisConnection<K, V> connection) {
+
+        RedisChannelWriter channelWriter = getWriterToUse(((RedisChannelHandler<K, V>) connection).getChannelWriter());
+
+        if (channelWriter == this || channelWriter == defaultWriter) {
+            return null;
+        }
+
+        return channelWriter;
+    }
+
     /**
      * Optimization: Determine command intents and optimize for bulk execution preferring one node.
      * <p>
@@ -405,6 +497,15 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         return partitions;
     }
 
+    /**
+     * Set the {@link ReadHedger} to hedge reads from replicas.
+     *
+     * @param readHedger the {@link ReadHedger}, can be {@literal null} to disable hedging.
+     */
+    public void setReadHedger(ReadHedger readHedger) {
+        this.readHedger = readHedger;
+    }
+
     /**
      * Set from which nodes data is read. The setting is used as default for read operations on this connection. See the
      * documentation for {@link ReadFrom} for more information.
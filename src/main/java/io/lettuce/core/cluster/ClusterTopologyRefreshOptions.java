@@ -40,6 +40,8 @@ public class ClusterTopologyRefreshOptions {
     public static final Duration DEFAULT_ADAPTIVE_REFRESH_TIMEOUT_DURATION = Duration
             .ofSeconds(DEFAULT_ADAPTIVE_REFRESH_TIMEOUT);
     public static final int DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS = 5;
+    public static final int DEFAULT_REFRESH_TRIGGERS_MOVED_REDIRECTS = 5;
+    public static final int DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE = 0;
     public static final boolean DEFAULT_CLOSE_STALE_CONNECTIONS = true;
 
     private final boolean periodicRefreshEnabled;
@@ -49,6 +51,8 @@ public class ClusterTopologyRefreshOptions {
     private final Set<RefreshTrigger> adaptiveRefreshTriggers;
     private final Duration adaptiveRefreshTimeout;
     private final int refreshTriggersReconnectAttempts;
+    private final int refreshTriggersMovedRedirects;
+    private final int refreshSourcesSampleSize;
 
     protected ClusterTopologyRefreshOptions(Builder builder) {
 
@@ -59,6 +63,8 @@ public class ClusterTopologyRefreshOptions {
         this.adaptiveRefreshTriggers = Collections.unmodifiableSet(new HashSet<>(builder.adaptiveRefreshTriggers));
         this.adaptiveRefreshTimeout = builder.adaptiveRefreshTimeout;
         this.refreshTriggersReconnectAttempts = builder.refreshTriggersReconnectAttempts;
+        this.refreshTriggersMovedRedirects = builder.refreshTriggersMovedRedirects;
+        this.refreshSourcesSampleSize = builder.refreshSourcesSampleSize;
     }
 
     protected ClusterTopologyRefreshOptions(ClusterTopologyRefreshOptions original) {
@@ -70,6 +76,8 @@ public class ClusterTopologyRefreshOptions {
         this.adaptiveRefreshTriggers = Collections.unmodifiableSet(new HashSet<>(original.adaptiveRefreshTriggers));
         this.adaptiveRefreshTimeout = original.adaptiveRefreshTimeout;
         this.refreshTriggersReconnectAttempts = original.refreshTriggersReconnectAttempts;
+        this.refreshTriggersMovedRedirects = original.refreshTriggersMovedRedirects;
+        this.refreshSourcesSampleSize = original.refreshSourcesSampleSize;
     }
 
     /**
@@ -121,6 +129,8 @@ public class ClusterTopologyRefreshOptions {
         private Set<RefreshTrigger> adaptiveRefreshTriggers = new HashSet<>(DEFAULT_ADAPTIVE_REFRESH_TRIGGERS);
         private Duration adaptiveRefreshTimeout = DEFAULT_ADAPTIVE_REFRESH_TIMEOUT_DURATION;
         private int refreshTriggersReconnectAttempts = DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS;
+        private int refreshTriggersMovedRedirects = DEFAULT_REFRESH_TRIGGERS_MOVED_REDIRECTS;
+        private int refreshSourcesSampleSize = DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE;
 
         private Builder() {
         }
@@ -323,6 +333,44 @@ public class ClusterTopologyRefreshOptions {
             return this;
         }
 
+        /**
+         * Set the threshold for the {@link RefreshTrigger#MOVED_REDIRECT}. {@code MOVED} redirections are applied to the slot
+         * routing right away, so topology updates based on redirections lead only to a refresh once at least
+         * {@code refreshTriggersMovedRedirects} redirections were received since the last triggered refresh. See
+         * {@link #DEFAULT_REFRESH_TRIGGERS_MOVED_REDIRECTS}.
+         *
+         * @param refreshTriggersMovedRedirects number of {@code MOVED} redirections before an adaptive topology refresh is
+         *        triggered, must be greater {@literal 0}.
+         * @return {@code this}
+         * @since 5.2
+         */
+        public Builder refreshTriggersMovedRedirects(int refreshTriggersMovedRedirects) {
+
+            LettuceAssert.isTrue(refreshTriggersMovedRedirects > 0, "Moved redirects threshold must be greater 0");
+
+            this.refreshTriggersMovedRedirects = refreshTriggersMovedRedirects;
+            return this;
+        }
+
+        /**
+         * Enable incremental topology refresh by querying only a random sample of {@code refreshSourcesSampleSize} known nodes
+         * per refresh. Incremental refreshes skip node discovery and invalidate cached slot routes only for slots whose owner
+         * or replicas changed. Comes only into effect if {@link #dynamicRefreshSources(boolean) dynamic refresh sources} are
+         * enabled and a topology is already known. Defaults to {@literal 0} (query all nodes). See
+         * {@link #DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE}.
+         *
+         * @param refreshSourcesSampleSize number of nodes to query per refresh, {@literal 0} to query all nodes.
+         * @return {@code this}
+         * @since 5.2
+         */
+        public Builder refreshSourcesSampleSize(int refreshSourcesSampleSize) {
+
+            LettuceAssert.isTrue(refreshSourcesSampleSize >= 0, "Refresh sources sample size must be greater or equal to 0");
+
+            this.refreshSourcesSampleSize = refreshSourcesSampleSize;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterTopologyRefreshOptions}
          *
@@ -406,6 +454,39 @@ public class ClusterTopologyRefreshOptions {
         return refreshTriggersReconnectAttempts;
     }
 
+    /**
+     * Threshold for {@link RefreshTrigger#MOVED_REDIRECT}. Topology updates based on {@code MOVED} redirections lead only to a
+     * refresh once at least {@code refreshTriggersMovedRedirects} redirections were received since the last triggered
+     * refresh. See {@link #DEFAULT_REFRESH_TRIGGERS_MOVED_REDIRECTS}.
+     *
+     * @return number of {@code MOVED} redirections before an adaptive topology refresh is triggered
+     * @since 5.2
+     */
+    public int getRefreshTriggersMovedRedirects() {
+        return refreshTriggersMovedRedirects;
+    }
+
+    /**
+     * Number of known nodes to query per incremental topology refresh. {@literal 0} disables incremental refresh and queries
+     * all nodes. See {@link #DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE}.
+     *
+     * @return number of nodes to query per refresh, {@literal 0} to query all nodes.
+     * @since 5.2
+     */
+    public int getRefreshSourcesSampleSize() {
+        return refreshSourcesSampleSize;
+    }
+
+    /**
+     * Flag, whether topology refreshes are incremental. See {@link #getRefreshSourcesSampleSize()}.
+     *
+     * @return {@literal true} if incremental topology refresh is enabled.
+     * @since 5.2
+     */
+    public boolean isIncrementalRefresh() {
+        return dynamicRefreshSources && refreshSourcesSampleSize > 0;
+    }
+
     /**
      * Available refresh triggers to signal early topology refreshing.
      */
@@ -16,6 +16,7 @@
 package io.lettuce.core.cluster;
 
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.lettuce.core.resource.ClientResources;
@@ -35,6 +36,7 @@ class ClusterTopologyRefreshScheduler implements Runnable, ClusterEventListener
     private final ClientResources clientResources;
     private final ClusterTopologyRefreshTask clusterTopologyRefreshTask;
     private final AtomicReference<Timeout> timeoutRef = new AtomicReference<>();
+    private final AtomicInteger movedRedirections = new AtomicInteger();
 
     ClusterTopologyRefreshScheduler(RedisClusterClient redisClusterClient, ClientResources clientResources) {
 
@@ -123,7 +125,12 @@ class ClusterTopologyRefreshScheduler implements Runnable, ClusterEventListener
     public void onMovedRedirection() {
 
         if (isEnabled(ClusterTopologyRefreshOptions.RefreshTrigger.MOVED_REDIRECT)) {
-            indicateTopologyRefreshSignal();
+
+            // redirections are applied to the slot routing, refresh only to confirm a larger topology change
+            if (movedRedirections.incrementAndGet() >= getClusterTopologyRefreshOptions().getRefreshTriggersMovedRedirects()) {
+                movedRedirections.set(0);
+                indicateTopologyRefreshSignal();
+            }
         }
     }
 
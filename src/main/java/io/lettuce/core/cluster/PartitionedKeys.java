@@ -0,0 +1,120 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.util.*;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceLists;
+
+/**
+ * Keys partitioned by slot-hash. Retains a primitive index from each key position to its partition and to its position
+ * within the partition so results of per-slot commands can be reassembled in key order without lookups.
+ *
+ * @param <K> Key type.
+ * @since 5.2
+ */
+class PartitionedKeys<K> {
+
+    private final Map<Integer, List<K>> partitions;
+
+    private final int[] partitionIndexes;
+
+    private final int[] positions;
+
+    private PartitionedKeys(Map<Integer, List<K>> partitions, int[] partitionIndexes, int[] positions) {
+        this.partitions = partitions;
+        this.partitionIndexes = partitionIndexes;
+        this.positions = positions;
+    }
+
+    /**
+     * Partition keys by slot-hash. Partitions are ordered by the first occurrence of their slot, keys within a partition
+     * honor the order of {@code keys}.
+     *
+     * @param codec codec to encode the key.
+     * @param keys iterable of keys.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the {@link PartitionedKeys}.
+     */
+    static <K, V> PartitionedKeys<K> of(RedisCodec<K, V> codec, Iterable<K> keys) {
+
+        List<K> keyList = keys instanceof List ? (List<K>) keys : LettuceLists.newList(keys);
+
+        Map<Integer, List<K>> partitions = new LinkedHashMap<>();
+        Map<Integer, Integer> ordinals = new HashMap<>();
+        int[] partitionIndexes = new int[keyList.size()];
+        int[] positions = new int[keyList.size()];
+
+        int index = 0;
+        for (K key : keyList) {
+
+            int slot = SlotHash.getSlot(codec.encodeKey(key));
+
+            List<K> partition = partitions.get(slot);
+            if (partition == null) {
+                partition = new ArrayList<>();
+                partitions.put(slot, partition);
+                ordinals.put(slot, ordinals.size());
+            }
+
+            partitionIndexes[index] = ordinals.get(slot);
+            positions[index] = partition.size();
+            partition.add(key);
+            index++;
+        }
+
+        return new PartitionedKeys<>(partitions, partitionIndexes, positions);
+    }
+
+    /**
+     * @return map between slot-hash and an ordered list of keys. Iteration order matches the partition index.
+     */
+    Map<Integer, List<K>> getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * @return the number of slot partitions.
+     */
+    int getPartitionCount() {
+        return partitions.size();
+    }
+
+    /**
+     * @return the total number of keys.
+     */
+    int size() {
+        return positions.length;
+    }
+
+    /**
+     * @param index key position.
+     * @return the index of the partition holding the key at {@code index}.
+     */
+    int getPartitionIndex(int index) {
+        return partitionIndexes[index];
+    }
+
+    /**
+     * @param index key position.
+     * @return the position of the key at {@code index} within its partition.
+     */
+    int getPosition(int index) {
+        return positions[index];
+    }
+}
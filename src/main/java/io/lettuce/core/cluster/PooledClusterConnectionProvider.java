@@ -16,12 +16,13 @@
 package io.lettuce.core.cluster;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -37,6 +38,7 @@ import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.models.role.RedisInstance;
 import io.lettuce.core.models.role.RedisNodeDescription;
+import io.lettuce.core.protocol.RedisCommand;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
@@ -53,11 +55,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(PooledClusterConnectionProvider.class);
 
-    // Contains NodeId-identified and HostAndPort-identified connections.
-    private final Object stateLock = new Object();
     private final boolean debugEnabled = logger.isDebugEnabled();
-    private final CompletableFuture<StatefulRedisConnection<K, V>> writers[] = new CompletableFuture[SlotHash.SLOT_COUNT];
-    private final CompletableFuture<StatefulRedisConnection<K, V>> readers[][] = new CompletableFuture[SlotHash.SLOT_COUNT][];
     private final RedisClusterClient redisClusterClient;
     private final ClusterNodeConnectionFactory<K, V> connectionFactory;
     private final RedisChannelWriter clusterWriter;
@@ -65,9 +63,11 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     private final RedisCodec<K, V> redisCodec;
     private final AsyncConnectionProvider<ConnectionKey, StatefulRedisConnection<K, V>, ConnectionFuture<StatefulRedisConnection<K, V>>> connectionProvider;
 
-    private Partitions partitions;
-    private boolean autoFlushCommands = true;
-    private ReadFrom readFrom;
+    private volatile RoutingTable<K, V> routingTable = new RoutingTable<>();
+    private volatile Partitions partitions;
+    private volatile boolean autoFlushCommands = true;
+    private volatile ReadFrom readFrom;
+    private volatile CompletableFuture<Void> warmup = CompletableFuture.completedFuture(null);
 
     public PooledClusterConnectionProvider(RedisClusterClient redisClusterClient, RedisChannelWriter clusterWriter,
             RedisCodec<K, V> redisCodec, ClusterEventListener clusterEventListener) {
@@ -99,12 +99,24 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     @Override
     public CompletableFuture<StatefulRedisConnection<K, V>> getConnectionAsync(Intent intent, int slot) {
+        return getConnectionAsync(intent, slot, null);
+    }
+
+    @Override
+    public CompletableFuture<StatefulRedisConnection<K, V>> getConnectionAsync(Intent intent, int slot, RedisCommand command) {
 
         if (debugEnabled) {
             logger.debug("getConnection(" + intent + ", " + slot + ")");
         }
 
+        ReadFrom readFrom = this.readFrom;
+
         if (intent == Intent.READ && readFrom != null && readFrom != ReadFrom.MASTER) {
+
+            if (readFrom.isDynamic()) {
+                return getDynamicReadConnection(readFrom, slot, command);
+            }
+
             return getReadConnection(slot);
         }
 
@@ -113,10 +125,9 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     private CompletableFuture<StatefulRedisConnection<K, V>> getWriteConnection(int slot) {
 
-        CompletableFuture<StatefulRedisConnection<K, V>> writer;// avoid races when reconfiguring partitions.
-        synchronized (stateLock) {
-            writer = writers[slot];
-        }
+        // avoid races when reconfiguring partitions: populate the table that was active during the lookup.
+        RoutingTable<K, V> routingTable = this.routingTable;
+        CompletableFuture<StatefulRedisConnection<K, V>> writer = routingTable.writers.get(slot);
 
         if (writer == null) {
             RedisClusterNode partition = partitions.getPartitionBySlot(slot);
@@ -133,12 +144,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
             return future.thenApply(connection -> {
 
-                synchronized (stateLock) {
-                    if (writers[slot] == null) {
-                        writers[slot] = CompletableFuture.completedFuture(connection);
-                    }
-                }
-
+                routingTable.writers.compareAndSet(slot, null, CompletableFuture.completedFuture(connection));
                 return connection;
             }).toCompletableFuture();
         }
@@ -148,14 +154,12 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     private CompletableFuture<StatefulRedisConnection<K, V>> getReadConnection(int slot) {
 
-        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[];// avoid races when reconfiguring partitions.
+        // avoid races when reconfiguring partitions: populate the table that was active during the lookup.
+        RoutingTable<K, V> routingTable = this.routingTable;
+        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[] = routingTable.readers.get(slot);
 
         boolean cached = true;
 
-        synchronized (stateLock) {
-            readerCandidates = readers[slot];
-        }
-
         if (readerCandidates == null) {
 
             RedisClusterNode master = partitions.getPartitionBySlot(slot);
@@ -164,18 +168,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                         partitions.clone());
             }
 
-            List<RedisNodeDescription> candidates = getReadCandidates(master);
-            List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
-                @Override
-                public List<RedisNodeDescription> getNodes() {
-                    return candidates;
-                }
-
-                @Override
-                public Iterator<RedisNodeDescription> iterator() {
-                    return candidates.iterator();
-                }
-            });
+            List<RedisNodeDescription> selection = readFrom.select(getNodes(getReadCandidates(master)));
 
             if (selection.isEmpty()) {
                 throw new PartitionSelectorException(String.format(
@@ -232,9 +225,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                     for (int i = 0; i < toCache.length; i++) {
                         toCache[i] = CompletableFuture.completedFuture(statefulRedisConnections[i]);
                     }
-                    synchronized (stateLock) {
-                        readers[slot] = toCache;
-                    }
+                    routingTable.readers.set(slot, toCache);
 
                     for (StatefulRedisConnection<K, V> candidate : statefulRedisConnections) {
                         if (candidate.isOpen()) {
@@ -246,6 +237,89 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                 });
     }
 
+    /**
+     * Select the read connection for each command. Only the read candidates of the slot are cached as the selection of a
+     * {@link ReadFrom#isDynamic() dynamic} {@link ReadFrom} changes from command to command.
+     */
+    private CompletableFuture<StatefulRedisConnection<K, V>> getDynamicReadConnection(ReadFrom readFrom, int slot,
+            RedisCommand<?, ?, ?> command) {
+
+        RoutingTable<K, V> routingTable = this.routingTable;
+        List<RedisNodeDescription> candidates = routingTable.readCandidates.get(slot);
+
+        if (candidates == null) {
+
+            RedisClusterNode master = partitions.getPartitionBySlot(slot);
+            if (master == null) {
+                throw new PartitionSelectorException(String.format("Cannot determine a partition to read for slot %d.", slot),
+                        partitions.clone());
+            }
+
+            candidates = getReadCandidates(master);
+            routingTable.readCandidates.set(slot, candidates);
+        }
+
+        List<RedisNodeDescription> selection = readFrom.select(getNodes(candidates));
+
+        if (selection.isEmpty()) {
+            throw new PartitionSelectorException(String.format(
+                    "Cannot determine a partition to read for slot %d with setting %s.", slot, readFrom), partitions.clone());
+        }
+
+        for (RedisNodeDescription node : selection) {
+
+            CompletableFuture<StatefulRedisConnection<K, V>> connection = getReadFromConnection(node);
+
+            if (connection.isDone() && !connection.isCompletedExceptionally() && connection.join().isOpen()) {
+
+                track(readFrom, node, command);
+                return connection;
+            }
+        }
+
+        RedisNodeDescription node = selection.get(0);
+
+        return getReadFromConnection(node).thenApply(connection -> {
+
+            track(readFrom, node, command);
+            return connection;
+        });
+    }
+
+    @Override
+    public StatefulRedisConnection<?, ?> getHedgeConnection(int slot, StatefulRedisConnection<?, ?> connection) {
+
+        ReadFrom readFrom = this.readFrom;
+        RedisClusterNode master = partitions.getPartitionBySlot(slot);
+
+        if (readFrom == null || master == null) {
+            return null;
+        }
+
+        for (RedisNodeDescription node : readFrom.select(getNodes(getReadCandidates(master)))) {
+
+            CompletableFuture<StatefulRedisConnection<K, V>> candidate = getReadFromConnection(node);
+
+            if (candidate.isDone() && !candidate.isCompletedExceptionally()) {
+
+                StatefulRedisConnection<K, V> hedge = candidate.join();
+
+                if (hedge != connection && hedge.isOpen()) {
+                    return hedge;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static void track(ReadFrom readFrom, RedisNodeDescription node, RedisCommand<?, ?, ?> command) {
+
+        if (command != null) {
+            readFrom.track(node, command);
+        }
+    }
+
     private StatefulRedisConnection<K, V>[] getConnections(
             CompletableFuture<StatefulRedisConnection<K, V>>[] selectedReaderCandidates) {
 
@@ -272,17 +346,19 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         CompletableFuture<StatefulRedisConnection<K, V>>[] readerCandidates = new CompletableFuture[selection.size()];
 
         for (int i = 0; i < selection.size(); i++) {
+            readerCandidates[i] = getReadFromConnection(selection.get(i));
+        }
 
-            RedisNodeDescription redisClusterNode = selection.get(i);
+        return readerCandidates;
+    }
 
-            RedisURI uri = redisClusterNode.getUri();
-            ConnectionKey key = new ConnectionKey(redisClusterNode.getRole() == RedisInstance.Role.MASTER ? Intent.WRITE
-                    : Intent.READ, uri.getHost(), uri.getPort());
+    private CompletableFuture<StatefulRedisConnection<K, V>> getReadFromConnection(RedisNodeDescription redisClusterNode) {
 
-            readerCandidates[i] = getConnectionAsync(key).toCompletableFuture();
-        }
+        RedisURI uri = redisClusterNode.getUri();
+        ConnectionKey key = new ConnectionKey(redisClusterNode.getRole() == RedisInstance.Role.MASTER ? Intent.WRITE
+                : Intent.READ, uri.getHost(), uri.getPort());
 
-        return readerCandidates;
+        return getConnectionAsync(key).toCompletableFuture();
     }
 
     private List<RedisNodeDescription> getReadCandidates(RedisClusterNode master) {
@@ -296,6 +372,21 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         return master.getNodeId().equals(partition.getNodeId()) || master.getNodeId().equals(partition.getSlaveOf());
     }
 
+    private static ReadFrom.Nodes getNodes(List<RedisNodeDescription> candidates) {
+
+        return new ReadFrom.Nodes() {
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return candidates;
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return candidates.iterator();
+            }
+        };
+    }
+
     @Override
     public StatefulRedisConnection<K, V> getConnection(Intent intent, String nodeId) {
 
@@ -413,21 +504,22 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     }
 
     /**
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
+     * Publish the new {@link Partitions} and replace the routing table. Threads routing commands continue to use the previous
+     * routing table until they observe the new one and are never blocked by the reconfiguration.
      *
      * @param partitions the new partitions.
      */
     @Override
     public void setPartitions(Partitions partitions) {
 
-        boolean reconfigurePartitions = false;
+        boolean reconfigurePartitions = this.partitions != null;
 
-        synchronized (stateLock) {
-            if (this.partitions != null) {
-                reconfigurePartitions = true;
-            }
-            this.partitions = partitions;
-            this.connectionFactory.setPartitions(partitions);
+        this.connectionFactory.setPartitions(partitions);
+        this.partitions = partitions;
+
+        ReadFrom readFrom = this.readFrom;
+        if (readFrom != null) {
+            readFrom.retain(partitions);
         }
 
         if (reconfigurePartitions) {
@@ -435,6 +527,75 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         }
     }
 
+    /**
+     * Clear the cached connections of the moved slot. The next lookup resolves the slot against the updated slot cache.
+     */
+    @Override
+    public void applyMovedRedirection(int slot, String host, int port) {
+
+        if (partitions == null || !partitions.updateSlotCache(slot, host, port)) {
+            return;
+        }
+
+        routingTable.clear(slot);
+    }
+
+    /**
+     * Clear the cached connections of changed slots only. The partitions were reloaded in place, so per-node state of
+     * {@link ReadFrom} is retained for the current nodes as with {@link #setPartitions(Partitions)}.
+     */
+    @Override
+    public void updateSlots(BitSet changedSlots) {
+
+        RoutingTable<K, V> routingTable = this.routingTable;
+
+        for (int slot = changedSlots.nextSetBit(0); slot >= 0; slot = changedSlots.nextSetBit(slot + 1)) {
+            routingTable.clear(slot);
+        }
+
+        ReadFrom readFrom = this.readFrom;
+        Partitions partitions = this.partitions;
+        if (readFrom != null && partitions != null) {
+            readFrom.retain(partitions);
+        }
+
+        if (redisClusterClient.expireStaleConnections()) {
+            closeStaleConnections();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> warmup(boolean replicas) {
+
+        Partitions partitions = this.partitions;
+        List<CompletableFuture<StatefulRedisConnection<K, V>>> futures = new ArrayList<>(partitions.size());
+
+        for (RedisClusterNode partition : partitions) {
+
+            if (partition.is(RedisClusterNode.NodeFlag.FAIL) || partition.is(RedisClusterNode.NodeFlag.NOADDR)) {
+                continue;
+            }
+
+            if (partition.getRole() == RedisInstance.Role.MASTER || replicas) {
+                futures.add(getReadFromConnection(partition));
+            }
+        }
+
+        if (debugEnabled) {
+            logger.debug("warmup() opening " + futures.size() + " connections");
+        }
+
+        CompletableFuture<Void> warmup = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        this.warmup = warmup;
+
+        return warmup;
+    }
+
+    @Override
+    public CompletableFuture<Void> getWarmup() {
+        return warmup;
+    }
+
     protected Partitions getPartitions() {
         return partitions;
     }
@@ -479,17 +640,14 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     }
 
     /**
-     * Set auto-flush on all commands. Synchronize on {@code stateLock} to initiate a happens-before relation and clear the
-     * thread caches of other threads.
+     * Set auto-flush on all commands.
      *
      * @param autoFlush state of autoFlush.
      */
     @Override
     public void setAutoFlushCommands(boolean autoFlush) {
 
-        synchronized (stateLock) {
-            this.autoFlushCommands = autoFlush;
-        }
+        this.autoFlushCommands = autoFlush;
 
         connectionProvider.forEach(connection -> connection.setAutoFlushCommands(autoFlush));
     }
@@ -502,10 +660,8 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     @Override
     public void setReadFrom(ReadFrom readFrom) {
 
-        synchronized (stateLock) {
-            this.readFrom = readFrom;
-            Arrays.fill(readers, null);
-        }
+        this.readFrom = readFrom;
+        this.routingTable = new RoutingTable<>(routingTable.writers);
     }
 
     @Override
@@ -525,14 +681,11 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
      * Reset the internal connection cache. This is necessary because the {@link Partitions} have no reference to the connection
      * cache.
      *
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
+     * Publishes an empty routing table instead of clearing the current one so in-flight lookups cannot populate the new table
+     * with connections resolved against outdated partitions.
      */
     private void resetFastConnectionCache() {
-
-        synchronized (stateLock) {
-            Arrays.fill(writers, null);
-            Arrays.fill(readers, null);
-        }
+        this.routingTable = new RoutingTable<>();
     }
 
     private static RuntimeException connectionAttemptRejected(String message) {
@@ -598,9 +751,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             }
 
             connection = connection.thenApply(c -> {
-                synchronized (stateLock) {
-                    c.setAutoFlushCommands(autoFlushCommands);
-                }
+                c.setAutoFlushCommands(autoFlushCommands);
                 return c;
             });
 
@@ -608,6 +759,33 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         }
     }
 
+    /**
+     * Per-slot cache of writer and reader connections. Slots are populated lazily without locking. Topology changes publish a
+     * new {@link RoutingTable} through a volatile field so routing commands never wait for a reconfiguration.
+     */
+    static class RoutingTable<K, V> {
+
+        final AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>> writers;
+        final AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>[]> readers = new AtomicReferenceArray<>(
+                SlotHash.SLOT_COUNT);
+        final AtomicReferenceArray<List<RedisNodeDescription>> readCandidates = new AtomicReferenceArray<>(
+                SlotHash.SLOT_COUNT);
+
+        RoutingTable() {
+            this(new AtomicReferenceArray<>(SlotHash.SLOT_COUNT));
+        }
+
+        RoutingTable(AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>> writers) {
+            this.writers = writers;
+        }
+
+        void clear(int slot) {
+            writers.set(slot, null);
+            readers.set(slot, null);
+            readCandidates.set(slot, null);
+        }
+    }
+
     static class DefaultClusterNodeConnectionFactory<K, V> extends AbstractClusterNodeConnectionFactory<K, V> {
 
         private final RedisClusterClient redisClusterClient;
@@ -48,12 +48,18 @@ import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.BooleanOutput;
 import io.lettuce.core.output.IntegerOutput;
 import io.lettuce.core.output.KeyStreamingChannel;
+import io.lettuce.core.output.KeyValueListOutput;
 import io.lettuce.core.output.KeyValueStreamingChannel;
+import io.lettuce.core.output.KeyValueStreamingOutput;
+import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
 
 /**
  * An advanced asynchronous and thread-safe API for a Redis Cluster connection.
@@ -152,20 +158,15 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<Long> del(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        PartitionedKeys<K> partitioned = PartitionedKeys.of(codec, keys);
 
-        if (partitioned.size() < 2) {
+        if (partitioned.getPartitionCount() < 2) {
             return super.del(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.del(entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return MultiNodeExecution.aggregateAsync(executePartitioned(partitioned,
+                partition -> new Command<>(CommandType.DEL, new IntegerOutput<>(codec), new CommandArgs<>(codec)
+                        .addKeys(partition))));
     }
 
     @Override
@@ -175,20 +176,15 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     public RedisFuture<Long> exists(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        PartitionedKeys<K> partitioned = PartitionedKeys.of(codec, keys);
 
-        if (partitioned.size() < 2) {
+        if (partitioned.getPartitionCount() < 2) {
             return super.exists(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> exists = super.exists(entry.getValue());
-            executions.put(entry.getKey(), exists);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return MultiNodeExecution.aggregateAsync(executePartitioned(partitioned,
+                partition -> new Command<>(CommandType.EXISTS, new IntegerOutput<>(codec), new CommandArgs<>(codec)
+                        .addKeys(partition))));
     }
 
     @Override
@@ -271,28 +267,24 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<List<KeyValue<K, V>>> mget(Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        PartitionedKeys<K> partitioned = PartitionedKeys.of(codec, keys);
 
-        if (partitioned.size() < 2) {
+        if (partitioned.getPartitionCount() < 2) {
             return super.mget(keys);
         }
 
-        Map<K, Integer> slots = SlotHash.getSlots(partitioned);
-        Map<Integer, RedisFuture<List<KeyValue<K, V>>>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<List<KeyValue<K, V>>> mget = super.mget(entry.getValue());
-            executions.put(entry.getKey(), mget);
-        }
+        Map<Integer, RedisFuture<List<KeyValue<K, V>>>> executions = executePartitioned(partitioned,
+                partition -> new Command<>(CommandType.MGET, new KeyValueListOutput<>(codec, partition),
+                        new CommandArgs<>(codec).addKeys(partition)));
+        List<RedisFuture<List<KeyValue<K, V>>>> futures = new ArrayList<>(executions.values());
 
         // restore order of key
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            List<KeyValue<K, V>> result = new ArrayList<>();
-            for (K opKey : keys) {
-                int slot = slots.get(opKey);
+            List<KeyValue<K, V>> result = new ArrayList<>(partitioned.size());
+            for (int i = 0; i < partitioned.size(); i++) {
 
-                int position = partitioned.get(slot).indexOf(opKey);
-                RedisFuture<List<KeyValue<K, V>>> listRedisFuture = executions.get(slot);
+                int position = partitioned.getPosition(i);
+                RedisFuture<List<KeyValue<K, V>>> listRedisFuture = futures.get(partitioned.getPartitionIndex(i));
                 result.add(MultiNodeExecution.execute(() -> listRedisFuture.get().get(position)));
             }
 
@@ -307,64 +299,41 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<Long> mget(KeyValueStreamingChannel<K, V> channel, Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        PartitionedKeys<K> partitioned = PartitionedKeys.of(codec, keys);
 
-        if (partitioned.size() < 2) {
+        if (partitioned.getPartitionCount() < 2) {
             return super.mget(channel, keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.mget(channel, entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return MultiNodeExecution.aggregateAsync(executePartitioned(partitioned,
+                partition -> new Command<>(CommandType.MGET, new KeyValueStreamingOutput<>(codec, channel, partition),
+                        new CommandArgs<>(codec).addKeys(partition))));
     }
 
     @Override
     public RedisFuture<String> mset(Map<K, V> map) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, map.keySet());
+        PartitionedKeys<K> partitioned = PartitionedKeys.of(codec, map.keySet());
 
-        if (partitioned.size() < 2) {
+        if (partitioned.getPartitionCount() < 2) {
             return super.mset(map);
         }
 
-        Map<Integer, RedisFuture<String>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
-
-            RedisFuture<String> mset = super.mset(op);
-            executions.put(entry.getKey(), mset);
-        }
-
-        return MultiNodeExecution.firstOfAsync(executions);
+        return MultiNodeExecution.firstOfAsync(executePartitioned(partitioned,
+                partition -> new Command<>(CommandType.MSET, new StatusOutput<>(codec), keyValueArgs(partition, map))));
     }
 
     @Override
     public RedisFuture<Boolean> msetnx(Map<K, V> map) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, map.keySet());
+        PartitionedKeys<K> partitioned = PartitionedKeys.of(codec, map.keySet());
 
-        if (partitioned.size() < 2) {
+        if (partitioned.getPartitionCount() < 2) {
             return super.msetnx(map);
         }
 
-        Map<Integer, RedisFuture<Boolean>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
-
-            RedisFuture<Boolean> msetnx = super.msetnx(op);
-            executions.put(entry.getKey(), msetnx);
-        }
+        Map<Integer, RedisFuture<Boolean>> executions = executePartitioned(partitioned,
+                partition -> new Command<>(CommandType.MSETNX, new BooleanOutput<>(codec), keyValueArgs(partition, map)));
 
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
 
@@ -435,20 +404,15 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     }
 
     public RedisFuture<Long> touch(Iterable<K> keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        PartitionedKeys<K> partitioned = PartitionedKeys.of(codec, keys);
 
-        if (partitioned.size() < 2) {
+        if (partitioned.getPartitionCount() < 2) {
             return super.touch(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> touch = super.touch(entry.getValue());
-            executions.put(entry.getKey(), touch);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return MultiNodeExecution.aggregateAsync(executePartitioned(partitioned,
+                partition -> new Command<>(CommandType.TOUCH, new IntegerOutput<>(codec), new CommandArgs<>(codec)
+                        .addKeys(partition))));
     }
 
     @Override
@@ -459,20 +423,15 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<Long> unlink(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        PartitionedKeys<K> partitioned = PartitionedKeys.of(codec, keys);
 
-        if (partitioned.size() < 2) {
+        if (partitioned.getPartitionCount() < 2) {
             return super.unlink(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> unlink = super.unlink(entry.getValue());
-            executions.put(entry.getKey(), unlink);
-        }
-
-        return MultiNodeExecution.aggregateAsync(executions);
+        return MultiNodeExecution.aggregateAsync(executePartitioned(partitioned,
+                partition -> new Command<>(CommandType.UNLINK, new IntegerOutput<>(codec), new CommandArgs<>(codec)
+                        .addKeys(partition))));
     }
 
     @Override
@@ -526,7 +485,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
         NodeSelectionSupport<RedisAsyncCommands<K, V>, ?> selection;
 
-        StatefulRedisClusterConnectionImpl<K, V> impl = (StatefulRedisClusterConnectionImpl<K, V>) getConnection();
+        StatefulRedisClusterConnectionImpl<K, V> impl = getStatefulConnection();
         if (dynamic) {
             selection = new DynamicNodeSelection<RedisAsyncCommands<K, V>, Object, K, V>(
                     impl.getClusterDistributionChannelWriter(), predicate, intent, StatefulRedisConnection::async);
@@ -685,6 +644,42 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         return executions;
     }
 
+    /**
+     * Run one command per slot partition. All per-slot commands are built first and dispatched with a single
+     * {@code write(Collection)} so that {@link ClusterDistributionChannelWriter} groups the commands of partitions served by
+     * the same node into one write per node.
+     *
+     * @param partitioned the partitioned keys.
+     * @param commandFactory function producing the command for the keys of a partition.
+     * @param <T> result type
+     * @return map of slot-hash and commands, ordered by partition index.
+     */
+    private <T> Map<Integer, RedisFuture<T>> executePartitioned(PartitionedKeys<K> partitioned,
+            Function<List<K>, RedisCommand<K, V, T>> commandFactory) {
+
+        Map<Integer, RedisFuture<T>> executions = new LinkedHashMap<>();
+        List<RedisCommand<K, V, ?>> commands = new ArrayList<>(partitioned.getPartitionCount());
+
+        for (Map.Entry<Integer, List<K>> entry : partitioned.getPartitions().entrySet()) {
+
+            AsyncCommand<K, V, T> command = new AsyncCommand<>(commandFactory.apply(entry.getValue()));
+            commands.add(command);
+            executions.put(entry.getKey(), command);
+        }
+
+        getStatefulConnection().dispatch(commands);
+        return executions;
+    }
+
+    private CommandArgs<K, V> keyValueArgs(List<K> keys, Map<K, V> map) {
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        for (K key : keys) {
+            args.addKey(key).addValue(map.get(key));
+        }
+        return args;
+    }
+
     private RedisClusterAsyncCommands<K, V> findConnectionBySlot(int slot) {
         RedisClusterNode node = getStatefulConnection().getPartitions().getPartitionBySlot(slot);
         if (node != null) {
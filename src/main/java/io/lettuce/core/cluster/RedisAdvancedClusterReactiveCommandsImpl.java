@@ -47,6 +47,7 @@ import io.lettuce.core.cluster.api.reactive.RedisClusterReactiveCommands;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceLists;
 import io.lettuce.core.output.KeyStreamingChannel;
 import io.lettuce.core.output.KeyValueStreamingChannel;
@@ -488,6 +489,35 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
                 reactiveClusterStreamScanCursorMapper());
     }
 
+    @Override
+    public Flux<K> scanParallel(int parallelism) {
+        return clusterScanParallel(getStatefulConnection(), ScanStream::scan, parallelism);
+    }
+
+    @Override
+    public Flux<K> scanParallel(ScanArgs scanArgs, int parallelism) {
+
+        LettuceAssert.notNull(scanArgs, "ScanArgs must not be null");
+
+        return clusterScanParallel(getStatefulConnection(), commands -> ScanStream.scan(commands, scanArgs), parallelism);
+    }
+
+    @Override
+    public Mono<Long> scanParallel(KeyStreamingChannel<K> channel, int parallelism) {
+
+        LettuceAssert.notNull(channel, "KeyStreamingChannel must not be null");
+
+        return scanParallel(parallelism).doOnNext(channel::onKey).count();
+    }
+
+    @Override
+    public Mono<Long> scanParallel(KeyStreamingChannel<K> channel, ScanArgs scanArgs, int parallelism) {
+
+        LettuceAssert.notNull(channel, "KeyStreamingChannel must not be null");
+
+        return scanParallel(scanArgs, parallelism).doOnNext(channel::onKey).count();
+    }
+
     /**
      * ADDB - fpwrite
      */
@@ -614,6 +644,28 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
         return mapper.map(nodeIds, currentNodeId, scanCursor);
     }
 
+    /**
+     * Perform a SCAN on all cluster nodes concurrently. Each node is scanned through its own demand-aware {@link Flux} and at
+     * most {@code parallelism} nodes are subscribed at the same time.
+     */
+    static <K, V> Flux<K> clusterScanParallel(StatefulRedisClusterConnectionImpl<K, V> connection,
+            Function<RedisKeyReactiveCommands<K, V>, Flux<K>> scanFunction, int parallelism) {
+
+        LettuceAssert.isTrue(parallelism > 0, "Parallelism must be greater than 0");
+
+        return Flux.defer(() -> {
+
+            List<String> nodeIds = ClusterScanSupport.getNodeIds(connection, ScanCursor.INITIAL);
+
+            AsyncClusterConnectionProvider connectionProvider = (AsyncClusterConnectionProvider) connection
+                    .getClusterDistributionChannelWriter().getClusterConnectionProvider();
+
+            return Flux.fromIterable(nodeIds).flatMap(
+                    nodeId -> getMono(connectionProvider.<K, V> getConnectionAsync(Intent.WRITE, nodeId)).flatMapMany(
+                            conn -> scanFunction.apply(conn.reactive())), parallelism);
+        });
+    }
+
     private static <T> Mono<T> getMono(CompletableFuture<T> future) {
         return Mono.fromCompletionStage(future);
     }
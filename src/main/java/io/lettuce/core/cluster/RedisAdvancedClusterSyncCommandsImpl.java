@@ -0,0 +1,110 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.lang.reflect.Proxy;
+import java.util.function.Predicate;
+
+import io.lettuce.core.AbstractRedisSyncCommands;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.api.NodeSelectionSupport;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.cluster.api.sync.NodeSelection;
+import io.lettuce.core.cluster.api.sync.NodeSelectionCommands;
+import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * A synchronous and thread-safe API for a Redis Cluster connection. Commands are invoked on
+ * {@link RedisAdvancedClusterAsyncCommandsImpl} and awaited without a reflective proxy. {@link NodeSelection node selections}
+ * are still served by {@link NodeSelectionInvocationHandler}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 5.2
+ */
+public class RedisAdvancedClusterSyncCommandsImpl<K, V> extends AbstractRedisSyncCommands<K, V> implements
+        RedisAdvancedClusterCommands<K, V> {
+
+    private final StatefulRedisClusterConnectionImpl<K, V> connection;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on.
+     * @param async the asynchronous API to invoke commands on.
+     */
+    public RedisAdvancedClusterSyncCommandsImpl(StatefulRedisClusterConnectionImpl<K, V> connection,
+            RedisAdvancedClusterAsyncCommandsImpl<K, V> async) {
+
+        super(connection, async);
+
+        this.connection = connection;
+    }
+
+    @Override
+    public RedisClusterCommands<K, V> getConnection(String nodeId) {
+        return connection.getConnection(nodeId).sync();
+    }
+
+    @Override
+    public RedisClusterCommands<K, V> getConnection(String host, int port) {
+        return connection.getConnection(host, port).sync();
+    }
+
+    @Override
+    public StatefulRedisClusterConnection<K, V> getStatefulConnection() {
+        return connection;
+    }
+
+    @Override
+    public NodeSelection<K, V> readonly(Predicate<RedisClusterNode> predicate) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.READ, false);
+    }
+
+    @Override
+    public NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.WRITE, false);
+    }
+
+    @Override
+    public NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, boolean dynamic) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.WRITE, dynamic);
+    }
+
+    @SuppressWarnings("unchecked")
+    private NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, ClusterConnectionProvider.Intent intent,
+            boolean dynamic) {
+
+        NodeSelectionSupport<RedisCommands<K, V>, ?> selection;
+
+        if (dynamic) {
+            selection = new DynamicNodeSelection<RedisCommands<K, V>, Object, K, V>(
+                    connection.getClusterDistributionChannelWriter(), predicate, intent, StatefulRedisConnection::sync);
+        } else {
+            selection = new StaticNodeSelection<RedisCommands<K, V>, Object, K, V>(
+                    connection.getClusterDistributionChannelWriter(), predicate, intent, StatefulRedisConnection::sync);
+        }
+
+        NodeSelectionInvocationHandler h = new NodeSelectionInvocationHandler((AbstractNodeSelection<?, ?, ?, ?>) selection,
+                RedisClusterAsyncCommands.class, getTimeoutProvider());
+        return (NodeSelection<K, V>) Proxy.newProxyInstance(NodeSelectionSupport.class.getClassLoader(), new Class<?>[] {
+                NodeSelectionCommands.class, NodeSelection.class }, h);
+    }
+}
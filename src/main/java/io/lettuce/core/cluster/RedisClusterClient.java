@@ -582,6 +582,7 @@ public class RedisClusterClient extends AbstractRedisClient {
                 clusterWriter, codec, clusterTopologyRefreshScheduler);
 
         clusterWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
+        clusterWriter.setReadHedger(getReadHedger());
 
         StatefulRedisClusterConnectionImpl<K, V> connection = new StatefulRedisClusterConnectionImpl<>(clusterWriter, codec,
                 timeout);
@@ -608,6 +609,7 @@ public class RedisClusterClient extends AbstractRedisClient {
                                 .onErrorResume(RedisCommandExecutionException.class, e -> Mono.just(c)))
                 .doOnNext(
                         c -> connection.registerCloseables(closeableResources, clusterWriter, pooledClusterConnectionProvider))
+                .doOnNext(c -> warmup(pooledClusterConnectionProvider))
                 .map(it -> (StatefulRedisClusterConnection<K, V>) it).toFuture();
     }
 
@@ -787,8 +789,11 @@ public class RedisClusterClient extends AbstractRedisClient {
             partitions.updateCache();
         } else {
 
+            boolean incremental = isIncrementalRefresh();
             Partitions loadedPartitions = loadPartitions();
-            if (TopologyComparators.isChanged(getPartitions(), loadedPartitions)) {
+            boolean changed = TopologyComparators.isChanged(getPartitions(), loadedPartitions);
+
+            if (changed) {
 
                 logger.debug("Using a new cluster topology");
 
@@ -798,6 +803,17 @@ public class RedisClusterClient extends AbstractRedisClient {
                 getResources().eventBus().publish(new ClusterTopologyChangedEvent(before, after));
             }
 
+            if (incremental) {
+
+                BitSet changedSlots = TopologyComparators.getChangedSlots(getPartitions(), loadedPartitions);
+                this.partitions.reload(loadedPartitions.getPartitions());
+
+                if (changed) {
+                    updateSlotsInConnections(changedSlots);
+                }
+                return;
+            }
+
             this.partitions.reload(loadedPartitions.getPartitions());
         }
 
@@ -808,6 +824,7 @@ public class RedisClusterClient extends AbstractRedisClient {
 
         forEachClusterConnection(input -> {
             input.setPartitions(partitions);
+            warmup(input.getClusterDistributionChannelWriter().getClusterConnectionProvider());
         });
 
         forEachClusterPubSubConnection(input -> {
@@ -815,6 +832,42 @@ public class RedisClusterClient extends AbstractRedisClient {
         });
     }
 
+    /**
+     * Apply an incremental topology update to all connections. Connections share {@link #getPartitions()} so only the cached
+     * routes of {@code changedSlots} are discarded.
+     *
+     * @param changedSlots slots whose owner or replicas changed.
+     */
+    private void updateSlotsInConnections(BitSet changedSlots) {
+
+        forEachClusterConnection(input -> {
+
+            ClusterConnectionProvider connectionProvider = input.getClusterDistributionChannelWriter()
+                    .getClusterConnectionProvider();
+
+            connectionProvider.updateSlots(changedSlots);
+            warmup(connectionProvider);
+        });
+
+        forEachClusterPubSubConnection(input -> {
+            input.getClusterDistributionChannelWriter().getClusterConnectionProvider().updateSlots(changedSlots);
+        });
+    }
+
+    /**
+     * Open node connections eagerly according to {@link ClientOptions#getConnectionWarmup()}.
+     *
+     * @param connectionProvider the connection provider of a cluster connection.
+     */
+    private void warmup(ClusterConnectionProvider connectionProvider) {
+
+        ClientOptions.ConnectionWarmup connectionWarmup = getOptions().getConnectionWarmup();
+
+        if (connectionWarmup != ClientOptions.ConnectionWarmup.NONE) {
+            connectionProvider.warmup(connectionWarmup.isReplicas());
+        }
+    }
+
     protected void initializePartitions() {
         this.partitions = loadPartitions();
     }
@@ -868,7 +921,9 @@ public class RedisClusterClient extends AbstractRedisClient {
 
     private Partitions doLoadPartitions(Iterable<RedisURI> topologyRefreshSource) {
 
-        Map<RedisURI, Partitions> partitions = refresh.loadViews(topologyRefreshSource, useDynamicRefreshSources());
+        // incremental refreshes query only a sample of the known nodes and skip discovery
+        Map<RedisURI, Partitions> partitions = refresh.loadViews(topologyRefreshSource, useDynamicRefreshSources()
+                && !isIncrementalRefresh());
 
         if (partitions.isEmpty()) {
             throw new RedisException(getTopologyRefreshErrorMessage(topologyRefreshSource));
@@ -1100,11 +1155,36 @@ public class RedisClusterClient extends AbstractRedisClient {
             for (RedisClusterNode partition : TopologyComparators.sortByUri(partitions)) {
                 uris.add(partition.getUri());
             }
+
+            if (isIncrementalRefresh()) {
+
+                int sampleSize = getClusterClientOptions().getTopologyRefreshOptions().getRefreshSourcesSampleSize();
+
+                if (sampleSize < uris.size()) {
+                    Collections.shuffle(uris);
+                    uris = new ArrayList<>(uris.subList(0, sampleSize));
+                }
+            }
+
             seed = uris;
         }
         return seed;
     }
 
+    /**
+     * Returns {@literal true} if {@link ClusterTopologyRefreshOptions#isIncrementalRefresh() incremental refresh} is enabled
+     * and a topology is already known.
+     *
+     * @return {@literal true} if the next topology refresh is incremental.
+     */
+    private boolean isIncrementalRefresh() {
+
+        ClusterClientOptions options = getClusterClientOptions();
+
+        return options != null && options.getTopologyRefreshOptions().isIncrementalRefresh() && partitions != null
+                && !partitions.isEmpty();
+    }
+
     /**
      * Returns {@literal true} if {@link ClusterTopologyRefreshOptions#useDynamicRefreshSources() dynamic refresh sources} are
      * enabled.
@@ -20,7 +20,6 @@ import static io.lettuce.core.protocol.CommandType.READONLY;
 import static io.lettuce.core.protocol.CommandType.READWRITE;
 
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Proxy;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -83,8 +82,7 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         this.codec = codec;
 
         this.async = new RedisAdvancedClusterAsyncCommandsImpl<>(this, codec);
-        this.sync = (RedisAdvancedClusterCommands) Proxy.newProxyInstance(AbstractRedisClient.class.getClassLoader(),
-                new Class<?>[] { RedisAdvancedClusterCommands.class }, syncInvocationHandler());
+        this.sync = new RedisAdvancedClusterSyncCommandsImpl<>(this, async);
         this.reactive = new RedisAdvancedClusterReactiveCommandsImpl<>(this, codec);
     }
 
@@ -108,6 +106,14 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         return reactive;
     }
 
+    /**
+     * @return the {@link RedisCodec} used by this connection.
+     * @since 5.2
+     */
+    public RedisCodec<K, V> getCodec() {
+        return codec;
+    }
+
     RedisState getState() {
         return state;
     }
@@ -170,6 +176,11 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         return provider.getConnectionAsync(ClusterConnectionProvider.Intent.WRITE, host, port);
     }
 
+    @Override
+    public CompletableFuture<Void> getWarmup() {
+        return getClusterDistributionChannelWriter().getClusterConnectionProvider().getWarmup();
+    }
+
     public ClusterDistributionChannelWriter getClusterDistributionChannelWriter() {
         return (ClusterDistributionChannelWriter) super.getChannelWriter();
     }
@@ -152,4 +152,15 @@ public interface StatefulRedisClusterConnection<K, V> extends StatefulConnection
      * @return Known partitions for this connection.
      */
     Partitions getPartitions();
+
+    /**
+     * Retrieve a future that completes once the node connections that are opened eagerly according to
+     * {@link ClusterClientOptions#getConnectionWarmup()} are established. The future tracks the warm-up after the most recent
+     * topology change and is completed if connection warm-up is disabled. The future completes exceptionally if a node
+     * connection cannot be established.
+     *
+     * @return future that completes once the node connections are established.
+     * @since 5.2
+     */
+    CompletableFuture<Void> getWarmup();
 }
@@ -295,6 +295,52 @@ public interface RedisAdvancedClusterReactiveCommands<K, V> extends RedisCluster
      */
     Mono<StreamScanCursor> scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor);
 
+    /**
+     * Iterate the keys space over the whole Cluster by running {@code SCAN} on up to {@code parallelism} nodes concurrently.
+     * Keys of all nodes are merged into a single demand-aware {@link Flux}. Keys are emitted in no particular order.
+     *
+     * @param parallelism maximum number of nodes to scan concurrently, must be greater than {@literal 0}.
+     * @return K keys of the whole Cluster.
+     * @since 5.2
+     * @see ScanStream#scan(RedisKeyReactiveCommands)
+     */
+    Flux<K> scanParallel(int parallelism);
+
+    /**
+     * Iterate the keys space over the whole Cluster by running {@code SCAN} on up to {@code parallelism} nodes concurrently.
+     * Keys of all nodes are merged into a single demand-aware {@link Flux}. Keys are emitted in no particular order.
+     *
+     * @param scanArgs scan arguments applied to each node, must not be {@literal null}.
+     * @param parallelism maximum number of nodes to scan concurrently, must be greater than {@literal 0}.
+     * @return K keys of the whole Cluster.
+     * @since 5.2
+     * @see ScanStream#scan(RedisKeyReactiveCommands, ScanArgs)
+     */
+    Flux<K> scanParallel(ScanArgs scanArgs, int parallelism);
+
+    /**
+     * Iterate the keys space over the whole Cluster by running {@code SCAN} on up to {@code parallelism} nodes concurrently.
+     * The {@link KeyStreamingChannel} is notified sequentially, never from multiple threads at the same time.
+     *
+     * @param channel streaming channel that receives a call for every key, must not be {@literal null}.
+     * @param parallelism maximum number of nodes to scan concurrently, must be greater than {@literal 0}.
+     * @return Long number of keys.
+     * @since 5.2
+     */
+    Mono<Long> scanParallel(KeyStreamingChannel<K> channel, int parallelism);
+
+    /**
+     * Iterate the keys space over the whole Cluster by running {@code SCAN} on up to {@code parallelism} nodes concurrently.
+     * The {@link KeyStreamingChannel} is notified sequentially, never from multiple threads at the same time.
+     *
+     * @param channel streaming channel that receives a call for every key, must not be {@literal null}.
+     * @param scanArgs scan arguments applied to each node, must not be {@literal null}.
+     * @param parallelism maximum number of nodes to scan concurrently, must be greater than {@literal 0}.
+     * @return Long number of keys.
+     * @since 5.2
+     */
+    Mono<Long> scanParallel(KeyStreamingChannel<K> channel, ScanArgs scanArgs, int parallelism);
+
     /**
      * Touch one or more keys with pipelining. Touch sets the last accessed time for a key. Non-exsitent keys wont get created.
      * Cross-slot keys will result in multiple calls to the particular cluster nodes.
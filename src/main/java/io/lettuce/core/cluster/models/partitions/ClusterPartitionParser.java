@@ -16,8 +16,6 @@
 package io.lettuce.core.cluster.models.partitions;
 
 import java.util.*;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import io.lettuce.core.LettuceStrings;
 import io.lettuce.core.RedisException;
@@ -26,7 +24,8 @@ import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.internal.LettuceLists;
 
 /**
- * Parser for node information output of {@code CLUSTER NODES} and {@code CLUSTER SLAVES}.
+ * Parser for node information output of {@code CLUSTER NODES} and {@code CLUSTER SLAVES}. Lines and fields are tokenized by
+ * scanning for separator characters without using regular expressions.
  *
  * @author Mark Paluch
  * @since 3.0
@@ -37,9 +36,9 @@ public class ClusterPartitionParser {
 
     private static final String TOKEN_SLOT_IN_TRANSITION = "[";
     private static final char TOKEN_NODE_SEPARATOR = '\n';
-    private static final Pattern TOKEN_PATTERN = Pattern.compile(Character.toString(TOKEN_NODE_SEPARATOR));
-    private static final Pattern SPACE_PATTERN = Pattern.compile(" ");
-    private static final Pattern DASH_PATTERN = Pattern.compile("\\-");
+    private static final char TOKEN_FIELD_SEPARATOR = ' ';
+    private static final char TOKEN_FLAG_SEPARATOR = ',';
+    private static final char TOKEN_SLOT_RANGE = '-';
     private static final Map<String, RedisClusterNode.NodeFlag> FLAG_MAPPING;
 
     static {
@@ -73,9 +72,13 @@ public class ClusterPartitionParser {
         Partitions result = new Partitions();
 
         try {
-            List<RedisClusterNode> mappedNodes = TOKEN_PATTERN.splitAsStream(nodes).filter(s -> !s.isEmpty())
-                    .map(ClusterPartitionParser::parseNode)
-                    .collect(Collectors.toList());
+            List<RedisClusterNode> mappedNodes = new ArrayList<>();
+            Iterator<String> lines = new TokenIterator(nodes, TOKEN_NODE_SEPARATOR);
+
+            while (lines.hasNext()) {
+                mappedNodes.add(parseNode(lines.next()));
+            }
+
             result.addAll(mappedNodes);
         } catch (Exception e) {
             throw new RedisException("Cannot parse " + nodes, e);
@@ -86,7 +89,7 @@ public class ClusterPartitionParser {
 
     private static RedisClusterNode parseNode(String nodeInformation) {
 
-        Iterator<String> iterator = SPACE_PATTERN.splitAsStream(nodeInformation).iterator();
+        Iterator<String> iterator = new TokenIterator(nodeInformation, TOKEN_FIELD_SEPARATOR);
 
         String nodeId = iterator.next();
         boolean connected = false;
@@ -104,7 +107,7 @@ public class ClusterPartitionParser {
         }
 
         String flags = iterator.next();
-        List<String> flagStrings = LettuceLists.newList(flags.split("\\,"));
+        List<String> flagStrings = LettuceLists.newList(new TokenIterator(flags, TOKEN_FLAG_SEPARATOR));
 
         Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(flagStrings);
 
@@ -153,11 +156,11 @@ public class ClusterPartitionParser {
 
             }
 
-            if (slotString.contains("-")) {
+            int rangeSeparator = slotString.indexOf(TOKEN_SLOT_RANGE);
+            if (rangeSeparator != -1) {
                 // slot range
-                Iterator<String> it = DASH_PATTERN.splitAsStream(slotString).iterator();
-                int from = Integer.parseInt(it.next());
-                int to = Integer.parseInt(it.next());
+                int from = Integer.parseInt(slotString.substring(0, rangeSeparator));
+                int to = Integer.parseInt(slotString.substring(rangeSeparator + 1));
 
                 for (int slot = from; slot <= to; slot++) {
                     slots.add(slot);
@@ -182,4 +185,50 @@ public class ClusterPartitionParser {
         return defaultValue;
     }
 
+    /**
+     * {@link Iterator} over the non-empty tokens of a {@link String} delimited by a single separator character.
+     */
+    static class TokenIterator implements Iterator<String> {
+
+        private final String value;
+        private final char separator;
+        private int position;
+
+        TokenIterator(String value, char separator) {
+            this.value = value;
+            this.separator = separator;
+            skipSeparators();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < value.length();
+        }
+
+        @Override
+        public String next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int end = value.indexOf(separator, position);
+            if (end == -1) {
+                end = value.length();
+            }
+
+            String token = value.substring(position, end);
+            position = end;
+            skipSeparators();
+
+            return token;
+        }
+
+        private void skipSeparators() {
+
+            while (position < value.length() && value.charAt(position) == separator) {
+                position++;
+            }
+        }
+    }
 }
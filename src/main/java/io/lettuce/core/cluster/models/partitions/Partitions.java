@@ -27,8 +27,8 @@ import io.lettuce.core.internal.LettuceAssert;
  * {@link RedisClusterNode#getUri() connection point details}.
  * <p>
  * Partitions can be looked up by {@code nodeId} or {@code slot} (masters only). A nodeId can be migrated to a different host.
- * Partitions are cached to ensure a cheap lookup by {@code slot}. Users of {@link Partitions} are required to call
- * {@link #updateCache()} after topology changes occur.
+ * Partitions are cached and indexed by {@code slot}, {@code nodeId} and host and port to ensure cheap lookups. Users of
+ * {@link Partitions} are required to call {@link #updateCache()} after topology changes occur.
  * </p>
  *
  * Topology changes are:
@@ -58,6 +58,8 @@ public class Partitions implements Collection<RedisClusterNode> {
 
     private volatile RedisClusterNode slotCache[] = EMPTY;
     private volatile Collection<RedisClusterNode> nodeReadView = Collections.emptyList();
+    private volatile Map<String, RedisClusterNode> nodeIdIndex = Collections.emptyMap();
+    private volatile Map<String, PortIndex> hostIndex = Collections.emptyMap();
 
     /**
      * Create a deep copy of this {@link Partitions} object.
@@ -97,14 +99,7 @@ public class Partitions implements Collection<RedisClusterNode> {
      * @return the {@link RedisClusterNode} or {@literal null} if not found.
      */
     public RedisClusterNode getPartitionByNodeId(String nodeId) {
-
-        for (RedisClusterNode partition : nodeReadView) {
-            if (partition.getNodeId().equals(nodeId)) {
-                return partition;
-            }
-        }
-
-        return null;
+        return nodeIdIndex.get(nodeId);
     }
 
     /**
@@ -116,27 +111,31 @@ public class Partitions implements Collection<RedisClusterNode> {
      */
     public RedisClusterNode getPartition(String host, int port) {
 
-        for (RedisClusterNode partition : nodeReadView) {
-
-            RedisURI uri = partition.getUri();
+        PortIndex portIndex = hostIndex.get(host);
+        return portIndex != null ? portIndex.get(port) : null;
+    }
 
-            if (matches(uri, host, port)) {
-                return partition;
-            }
+    /**
+     * Reassign {@code slot} to the node at {@code host:port} in the slot cache. Applies a {@literal MOVED} redirection without
+     * reloading the topology. The next {@link #updateCache()} rebuilds the slot cache from the partition details.
+     *
+     * @param slot the slot hash.
+     * @param host hostname.
+     * @param port port number.
+     * @return {@literal true} if the slot cache was updated, {@literal false} if the node is not known.
+     * @since 5.2
+     */
+    public boolean updateSlotCache(int slot, String host, int port) {
 
-            for (RedisURI redisURI : partition.getAliases()) {
+        RedisClusterNode partition = getPartition(host, port);
+        RedisClusterNode[] slotCache = this.slotCache;
 
-                if (matches(redisURI, host, port)) {
-                    return partition;
-                }
-            }
+        if (partition == null || slotCache == EMPTY) {
+            return false;
         }
 
-        return null;
-    }
-
-    private static boolean matches(RedisURI uri, String host, int port) {
-        return uri.getPort() == port && host.equals(uri.getHost());
+        slotCache[slot] = partition;
+        return true;
     }
 
     /**
@@ -149,23 +148,46 @@ public class Partitions implements Collection<RedisClusterNode> {
             if (partitions.isEmpty()) {
                 this.slotCache = EMPTY;
                 this.nodeReadView = Collections.emptyList();
+                this.nodeIdIndex = Collections.emptyMap();
+                this.hostIndex = Collections.emptyMap();
                 return;
             }
 
             RedisClusterNode[] slotCache = new RedisClusterNode[SlotHash.SLOT_COUNT];
             List<RedisClusterNode> readView = new ArrayList<>(partitions.size());
+            Map<String, RedisClusterNode> nodeIdIndex = new HashMap<>(partitions.size() * 2);
+            Map<String, PortIndex> hostIndex = new HashMap<>(partitions.size() * 2);
 
             for (RedisClusterNode partition : partitions) {
 
                 readView.add(partition);
-                for (Integer integer : partition.getSlots()) {
-                    slotCache[integer.intValue()] = partition;
+                nodeIdIndex.putIfAbsent(partition.getNodeId(), partition);
+
+                index(hostIndex, partition.getUri(), partition);
+                for (RedisURI alias : partition.getAliases()) {
+                    index(hostIndex, alias, partition);
+                }
+
+                int[] slotRanges = partition.getSlotRanges();
+                for (int i = 0; i < slotRanges.length; i += 2) {
+                    Arrays.fill(slotCache, slotRanges[i], slotRanges[i + 1] + 1, partition);
                 }
             }
 
             this.slotCache = slotCache;
             this.nodeReadView = Collections.unmodifiableCollection(readView);
+            this.nodeIdIndex = Collections.unmodifiableMap(nodeIdIndex);
+            this.hostIndex = Collections.unmodifiableMap(hostIndex);
+        }
+    }
+
+    private static void index(Map<String, PortIndex> hostIndex, RedisURI uri, RedisClusterNode partition) {
+
+        if (uri == null || uri.getHost() == null) {
+            return;
         }
+
+        hostIndex.computeIfAbsent(uri.getHost(), host -> new PortIndex()).putIfAbsent(uri.getPort(), partition);
     }
 
     /**
@@ -402,4 +424,41 @@ public class Partitions implements Collection<RedisClusterNode> {
         sb.append(" ").append(partitions);
         return sb.toString();
     }
+
+    /**
+     * Nodes of a single host indexed by port. A host usually serves only a few nodes so ports are scanned without boxing.
+     */
+    static class PortIndex {
+
+        private int[] ports = new int[2];
+        private RedisClusterNode[] nodes = new RedisClusterNode[2];
+        private int size;
+
+        void putIfAbsent(int port, RedisClusterNode node) {
+
+            if (get(port) != null) {
+                return;
+            }
+
+            if (size == ports.length) {
+                ports = Arrays.copyOf(ports, size * 2);
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+
+            ports[size] = port;
+            nodes[size] = node;
+            size++;
+        }
+
+        RedisClusterNode get(int port) {
+
+            for (int i = 0; i < size; i++) {
+                if (ports[i] == port) {
+                    return nodes[i];
+                }
+            }
+
+            return null;
+        }
+    }
 }
@@ -223,16 +223,45 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
             return Collections.emptyList();
         }
 
-        List<Integer> slots = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>(this.slots.cardinality());
 
-        for (int i = 0; i < SlotHash.SLOT_COUNT; i++) {
+        for (int i = this.slots.nextSetBit(0); i >= 0; i = this.slots.nextSetBit(i + 1)) {
+            slots.add(i);
+        }
+
+        return slots;
+    }
+
+    /**
+     * Return the slots as primitive ranges. Each range is represented by two consecutive elements holding the first and the
+     * last (inclusive) slot of the range. Contiguous slots are therefore represented without boxing a value per slot.
+     *
+     * @return the slot ranges as {@code [from, to, from, to, ...]}, empty if the node does not serve any slots.
+     * @since 5.2
+     */
+    public int[] getSlotRanges() {
 
-            if (this.slots.get(i)) {
-                slots.add(i);
+        if (slots == null || slots.isEmpty()) {
+            return new int[0];
+        }
+
+        int[] ranges = new int[8];
+        int size = 0;
+
+        for (int from = slots.nextSetBit(0); from >= 0; from = slots.nextSetBit(from + 1)) {
+
+            int to = slots.nextClearBit(from) - 1;
+
+            if (size == ranges.length) {
+                ranges = Arrays.copyOf(ranges, size * 2);
             }
+
+            ranges[size++] = from;
+            ranges[size++] = to;
+            from = to;
         }
 
-        return slots;
+        return Arrays.copyOf(ranges, size);
     }
 
     /**
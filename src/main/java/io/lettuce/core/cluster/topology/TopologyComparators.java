@@ -15,12 +15,11 @@
  */
 package io.lettuce.core.cluster.topology;
 
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.SlotHash;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.internal.LettuceAssert;
@@ -133,6 +132,60 @@ public class TopologyComparators {
         return false;
     }
 
+    /**
+     * Determine the slots whose routing changed between two topology views. A slot is changed if its owning node (node id or
+     * {@link RedisURI}) or the replicas of its owner changed.
+     *
+     * @param before the previous topology view.
+     * @param after the new topology view.
+     * @return the changed slots.
+     * @since 5.2
+     */
+    public static BitSet getChangedSlots(Partitions before, Partitions after) {
+
+        LettuceAssert.notNull(before, "Partitions before must not be null");
+        LettuceAssert.notNull(after, "Partitions after must not be null");
+
+        BitSet changedSlots = new BitSet(SlotHash.SLOT_COUNT);
+
+        if (before == after) {
+            return changedSlots;
+        }
+
+        Map<String, Set<String>> replicasBefore = getReplicas(before);
+        Map<String, Set<String>> replicasAfter = getReplicas(after);
+
+        for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+
+            RedisClusterNode o1 = before.getPartitionBySlot(slot);
+            RedisClusterNode o2 = after.getPartitionBySlot(slot);
+
+            if (o1 == null && o2 == null) {
+                continue;
+            }
+
+            if (o1 == null || o2 == null || !o1.getNodeId().equals(o2.getNodeId()) || !Objects.equals(o1.getUri(), o2.getUri())
+                    || !Objects.equals(replicasBefore.get(o1.getNodeId()), replicasAfter.get(o2.getNodeId()))) {
+                changedSlots.set(slot);
+            }
+        }
+
+        return changedSlots;
+    }
+
+    private static Map<String, Set<String>> getReplicas(Partitions partitions) {
+
+        Map<String, Set<String>> replicas = new HashMap<>();
+
+        for (RedisClusterNode node : partitions) {
+            if (node.getSlaveOf() != null) {
+                replicas.computeIfAbsent(node.getSlaveOf(), it -> new HashSet<>()).add(node.getNodeId() + "@" + node.getUri());
+            }
+        }
+
+        return replicas;
+    }
+
     /**
      * Check for {@code MASTER} or {@code SLAVE} flags and whether the responsible slots changed.
      *
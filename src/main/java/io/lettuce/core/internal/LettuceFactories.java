@@ -53,6 +53,24 @@ public class LettuceFactories {
         return maxSize > ARRAY_QUEUE_THRESHOLD ? new LinkedBlockingQueue<>(maxSize) : new ArrayBlockingQueue<>(maxSize);
     }
 
+    /**
+     * Creates a new, optionally bounded, {@link Queue} for multiple producers and a single consumer. Bounded queues up to the
+     * array threshold use a {@link MpscArrayQueue} that enqueues without allocation and reports its size in constant time.
+     * Consumers of the returned queue must not run concurrently.
+     *
+     * @param maxSize queue size. If {@link Integer#MAX_VALUE}, then creates an {@link ConcurrentLinkedDeque unbounded queue}.
+     * @return a new, empty {@link Queue}.
+     * @since 5.2
+     */
+    public static <T> Queue<T> newMpscQueue(int maxSize) {
+
+        if (maxSize == Integer.MAX_VALUE) {
+            return new ConcurrentLinkedDeque<>();
+        }
+
+        return maxSize > ARRAY_QUEUE_THRESHOLD ? new LinkedBlockingQueue<>(maxSize) : new MpscArrayQueue<>(maxSize);
+    }
+
     /**
      * Creates a new {@link Queue} for single producer/single consumer.
      *
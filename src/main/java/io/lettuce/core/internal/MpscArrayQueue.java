@@ -0,0 +1,356 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.internal;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, array-backed, lock-free queue for multiple producers and a single consumer. Producers claim a slot by advancing the
+ * producer index and publish the element with an ordered write. The consumer reads published elements in order. Enqueue does
+ * not allocate and {@link #size()} is a constant-time operation.
+ * <p>
+ * Only a single thread may consume (call {@link #poll()}, {@link #peek()} or {@link #clear()}) at a time. Consumers running
+ * on different threads must synchronize externally. {@link #remove(Object)} and iteration are safe to use from any thread.
+ * Iterators are weakly consistent: they never throw {@link java.util.ConcurrentModificationException} and reflect elements
+ * that were present at some point during iteration. Removed elements leave a marker in their slot that the consumer skips,
+ * so they occupy capacity until the consumer passes them.
+ * <p>
+ * This class is part of the internal API and may change without further notice.
+ *
+ * @param <E> element type.
+ * @since 5.2
+ */
+public class MpscArrayQueue<E> extends AbstractQueue<E> {
+
+    private static final Object REMOVED = new Object();
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<MpscArrayQueue> PRODUCER_INDEX = AtomicLongFieldUpdater.newUpdater(
+            MpscArrayQueue.class, "producerIndex");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<MpscArrayQueue> CONSUMER_INDEX = AtomicLongFieldUpdater.newUpdater(
+            MpscArrayQueue.class, "consumerIndex");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<MpscArrayQueue> REMOVED_COUNT = AtomicLongFieldUpdater.newUpdater(
+            MpscArrayQueue.class, "removedCount");
+
+    private final AtomicReferenceArray<Object> buffer;
+    private final int capacity;
+    private final int mask;
+
+    // access via PRODUCER_INDEX
+    @SuppressWarnings("unused")
+    private volatile long producerIndex;
+
+    // access via CONSUMER_INDEX
+    @SuppressWarnings("unused")
+    private volatile long consumerIndex;
+
+    // access via REMOVED_COUNT
+    @SuppressWarnings("unused")
+    private volatile long removedCount;
+
+    /**
+     * Create a new {@link MpscArrayQueue} that holds at most {@code capacity} elements.
+     *
+     * @param capacity the queue capacity, must be greater than zero.
+     */
+    public MpscArrayQueue(int capacity) {
+
+        LettuceAssert.isTrue(capacity > 0, "Capacity must be greater than zero");
+        LettuceAssert.isTrue(capacity <= 1 << 30, "Capacity must not exceed 2^30");
+
+        int length = 1;
+        while (length < capacity) {
+            length <<= 1;
+        }
+
+        this.buffer = new AtomicReferenceArray<>(length);
+        this.capacity = capacity;
+        this.mask = length - 1;
+    }
+
+    @Override
+    public boolean offer(E e) {
+
+        if (e == null) {
+            throw new NullPointerException("Element must not be null");
+        }
+
+        long index;
+        do {
+
+            index = PRODUCER_INDEX.get(this);
+
+            if (index - CONSUMER_INDEX.get(this) >= capacity) {
+                return false;
+            }
+        } while (!PRODUCER_INDEX.compareAndSet(this, index, index + 1));
+
+        buffer.lazySet(offset(index), e);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+
+        for (;;) {
+
+            long index = CONSUMER_INDEX.get(this);
+            int offset = offset(index);
+
+            Object e = awaitElement(index, offset);
+            if (e == null) {
+                return null;
+            }
+
+            // a concurrent remove(Object) may have replaced the element with the REMOVED marker
+            if (!buffer.compareAndSet(offset, e, null)) {
+                continue;
+            }
+
+            CONSUMER_INDEX.lazySet(this, index + 1);
+
+            if (e == REMOVED) {
+                REMOVED_COUNT.decrementAndGet(this);
+                continue;
+            }
+
+            return (E) e;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+
+        for (;;) {
+
+            long index = CONSUMER_INDEX.get(this);
+            int offset = offset(index);
+
+            Object e = awaitElement(index, offset);
+            if (e != REMOVED) {
+                return (E) e;
+            }
+
+            if (buffer.compareAndSet(offset, REMOVED, null)) {
+                CONSUMER_INDEX.lazySet(this, index + 1);
+                REMOVED_COUNT.decrementAndGet(this);
+            }
+        }
+    }
+
+    /**
+     * Read the element at {@code offset}. A producer may have claimed the slot without having published the element yet. In
+     * that case, spin until the element becomes visible.
+     */
+    private Object awaitElement(long index, int offset) {
+
+        Object e = buffer.get(offset);
+
+        if (e == null) {
+
+            if (index == PRODUCER_INDEX.get(this)) {
+                return null;
+            }
+
+            do {
+                e = buffer.get(offset);
+            } while (e == null);
+        }
+
+        return e;
+    }
+
+    /**
+     * Remove a single instance of {@code o}. The element is replaced with a marker that the consumer skips.
+     *
+     * @param o the element to remove.
+     * @return {@literal true} if an element was removed.
+     */
+    @Override
+    public boolean remove(Object o) {
+
+        if (o == null) {
+            return false;
+        }
+
+        long limit = PRODUCER_INDEX.get(this);
+
+        for (long index = CONSUMER_INDEX.get(this); index < limit; index++) {
+
+            int offset = offset(index);
+            Object e = buffer.get(offset);
+
+            if (e != null && e != REMOVED && o.equals(e) && markRemoved(offset, e)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean markRemoved(int offset, Object e) {
+
+        if (buffer.compareAndSet(offset, e, REMOVED)) {
+            REMOVED_COUNT.incrementAndGet(this);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public int size() {
+
+        long after = CONSUMER_INDEX.get(this);
+
+        for (;;) {
+
+            long before = after;
+            long producer = PRODUCER_INDEX.get(this);
+            long removed = REMOVED_COUNT.get(this);
+            after = CONSUMER_INDEX.get(this);
+
+            if (before == after) {
+                return (int) Math.max(0, Math.min(producer - after - removed, capacity));
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+
+        while (poll() != null) {
+            // drain
+        }
+    }
+
+    /**
+     * @return the maximal number of elements this queue can hold.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns a weakly consistent {@link Iterator} over the elements in this queue in FIFO order.
+     *
+     * @return an iterator over the elements in this queue.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [size=" + size() + ", capacity=" + capacity + "]";
+    }
+
+    private int offset(long index) {
+        return (int) index & mask;
+    }
+
+    /**
+     * Iterator over the slots between the consumer and producer index at creation time. Slots that were consumed or not yet
+     * published are skipped.
+     */
+    private class Itr implements Iterator<E> {
+
+        private final long limit;
+        private long index;
+
+        private E next;
+        private long nextIndex;
+
+        private E lastReturned;
+        private long lastIndex;
+
+        Itr() {
+            this.index = CONSUMER_INDEX.get(MpscArrayQueue.this);
+            this.limit = PRODUCER_INDEX.get(MpscArrayQueue.this);
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+
+            next = null;
+
+            while (index < limit) {
+
+                long current = Math.max(index, CONSUMER_INDEX.get(MpscArrayQueue.this));
+                index = current + 1;
+
+                if (current >= limit) {
+                    return;
+                }
+
+                Object e = buffer.get(offset(current));
+
+                if (e != null && e != REMOVED) {
+                    next = (E) e;
+                    nextIndex = current;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = next;
+            lastIndex = nextIndex;
+            advance();
+
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            markRemoved(offset(lastIndex), lastReturned);
+            lastReturned = null;
+        }
+    }
+}
@@ -63,12 +63,23 @@ class MasterSlaveChannelWriter implements RedisChannelWriter {
 
         Intent intent = inTransaction ? Intent.WRITE : getIntent(command.getType());
         CompletableFuture<StatefulRedisConnection<K, V>> future = (CompletableFuture) masterSlaveConnectionProvider
-                .getConnectionAsync(intent);
+                .getConnectionAsync(intent, command);
 
         if (isEndTransaction(command.getType())) {
             inTransaction = false;
         }
 
+        if (intent == Intent.READ && masterSlaveConnectionProvider.isHedgeReads()) {
+
+            if (isSuccessfullyCompleted(future)) {
+                writeHedged(command, future.join(), null);
+            } else {
+                future.whenComplete((c, t) -> writeHedged(command, c, t));
+            }
+
+            return command;
+        }
+
         if (isSuccessfullyCompleted(future)) {
             writeCommand(command, future.join(), null);
         } else {
@@ -78,6 +89,19 @@ class MasterSlaveChannelWriter implements RedisChannelWriter {
         return command;
     }
 
+    @SuppressWarnings("unchecked")
+    private <K, V> void writeHedged(RedisCommand<K, V, ?> command, StatefulRedisConnection<K, V> connection,
+            Throwable throwable) {
+
+        if (throwable != null) {
+            command.completeExceptionally(throwable);
+            return;
+        }
+
+        masterSlaveConnectionProvider.getReadHedger().dispatch(command, connection,
+                () -> (StatefulRedisConnection<K, V>) masterSlaveConnectionProvider.getHedgeConnection(connection));
+    }
+
     @SuppressWarnings("unchecked")
     private static <K, V> void writeCommand(RedisCommand<K, V, ?> command, StatefulRedisConnection<K, V> connection,
             Throwable throwable) {
@@ -263,6 +287,14 @@ class MasterSlaveChannelWriter implements RedisChannelWriter {
         return masterSlaveConnectionProvider.getReadFrom();
     }
 
+    /**
+     * @return the future of the most recent connection warm-up.
+     * @since 5.2
+     */
+    public CompletableFuture<Void> getWarmup() {
+        return masterSlaveConnectionProvider.getWarmup();
+    }
+
     private static boolean isSuccessfullyCompleted(CompletableFuture<?> connectFuture) {
         return connectFuture.isDone() && !connectFuture.isCompletedExceptionally();
     }
@@ -34,6 +34,7 @@ import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.AsyncConnectionProvider;
 import io.lettuce.core.models.role.RedisInstance;
 import io.lettuce.core.models.role.RedisNodeDescription;
+import io.lettuce.core.protocol.RedisCommand;
 import io.netty.util.internal.ConcurrentSet;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -49,7 +50,9 @@ public class MasterSlaveConnectionProvider<K, V> {
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(MasterSlaveConnectionProvider.class);
     private final boolean debugEnabled = logger.isDebugEnabled();
 
+    private final RedisClient redisClient;
     private final RedisURI initialRedisUri;
+    private final ReadHedger readHedger;
     private final AsyncConnectionProvider<ConnectionKey, StatefulRedisConnection<K, V>, CompletionStage<StatefulRedisConnection<K, V>>> connectionProvider;
 
     private List<RedisNodeDescription> knownNodes = new ArrayList<>();
@@ -57,11 +60,14 @@ public class MasterSlaveConnectionProvider<K, V> {
     private boolean autoFlushCommands = true;
     private final Object stateLock = new Object();
     private ReadFrom readFrom;
+    private volatile CompletableFuture<Void> warmup = CompletableFuture.completedFuture(null);
 
     MasterSlaveConnectionProvider(RedisClient redisClient, RedisCodec<K, V> redisCodec, RedisURI initialRedisUri,
             Map<RedisURI, StatefulRedisConnection<K, V>> initialConnections) {
 
+        this.redisClient = redisClient;
         this.initialRedisUri = initialRedisUri;
+        this.readHedger = redisClient.getReadHedger();
 
         Function<ConnectionKey, CompletionStage<StatefulRedisConnection<K, V>>> connectionFactory = new DefaultMasterSlaveNodeConnectionFactory(
                 redisClient, redisCodec);
@@ -113,23 +119,29 @@ public class MasterSlaveConnectionProvider<K, V> {
      * @throws RedisException if the host is not part of the cluster
      */
     public CompletableFuture<StatefulRedisConnection<K, V>> getConnectionAsync(Intent intent) {
+        return getConnectionAsync(intent, null);
+    }
+
+    /**
+     * Retrieve a {@link StatefulRedisConnection} by the intent to dispatch {@code command}. The {@link ReadFrom} setting can
+     * track the command on the node that was selected to read.
+     *
+     * @param intent command intent
+     * @param command the command to dispatch, can be {@literal null}.
+     * @return the connection.
+     * @throws RedisException if the host is not part of the cluster
+     * @since 5.2
+     */
+    public CompletableFuture<StatefulRedisConnection<K, V>> getConnectionAsync(Intent intent, RedisCommand<?, ?, ?> command) {
 
         if (debugEnabled) {
             logger.debug("getConnectionAsync(" + intent + ")");
         }
 
-        if (readFrom != null && intent == Intent.READ) {
-            List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
-                @Override
-                public List<RedisNodeDescription> getNodes() {
-                    return knownNodes;
-                }
+        ReadFrom readFrom = this.readFrom;
 
-                @Override
-                public Iterator<RedisNodeDescription> iterator() {
-                    return knownNodes.iterator();
-                }
-            });
+        if (readFrom != null && intent == Intent.READ) {
+            List<RedisNodeDescription> selection = readFrom.select(getKnownNodes());
 
             if (selection.isEmpty()) {
                 throw new RedisException(String.format("Cannot determine a node to read (Known nodes: %s) with setting %s",
@@ -139,12 +151,22 @@ public class MasterSlaveConnectionProvider<K, V> {
             try {
 
                 Flux<StatefulRedisConnection<K, V>> connections = Flux.empty();
+                Flux<StatefulRedisConnection<K, V>> openConnections = Flux.empty();
 
                 for (RedisNodeDescription node : selection) {
-                    connections = connections.concatWith(Mono.fromFuture(getConnection(node)));
+
+                    CompletableFuture<StatefulRedisConnection<K, V>> connection = getConnection(node);
+
+                    connections = connections.concatWith(Mono.fromFuture(connection));
+                    openConnections = openConnections.concatWith(Mono.fromFuture(connection)
+                            .filter(StatefulConnection::isOpen).doOnNext(it -> {
+                                if (command != null) {
+                                    readFrom.track(node, command);
+                                }
+                            }));
                 }
 
-                return connections.filter(StatefulConnection::isOpen).next().switchIfEmpty(connections.next()).toFuture();
+                return openConnections.next().switchIfEmpty(connections.next()).toFuture();
             } catch (RuntimeException e) {
                 throw Exceptions.bubble(e);
             }
@@ -153,6 +175,69 @@ public class MasterSlaveConnectionProvider<K, V> {
         return getConnection(getMaster());
     }
 
+    /**
+     * Retrieve a {@link StatefulRedisConnection} to hedge a read. The connection points to a node that is eligible for reading
+     * according to the {@link ReadFrom} setting and differs from {@code connection}.
+     *
+     * @param connection the connection that serves the read.
+     * @return a connection to another eligible node or {@literal null} if no other node is available.
+     * @since 5.2
+     */
+    StatefulRedisConnection<K, V> getHedgeConnection(StatefulRedisConnection<?, ?> connection) {
+
+        ReadFrom readFrom = this.readFrom;
+
+        if (readFrom == null) {
+            return null;
+        }
+
+        for (RedisNodeDescription node : readFrom.select(getKnownNodes())) {
+
+            CompletableFuture<StatefulRedisConnection<K, V>> candidate = getConnection(node);
+
+            if (candidate.isDone() && !candidate.isCompletedExceptionally()) {
+
+                StatefulRedisConnection<K, V> hedge = candidate.join();
+
+                if (hedge != connection && hedge.isOpen()) {
+                    return hedge;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return {@literal true} if reads are hedged.
+     */
+    boolean isHedgeReads() {
+
+        ReadFrom readFrom = this.readFrom;
+        return readFrom != null && readFrom != ReadFrom.MASTER && readHedger != null && readHedger.isEnabled();
+    }
+
+    ReadHedger getReadHedger() {
+        return readHedger;
+    }
+
+    private ReadFrom.Nodes getKnownNodes() {
+
+        List<RedisNodeDescription> knownNodes = this.knownNodes;
+
+        return new ReadFrom.Nodes() {
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return knownNodes;
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return knownNodes.iterator();
+            }
+        };
+    }
+
     protected CompletableFuture<StatefulRedisConnection<K, V>> getConnection(RedisNodeDescription redisNodeDescription) {
 
         RedisURI uri = redisNodeDescription.getUri();
@@ -274,8 +359,53 @@ public class MasterSlaveConnectionProvider<K, V> {
             this.knownNodes.clear();
             this.knownNodes.addAll(knownNodes);
 
+            if (readFrom != null) {
+                readFrom.retain(knownNodes);
+            }
+
             closeStaleConnections();
         }
+
+        ClientOptions.ConnectionWarmup connectionWarmup = redisClient.getOptions().getConnectionWarmup();
+
+        if (connectionWarmup != ClientOptions.ConnectionWarmup.NONE) {
+            warmup(connectionWarmup.isReplicas());
+        }
+    }
+
+    /**
+     * Open connections to the master and, if {@code replicas} is {@literal true}, to all replicas in parallel. Connections
+     * that are already open are reused.
+     *
+     * @param replicas {@literal true} to open connections to replicas.
+     * @return future that completes once all connection attempts have finished. The future completes exceptionally if any
+     *         connection attempt failed.
+     * @since 5.2
+     */
+    public CompletableFuture<Void> warmup(boolean replicas) {
+
+        List<CompletableFuture<StatefulRedisConnection<K, V>>> futures = new ArrayList<>();
+
+        for (RedisNodeDescription node : knownNodes) {
+
+            if (node.getRole() == RedisInstance.Role.MASTER || replicas) {
+                futures.add(getConnection(node));
+            }
+        }
+
+        CompletableFuture<Void> warmup = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        this.warmup = warmup;
+
+        return warmup;
+    }
+
+    /**
+     * @return the future of the most recent {@link #warmup(boolean) warm-up}. The future is completed if no warm-up was
+     *         performed.
+     * @since 5.2
+     */
+    public CompletableFuture<Void> getWarmup() {
+        return warmup;
     }
 
     /**
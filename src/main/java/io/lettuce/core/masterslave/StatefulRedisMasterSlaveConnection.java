@@ -15,6 +15,9 @@
  */
 package io.lettuce.core.masterslave;
 
+import java.util.concurrent.CompletableFuture;
+
+import io.lettuce.core.ClientOptions;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.api.StatefulRedisConnection;
 
@@ -42,4 +45,15 @@ public interface StatefulRedisMasterSlaveConnection<K, V> extends StatefulRedisC
      * @return the read from setting
      */
     ReadFrom getReadFrom();
+
+    /**
+     * Retrieve a future that completes once the node connections that are opened eagerly according to
+     * {@link ClientOptions#getConnectionWarmup()} are established. The future tracks the warm-up after the most recent
+     * topology change and is completed if connection warm-up is disabled. The future completes exceptionally if a node
+     * connection cannot be established.
+     *
+     * @return future that completes once the node connections are established.
+     * @since 5.2
+     */
+    CompletableFuture<Void> getWarmup();
 }
@@ -16,6 +16,7 @@
 package io.lettuce.core.masterslave;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.StatefulRedisConnectionImpl;
@@ -49,6 +50,11 @@ class StatefulRedisMasterSlaveConnectionImpl<K, V> extends StatefulRedisConnecti
         return getChannelWriter().getReadFrom();
     }
 
+    @Override
+    public CompletableFuture<Void> getWarmup() {
+        return getChannelWriter().getWarmup();
+    }
+
     @Override
     public MasterSlaveChannelWriter getChannelWriter() {
         return (MasterSlaveChannelWriter) super.getChannelWriter();
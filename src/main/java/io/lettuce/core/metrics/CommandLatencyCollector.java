@@ -87,4 +87,19 @@ public interface CommandLatencyCollector extends MetricCollector<Map<CommandLate
     void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
             long firstResponseLatency, long completionLatency);
 
+    /**
+     * Create a {@link CommandLatencyRecorder} bound to the {@code local} and {@code remote} address. Implementations may
+     * resolve their per-connection state once so that recording through the returned recorder is cheaper than calling
+     * {@link #recordCommandLatency(SocketAddress, SocketAddress, ProtocolKeyword, long, long)} for each command.
+     *
+     * @param local the local address
+     * @param remote the remote address
+     * @return the {@link CommandLatencyRecorder} for the connection.
+     * @since 5.2
+     */
+    default CommandLatencyRecorder createRecorder(SocketAddress local, SocketAddress remote) {
+        return (commandType, firstResponseLatency, completionLatency) -> recordCommandLatency(local, remote, commandType,
+                firstResponseLatency, completionLatency);
+    }
+
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import io.lettuce.core.protocol.ProtocolKeyword;
+
+/**
+ * Recorder for command latencies of a single connection. A {@link CommandLatencyRecorder} is bound to a local/remote tuple of
+ * {@link java.net.SocketAddress}es and is obtained once per connection through
+ * {@link CommandLatencyCollector#createRecorder(java.net.SocketAddress, java.net.SocketAddress)} so that recording does not
+ * need to resolve the connection identity for each command.
+ *
+ * @since 5.2
+ */
+@FunctionalInterface
+public interface CommandLatencyRecorder {
+
+    /**
+     * Record the command latency for {@code commandType}.
+     *
+     * @param commandType the command type
+     * @param firstResponseLatency latency value in {@link TimeUnit#NANOSECONDS} from send to the first response
+     * @param completionLatency latency value in {@link TimeUnit#NANOSECONDS} from send to the command completion
+     */
+    void recordCommandLatency(ProtocolKeyword commandType, long firstResponseLatency, long completionLatency);
+}
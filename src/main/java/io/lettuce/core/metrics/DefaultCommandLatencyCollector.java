@@ -55,6 +55,8 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
     private static final boolean HDR_UTILS_AVAILABLE = isPresent("org.HdrHistogram.Histogram");
     private static final PauseDetectorWrapper GLOBAL_PAUSE_DETECTOR = PauseDetectorWrapper.create();
 
+    private static final int COMMAND_TYPE_COUNT = CommandType.values().length;
+
     private static final long MIN_LATENCY = 1000;
     private static final long MAX_LATENCY = TimeUnit.MINUTES.toNanos(5);
 
@@ -105,17 +107,33 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
             return;
         }
 
-        Latencies latencies = latencyMetricsRef.get().computeIfAbsent(createId(local, remote, commandType), createLatencies);
+        getLatencies(local, remote, commandType).record(rangify(firstResponseLatency), rangify(completionLatency));
+    }
+
+    /**
+     * Create a {@link CommandLatencyRecorder} for the connection identified by {@code local} and {@code remote}. The recorder
+     * caches the latency slot per {@link CommandType} so recording a latency does not allocate a {@link CommandLatencyId} nor
+     * perform a map lookup once the slot is resolved.
+     *
+     * @param local the local address
+     * @param remote the remote address
+     * @return the {@link CommandLatencyRecorder} for the connection.
+     * @since 5.2
+     */
+    @Override
+    public CommandLatencyRecorder createRecorder(SocketAddress local, SocketAddress remote) {
+        return new ConnectionLatencyRecorder(local, remote);
+    }
 
-        latencies.firstResponse.recordLatency(rangify(firstResponseLatency));
-        latencies.completion.recordLatency(rangify(completionLatency));
+    private Latencies getLatencies(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType) {
+        return latencyMetricsRef.get().computeIfAbsent(createId(local, remote, commandType), createLatencies);
     }
 
     private CommandLatencyId createId(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType) {
         return CommandLatencyId.create(options.localDistinction() ? local : LocalAddress.ANY, remote, commandType);
     }
 
-    private long rangify(long latency) {
+    private static long rangify(long latency) {
         return Math.max(MIN_LATENCY, Math.min(MAX_LATENCY, latency));
     }
 
@@ -248,16 +266,67 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
         };
     }
 
+    /**
+     * {@link CommandLatencyRecorder} bound to a connection. Latency slots are resolved lazily per {@link CommandType} and
+     * cached by {@link CommandType#ordinal()}. Slots are resolved again once the underlying {@link Latencies} were stopped
+     * because metrics were reset.
+     */
+    private class ConnectionLatencyRecorder implements CommandLatencyRecorder {
+
+        private final SocketAddress local;
+        private final SocketAddress remote;
+        private final Latencies[] slots = new Latencies[COMMAND_TYPE_COUNT];
+
+        ConnectionLatencyRecorder(SocketAddress local, SocketAddress remote) {
+            this.local = local;
+            this.remote = remote;
+        }
+
+        @Override
+        public void recordCommandLatency(ProtocolKeyword commandType, long firstResponseLatency, long completionLatency) {
+
+            if (!isEnabled()) {
+                return;
+            }
+
+            if (!(commandType instanceof CommandType)) {
+                DefaultCommandLatencyCollector.this.recordCommandLatency(local, remote, commandType, firstResponseLatency,
+                        completionLatency);
+                return;
+            }
+
+            int slot = ((CommandType) commandType).ordinal();
+            Latencies latencies = slots[slot];
+
+            if (latencies == null || latencies.isStopped()) {
+                latencies = getLatencies(local, remote, commandType);
+                slots[slot] = latencies;
+            }
+
+            latencies.record(rangify(firstResponseLatency), rangify(completionLatency));
+        }
+    }
+
     private static class Latencies {
 
         private final LatencyStats firstResponse;
         private final LatencyStats completion;
+        private volatile boolean stopped;
 
         Latencies(PauseDetector pauseDetector) {
             firstResponse = LatencyStats.Builder.create().pauseDetector(pauseDetector).build();
             completion = LatencyStats.Builder.create().pauseDetector(pauseDetector).build();
         }
 
+        void record(long firstResponseLatency, long completionLatency) {
+            firstResponse.recordLatency(firstResponseLatency);
+            completion.recordLatency(completionLatency);
+        }
+
+        boolean isStopped() {
+            return stopped;
+        }
+
         public Histogram getFirstResponseHistogram() {
             return firstResponse.getIntervalHistogram();
         }
@@ -267,6 +336,7 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
         }
 
         public void stop() {
+            stopped = true;
             firstResponse.stop();
             completion.stop();
         }
@@ -123,7 +123,7 @@ public class ReplayOutput<K, V> extends CommandOutput<K, V, List<ReplayOutput.Si
 
         @Override
         protected void replay(CommandOutput<?, ?, ?> target) {
-            target.set(message);
+            target.set(message != null ? message.duplicate() : null);
         }
     }
 
@@ -149,7 +149,7 @@ public class ReplayOutput<K, V> extends CommandOutput<K, V, List<ReplayOutput.Si
 
         @Override
         protected void replay(CommandOutput<?, ?, ?> target) {
-            target.setError(message);
+            target.setError(message != null ? message.duplicate() : null);
         }
     }
 
@@ -26,21 +26,39 @@ import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
 
 /**
+ * Output for {@code XREAD} and {@code XREADGROUP}. Message bodies are represented either as {@link Map} or as flat array of
+ * alternating keys and values.
+ *
  * @author Mark Paluch
  * @since 5.1
  */
 public class StreamReadOutput<K, V> extends CommandOutput<K, V, List<StreamMessage<K, V>>> implements
         StreamingOutput<StreamMessage<K, V>> {
 
+    private final boolean flatBody;
     private boolean initialized;
     private Subscriber<StreamMessage<K, V>> subscriber;
     private K stream;
     private K key;
     private String id;
     private Map<K, V> body;
+    private Object[] keyValues;
+    private int index;
 
     public StreamReadOutput(RedisCodec<K, V> codec) {
+        this(codec, false);
+    }
+
+    /**
+     * Create a new {@link StreamReadOutput}.
+     *
+     * @param codec the codec.
+     * @param flatBody {@literal true} to represent message bodies as flat key/value arrays instead of a {@link Map}.
+     * @since 5.2
+     */
+    public StreamReadOutput(RedisCodec<K, V> codec, boolean flatBody) {
         super(codec, Collections.emptyList());
+        this.flatBody = flatBody;
         setSubscriber(ListSubscriber.instance());
     }
 
@@ -57,6 +75,12 @@ public class StreamReadOutput<K, V> extends CommandOutput<K, V, List<StreamMessa
             return;
         }
 
+        if (keyValues != null) {
+            keyValues[index] = index % 2 == 0 ? codec.decodeKey(bytes) : (bytes == null ? null : codec.decodeValue(bytes));
+            index++;
+            return;
+        }
+
         if (key == null) {
             key = codec.decodeKey(bytes);
             return;
@@ -76,6 +100,12 @@ public class StreamReadOutput<K, V> extends CommandOutput<K, V, List<StreamMessa
         if (!initialized) {
             output = OutputFactory.newList(count);
             initialized = true;
+            return;
+        }
+
+        if (flatBody && id != null && keyValues == null && count >= 0) {
+            keyValues = new Object[count];
+            index = 0;
         }
     }
 
@@ -87,10 +117,12 @@ public class StreamReadOutput<K, V> extends CommandOutput<K, V, List<StreamMessa
         }
 
         if (depth == 3) {
-            subscriber.onNext(output, new StreamMessage<>(stream, id, body));
+            subscriber.onNext(output, flatBody ? StreamMessage.fromKeyValues(stream, id, keyValues) : new StreamMessage<>(
+                    stream, id, body));
             key = null;
             id = null;
             body = null;
+            keyValues = null;
         }
     }
 
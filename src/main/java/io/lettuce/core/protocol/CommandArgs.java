@@ -637,6 +637,8 @@ public class CommandArgs<K, V> {
         final K key;
         final RedisCodec<K, V> codec;
 
+        private ByteBuffer encoded;
+
         private KeyArgument(K key, RedisCodec<K, V> codec) {
             this.key = key;
             this.codec = codec;
@@ -646,10 +648,31 @@ public class CommandArgs<K, V> {
             return new KeyArgument<>(key, codec);
         }
 
+        /**
+         * Encode the key once and retain its bytes so that routing and writing the key to the wire share one encoding.
+         *
+         * @return a view of the encoded key.
+         */
+        ByteBuffer getEncoded() {
+
+            ByteBuffer encoded = this.encoded;
+
+            if (encoded == null) {
+                this.encoded = encoded = codec.encodeKey(key);
+            }
+
+            return encoded.duplicate();
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         void encode(ByteBuf target) {
 
+            if (encoded != null) {
+                ByteBufferArgument.writeByteBuffer(target, encoded.duplicate());
+                return;
+            }
+
             if (codec instanceof ToByteBufEncoder) {
 
                 ToByteBufEncoder<K, V> toByteBufEncoder = (ToByteBufEncoder<K, V>) codec;
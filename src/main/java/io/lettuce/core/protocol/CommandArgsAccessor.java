@@ -31,7 +31,8 @@ import io.lettuce.core.protocol.CommandArgs.StringArgument;
 public class CommandArgsAccessor {
 
     /**
-     * Get the first encoded key for cluster command routing.
+     * Get the first encoded key for cluster command routing. The encoded key is retained and reused when encoding the
+     * command.
      *
      * @param commandArgs must not be null.
      * @return the first encoded key or {@literal null}.
@@ -42,7 +43,7 @@ public class CommandArgsAccessor {
         for (SingularArgument singularArgument : commandArgs.singularArguments) {
 
             if (singularArgument instanceof CommandArgs.KeyArgument) {
-                return commandArgs.codec.encodeKey(((CommandArgs.KeyArgument<K, V>) singularArgument).key);
+                return ((CommandArgs.KeyArgument<K, V>) singularArgument).getEncoded();
             }
         }
 
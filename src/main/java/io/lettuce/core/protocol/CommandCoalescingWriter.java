@@ -0,0 +1,508 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static io.lettuce.core.protocol.CommandType.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.lettuce.core.RedisChannelWriter;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.ReplayOutput;
+import io.lettuce.core.output.StreamingOutput;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Extension to {@link RedisChannelWriter} that coalesces identical concurrent read commands (single-flight). While a read-only
+ * command is in flight, commands with the same {@link ProtocolKeyword type} and encoded arguments are not written to the
+ * transport but attached to the in-flight command. Once its response arrives, the decoded signals are replayed on the output
+ * of each attached command.
+ * <p>
+ * Coalescing applies only to single command writes of a fixed set of side-effect-free read commands. Commands using
+ * {@link StreamingOutput streaming outputs}, transactional commands and batches written through {@link #write(Collection)}
+ * are passed through unchanged. An attached command can observe a response to a command that was sent before its own
+ * invocation, so coalescing trades read-your-writes ordering across concurrent callers for fewer requests.
+ * <p>
+ * Commands coalesce only with commands written for the same selected database and the same connection state. Writing
+ * {@code SELECT}, a reconnect and {@link #reset()} start a new generation so that later commands never attach to a command
+ * that was sent for a previous database or connection.
+ * <p>
+ * Coalescing is not free: each eligible command encodes its arguments once more to build its lookup key, and a command that
+ * gets followers attached before its response arrives records a copy of its response to replay it. Commands without
+ * followers record nothing; a command whose response has started decoding no longer accepts followers.
+ *
+ * @since 5.2
+ * @see io.lettuce.core.ClientOptions#isCoalesceReadCommands()
+ */
+public class CommandCoalescingWriter implements RedisChannelWriter {
+
+    private static final Set<CommandType> COALESCIBLE = Collections.unmodifiableSet(EnumSet.of(GET, STRLEN, GETRANGE, MGET,
+            EXISTS, TTL, PTTL, TYPE, HGET, HMGET, HGETALL, HEXISTS, HLEN, HKEYS, HVALS, HSTRLEN, LRANGE, LLEN, LINDEX, SMEMBERS,
+            SISMEMBER, SCARD, ZRANGE, ZREVRANGE, ZRANGEBYSCORE, ZSCORE, ZCARD, ZRANK, FPSCAN));
+
+    private final RedisChannelWriter writer;
+    private final Map<CommandKey, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile long database;
+
+    /**
+     * Create a new {@link CommandCoalescingWriter}.
+     *
+     * @param writer must not be {@literal null}.
+     */
+    public CommandCoalescingWriter(RedisChannelWriter writer) {
+
+        LettuceAssert.notNull(writer, "RedisChannelWriter must not be null");
+
+        this.writer = writer;
+    }
+
+    /**
+     * Check whether {@link RedisCommand} is eligible for coalescing.
+     *
+     * @param command must not be {@literal null}.
+     * @return {@literal true} if the command can be coalesced with identical in-flight commands.
+     */
+    static boolean isCoalescible(RedisCommand<?, ?, ?> command) {
+
+        if (!(command.getType() instanceof CommandType) || !COALESCIBLE.contains(command.getType())) {
+            return false;
+        }
+
+        if (!(command instanceof CompleteableCommand) || command.getOutput() == null
+                || command.getOutput() instanceof StreamingOutput) {
+            return false;
+        }
+
+        return CommandWrapper.unwrap(command, TransactionalCommand.class) == null;
+    }
+
+    @Override
+    public void setConnectionFacade(ConnectionFacade connectionFacade) {
+
+        writer.setConnectionFacade(new ConnectionFacade() {
+
+            @Override
+            public void activated() {
+                generation.incrementAndGet();
+                connectionFacade.activated();
+            }
+
+            @Override
+            public void deactivated() {
+                generation.incrementAndGet();
+                connectionFacade.deactivated();
+            }
+
+            @Override
+            public void reset() {
+                generation.incrementAndGet();
+                connectionFacade.reset();
+            }
+        });
+    }
+
+    @Override
+    public ClientResources getClientResources() {
+        return writer.getClientResources();
+    }
+
+    @Override
+    public void setAutoFlushCommands(boolean autoFlush) {
+        writer.setAutoFlushCommands(autoFlush);
+    }
+
+    @Override
+    public <K, V, T> RedisCommand<K, V, T> write(RedisCommand<K, V, T> command) {
+
+        if (!isCoalescible(command)) {
+
+            if (command.getType() == SELECT) {
+                onSelect(command);
+            }
+
+            return writer.write(command);
+        }
+
+        CommandKey key = CommandKey.of(database, generation.get(), command);
+
+        for (;;) {
+
+            InFlight existing = inFlight.get(key);
+
+            if (existing == null) {
+
+                InFlight leader = new InFlight();
+                if (inFlight.putIfAbsent(key, leader) != null) {
+                    continue;
+                }
+
+                return writeLeader(key, leader, command);
+            }
+
+            if (existing.attach(command)) {
+                return command;
+            }
+
+            // leader completed concurrently, retry with a fresh lookup
+            inFlight.remove(key, existing);
+        }
+    }
+
+    private void onSelect(RedisCommand<?, ?, ?> command) {
+
+        Long index = command.getArgs() != null ? CommandArgsAccessor.getFirstInteger(command.getArgs()) : null;
+
+        if (index != null) {
+            database = index;
+        }
+
+        generation.incrementAndGet();
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private <K, V, T> RedisCommand<K, V, T> writeLeader(CommandKey key, InFlight leader, RedisCommand<K, V, T> command) {
+
+        try {
+            command.setOutput(new RecordingOutput<>(command.getOutput(), leader));
+            ((CompleteableCommand<T>) command).onComplete((o, throwable) -> onLeaderComplete(key, leader, throwable));
+
+            return writer.write(command);
+        } catch (RuntimeException e) {
+
+            inFlight.remove(key, leader);
+            for (RedisCommand<?, ?, ?> follower : leader.close()) {
+                follower.completeExceptionally(e);
+            }
+
+            throw e;
+        }
+    }
+
+    private void onLeaderComplete(CommandKey key, InFlight leader, Throwable throwable) {
+
+        inFlight.remove(key, leader);
+        List<RedisCommand<?, ?, ?>> followers = leader.close();
+
+        if (followers.isEmpty()) {
+            return;
+        }
+
+        if (throwable instanceof CancellationException) {
+
+            // cancelled on behalf of the leader's caller: followers still expect a response.
+            for (RedisCommand<?, ?, ?> follower : followers) {
+                if (!follower.isDone()) {
+                    writer.write(follower);
+                }
+            }
+            return;
+        }
+
+        for (RedisCommand<?, ?, ?> follower : followers) {
+
+            if (follower.isDone()) {
+                continue;
+            }
+
+            if (throwable != null) {
+                follower.completeExceptionally(throwable);
+                continue;
+            }
+
+            try {
+                leader.signals.replay(follower.getOutput());
+                follower.complete();
+            } catch (Exception e) {
+                follower.completeExceptionally(e);
+            }
+        }
+    }
+
+    @Override
+    public <K, V> Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> redisCommands) {
+        return writer.write(redisCommands);
+    }
+
+    @Override
+    public void flushCommands() {
+        writer.flushCommands();
+    }
+
+    @Override
+    public void close() {
+        writer.close();
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+        return writer.closeAsync();
+    }
+
+    @Override
+    public void reset() {
+
+        generation.incrementAndGet();
+
+        for (Map.Entry<CommandKey, InFlight> entry : inFlight.entrySet()) {
+
+            inFlight.remove(entry.getKey(), entry.getValue());
+            for (RedisCommand<?, ?, ?> follower : entry.getValue().close()) {
+                follower.cancel();
+            }
+        }
+
+        writer.reset();
+    }
+
+    /**
+     * Identity of a command consisting of the selected database, the connection state generation, its type and encoded
+     * arguments.
+     */
+    static class CommandKey {
+
+        private final long database;
+        private final long generation;
+        private final ProtocolKeyword type;
+        private final byte[] args;
+        private final int hashCode;
+
+        private CommandKey(long database, long generation, ProtocolKeyword type, byte[] args) {
+            this.database = database;
+            this.generation = generation;
+            this.type = type;
+            this.args = args;
+            this.hashCode = 31 * (31 * Long.hashCode(generation) + type.hashCode()) + Arrays.hashCode(args);
+        }
+
+        static CommandKey of(long database, long generation, RedisCommand<?, ?, ?> command) {
+
+            CommandArgs<?, ?> commandArgs = command.getArgs();
+
+            if (commandArgs == null) {
+                return new CommandKey(database, generation, command.getType(), new byte[0]);
+            }
+
+            ByteBuf buffer = PooledByteBufAllocator.DEFAULT.heapBuffer();
+            try {
+                commandArgs.encode(buffer);
+
+                byte[] args = new byte[buffer.readableBytes()];
+                buffer.readBytes(args);
+
+                return new CommandKey(database, generation, command.getType(), args);
+            } finally {
+                buffer.release();
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof CommandKey)) {
+                return false;
+            }
+
+            CommandKey that = (CommandKey) o;
+            return database == that.database && generation == that.generation && type == that.type
+                    && Arrays.equals(args, that.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * In-flight leader command along with its attached followers and the recorded response signals.
+     */
+    static class InFlight {
+
+        final ReplayOutput<Object, Object> signals = new ReplayOutput<>();
+
+        private final List<RedisCommand<?, ?, ?>> followers = new ArrayList<>();
+        private boolean closed;
+
+        /**
+         * Decide whether to record the response once decoding starts. Without followers, the response is not recorded and no
+         * further followers can attach.
+         *
+         * @return {@literal true} if the response must be recorded.
+         */
+        synchronized boolean startRecording() {
+
+            if (followers.isEmpty()) {
+                closed = true;
+                return false;
+            }
+
+            return true;
+        }
+
+        synchronized boolean attach(RedisCommand<?, ?, ?> follower) {
+
+            if (closed) {
+                return false;
+            }
+
+            followers.add(follower);
+            return true;
+        }
+
+        synchronized List<RedisCommand<?, ?, ?>> close() {
+
+            closed = true;
+            return new ArrayList<>(followers);
+        }
+    }
+
+    /**
+     * {@link CommandOutput} that records all decoding signals while forwarding these to the original output. Signals are
+     * recorded only if followers were attached when decoding started.
+     */
+    static class RecordingOutput<K, V, T> extends CommandOutput<K, V, T> {
+
+        private final CommandOutput<K, V, T> delegate;
+        private final InFlight leader;
+        private ReplayOutput<?, ?> recorder;
+        private boolean recordingDecided;
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        RecordingOutput(CommandOutput<K, V, T> delegate, InFlight leader) {
+            super((RedisCodec) StringCodec.ASCII, null);
+            this.delegate = delegate;
+            this.leader = leader;
+        }
+
+        private boolean isRecording() {
+
+            if (!recordingDecided) {
+                recordingDecided = true;
+                recorder = leader.startRecording() ? leader.signals : null;
+            }
+
+            return recorder != null;
+        }
+
+        @Override
+        public T get() {
+            return delegate.get();
+        }
+
+        @Override
+        public void set(ByteBuffer bytes) {
+
+            if (isRecording()) {
+                recorder.set(bytes != null ? bytes.duplicate() : null);
+            }
+
+            delegate.set(bytes);
+        }
+
+        @Override
+        public void setSingle(ByteBuffer bytes) {
+
+            if (isRecording()) {
+                recorder.set(bytes != null ? bytes.duplicate() : null);
+            }
+
+            delegate.setSingle(bytes);
+        }
+
+        @Override
+        public void set(long integer) {
+
+            if (isRecording()) {
+                recorder.set(integer);
+            }
+
+            delegate.set(integer);
+        }
+
+        @Override
+        public void setError(ByteBuffer error) {
+
+            if (isRecording()) {
+                recorder.setError(error.duplicate());
+            }
+
+            delegate.setError(error);
+        }
+
+        @Override
+        public void setError(String error) {
+
+            if (isRecording()) {
+                recorder.setError(error);
+            }
+
+            delegate.setError(error);
+        }
+
+        @Override
+        public boolean hasError() {
+            return delegate.hasError();
+        }
+
+        @Override
+        public String getError() {
+            return delegate.getError();
+        }
+
+        @Override
+        public void complete(int depth) {
+
+            if (isRecording()) {
+                recorder.complete(depth);
+            }
+
+            delegate.complete(depth);
+        }
+
+        @Override
+        public void multi(int count) {
+
+            if (isRecording()) {
+                recorder.multi(count);
+            }
+
+            delegate.multi(count);
+        }
+    }
+}
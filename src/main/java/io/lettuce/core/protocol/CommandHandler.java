@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.net.SocketAddress;
 import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 
 import io.lettuce.core.ClientOptions;
@@ -30,6 +31,8 @@ import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceSets;
+import io.lettuce.core.metrics.CommandLatencyCollector;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
 import io.lettuce.core.output.CommandOutput;
 import io.lettuce.core.resource.ClientResources;
 import io.lettuce.core.tracing.TraceContext;
@@ -65,6 +68,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(CommandHandler.class);
     private static final AtomicLong COMMAND_HANDLER_COUNTER = new AtomicLong();
+    private static final AtomicIntegerFieldUpdater<BackpressureSource> BUFFERED = AtomicIntegerFieldUpdater
+            .newUpdater(BackpressureSource.class, "buffered");
 
     private final ClientOptions clientOptions;
     private final ClientResources clientResources;
@@ -88,6 +93,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
     private PristineFallbackCommand fallbackCommand;
     private boolean pristine;
     private Tracing.Endpoint tracedEndpoint;
+    private CommandLatencyRecorder latencyRecorder;
 
     /**
      * Initialize a new instance that handles commands from the supplied queue.
@@ -117,6 +123,39 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         return stack;
     }
 
+    /**
+     * Returns the number of decoded elements that reactive commands currently buffer within the demand buffer budget of this
+     * connection.
+     *
+     * @return the number of buffered elements.
+     * @since 5.2
+     */
+    public int getBufferedElementCount() {
+        return BUFFERED.get(backpressureSource);
+    }
+
+    /**
+     * Returns the total number of decoded elements that were spilled into per-command demand buffers instead of pausing the
+     * connection.
+     *
+     * @return the total number of spilled elements.
+     * @since 5.2
+     */
+    public long getSpilledElementCount() {
+        return backpressureSource.spilledElements;
+    }
+
+    /**
+     * Returns how often reading from this connection was paused because a command exceeded its demand buffer or the demand
+     * buffer budget of this connection was exhausted.
+     *
+     * @return the number of channel pauses.
+     * @since 5.2
+     */
+    public long getChannelPauseCount() {
+        return backpressureSource.channelPauses;
+    }
+
     protected void setState(LifecycleState lifecycleState) {
 
         if (this.lifecycleState != LifecycleState.CLOSED) {
@@ -255,6 +294,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
     public void channelActive(ChannelHandlerContext ctx) throws Exception {
 
         tracedEndpoint = clientResources.tracing().createEndpoint(ctx.channel().remoteAddress());
+        latencyRecorder = createLatencyRecorder(ctx.channel());
         logPrefix = null;
         pristine = true;
         fallbackCommand = null;
@@ -307,6 +347,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         }
 
         tracedEndpoint = null;
+        latencyRecorder = null;
         setState(LifecycleState.DISCONNECTED);
         setState(LifecycleState.DEACTIVATING);
 
@@ -676,7 +717,13 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
                 DemandAware.Sink sink = (DemandAware.Sink) command;
                 sink.setSource(backpressureSource);
 
-                ctx.channel().config().setAutoRead(sink.hasDemand());
+                boolean hasDemand = sink.hasDemand();
+
+                if (!hasDemand && ctx.channel().config().isAutoRead()) {
+                    backpressureSource.channelPauses++;
+                }
+
+                ctx.channel().config().setAutoRead(hasDemand);
             }
 
             return false;
@@ -771,25 +818,27 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     private void recordLatency(WithLatency withLatency, ProtocolKeyword commandType) {
 
-        if (withLatency != null && clientResources.commandLatencyCollector().isEnabled() && channel != null && remote() != null) {
+        CommandLatencyRecorder recorder = this.latencyRecorder;
+
+        if (withLatency != null && recorder != null && channel != null) {
 
             long firstResponseLatency = withLatency.getFirstResponse() - withLatency.getSent();
             long completionLatency = nanoTime() - withLatency.getSent();
 
-            clientResources.commandLatencyCollector().recordCommandLatency(local(), remote(), commandType,
-                    firstResponseLatency, completionLatency);
+            recorder.recordCommandLatency(commandType, firstResponseLatency, completionLatency);
         }
     }
 
-    private SocketAddress remote() {
-        return channel.remoteAddress();
-    }
+    private CommandLatencyRecorder createLatencyRecorder(Channel channel) {
+
+        CommandLatencyCollector collector = clientResources.commandLatencyCollector();
 
-    private SocketAddress local() {
-        if (channel.localAddress() != null) {
-            return channel.localAddress();
+        if (!latencyMetricsEnabled || !collector.isEnabled() || channel.remoteAddress() == null) {
+            return null;
         }
-        return LocalAddress.ANY;
+
+        SocketAddress local = channel.localAddress() != null ? channel.localAddress() : LocalAddress.ANY;
+        return collector.createRecorder(local, channel.remoteAddress());
     }
 
     boolean isConnected() {
@@ -842,10 +891,49 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
     }
 
     /**
-     * Source for backpressure.
+     * Source for backpressure. Grants {@link DemandAware.Sink sinks} buffer space within
+     * {@link ClientOptions#getDemandBufferSize()} per command and {@link ClientOptions#getDemandBufferBudget()} per connection
+     * so a single slow subscriber does not pause reading for all commands sharing this connection.
      */
     class BackpressureSource implements DemandAware.Source {
 
+        // access via BUFFERED
+        @SuppressWarnings("unused")
+        volatile int buffered;
+
+        // updated on the event loop only
+        volatile long spilledElements;
+        volatile long channelPauses;
+
+        @Override
+        public boolean reserve(int buffered, int elements) {
+
+            if (buffered + elements > clientOptions.getDemandBufferSize()) {
+                return false;
+            }
+
+            int budget = clientOptions.getDemandBufferBudget();
+
+            for (;;) {
+
+                int current = BUFFERED.get(this);
+
+                if (current + elements > budget) {
+                    return false;
+                }
+
+                if (BUFFERED.compareAndSet(this, current, current + elements)) {
+                    spilledElements += elements;
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public void release(int elements) {
+            BUFFERED.addAndGet(this, -elements);
+        }
+
         @Override
         public void requestMore() {
 
@@ -105,8 +105,8 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
         this.clientOptions = clientOptions;
         this.clientResources = clientResources;
         this.reliability = clientOptions.isAutoReconnect() ? Reliability.AT_LEAST_ONCE : Reliability.AT_MOST_ONCE;
-        this.disconnectedBuffer = LettuceFactories.newConcurrentQueue(clientOptions.getRequestQueueSize());
-        this.commandBuffer = LettuceFactories.newConcurrentQueue(clientOptions.getRequestQueueSize());
+        this.disconnectedBuffer = LettuceFactories.newMpscQueue(clientOptions.getRequestQueueSize());
+        this.commandBuffer = LettuceFactories.newMpscQueue(clientOptions.getRequestQueueSize());
         this.boundedQueues = clientOptions.getRequestQueueSize() != Integer.MAX_VALUE;
         this.rejectCommandsWhileDisconnected = isRejectCommand(clientOptions);
     }
@@ -292,54 +292,43 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
         }
     }
 
+    /**
+     * Write the batch as a single channel write so that commands of the batch are encoded into one frame and cannot interleave
+     * with commands written concurrently by other threads.
+     */
     private void writeToChannelAndFlush(Collection<? extends RedisCommand<?, ?, ?>> commands) {
 
         QUEUE_SIZE.addAndGet(this, commands.size());
 
-        if (reliability == Reliability.AT_MOST_ONCE) {
+        ChannelFuture channelFuture = channelWriteAndFlush(commands);
 
+        if (reliability == Reliability.AT_MOST_ONCE) {
             // cancel on exceptions and remove from queue, because there is no housekeeping
-            for (RedisCommand<?, ?, ?> command : commands) {
-                channelWrite(command).addListener(AtMostOnceWriteListener.newInstance(this, command));
-            }
+            channelFuture.addListener(AtMostOnceWriteListener.newInstance(this, commands));
         }
 
         if (reliability == Reliability.AT_LEAST_ONCE) {
-
             // commands are ok to stay within the queue, reconnect will retrigger them
-            for (RedisCommand<?, ?, ?> command : commands) {
-                channelWrite(command).addListener(RetryListener.newInstance(this, command));
-            }
-        }
-
-        channelFlush();
-    }
-
-    private void channelFlush() {
-
-        if (debugEnabled) {
-            logger.debug("{} write() channelFlush", logPrefix());
+            channelFuture.addListener(RetryListener.newInstance(this, commands));
         }
-
-        channel.flush();
     }
 
-    private ChannelFuture channelWrite(RedisCommand<?, ?, ?> command) {
+    private ChannelFuture channelWriteAndFlush(RedisCommand<?, ?, ?> command) {
 
         if (debugEnabled) {
-            logger.debug("{} write() channelWrite command {}", logPrefix(), command);
+            logger.debug("{} write() writeAndFlush command {}", logPrefix(), command);
         }
 
-        return channel.write(command);
+        return channel.writeAndFlush(command);
     }
 
-    private ChannelFuture channelWriteAndFlush(RedisCommand<?, ?, ?> command) {
+    private ChannelFuture channelWriteAndFlush(Collection<? extends RedisCommand<?, ?, ?>> commands) {
 
         if (debugEnabled) {
-            logger.debug("{} write() writeAndFlush command {}", logPrefix(), command);
+            logger.debug("{} write() writeAndFlush commands {}", logPrefix(), commands);
         }
 
-        return channel.writeAndFlush(command);
+        return channel.writeAndFlush(commands);
     }
 
     @Override
@@ -399,7 +388,7 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
 
         if (isClosed()) {
             RedisException closed = new RedisException("Connection closed");
-            cancelCommands("Connection closed", drainCommands(), it -> it.completeExceptionally(closed));
+            cancelCommands("Connection closed", doExclusive(this::drainCommands), it -> it.completeExceptionally(closed));
         }
 
         sharedLock.doExclusive(() -> {
@@ -552,7 +541,7 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
      */
     public void initialState() {
 
-        commandBuffer.clear();
+        sharedLock.doExclusive(commandBuffer::clear);
 
         Channel currentChannel = this.channel;
         if (currentChannel != null) {
@@ -571,13 +560,14 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
 
             RedisException closed = new RedisException("Connection closed");
             cancelCommands(closed.getMessage(), queuedCommands.drainQueue(), it -> it.completeExceptionally(closed));
-            cancelCommands(closed.getMessage(), drainCommands(), it -> it.completeExceptionally(closed));
+            cancelCommands(closed.getMessage(), doExclusive(this::drainCommands), it -> it.completeExceptionally(closed));
             return;
         } else if (reliability == Reliability.AT_MOST_ONCE && rejectCommandsWhileDisconnected) {
 
             RedisException disconnected = new RedisException("Connection disconnected");
             cancelCommands(disconnected.getMessage(), queuedCommands.drainQueue(), it -> it.completeExceptionally(disconnected));
-            cancelCommands(disconnected.getMessage(), drainCommands(), it -> it.completeExceptionally(disconnected));
+            cancelCommands(disconnected.getMessage(), doExclusive(this::drainCommands),
+                    it -> it.completeExceptionally(disconnected));
             return;
         }
 
@@ -598,19 +588,26 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
                 }
             }
 
-            try {
-                disconnectedBuffer.addAll(commands);
-            } catch (RuntimeException e) {
+            RedisException overcommit = null;
 
-                if (debugEnabled) {
-                    logger.debug("{} notifyQueuedCommands Queue overcommit. Cannot add all commands to buffer (disconnected).",
-                            logPrefix(), commands.size());
+            for (RedisCommand<?, ?, ?> command : commands) {
+
+                if (disconnectedBuffer.offer(command)) {
+                    continue;
                 }
-                commands.removeAll(disconnectedBuffer);
 
-                for (RedisCommand<?, ?, ?> command : commands) {
-                    command.completeExceptionally(e);
+                if (overcommit == null) {
+
+                    if (debugEnabled) {
+                        logger.debug(
+                                "{} notifyQueuedCommands Queue overcommit. Cannot add all commands to buffer (disconnected).",
+                                logPrefix(), commands.size());
+                    }
+
+                    overcommit = new RedisException("Request queue size exceeded: " + clientOptions.getRequestQueueSize());
                 }
+
+                command.completeExceptionally(overcommit);
             }
 
             if (isConnected()) {
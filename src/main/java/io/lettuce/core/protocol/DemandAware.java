@@ -68,5 +68,28 @@ public interface DemandAware {
          * Signals demand to the {@link Source}
          */
         void requestMore();
+
+        /**
+         * Requests buffer space for {@code elements} decoded elements that a {@link Sink} retains without downstream demand. A
+         * {@link Source} that grants buffer space continues to emit data to the {@link Sink} instead of pausing. Space granted
+         * by this method must be returned through {@link #release(int)} once the elements are consumed or discarded.
+         *
+         * @param buffered number of elements the {@link Sink} currently holds in granted buffer space.
+         * @param elements number of additional elements to buffer.
+         * @return {@literal true} if buffer space was granted, {@literal false} if the {@link Source} should pause.
+         * @since 5.2
+         */
+        default boolean reserve(int buffered, int elements) {
+            return false;
+        }
+
+        /**
+         * Returns buffer space previously granted by {@link #reserve(int, int)}.
+         *
+         * @param elements number of elements to release.
+         * @since 5.2
+         */
+        default void release(int elements) {
+        }
     }
 }
@@ -71,7 +71,7 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
 
         this.endpoint = endpoint;
         this.codec = codec;
-        this.output = new PubSubOutput<>(codec);
+        this.output = newOutput();
     }
 
     @Override
@@ -96,7 +96,7 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
             RedisCommand<?, ?, ?> peek = getStack().peek();
             canComplete(peek);
             doNotifyMessage(output);
-            output = new PubSubOutput<>(codec);
+            output = newOutput();
         }
 
         if (!getStack().isEmpty()) {
@@ -108,7 +108,7 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
 
             replay.replay(output);
             doNotifyMessage(output);
-            output = new PubSubOutput<>(codec);
+            output = newOutput();
         }
 
         while (super.getStack().isEmpty() && buffer.isReadable()) {
@@ -118,13 +118,20 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
             }
 
             doNotifyMessage(output);
-            output = new PubSubOutput<>(codec);
+            output = newOutput();
         }
 
         buffer.discardReadBytes();
 
     }
 
+    /**
+     * Create a new {@link PubSubOutput} that retains encoded channel and pattern names only if bound listeners require these.
+     */
+    private PubSubOutput<K, V, V> newOutput() {
+        return new PubSubOutput<>(codec, endpoint.hasBoundListeners());
+    }
+
     @Override
     protected boolean canDecode(ByteBuf buffer) {
         return super.canDecode(buffer) && output.type() == null;
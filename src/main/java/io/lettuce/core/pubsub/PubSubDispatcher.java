@@ -0,0 +1,350 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.pubsub;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.lettuce.core.PubSubDispatchOptions;
+import io.lettuce.core.PubSubDispatchOptions.OverflowPolicy;
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Dispatcher to notify Pub/Sub listeners using an {@link Executor}. Notifications are assigned to a partition using their
+ * channel or pattern key. Each partition holds a queue that is drained by at most one thread at a time to retain ordering
+ * within the partition. The number of queued messages per partition is bounded; control notifications such as subscription
+ * confirmations are always queued and never dropped.
+ *
+ * @since 5.2
+ * @see PubSubDispatchOptions
+ */
+public class PubSubDispatcher {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(PubSubDispatcher.class);
+
+    /**
+     * Maximum number of notifications processed by a partition before yielding its thread to other tasks.
+     */
+    private static final int MAX_BATCH = 256;
+
+    private final Executor executor;
+    private final OverflowPolicy overflowPolicy;
+    private final Partition[] partitions;
+
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Create a new {@link PubSubDispatcher}.
+     *
+     * @param options the dispatch options, must not be {@literal null}.
+     * @param executor the executor to notify listeners, must not be {@literal null}.
+     */
+    public PubSubDispatcher(PubSubDispatchOptions options, Executor executor) {
+
+        LettuceAssert.notNull(options, "PubSubDispatchOptions must not be null");
+        LettuceAssert.notNull(executor, "Executor must not be null");
+
+        this.executor = executor;
+        this.overflowPolicy = options.getOverflowPolicy();
+        this.partitions = new Partition[options.getPartitions()];
+
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition(options.getQueueCapacity());
+        }
+    }
+
+    /**
+     * Create the default {@link ExecutorService} to notify listeners. The executor uses up to {@code threads} daemon threads
+     * that are started on demand and terminate when idle.
+     *
+     * @param threads the maximum number of threads, must be greater than {@literal 0}.
+     * @return the {@link ExecutorService}. Must be shut down by the caller.
+     */
+    public static ExecutorService createDefaultExecutor(int threads) {
+
+        LettuceAssert.isTrue(threads > 0, "Threads must be greater than 0");
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new DefaultThreadFactory("lettuce-pubsub-dispatch", true));
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+    /**
+     * Dispatch a message notification. Notifications with an equal {@code key} are run in the order of dispatch. Message
+     * notifications are subject to the {@link OverflowPolicy}.
+     *
+     * @param key the channel or pattern, may be {@literal null}.
+     * @param notification the notification to run.
+     */
+    public void dispatch(Object key, Runnable notification) {
+        dispatch(key, notification, false);
+    }
+
+    /**
+     * Dispatch a notification. Notifications with an equal {@code key} are run in the order of dispatch.
+     *
+     * @param key the channel or pattern, may be {@literal null}.
+     * @param notification the notification to run.
+     * @param control {@literal true} for control notifications, such as subscription confirmations, that are queued
+     *        regardless of the queue capacity; {@literal false} for messages that are subject to the {@link OverflowPolicy}.
+     */
+    public void dispatch(Object key, Runnable notification, boolean control) {
+        partitions[partition(key)].offer(new Notification(notification, control));
+    }
+
+    int partition(Object key) {
+
+        int hash = hash(key);
+        return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % partitions.length;
+    }
+
+    private static int hash(Object key) {
+
+        if (key == null) {
+            return 0;
+        }
+
+        if (key instanceof byte[]) {
+            return Arrays.hashCode((byte[]) key);
+        }
+
+        return key.hashCode();
+    }
+
+    /**
+     * @return the number of notifications that are queued across all partitions.
+     */
+    public int getQueueDepth() {
+
+        int depth = 0;
+        for (Partition partition : partitions) {
+            depth += partition.size.get();
+        }
+        return depth;
+    }
+
+    /**
+     * @return the number of notifications queued by the fullest partition.
+     */
+    public int getMaxQueueDepth() {
+
+        int depth = 0;
+        for (Partition partition : partitions) {
+            depth = Math.max(depth, partition.size.get());
+        }
+        return depth;
+    }
+
+    /**
+     * @return the number of partitions.
+     */
+    public int getPartitions() {
+        return partitions.length;
+    }
+
+    /**
+     * @return the total number of notifications that were run.
+     */
+    public long getDispatchedCount() {
+        return dispatched.get();
+    }
+
+    /**
+     * @return the total number of notifications that were dropped because their partition queue was full.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void drop() {
+
+        long count = dropped.incrementAndGet();
+
+        if (count == 1 || Long.bitCount(count) == 1) {
+            logger.warn("Pub/Sub dispatch queue full, dropped {} notifications so far", count);
+        }
+    }
+
+    /**
+     * Notification along with whether it is a control notification that must not be dropped.
+     */
+    static class Notification {
+
+        final Runnable runnable;
+        final boolean control;
+
+        Notification(Runnable runnable, boolean control) {
+            this.runnable = runnable;
+            this.control = control;
+        }
+    }
+
+    /**
+     * Queue of notifications that is drained by a single thread at a time. The number of queued messages is bounded by the
+     * queue capacity, control notifications are not counted.
+     */
+    class Partition implements Runnable {
+
+        private final ConcurrentLinkedQueue<Notification> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger messages = new AtomicInteger();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final int capacity;
+
+        Partition(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void offer(Notification notification) {
+
+            if (!notification.control && messages.get() >= capacity) {
+
+                if (overflowPolicy == OverflowPolicy.DROP_OLDEST && removeOldestMessage()) {
+                    drop();
+                } else if (overflowPolicy != OverflowPolicy.DROP_OLDEST) {
+                    drop();
+                    schedule();
+                    return;
+                }
+            }
+
+            if (!notification.control) {
+                messages.incrementAndGet();
+            }
+
+            size.incrementAndGet();
+            queue.offer(notification);
+
+            schedule();
+        }
+
+        private boolean removeOldestMessage() {
+
+            Iterator<Notification> iterator = queue.iterator();
+
+            while (iterator.hasNext()) {
+
+                Notification candidate = iterator.next();
+
+                if (!candidate.control && queue.remove(candidate)) {
+                    messages.decrementAndGet();
+                    size.decrementAndGet();
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private Notification poll() {
+
+            Notification notification = queue.poll();
+
+            if (notification != null) {
+
+                size.decrementAndGet();
+
+                if (!notification.control) {
+                    messages.decrementAndGet();
+                }
+            }
+
+            return notification;
+        }
+
+        private void schedule() {
+
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+
+                logger.error("Cannot dispatch Pub/Sub notifications, discarding queued notifications", e);
+
+                int discarded = 0;
+                while (poll() != null) {
+                    discarded++;
+                }
+
+                dropped.addAndGet(discarded);
+                scheduled.set(false);
+            }
+        }
+
+        @Override
+        public void run() {
+
+            int processed = 0;
+            Notification notification;
+
+            while ((notification = poll()) != null) {
+
+                try {
+                    notification.runnable.run();
+                } catch (Exception e) {
+                    logger.error("Unexpected error occurred in RedisPubSubListener callback", e);
+                }
+
+                dispatched.incrementAndGet();
+
+                if (++processed == MAX_BATCH && reschedule()) {
+                    return;
+                }
+            }
+
+            scheduled.set(false);
+
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        /**
+         * Re-schedule this partition to let other tasks use the current thread.
+         *
+         * @return {@literal true} if re-scheduled; {@literal false} if the executor rejected the task and draining should
+         *         continue on the current thread.
+         */
+        private boolean reschedule() {
+
+            try {
+                executor.execute(this);
+                return true;
+            } catch (RejectedExecutionException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -16,9 +16,13 @@
 package io.lettuce.core.pubsub;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.PubSubDispatchOptions;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.DefaultEndpoint;
@@ -38,8 +42,12 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
     private static final Set<String> ALLOWED_COMMANDS_SUBSCRIBED;
     private static final Set<String> SUBSCRIBE_COMMANDS;
     private final List<RedisPubSubListener<K, V>> listeners = new CopyOnWriteArrayList<>();
+    private final Map<Wrapper<byte[]>, List<RedisPubSubListener<K, V>>> channelListeners = new ConcurrentHashMap<>();
+    private final Map<Wrapper<byte[]>, List<RedisPubSubListener<K, V>>> patternListeners = new ConcurrentHashMap<>();
     private final Set<Wrapper<K>> channels;
     private final Set<Wrapper<K>> patterns;
+    private final PubSubDispatcher dispatcher;
+    private final ExecutorService dispatchExecutor;
     private volatile boolean subscribeWritten = false;
 
     static {
@@ -70,6 +78,19 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
 
         this.channels = new ConcurrentSet<>();
         this.patterns = new ConcurrentSet<>();
+
+        PubSubDispatchOptions dispatchOptions = clientOptions.getPubSubDispatchOptions();
+
+        if (dispatchOptions.isDispatchOffEventLoop()) {
+
+            this.dispatchExecutor = dispatchOptions.getExecutor() == null ? PubSubDispatcher
+                    .createDefaultExecutor(dispatchOptions.getPartitions()) : null;
+            this.dispatcher = new PubSubDispatcher(dispatchOptions, dispatchOptions.getExecutor() != null ? dispatchOptions
+                    .getExecutor() : dispatchExecutor);
+        } else {
+            this.dispatchExecutor = null;
+            this.dispatcher = null;
+        }
     }
 
     /**
@@ -87,13 +108,81 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
      * @param listener the listener, must not be {@literal null}.
      */
     public void removeListener(RedisPubSubListener<K, V> listener) {
+
         listeners.remove(listener);
+
+        removeBoundListener(channelListeners, listener);
+        removeBoundListener(patternListeners, listener);
+    }
+
+    /**
+     * Add a new {@link RedisPubSubListener listener} that is notified only about messages received through a channel
+     * subscription and about subscription changes of the channel. Messages are routed by their encoded channel name without
+     * decoding the channel first.
+     *
+     * @param listener the listener, must not be {@literal null}.
+     * @param channel the encoded channel name, must not be {@literal null}.
+     * @since 5.2
+     */
+    public void addChannelListener(RedisPubSubListener<K, V> listener, byte[] channel) {
+        addBoundListener(channelListeners, listener, channel);
+    }
+
+    /**
+     * Add a new {@link RedisPubSubListener listener} that is notified only about messages received through a subscription to
+     * {@code pattern} and about subscription changes of the pattern. Messages are routed by their encoded pattern without
+     * decoding the pattern first.
+     *
+     * @param listener the listener, must not be {@literal null}.
+     * @param pattern the encoded pattern, must not be {@literal null}.
+     * @since 5.2
+     */
+    public void addPatternListener(RedisPubSubListener<K, V> listener, byte[] pattern) {
+        addBoundListener(patternListeners, listener, pattern);
+    }
+
+    private static <K, V> void addBoundListener(Map<Wrapper<byte[]>, List<RedisPubSubListener<K, V>>> index,
+            RedisPubSubListener<K, V> listener, byte[] name) {
+
+        index.compute(new Wrapper<>(name), (key, bound) -> {
+
+            List<RedisPubSubListener<K, V>> result = bound != null ? bound : new CopyOnWriteArrayList<>();
+            result.add(listener);
+            return result;
+        });
+    }
+
+    private static <K, V> void removeBoundListener(Map<Wrapper<byte[]>, List<RedisPubSubListener<K, V>>> index,
+            RedisPubSubListener<K, V> listener) {
+
+        if (index.isEmpty()) {
+            return;
+        }
+
+        for (Wrapper<byte[]> name : index.keySet()) {
+            index.computeIfPresent(name, (key, bound) -> {
+
+                bound.remove(listener);
+                return bound.isEmpty() ? null : bound;
+            });
+        }
     }
 
     protected List<RedisPubSubListener<K, V>> getListeners() {
         return listeners;
     }
 
+    /**
+     * Returns the {@link PubSubDispatcher} if listeners are notified off the event loop.
+     *
+     * @return the {@link PubSubDispatcher} or {@literal null} if listeners are notified on the I/O thread.
+     * @since 5.2
+     * @see PubSubDispatchOptions
+     */
+    public PubSubDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
     public boolean hasChannelSubscriptions() {
         return !channels.isEmpty();
     }
@@ -165,16 +254,120 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
     public void notifyMessage(PubSubOutput<K, V, V> output) {
 
         // drop empty messages
-        if (output.type() == null || (output.pattern() == null && output.channel() == null && output.get() == null)) {
+        if (output.type() == null || (!output.hasPattern() && !output.hasChannel() && output.get() == null)) {
             return;
         }
 
         updateInternalState(output);
+
+        if (dispatcher != null) {
+            dispatcher.dispatch(getDispatchKey(output), () -> notify(output), isControl(output));
+            return;
+        }
+
+        notify(output);
+    }
+
+    private void notify(PubSubOutput<K, V, V> output) {
+
         try {
             notifyListeners(output);
         } catch (Exception e) {
             logger.error("Unexpected error occurred in RedisPubSubListener callback", e);
         }
+
+        if (channelListeners.isEmpty() && patternListeners.isEmpty()) {
+            return;
+        }
+
+        try {
+            notifyBoundListeners(output);
+        } catch (Exception e) {
+            logger.error("Unexpected error occurred in RedisPubSubListener callback", e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+
+        if (dispatchExecutor != null) {
+            dispatchExecutor.shutdown();
+        }
+
+        return super.closeAsync();
+    }
+
+    private static boolean isControl(PubSubOutput<?, ?, ?> output) {
+        return output.type() != PubSubOutput.Type.message && output.type() != PubSubOutput.Type.pmessage;
+    }
+
+    private static Object getDispatchKey(PubSubOutput<?, ?, ?> output) {
+
+        switch (output.type()) {
+            case pmessage:
+            case psubscribe:
+            case punsubscribe:
+                return output.patternBytes();
+            default:
+                return output.channelBytes();
+        }
+    }
+
+    /**
+     * @return {@literal true} if listeners are bound to channels or patterns and messages need to be routed by their encoded
+     *         channel name or pattern.
+     */
+    boolean hasBoundListeners() {
+        return !channelListeners.isEmpty() || !patternListeners.isEmpty();
+    }
+
+    private void notifyBoundListeners(PubSubOutput<K, V, V> output) {
+
+        switch (output.type()) {
+            case message:
+                for (RedisPubSubListener<K, V> listener : getBoundListeners(channelListeners, output.channelBytes())) {
+                    listener.message(output.channel(), output.get());
+                }
+                break;
+            case pmessage:
+                for (RedisPubSubListener<K, V> listener : getBoundListeners(patternListeners, output.patternBytes())) {
+                    listener.message(output.pattern(), output.channel(), output.get());
+                }
+                break;
+            case subscribe:
+                for (RedisPubSubListener<K, V> listener : getBoundListeners(channelListeners, output.channelBytes())) {
+                    listener.subscribed(output.channel(), output.count());
+                }
+                break;
+            case unsubscribe:
+                for (RedisPubSubListener<K, V> listener : getBoundListeners(channelListeners, output.channelBytes())) {
+                    listener.unsubscribed(output.channel(), output.count());
+                }
+                break;
+            case psubscribe:
+                for (RedisPubSubListener<K, V> listener : getBoundListeners(patternListeners, output.patternBytes())) {
+                    listener.psubscribed(output.pattern(), output.count());
+                }
+                break;
+            case punsubscribe:
+                for (RedisPubSubListener<K, V> listener : getBoundListeners(patternListeners, output.patternBytes())) {
+                    listener.punsubscribed(output.pattern(), output.count());
+                }
+                break;
+            default:
+                throw new UnsupportedOperationException("Operation " + output.type() + " not supported");
+        }
+    }
+
+    private static <K, V> List<RedisPubSubListener<K, V>> getBoundListeners(
+            Map<Wrapper<byte[]>, List<RedisPubSubListener<K, V>>> index, byte[] name) {
+
+        if (name == null || index.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<RedisPubSubListener<K, V>> bound = index.get(new Wrapper<>(name));
+        return bound != null ? bound : Collections.emptyList();
     }
 
     protected void notifyListeners(PubSubOutput<K, V, V> output) {
@@ -21,7 +21,10 @@ import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.output.CommandOutput;
 
 /**
- * One element of the Redis pub/sub stream. May be a message or notification of subscription details.
+ * One element of the Redis pub/sub stream. May be a message or notification of subscription details. Channel and pattern
+ * names are decoded while reading the response. Outputs that {@link #PubSubOutput(RedisCodec, boolean) retain encoded names}
+ * copy channel and pattern names instead and decode these on first access, which is used to route messages to bound
+ * listeners by their raw bytes.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -34,14 +37,33 @@ public class PubSubOutput<K, V, T> extends CommandOutput<K, V, T> {
         message, pmessage, psubscribe, punsubscribe, subscribe, unsubscribe
     }
 
+    private final boolean retainEncoded;
+
     private Type type;
+    private byte[] channelBytes;
+    private byte[] patternBytes;
+    private boolean hasChannel;
+    private boolean hasPattern;
     private K channel;
     private K pattern;
     private long count;
     private boolean completed;
 
     public PubSubOutput(RedisCodec<K, V> codec) {
+        this(codec, false);
+    }
+
+    /**
+     * Create a new {@link PubSubOutput}.
+     *
+     * @param codec the codec.
+     * @param retainEncoded {@literal true} to retain channel and pattern names in their encoded form and decode these on
+     *        first access.
+     * @since 5.2
+     */
+    public PubSubOutput(RedisCodec<K, V> codec, boolean retainEncoded) {
         super(codec, null);
+        this.retainEncoded = retainEncoded;
     }
 
     public Type type() {
@@ -49,13 +71,65 @@ public class PubSubOutput<K, V, T> extends CommandOutput<K, V, T> {
     }
 
     public K channel() {
+
+        if (channel == null && channelBytes != null) {
+            channel = codec.decodeKey(ByteBuffer.wrap(channelBytes));
+        }
+
         return channel;
     }
 
     public K pattern() {
+
+        if (pattern == null && patternBytes != null) {
+            pattern = codec.decodeKey(ByteBuffer.wrap(patternBytes));
+        }
+
         return pattern;
     }
 
+    /**
+     * @return the encoded channel name or {@literal null} if the element has no channel. Encodes the decoded channel if the
+     *         encoded form was not retained.
+     * @since 5.2
+     */
+    byte[] channelBytes() {
+
+        if (channelBytes == null && channel != null) {
+            channelBytes = getBytes(codec.encodeKey(channel));
+        }
+
+        return channelBytes;
+    }
+
+    /**
+     * @return the encoded pattern or {@literal null} if the element has no pattern. Encodes the decoded pattern if the
+     *         encoded form was not retained.
+     * @since 5.2
+     */
+    byte[] patternBytes() {
+
+        if (patternBytes == null && pattern != null) {
+            patternBytes = getBytes(codec.encodeKey(pattern));
+        }
+
+        return patternBytes;
+    }
+
+    /**
+     * @return {@literal true} if the element carries a channel name.
+     */
+    boolean hasChannel() {
+        return hasChannel;
+    }
+
+    /**
+     * @return {@literal true} if the element carries a pattern.
+     */
+    boolean hasPattern() {
+        return hasPattern;
+    }
+
     public long count() {
         return count;
     }
@@ -80,13 +154,13 @@ public class PubSubOutput<K, V, T> extends CommandOutput<K, V, T> {
     private void handleOutput(ByteBuffer bytes) {
         switch (type) {
             case pmessage:
-                if (pattern == null) {
-                    pattern = codec.decodeKey(bytes);
+                if (!hasPattern) {
+                    setPattern(bytes);
                     break;
                 }
             case message:
-                if (channel == null) {
-                    channel = codec.decodeKey(bytes);
+                if (!hasChannel) {
+                    setChannel(bytes);
                     break;
                 }
                 output = (T) codec.decodeValue(bytes);
@@ -94,17 +168,46 @@ public class PubSubOutput<K, V, T> extends CommandOutput<K, V, T> {
                 break;
             case psubscribe:
             case punsubscribe:
-                pattern = codec.decodeKey(bytes);
+                setPattern(bytes);
                 break;
             case subscribe:
             case unsubscribe:
-                channel = codec.decodeKey(bytes);
+                setChannel(bytes);
                 break;
             default:
                 throw new UnsupportedOperationException("Operation " + type + " not supported");
         }
     }
 
+    private void setChannel(ByteBuffer bytes) {
+
+        hasChannel = true;
+
+        if (retainEncoded) {
+            channelBytes = getBytes(bytes);
+        } else {
+            channel = codec.decodeKey(bytes);
+        }
+    }
+
+    private void setPattern(ByteBuffer bytes) {
+
+        hasPattern = true;
+
+        if (retainEncoded) {
+            patternBytes = getBytes(bytes);
+        } else {
+            pattern = codec.decodeKey(bytes);
+        }
+    }
+
+    private static byte[] getBytes(ByteBuffer buffer) {
+
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
     @Override
     public void set(long integer) {
         count = integer;
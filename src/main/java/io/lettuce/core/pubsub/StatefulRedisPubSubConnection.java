@@ -66,7 +66,31 @@ public interface StatefulRedisPubSubConnection<K, V> extends StatefulRedisConnec
     void addListener(RedisPubSubListener<K, V> listener);
 
     /**
-     * Remove an existing {@link RedisPubSubListener listener}..
+     * Add a new {@link RedisPubSubListener listener} bound to {@code channels}. The listener is notified only about messages
+     * received through a subscription to one of the {@code channels} and about subscription changes of these channels.
+     * Messages are routed using an index of encoded channel names instead of notifying every listener. Registering a listener
+     * does not subscribe to the channels.
+     *
+     * @param listener the listener, must not be {@literal null}.
+     * @param channels the channels, must not be {@literal null}.
+     * @since 5.2
+     */
+    void addListener(RedisPubSubListener<K, V> listener, K... channels);
+
+    /**
+     * Add a new {@link RedisPubSubListener listener} bound to {@code patterns}. The listener is notified only about messages
+     * received through a subscription to one of the {@code patterns} and about subscription changes of these patterns.
+     * Messages are routed using an index of encoded patterns instead of notifying every listener. Registering a listener does
+     * not subscribe to the patterns.
+     *
+     * @param listener the listener, must not be {@literal null}.
+     * @param patterns the patterns, must not be {@literal null}.
+     * @since 5.2
+     */
+    void addPatternListener(RedisPubSubListener<K, V> listener, K... patterns);
+
+    /**
+     * Remove an existing {@link RedisPubSubListener listener} including its channel and pattern bindings.
      *
      * @param listener the listener, must not be {@literal null}.
      */
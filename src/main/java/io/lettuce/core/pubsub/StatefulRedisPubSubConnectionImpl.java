@@ -16,6 +16,7 @@
 package io.lettuce.core.pubsub;
 
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -25,6 +26,7 @@ import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisFuture;
 import io.lettuce.core.StatefulRedisConnectionImpl;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.protocol.ConnectionWatchdog;
 import io.lettuce.core.pubsub.api.async.RedisPubSubAsyncCommands;
 import io.lettuce.core.pubsub.api.reactive.RedisPubSubReactiveCommands;
@@ -71,6 +73,36 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
         endpoint.addListener(listener);
     }
 
+    @Override
+    public void addListener(RedisPubSubListener<K, V> listener, K... channels) {
+
+        LettuceAssert.notNull(listener, "Listener must not be null");
+        LettuceAssert.notNull(channels, "Channels must not be null");
+
+        for (K channel : channels) {
+            endpoint.addChannelListener(listener, encode(channel));
+        }
+    }
+
+    @Override
+    public void addPatternListener(RedisPubSubListener<K, V> listener, K... patterns) {
+
+        LettuceAssert.notNull(listener, "Listener must not be null");
+        LettuceAssert.notNull(patterns, "Patterns must not be null");
+
+        for (K pattern : patterns) {
+            endpoint.addPatternListener(listener, encode(pattern));
+        }
+    }
+
+    private byte[] encode(K key) {
+
+        ByteBuffer buffer = codec.encodeKey(key);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
     /**
      * Remove an existing listener.
      *
@@ -23,8 +23,11 @@ import java.util.function.Supplier;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.resource.ClientResources;
 import io.lettuce.core.support.ConnectionWrapping.HasTargetConnection;
 import io.lettuce.core.support.ConnectionWrapping.Origin;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.GlobalEventExecutor;
 
 /**
  * Asynchronous connection pool support for {@link BoundedAsyncPool}. Connection pool creation requires a {@link Supplier} that
@@ -101,16 +104,63 @@ public abstract class AsyncConnectionPoolSupport {
      * @param <T> connection type.
      * @return the connection pool.
      */
-    @SuppressWarnings("unchecked")
     public static <T extends StatefulConnection<?, ?>> BoundedAsyncPool<T> createBoundedObjectPool(
             Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config, boolean wrapConnections) {
+        return createBoundedObjectPool(connectionSupplier, config, wrapConnections, GlobalEventExecutor.INSTANCE);
+    }
+
+    /**
+     * Creates a new {@link BoundedAsyncPool} using the {@link Supplier} that schedules acquire timeouts on the
+     * {@link ClientResources#eventExecutorGroup()}. Allocated instances are wrapped and must not be returned with
+     * {@link AsyncPool#release(Object)}.
+     *
+     * @param connectionSupplier must not be {@literal null}.
+     * @param config must not be {@literal null}.
+     * @param clientResources must not be {@literal null}.
+     * @param <T> connection type.
+     * @return the connection pool.
+     * @since 5.2
+     */
+    public static <T extends StatefulConnection<?, ?>> BoundedAsyncPool<T> createBoundedObjectPool(
+            Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config, ClientResources clientResources) {
+        return createBoundedObjectPool(connectionSupplier, config, true, clientResources);
+    }
+
+    /**
+     * Creates a new {@link BoundedAsyncPool} using the {@link Supplier} that schedules acquire timeouts on the
+     * {@link ClientResources#eventExecutorGroup()}.
+     *
+     * @param connectionSupplier must not be {@literal null}.
+     * @param config must not be {@literal null}.
+     * @param wrapConnections {@literal false} to return direct connections that need to be returned to the pool using
+     *        {@link AsyncPool#release(Object)}. {@literal true} to return wrapped connection that are returned to the pool when
+     *        invoking {@link StatefulConnection#close()}/{@link StatefulConnection#closeAsync()}.
+     * @param clientResources must not be {@literal null}.
+     * @param <T> connection type.
+     * @return the connection pool.
+     * @since 5.2
+     */
+    public static <T extends StatefulConnection<?, ?>> BoundedAsyncPool<T> createBoundedObjectPool(
+            Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config, boolean wrapConnections,
+            ClientResources clientResources) {
+
+        LettuceAssert.notNull(clientResources, "ClientResources must not be null");
+
+        return createBoundedObjectPool(connectionSupplier, config, wrapConnections, clientResources.eventExecutorGroup());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends StatefulConnection<?, ?>> BoundedAsyncPool<T> createBoundedObjectPool(
+            Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config, boolean wrapConnections,
+            EventExecutorGroup timeoutExecutor) {
 
         LettuceAssert.notNull(connectionSupplier, "Connection supplier must not be null");
         LettuceAssert.notNull(config, "BoundedPoolConfig must not be null");
 
         AtomicReference<Origin<T>> poolRef = new AtomicReference<>();
 
-        BoundedAsyncPool<T> pool = new BoundedAsyncPool<T>(new RedisPooledObjectFactory<T>(connectionSupplier), config) {
+        BoundedAsyncPool<T> pool = new BoundedAsyncPool<T>(new RedisPooledObjectFactory<T>(connectionSupplier), config,
+                timeoutExecutor) {
 
             @Override
             public CompletableFuture<T> acquire() {
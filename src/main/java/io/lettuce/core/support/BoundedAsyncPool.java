@@ -15,16 +15,23 @@
  */
 package io.lettuce.core.support;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.GlobalEventExecutor;
 
 /**
  * Bounded asynchronous object pool. This object pool allows pre-warming with {@link BoundedPoolConfig#getMinIdle() idle}
@@ -33,6 +40,11 @@ import io.lettuce.core.internal.LettuceAssert;
  * Object pool bounds are maintained on a best-effort basis as bounds are maintained upon object request whereas the actual
  * object creation might finish at a later time. You might see temporarily slight differences in object usage vs. pool count due
  * to asynchronous processing vs. protecting the pool from exceed its bounds.
+ * <p>
+ * Acquisitions that find the pool exhausted wait up to {@link BoundedPoolConfig#getMaxWait() maxWait} in a FIFO queue.
+ * Released objects are handed to the oldest waiting acquisition directly. Acquire timeouts are scheduled on the
+ * {@link EventExecutorGroup} given on construction, typically {@link ClientResources#eventExecutorGroup()}, or on Netty's
+ * {@link GlobalEventExecutor}.
  *
  * @author Mark Paluch
  * @since 5.1
@@ -49,21 +61,31 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
     private static final NoSuchElementException POOL_EXHAUSTED = unknownStackTrace(
             new NoSuchElementException("Pool exhausted"), BoundedAsyncPool.class, "acquire()");
 
+    private static final NoSuchElementException ACQUIRE_TIMEOUT = unknownStackTrace(new NoSuchElementException(
+            "Pool exhausted: Timeout waiting for idle object"), BoundedAsyncPool.class, "acquire()");
+
     private static final IllegalStateException NOT_PART_OF_POOL = unknownStackTrace(new IllegalStateException(
             "Returned object not currently part of this pool"), BoundedAsyncPool.class, "release()");
 
     private final int maxTotal;
     private final int maxIdle;
     private final int minIdle;
+    private final Duration maxWait;
 
     private final AsyncObjectFactory<T> factory;
+    private final EventExecutorGroup timeoutExecutor;
 
     private final Queue<T> cache;
     private final Queue<T> all;
+    private final Queue<CompletableFuture<T>> waiters;
 
     private final AtomicInteger objectCount = new AtomicInteger();
     private final AtomicInteger objectsInCreationCount = new AtomicInteger();
+    private final AtomicInteger waiterCreationCount = new AtomicInteger();
     private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger pendingAcquireCount = new AtomicInteger();
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder waitTimeNs = new LongAdder();
 
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
 
@@ -77,19 +99,37 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
      * @param poolConfig must not be {@literal null}.
      */
     public BoundedAsyncPool(AsyncObjectFactory<T> factory, BoundedPoolConfig poolConfig) {
+        this(factory, poolConfig, GlobalEventExecutor.INSTANCE);
+    }
+
+    /**
+     * Create a new {@link BoundedAsyncPool} given {@link BasePoolConfig}, {@link AsyncObjectFactory} and the
+     * {@link EventExecutorGroup} to schedule acquire timeouts. The factory creates idle objects upon construction and requires
+     * {@link #closeAsync() termination} once it's no longer in use.
+     *
+     * @param factory must not be {@literal null}.
+     * @param poolConfig must not be {@literal null}.
+     * @param timeoutExecutor must not be {@literal null}.
+     * @since 5.2
+     */
+    public BoundedAsyncPool(AsyncObjectFactory<T> factory, BoundedPoolConfig poolConfig, EventExecutorGroup timeoutExecutor) {
 
         super(poolConfig);
 
         LettuceAssert.notNull(factory, "AsyncObjectFactory must not be null");
+        LettuceAssert.notNull(timeoutExecutor, "Timeout EventExecutorGroup must not be null");
 
         this.maxTotal = poolConfig.getMaxTotal();
         this.maxIdle = poolConfig.getMaxIdle();
         this.minIdle = poolConfig.getMinIdle();
+        this.maxWait = poolConfig.getMaxWait();
 
         this.factory = factory;
+        this.timeoutExecutor = timeoutExecutor;
 
         this.cache = new ConcurrentLinkedQueue<>();
         this.all = new ConcurrentLinkedQueue<>();
+        this.waiters = new ConcurrentLinkedQueue<>();
 
         createIdle();
     }
@@ -132,9 +172,15 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
     @Override
     public CompletableFuture<T> acquire() {
 
-        T object = cache.poll();
-
         CompletableFuture<T> res = new CompletableFuture<>();
+
+        // queue behind waiting acquisitions to serve acquisitions in FIFO order.
+        if (pendingAcquireCount.get() > 0) {
+            enqueue(res);
+            return res;
+        }
+
+        T object = cache.poll();
         acquire0(object, res);
 
         return res;
@@ -185,7 +231,143 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
             return;
         }
 
-        res.completeExceptionally(POOL_EXHAUSTED);
+        if (maxWait.isZero() || !isPoolActive()) {
+            res.completeExceptionally(POOL_EXHAUSTED);
+            return;
+        }
+
+        enqueue(res);
+    }
+
+    private void enqueue(CompletableFuture<T> res) {
+
+        long start = System.nanoTime();
+
+        pendingAcquireCount.incrementAndGet();
+        waiters.add(res);
+
+        res.whenComplete((o, t) -> {
+
+            pendingAcquireCount.decrementAndGet();
+
+            if (t == null) {
+                waitCount.increment();
+                waitTimeNs.add(System.nanoTime() - start);
+            }
+        });
+
+        if (!maxWait.isNegative()) {
+
+            ScheduledFuture<?> timeout = timeoutExecutor.schedule(() -> {
+
+                if (res.completeExceptionally(ACQUIRE_TIMEOUT)) {
+                    waiters.remove(res);
+                }
+            }, maxWait.toNanos(), TimeUnit.NANOSECONDS);
+
+            res.whenComplete((o, t) -> timeout.cancel(false));
+        }
+
+        if (!isPoolActive()) {
+            res.completeExceptionally(POOL_SHUTDOWN);
+            return;
+        }
+
+        // objects might have been released or capacity freed while enqueueing.
+        drainWaiters();
+    }
+
+    /**
+     * Serve waiting acquisitions with idle objects and create objects for them if the pool has capacity left.
+     */
+    private void drainWaiters() {
+
+        for (;;) {
+
+            CompletableFuture<T> waiter = waiters.peek();
+
+            if (waiter == null) {
+                return;
+            }
+
+            if (waiter.isDone()) {
+                waiters.remove(waiter);
+                continue;
+            }
+
+            T object = cache.poll();
+
+            if (object == null) {
+                createForWaiters();
+                return;
+            }
+
+            if (waiters.remove(waiter)) {
+                acquire0(object, waiter);
+            } else {
+                cache.add(object);
+            }
+        }
+    }
+
+    private void createForWaiters() {
+
+        for (;;) {
+
+            // creations already in flight serve earlier waiters.
+            int inFlight = waiterCreationCount.get();
+
+            if (inFlight >= pendingAcquireCount.get() || getAvailableCapacity() <= 0 || !isPoolActive()) {
+                return;
+            }
+
+            if (!waiterCreationCount.compareAndSet(inFlight, inFlight + 1)) {
+                continue;
+            }
+
+            CompletableFuture<T> future = new CompletableFuture<>();
+
+            // hand the new object to the oldest waiter.
+            future.whenComplete((o, t) -> {
+
+                waiterCreationCount.decrementAndGet();
+
+                if (t == null) {
+                    return0(o);
+                    return;
+                }
+
+                if (t != POOL_EXHAUSTED) {
+
+                    CompletableFuture<T> waiter;
+                    while ((waiter = waiters.poll()) != null) {
+                        if (waiter.completeExceptionally(t)) {
+                            return;
+                        }
+                    }
+                }
+            });
+
+            makeObject0(future);
+        }
+    }
+
+    /**
+     * Hand {@code object} to the oldest waiting acquisition.
+     *
+     * @param object the object to hand off.
+     * @return {@literal true} if a waiting acquisition took the object.
+     */
+    private boolean handOff(T object) {
+
+        CompletableFuture<T> waiter;
+        while ((waiter = waiters.poll()) != null) {
+            if (waiter.complete(object)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     private void makeObject0(CompletableFuture<T> res) {
@@ -270,10 +452,9 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
     private void completeAcquire(CompletableFuture<T> res, T o) {
 
-        if (res.isCancelled()) {
+        // the acquisition was canceled or timed out.
+        if (!res.complete(o)) {
             return0(o);
-        } else {
-            res.complete(o);
         }
     }
 
@@ -290,7 +471,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
             return Futures.failed(NOT_PART_OF_POOL);
         }
 
-        if (idleCount.get() >= getMaxIdle()) {
+        if (idleCount.get() >= getMaxIdle() && pendingAcquireCount.get() == 0) {
             return destroy0(object);
         }
 
@@ -316,6 +497,10 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
     private CompletableFuture<Void> return0(T object) {
 
+        if (isPoolActive() && handOff(object)) {
+            return COMPLETED;
+        }
+
         int idleCount = this.idleCount.incrementAndGet();
 
         if (idleCount > getMaxIdle()) {
@@ -326,6 +511,11 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
         cache.add(object);
 
+        // a waiter might have been enqueued after the hand-off attempt.
+        if (pendingAcquireCount.get() > 0) {
+            drainWaiters();
+        }
+
         return COMPLETED;
     }
 
@@ -333,7 +523,14 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
         objectCount.decrementAndGet();
         all.remove(object);
-        return factory.destroy(object);
+
+        CompletableFuture<Void> destroy = factory.destroy(object);
+
+        if (pendingAcquireCount.get() > 0 && isPoolActive()) {
+            drainWaiters();
+        }
+
+        return destroy;
     }
 
     @Override
@@ -371,6 +568,11 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
         state = State.TERMINATING;
 
+        CompletableFuture<T> waiter;
+        while ((waiter = waiters.poll()) != null) {
+            waiter.completeExceptionally(POOL_SHUTDOWN);
+        }
+
         CompletableFuture<Void> clear = clearAsync();
 
         state = State.TERMINATED;
@@ -442,6 +644,58 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         return objectsInCreationCount.get();
     }
 
+    /**
+     * Returns the maximum duration an acquisition waits for an object if the pool is exhausted.
+     *
+     * @return the maximum wait duration.
+     * @since 5.2
+     */
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * Returns the number of acquisitions that are waiting for an object.
+     *
+     * @return the number of waiting acquisitions.
+     * @since 5.2
+     */
+    public int getPendingAcquireCount() {
+        return pendingAcquireCount.get();
+    }
+
+    /**
+     * Returns the number of acquisitions that obtained an object after waiting.
+     *
+     * @return the number of acquisitions that waited.
+     * @since 5.2
+     */
+    public long getWaitCount() {
+        return waitCount.sum();
+    }
+
+    /**
+     * Returns the total time acquisitions spent waiting for an object.
+     *
+     * @return the total wait time.
+     * @since 5.2
+     */
+    public Duration getTotalWaitTime() {
+        return Duration.ofNanos(waitTimeNs.sum());
+    }
+
+    /**
+     * Returns the ratio of objects in use to {@link #getMaxTotal()}.
+     *
+     * @return the pool utilization between {@code 0} and {@code 1}.
+     * @since 5.2
+     */
+    public double getUtilization() {
+
+        int maxTotal = getMaxTotal();
+        return maxTotal <= 0 ? 0 : (double) (getObjectCount() - getIdle()) / maxTotal;
+    }
+
     private boolean isPoolActive() {
         return this.state == State.ACTIVE;
     }
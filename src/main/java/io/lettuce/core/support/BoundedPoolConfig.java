@@ -15,6 +15,10 @@
  */
 package io.lettuce.core.support;
 
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
 /**
  * Configuration for asynchronous pooling using {@link BoundedAsyncPool}. Instances can be created through a {@link #builder()}.
  *
@@ -39,18 +43,36 @@ public class BoundedPoolConfig extends BasePoolConfig {
      */
     public static final int DEFAULT_MIN_IDLE = 0;
 
+    /**
+     * The default value for the {@code maxWait} configuration attribute. Acquisitions fail immediately if the pool is
+     * exhausted.
+     *
+     * @since 5.2
+     */
+    public static final Duration DEFAULT_MAX_WAIT = Duration.ZERO;
+
     private final int maxTotal;
     private final int maxIdle;
     private final int minIdle;
+    private final Duration maxWait;
 
     protected BoundedPoolConfig(boolean testOnCreate, boolean testOnAcquire, boolean testOnRelease, int maxTotal, int maxIdle,
             int minIdle) {
+        this(testOnCreate, testOnAcquire, testOnRelease, maxTotal, maxIdle, minIdle, DEFAULT_MAX_WAIT);
+    }
+
+    /**
+     * @since 5.2
+     */
+    protected BoundedPoolConfig(boolean testOnCreate, boolean testOnAcquire, boolean testOnRelease, int maxTotal, int maxIdle,
+            int minIdle, Duration maxWait) {
 
         super(testOnCreate, testOnAcquire, testOnRelease);
 
         this.maxTotal = maxTotal;
         this.maxIdle = maxIdle;
         this.minIdle = minIdle;
+        this.maxWait = maxWait;
     }
 
     /**
@@ -93,6 +115,16 @@ public class BoundedPoolConfig extends BasePoolConfig {
         return minIdle;
     }
 
+    /**
+     * Get the value for the {@code maxWait} configuration attribute for pools created with this configuration instance.
+     *
+     * @return the current setting of {@code maxWait} for this configuration instance.
+     * @since 5.2
+     */
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
     /**
      * Builder for {@link BoundedPoolConfig}.
      */
@@ -101,6 +133,7 @@ public class BoundedPoolConfig extends BasePoolConfig {
         private int maxTotal = DEFAULT_MAX_TOTAL;
         private int maxIdle = DEFAULT_MAX_IDLE;
         private int minIdle = DEFAULT_MIN_IDLE;
+        private Duration maxWait = DEFAULT_MAX_WAIT;
 
         protected Builder() {
         }
@@ -191,13 +224,30 @@ public class BoundedPoolConfig extends BasePoolConfig {
             return this;
         }
 
+        /**
+         * Configures the maximum duration an acquisition waits for an object if the pool is exhausted. Waiting acquisitions are
+         * served in FIFO order as objects are released. {@link Duration#ZERO} fails acquisitions immediately if the pool is
+         * exhausted, a negative duration waits without a timeout.
+         *
+         * @param maxWait maximum duration to wait for an object, must not be {@literal null}.
+         * @return {@code this} {@link Builder}.
+         * @since 5.2
+         */
+        public Builder maxWait(Duration maxWait) {
+
+            LettuceAssert.notNull(maxWait, "Max wait must not be null");
+
+            this.maxWait = maxWait;
+            return this;
+        }
+
         /**
          * Build a new {@link BasePoolConfig} object.
          *
          * @return a new {@link BasePoolConfig} object.
          */
         public BoundedPoolConfig build() {
-            return new BoundedPoolConfig(testOnCreate, testOnAcquire, testOnRelease, maxTotal, maxIdle, minIdle);
+            return new BoundedPoolConfig(testOnCreate, testOnAcquire, testOnRelease, maxTotal, maxIdle, minIdle, maxWait);
         }
     }
 }
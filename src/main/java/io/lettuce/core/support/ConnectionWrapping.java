@@ -18,14 +18,39 @@ package io.lettuce.core.support;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
-import io.lettuce.core.RedisException;
+import io.lettuce.core.*;
 import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.RedisAdvancedClusterAsyncCommandsImpl;
+import io.lettuce.core.cluster.RedisAdvancedClusterSyncCommandsImpl;
+import io.lettuce.core.cluster.StatefulRedisClusterConnectionImpl;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.api.reactive.RedisAdvancedClusterReactiveCommands;
+import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
+import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.internal.AbstractInvocationHandler;
-import io.lettuce.core.internal.AsyncCloseable;
+import io.lettuce.core.masterslave.StatefulRedisMasterSlaveConnection;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.pubsub.RedisPubSubAsyncCommandsImpl;
+import io.lettuce.core.pubsub.RedisPubSubListener;
+import io.lettuce.core.pubsub.RedisPubSubReactiveCommandsImpl;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnectionImpl;
+import io.lettuce.core.pubsub.api.async.RedisPubSubAsyncCommands;
+import io.lettuce.core.pubsub.api.reactive.RedisPubSubReactiveCommands;
+import io.lettuce.core.pubsub.api.sync.RedisPubSubCommands;
+import io.lettuce.core.resource.ClientResources;
 
 /**
  * Utility to wrap pooled connections for return-on-close.
@@ -51,7 +76,8 @@ public class ConnectionWrapping {
     }
 
     /**
-     * Wrap a connection along its {@link Origin} reference.
+     * Wrap a connection along its {@link Origin} reference. Standalone, Master/Slave, Pub/Sub and Redis Cluster connections
+     * are wrapped with delegating wrapper classes, other connection types are wrapped with a JDK proxy.
      *
      * @param connection
      * @param pool
@@ -61,6 +87,30 @@ public class ConnectionWrapping {
     @SuppressWarnings({ "unchecked", "rawtypes" })
     static <T> T wrapConnection(T connection, Origin<T> pool) {
 
+        Class<?> connectionType = connection.getClass();
+
+        if (connectionType == StatefulRedisConnectionImpl.class) {
+            return (T) new PooledRedisConnection((StatefulRedisConnectionImpl) connection, pool);
+        }
+
+        if (connection instanceof StatefulRedisMasterSlaveConnection && connection instanceof StatefulRedisConnectionImpl) {
+            return (T) new PooledMasterSlaveConnection((StatefulRedisConnectionImpl) connection, pool);
+        }
+
+        if (connectionType == StatefulRedisPubSubConnectionImpl.class) {
+            return (T) new PooledPubSubConnection((StatefulRedisPubSubConnectionImpl) connection, pool);
+        }
+
+        if (connectionType == StatefulRedisClusterConnectionImpl.class) {
+            return (T) new PooledClusterConnection((StatefulRedisClusterConnectionImpl) connection, pool);
+        }
+
+        return wrapWithProxy(connection, pool);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static <T> T wrapWithProxy(T connection, Origin<T> pool) {
+
         ReturnObjectOnCloseInvocationHandler<T> handler = new ReturnObjectOnCloseInvocationHandler<T>(connection, pool);
 
         Class<?>[] implementedInterfaces = connection.getClass().getInterfaces();
@@ -74,6 +124,492 @@ public class ConnectionWrapping {
         return proxiedConnection;
     }
 
+    /**
+     * Base class for delegating connection wrappers. Connections are returned to the pool on a close()-call. Command API
+     * objects are bound to the target connection and report the wrapper as their stateful connection.
+     *
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @param <C> Target connection type.
+     * @since 5.2
+     */
+    abstract static class PooledConnection<K, V, C extends StatefulConnection<K, V>> implements StatefulConnection<K, V>,
+            HasTargetConnection, Wrapper<C> {
+
+        private final Origin<Object> pool;
+        private C connection;
+
+        @SuppressWarnings("unchecked")
+        PooledConnection(C connection, Origin<?> pool) {
+            this.connection = connection;
+            this.pool = (Origin<Object>) pool;
+        }
+
+        /**
+         * @return the target connection.
+         * @throws RedisException if the connection was already returned to the pool.
+         */
+        C getTarget() {
+
+            C connection = this.connection;
+
+            if (connection == null) {
+                throw new RedisException("Connection is deallocated and cannot be used anymore.");
+            }
+
+            return connection;
+        }
+
+        @Override
+        public void setTimeout(Duration timeout) {
+            getTarget().setTimeout(timeout);
+        }
+
+        @Override
+        @Deprecated
+        public void setTimeout(long timeout, TimeUnit unit) {
+            getTarget().setTimeout(timeout, unit);
+        }
+
+        @Override
+        public Duration getTimeout() {
+            return getTarget().getTimeout();
+        }
+
+        @Override
+        public <T> RedisCommand<K, V, T> dispatch(RedisCommand<K, V, T> command) {
+            return getTarget().dispatch(command);
+        }
+
+        @Override
+        public Collection<RedisCommand<K, V, ?>> dispatch(Collection<? extends RedisCommand<K, V, ?>> commands) {
+            return getTarget().dispatch(commands);
+        }
+
+        @Override
+        public void close() {
+
+            getTarget();
+
+            try {
+                pool.returnObject(this);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RedisException(e);
+            }
+
+            connection = null;
+        }
+
+        @Override
+        public CompletableFuture<Void> closeAsync() {
+
+            getTarget();
+
+            CompletableFuture<Void> future;
+            try {
+                future = pool.returnObjectAsync(this);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RedisException(e);
+            }
+
+            connection = null;
+            return future;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return getTarget().isOpen();
+        }
+
+        @Override
+        public ClientOptions getOptions() {
+            return getTarget().getOptions();
+        }
+
+        @Override
+        public ClientResources getResources() {
+            return getTarget().getResources();
+        }
+
+        @Override
+        public void reset() {
+            getTarget().reset();
+        }
+
+        @Override
+        public void setAutoFlushCommands(boolean autoFlush) {
+            getTarget().setAutoFlushCommands(autoFlush);
+        }
+
+        @Override
+        public void flushCommands() {
+            getTarget().flushCommands();
+        }
+
+        @Override
+        public StatefulConnection<?, ?> getTargetConnection() {
+            return connection;
+        }
+
+        @Override
+        public C unwrap() {
+            return connection;
+        }
+    }
+
+    /**
+     * Pooled {@link StatefulRedisConnection}.
+     *
+     * @since 5.2
+     */
+    static class PooledRedisConnection<K, V> extends PooledConnection<K, V, StatefulRedisConnectionImpl<K, V>> implements
+            StatefulRedisConnection<K, V> {
+
+        private volatile RedisAsyncCommandsImpl<K, V> async;
+        private volatile RedisCommands<K, V> sync;
+        private volatile RedisReactiveCommands<K, V> reactive;
+
+        PooledRedisConnection(StatefulRedisConnectionImpl<K, V> connection, Origin<?> pool) {
+            super(connection, pool);
+        }
+
+        @Override
+        public boolean isMulti() {
+            return getTarget().isMulti();
+        }
+
+        @Override
+        public RedisCommands<K, V> sync() {
+
+            StatefulRedisConnectionImpl<K, V> target = getTarget();
+
+            if (sync == null) {
+                sync = new RedisSyncCommandsImpl<K, V>(target, asyncImpl(target)) {
+
+                    @Override
+                    public StatefulRedisConnection<K, V> getStatefulConnection() {
+                        return PooledRedisConnection.this;
+                    }
+                };
+            }
+
+            return sync;
+        }
+
+        @Override
+        public RedisAsyncCommands<K, V> async() {
+            return asyncImpl(getTarget());
+        }
+
+        private RedisAsyncCommandsImpl<K, V> asyncImpl(StatefulRedisConnectionImpl<K, V> target) {
+
+            if (async == null) {
+                async = new RedisAsyncCommandsImpl<K, V>(target, target.getCodec()) {
+
+                    @Override
+                    public StatefulRedisConnection<K, V> getStatefulConnection() {
+                        return PooledRedisConnection.this;
+                    }
+                };
+            }
+
+            return async;
+        }
+
+        @Override
+        public RedisReactiveCommands<K, V> reactive() {
+
+            StatefulRedisConnectionImpl<K, V> target = getTarget();
+
+            if (reactive == null) {
+                reactive = new RedisReactiveCommandsImpl<K, V>(target, target.getCodec()) {
+
+                    @Override
+                    public StatefulRedisConnection<K, V> getStatefulConnection() {
+                        return PooledRedisConnection.this;
+                    }
+                };
+            }
+
+            return reactive;
+        }
+    }
+
+    /**
+     * Pooled {@link StatefulRedisMasterSlaveConnection}.
+     *
+     * @since 5.2
+     */
+    static class PooledMasterSlaveConnection<K, V> extends PooledRedisConnection<K, V> implements
+            StatefulRedisMasterSlaveConnection<K, V> {
+
+        PooledMasterSlaveConnection(StatefulRedisConnectionImpl<K, V> connection, Origin<?> pool) {
+            super(connection, pool);
+        }
+
+        @Override
+        public void setReadFrom(ReadFrom readFrom) {
+            getMasterSlaveTarget().setReadFrom(readFrom);
+        }
+
+        @Override
+        public ReadFrom getReadFrom() {
+            return getMasterSlaveTarget().getReadFrom();
+        }
+
+        @Override
+        public CompletableFuture<Void> getWarmup() {
+            return getMasterSlaveTarget().getWarmup();
+        }
+
+        @SuppressWarnings("unchecked")
+        private StatefulRedisMasterSlaveConnection<K, V> getMasterSlaveTarget() {
+            return (StatefulRedisMasterSlaveConnection<K, V>) getTarget();
+        }
+    }
+
+    /**
+     * Pooled {@link StatefulRedisPubSubConnection}.
+     *
+     * @since 5.2
+     */
+    static class PooledPubSubConnection<K, V> extends PooledConnection<K, V, StatefulRedisPubSubConnectionImpl<K, V>>
+            implements StatefulRedisPubSubConnection<K, V> {
+
+        private volatile RedisPubSubAsyncCommandsImpl<K, V> async;
+        private volatile RedisPubSubCommands<K, V> sync;
+        private volatile RedisPubSubReactiveCommands<K, V> reactive;
+
+        PooledPubSubConnection(StatefulRedisPubSubConnectionImpl<K, V> connection, Origin<?> pool) {
+            super(connection, pool);
+        }
+
+        @Override
+        public boolean isMulti() {
+            return getTarget().isMulti();
+        }
+
+        @Override
+        public RedisPubSubCommands<K, V> sync() {
+
+            StatefulRedisPubSubConnectionImpl<K, V> target = getTarget();
+
+            if (sync == null) {
+                sync = new PooledPubSubCommands<>(this, asyncImpl(target));
+            }
+
+            return sync;
+        }
+
+        @Override
+        public RedisPubSubAsyncCommands<K, V> async() {
+            return asyncImpl(getTarget());
+        }
+
+        private RedisPubSubAsyncCommandsImpl<K, V> asyncImpl(StatefulRedisPubSubConnectionImpl<K, V> target) {
+
+            if (async == null) {
+                async = new RedisPubSubAsyncCommandsImpl<K, V>(target, target.getCodec()) {
+
+                    @Override
+                    public StatefulRedisPubSubConnection<K, V> getStatefulConnection() {
+                        return PooledPubSubConnection.this;
+                    }
+                };
+            }
+
+            return async;
+        }
+
+        @Override
+        public RedisPubSubReactiveCommands<K, V> reactive() {
+
+            StatefulRedisPubSubConnectionImpl<K, V> target = getTarget();
+
+            if (reactive == null) {
+                reactive = new RedisPubSubReactiveCommandsImpl<K, V>(target, target.getCodec()) {
+
+                    @Override
+                    public StatefulRedisPubSubConnection<K, V> getStatefulConnection() {
+                        return PooledPubSubConnection.this;
+                    }
+                };
+            }
+
+            return reactive;
+        }
+
+        @Override
+        public void addListener(RedisPubSubListener<K, V> listener) {
+            getTarget().addListener(listener);
+        }
+
+        @Override
+        public void addListener(RedisPubSubListener<K, V> listener, K... channels) {
+            getTarget().addListener(listener, channels);
+        }
+
+        @Override
+        public void addPatternListener(RedisPubSubListener<K, V> listener, K... patterns) {
+            getTarget().addPatternListener(listener, patterns);
+        }
+
+        @Override
+        public void removeListener(RedisPubSubListener<K, V> listener) {
+            getTarget().removeListener(listener);
+        }
+    }
+
+    /**
+     * Synchronous API of a {@link PooledPubSubConnection}.
+     *
+     * @since 5.2
+     */
+    static class PooledPubSubCommands<K, V> extends RedisSyncCommandsImpl<K, V> implements RedisPubSubCommands<K, V> {
+
+        private final PooledPubSubConnection<K, V> connection;
+        private final RedisPubSubAsyncCommandsImpl<K, V> async;
+
+        PooledPubSubCommands(PooledPubSubConnection<K, V> connection, RedisPubSubAsyncCommandsImpl<K, V> async) {
+
+            super(connection, async);
+
+            this.connection = connection;
+            this.async = async;
+        }
+
+        @Override
+        public void psubscribe(K... patterns) {
+            await(async.psubscribe(patterns));
+        }
+
+        @Override
+        public void punsubscribe(K... patterns) {
+            await(async.punsubscribe(patterns));
+        }
+
+        @Override
+        public void subscribe(K... channels) {
+            await(async.subscribe(channels));
+        }
+
+        @Override
+        public void unsubscribe(K... channels) {
+            await(async.unsubscribe(channels));
+        }
+
+        @Override
+        public StatefulRedisPubSubConnection<K, V> getStatefulConnection() {
+            return connection;
+        }
+    }
+
+    /**
+     * Pooled {@link StatefulRedisClusterConnection}. The asynchronous and reactive APIs delegate to the APIs of the target
+     * connection as the cluster command implementations report {@link StatefulRedisClusterConnectionImpl} as their stateful
+     * connection.
+     *
+     * @since 5.2
+     */
+    static class PooledClusterConnection<K, V> extends PooledConnection<K, V, StatefulRedisClusterConnectionImpl<K, V>>
+            implements StatefulRedisClusterConnection<K, V> {
+
+        private volatile RedisAdvancedClusterAsyncCommands<K, V> async;
+        private volatile RedisAdvancedClusterCommands<K, V> sync;
+        private volatile RedisAdvancedClusterReactiveCommands<K, V> reactive;
+
+        PooledClusterConnection(StatefulRedisClusterConnectionImpl<K, V> connection, Origin<?> pool) {
+            super(connection, pool);
+        }
+
+        @Override
+        public RedisAdvancedClusterCommands<K, V> sync() {
+
+            StatefulRedisClusterConnectionImpl<K, V> target = getTarget();
+
+            if (sync == null) {
+                sync = new RedisAdvancedClusterSyncCommandsImpl<K, V>(target,
+                        (RedisAdvancedClusterAsyncCommandsImpl<K, V>) target.async()) {
+
+                    @Override
+                    public StatefulRedisClusterConnection<K, V> getStatefulConnection() {
+                        return PooledClusterConnection.this;
+                    }
+                };
+            }
+
+            return sync;
+        }
+
+        @Override
+        public RedisAdvancedClusterAsyncCommands<K, V> async() {
+
+            StatefulRedisClusterConnectionImpl<K, V> target = getTarget();
+
+            if (async == null) {
+                async = new PooledClusterAsyncCommands<>(this, target.async());
+            }
+
+            return async;
+        }
+
+        @Override
+        public RedisAdvancedClusterReactiveCommands<K, V> reactive() {
+
+            StatefulRedisClusterConnectionImpl<K, V> target = getTarget();
+
+            if (reactive == null) {
+                reactive = new PooledClusterReactiveCommands<>(this, target.reactive());
+            }
+
+            return reactive;
+        }
+
+        @Override
+        public StatefulRedisConnection<K, V> getConnection(String nodeId) {
+            return getTarget().getConnection(nodeId);
+        }
+
+        @Override
+        public CompletableFuture<StatefulRedisConnection<K, V>> getConnectionAsync(String nodeId) {
+            return getTarget().getConnectionAsync(nodeId);
+        }
+
+        @Override
+        public StatefulRedisConnection<K, V> getConnection(String host, int port) {
+            return getTarget().getConnection(host, port);
+        }
+
+        @Override
+        public CompletableFuture<StatefulRedisConnection<K, V>> getConnectionAsync(String host, int port) {
+            return getTarget().getConnectionAsync(host, port);
+        }
+
+        @Override
+        public void setReadFrom(ReadFrom readFrom) {
+            getTarget().setReadFrom(readFrom);
+        }
+
+        @Override
+        public ReadFrom getReadFrom() {
+            return getTarget().getReadFrom();
+        }
+
+        @Override
+        public Partitions getPartitions() {
+            return getTarget().getPartitions();
+        }
+
+        @Override
+        public CompletableFuture<Void> getWarmup() {
+            return getTarget().getWarmup();
+        }
+    }
+
     /**
      * Invocation handler that takes care of connection.close(). Connections are returned to the pool on a close()-call.
      *
@@ -142,16 +678,30 @@ public class ConnectionWrapping {
             }
         }
 
-        @SuppressWarnings({ "unchecked", "rawtypes" })
         private Object getInnerProxy(Method method, Object[] args) {
 
             try {
-                Object result = method.invoke(connection, args);
-
-                result = Proxy.newProxyInstance(getClass().getClassLoader(), result.getClass().getInterfaces(),
-                        new DelegateCloseToConnectionInvocationHandler((AsyncCloseable) proxiedConnection, result));
-
-                return result;
+                Object api = method.invoke(connection, args);
+                T statefulConnection = proxiedConnection;
+
+                return Proxy.newProxyInstance(getClass().getClassLoader(), api.getClass().getInterfaces(),
+                        new AbstractInvocationHandler() {
+
+                            @Override
+                            protected Object handleInvocation(Object proxy, Method apiMethod, Object[] apiArgs)
+                                    throws Throwable {
+
+                                if (apiMethod.getName().equals("getStatefulConnection")) {
+                                    return statefulConnection;
+                                }
+
+                                try {
+                                    return apiMethod.invoke(api, apiArgs);
+                                } catch (InvocationTargetException e) {
+                                    throw e.getTargetException();
+                                }
+                            }
+                        });
             } catch (IllegalAccessException e) {
                 throw new RedisException(e);
             } catch (InvocationTargetException e) {
@@ -169,57 +719,6 @@ public class ConnectionWrapping {
         }
     }
 
-    /**
-     * Invocation handler that takes care of connection.close(). Connections are returned to the pool on a close()-call.
-     *
-     * @author Mark Paluch
-     * @param <T> Connection type.
-     * @since 4.3
-     */
-    @SuppressWarnings("try")
-    static class DelegateCloseToConnectionInvocationHandler<T extends AsyncCloseable & AutoCloseable> extends
-            AbstractInvocationHandler implements Wrapper<Object> {
-
-        private final T proxiedConnection;
-        private final Object api;
-
-        DelegateCloseToConnectionInvocationHandler(T proxiedConnection, Object api) {
-
-            this.proxiedConnection = proxiedConnection;
-            this.api = api;
-        }
-
-        @Override
-        protected Object handleInvocation(Object proxy, Method method, Object[] args) throws Throwable {
-
-            if (method.getName().equals("getStatefulConnection")) {
-                return proxiedConnection;
-            }
-
-            try {
-
-                if (method.getName().equals("close")) {
-                    proxiedConnection.close();
-                    return null;
-                }
-
-                if (method.getName().equals("closeAsync")) {
-                    return proxiedConnection.closeAsync();
-                }
-
-                return method.invoke(api, args);
-
-            } catch (InvocationTargetException e) {
-                throw e.getTargetException();
-            }
-        }
-
-        @Override
-        public Object unwrap() {
-            return api;
-        }
-    }
-
     /**
      * Interface to retrieve an underlying target connection from a proxy.
      */
@@ -0,0 +1,2113 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import io.lettuce.core.*;
+import io.lettuce.core.XReadArgs.StreamOffset;
+import io.lettuce.core.addb.FpScanArgs;
+import io.lettuce.core.addb.FpWriteArgs;
+import io.lettuce.core.addb.MetakeysArgs;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.AsyncNodeSelection;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.KeyStreamingChannel;
+import io.lettuce.core.output.KeyValueStreamingChannel;
+import io.lettuce.core.output.ScoredValueStreamingChannel;
+import io.lettuce.core.output.ValueStreamingChannel;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
+
+/**
+ * Asynchronous Redis Cluster API of a pooled connection. Commands are delegated to the API of the target connection while
+ * {@link #getStatefulConnection()} reports the pooled connection.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 5.2
+ */
+class PooledClusterAsyncCommands<K, V> implements RedisAdvancedClusterAsyncCommands<K, V> {
+
+    private final StatefulRedisClusterConnection<K, V> connection;
+    private final RedisAdvancedClusterAsyncCommands<K, V> delegate;
+
+    PooledClusterAsyncCommands(StatefulRedisClusterConnection<K, V> connection,
+            RedisAdvancedClusterAsyncCommands<K, V> delegate) {
+
+        this.connection = connection;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public StatefulRedisClusterConnection<K, V> getStatefulConnection() {
+        return connection;
+    }
+
+    @Override
+    public RedisClusterAsyncCommands<K, V> getConnection(String nodeId) {
+        return delegate.getConnection(nodeId);
+    }
+
+    @Override
+    public RedisClusterAsyncCommands<K, V> getConnection(String host, int port) {
+        return delegate.getConnection(host, port);
+    }
+
+    @Override
+    public AsyncNodeSelection<K, V> readonly(Predicate<RedisClusterNode> predicate) {
+        return delegate.readonly(predicate);
+    }
+
+    @Override
+    public AsyncNodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate) {
+        return delegate.nodes(predicate);
+    }
+
+    @Override
+    public AsyncNodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, boolean dynamic) {
+        return delegate.nodes(predicate, dynamic);
+    }
+
+    @Override
+    public RedisFuture<Long> del(K... keys) {
+        return delegate.del(keys);
+    }
+
+    @Override
+    public RedisFuture<Long> unlink(K... keys) {
+        return delegate.unlink(keys);
+    }
+
+    @Override
+    public RedisFuture<Long> exists(K... keys) {
+        return delegate.exists(keys);
+    }
+
+    @Override
+    public RedisFuture<List<KeyValue<K, V>>> mget(K... keys) {
+        return delegate.mget(keys);
+    }
+
+    @Override
+    public RedisFuture<String> mset(Map<K, V> map) {
+        return delegate.mset(map);
+    }
+
+    @Override
+    public RedisFuture<Boolean> msetnx(Map<K, V> map) {
+        return delegate.msetnx(map);
+    }
+
+    @Override
+    public RedisFuture<String> clientSetname(K name) {
+        return delegate.clientSetname(name);
+    }
+
+    @Override
+    public RedisFuture<String> flushall() {
+        return delegate.flushall();
+    }
+
+    @Override
+    public RedisFuture<String> flushdb() {
+        return delegate.flushdb();
+    }
+
+    @Override
+    public RedisFuture<Long> dbsize() {
+        return delegate.dbsize();
+    }
+
+    @Override
+    public RedisFuture<List<K>> keys(K pattern) {
+        return delegate.keys(pattern);
+    }
+
+    @Override
+    public RedisFuture<Long> keys(KeyStreamingChannel<K> channel, K pattern) {
+        return delegate.keys(channel, pattern);
+    }
+
+    @Override
+    public RedisFuture<V> randomkey() {
+        return delegate.randomkey();
+    }
+
+    @Override
+    public RedisFuture<String> scriptFlush() {
+        return delegate.scriptFlush();
+    }
+
+    @Override
+    public RedisFuture<String> scriptKill() {
+        return delegate.scriptKill();
+    }
+
+    @Override
+    public RedisFuture<String> scriptLoad(V script) {
+        return delegate.scriptLoad(script);
+    }
+
+    @Override
+    public void shutdown(boolean save) {
+        delegate.shutdown(save);
+    }
+
+    @Override
+    public RedisFuture<KeyScanCursor<K>> scan() {
+        return delegate.scan();
+    }
+
+    @Override
+    public RedisFuture<KeyScanCursor<K>> scan(ScanArgs scanArgs) {
+        return delegate.scan(scanArgs);
+    }
+
+    @Override
+    public RedisFuture<KeyScanCursor<K>> scan(ScanCursor scanCursor, ScanArgs scanArgs) {
+        return delegate.scan(scanCursor, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<KeyScanCursor<K>> scan(ScanCursor scanCursor) {
+        return delegate.scan(scanCursor);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> scan(KeyStreamingChannel<K> channel) {
+        return delegate.scan(channel);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> scan(KeyStreamingChannel<K> channel, ScanArgs scanArgs) {
+        return delegate.scan(channel, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return delegate.scan(channel, scanCursor, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor) {
+        return delegate.scan(channel, scanCursor);
+    }
+
+    @Override
+    public RedisFuture<Long> touch(K... keys) {
+        return delegate.touch(keys);
+    }
+
+    @Override
+    public void setTimeout(Duration timeout) {
+        delegate.setTimeout(timeout);
+    }
+
+    @Override
+    @Deprecated
+    public void setTimeout(long timeout, TimeUnit unit) {
+        delegate.setTimeout(timeout, unit);
+    }
+
+    @Override
+    public String auth(String password) {
+        return delegate.auth(password);
+    }
+
+    @Override
+    public RedisFuture<String> clusterBumpepoch() {
+        return delegate.clusterBumpepoch();
+    }
+
+    @Override
+    public RedisFuture<String> clusterMeet(String ip, int port) {
+        return delegate.clusterMeet(ip, port);
+    }
+
+    @Override
+    public RedisFuture<String> clusterForget(String nodeId) {
+        return delegate.clusterForget(nodeId);
+    }
+
+    @Override
+    public RedisFuture<String> clusterAddSlots(int... slots) {
+        return delegate.clusterAddSlots(slots);
+    }
+
+    @Override
+    public RedisFuture<String> clusterDelSlots(int... slots) {
+        return delegate.clusterDelSlots(slots);
+    }
+
+    @Override
+    public RedisFuture<String> clusterSetSlotNode(int slot, String nodeId) {
+        return delegate.clusterSetSlotNode(slot, nodeId);
+    }
+
+    @Override
+    public RedisFuture<String> clusterSetSlotStable(int slot) {
+        return delegate.clusterSetSlotStable(slot);
+    }
+
+    @Override
+    public RedisFuture<String> clusterSetSlotMigrating(int slot, String nodeId) {
+        return delegate.clusterSetSlotMigrating(slot, nodeId);
+    }
+
+    @Override
+    public RedisFuture<String> clusterSetSlotImporting(int slot, String nodeId) {
+        return delegate.clusterSetSlotImporting(slot, nodeId);
+    }
+
+    @Override
+    public RedisFuture<String> clusterInfo() {
+        return delegate.clusterInfo();
+    }
+
+    @Override
+    public RedisFuture<String> clusterMyId() {
+        return delegate.clusterMyId();
+    }
+
+    @Override
+    public RedisFuture<String> clusterNodes() {
+        return delegate.clusterNodes();
+    }
+
+    @Override
+    public RedisFuture<List<String>> clusterSlaves(String nodeId) {
+        return delegate.clusterSlaves(nodeId);
+    }
+
+    @Override
+    public RedisFuture<List<K>> clusterGetKeysInSlot(int slot, int count) {
+        return delegate.clusterGetKeysInSlot(slot, count);
+    }
+
+    @Override
+    public RedisFuture<Long> clusterCountKeysInSlot(int slot) {
+        return delegate.clusterCountKeysInSlot(slot);
+    }
+
+    @Override
+    public RedisFuture<Long> clusterCountFailureReports(String nodeId) {
+        return delegate.clusterCountFailureReports(nodeId);
+    }
+
+    @Override
+    public RedisFuture<Long> clusterKeyslot(K key) {
+        return delegate.clusterKeyslot(key);
+    }
+
+    @Override
+    public RedisFuture<String> clusterSaveconfig() {
+        return delegate.clusterSaveconfig();
+    }
+
+    @Override
+    public RedisFuture<String> clusterSetConfigEpoch(long configEpoch) {
+        return delegate.clusterSetConfigEpoch(configEpoch);
+    }
+
+    @Override
+    public RedisFuture<List<Object>> clusterSlots() {
+        return delegate.clusterSlots();
+    }
+
+    @Override
+    public RedisFuture<String> asking() {
+        return delegate.asking();
+    }
+
+    @Override
+    public RedisFuture<String> clusterReplicate(String nodeId) {
+        return delegate.clusterReplicate(nodeId);
+    }
+
+    @Override
+    public RedisFuture<String> clusterFailover(boolean force) {
+        return delegate.clusterFailover(force);
+    }
+
+    @Override
+    public RedisFuture<String> clusterReset(boolean hard) {
+        return delegate.clusterReset(hard);
+    }
+
+    @Override
+    public RedisFuture<String> clusterFlushslots() {
+        return delegate.clusterFlushslots();
+    }
+
+    @Override
+    public RedisFuture<String> readOnly() {
+        return delegate.readOnly();
+    }
+
+    @Override
+    public RedisFuture<String> readWrite() {
+        return delegate.readWrite();
+    }
+
+    @Override
+    public RedisFuture<Long> publish(K channel, V message) {
+        return delegate.publish(channel, message);
+    }
+
+    @Override
+    public RedisFuture<List<K>> pubsubChannels() {
+        return delegate.pubsubChannels();
+    }
+
+    @Override
+    public RedisFuture<List<K>> pubsubChannels(K channel) {
+        return delegate.pubsubChannels(channel);
+    }
+
+    @Override
+    public RedisFuture<Map<K, Long>> pubsubNumsub(K... channels) {
+        return delegate.pubsubNumsub(channels);
+    }
+
+    @Override
+    public RedisFuture<Long> pubsubNumpat() {
+        return delegate.pubsubNumpat();
+    }
+
+    @Override
+    public RedisFuture<V> echo(V msg) {
+        return delegate.echo(msg);
+    }
+
+    @Override
+    public RedisFuture<List<Object>> role() {
+        return delegate.role();
+    }
+
+    @Override
+    public RedisFuture<String> ping() {
+        return delegate.ping();
+    }
+
+    @Override
+    public RedisFuture<String> quit() {
+        return delegate.quit();
+    }
+
+    @Override
+    public RedisFuture<Long> waitForReplication(int replicas, long timeout) {
+        return delegate.waitForReplication(replicas, timeout);
+    }
+
+    @Override
+    public <T> RedisFuture<T> dispatch(ProtocolKeyword type, CommandOutput<K, V, T> output) {
+        return delegate.dispatch(type, output);
+    }
+
+    @Override
+    public <T> RedisFuture<T> dispatch(ProtocolKeyword type, CommandOutput<K, V, T> output, CommandArgs<K, V> args) {
+        return delegate.dispatch(type, output, args);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public void reset() {
+        delegate.reset();
+    }
+
+    @Override
+    public void setAutoFlushCommands(boolean autoFlush) {
+        delegate.setAutoFlushCommands(autoFlush);
+    }
+
+    @Override
+    public void flushCommands() {
+        delegate.flushCommands();
+    }
+
+    @Override
+    public RedisFuture<Long> geoadd(K key, double longitude, double latitude, V member) {
+        return delegate.geoadd(key, longitude, latitude, member);
+    }
+
+    @Override
+    public RedisFuture<Long> geoadd(K key, Object... lngLatMember) {
+        return delegate.geoadd(key, lngLatMember);
+    }
+
+    @Override
+    public RedisFuture<List<Value<String>>> geohash(K key, V... members) {
+        return delegate.geohash(key, members);
+    }
+
+    @Override
+    public RedisFuture<Set<V>> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit) {
+        return delegate.georadius(key, longitude, latitude, distance, unit);
+    }
+
+    @Override
+    public RedisFuture<List<GeoWithin<V>>> georadius(K key, double longitude, double latitude, double distance,
+            GeoArgs.Unit unit, GeoArgs geoArgs) {
+        return delegate.georadius(key, longitude, latitude, distance, unit, geoArgs);
+    }
+
+    @Override
+    public RedisFuture<Long> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit,
+            GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
+        return delegate.georadius(key, longitude, latitude, distance, unit, geoRadiusStoreArgs);
+    }
+
+    @Override
+    public RedisFuture<Set<V>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit) {
+        return delegate.georadiusbymember(key, member, distance, unit);
+    }
+
+    @Override
+    public RedisFuture<List<GeoWithin<V>>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit,
+            GeoArgs geoArgs) {
+        return delegate.georadiusbymember(key, member, distance, unit, geoArgs);
+    }
+
+    @Override
+    public RedisFuture<Long> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit,
+            GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
+        return delegate.georadiusbymember(key, member, distance, unit, geoRadiusStoreArgs);
+    }
+
+    @Override
+    public RedisFuture<List<GeoCoordinates>> geopos(K key, V... members) {
+        return delegate.geopos(key, members);
+    }
+
+    @Override
+    public RedisFuture<Double> geodist(K key, V from, V to, GeoArgs.Unit unit) {
+        return delegate.geodist(key, from, to, unit);
+    }
+
+    @Override
+    public RedisFuture<Long> hdel(K key, K... fields) {
+        return delegate.hdel(key, fields);
+    }
+
+    @Override
+    public RedisFuture<Boolean> hexists(K key, K field) {
+        return delegate.hexists(key, field);
+    }
+
+    @Override
+    public RedisFuture<V> hget(K key, K field) {
+        return delegate.hget(key, field);
+    }
+
+    @Override
+    public RedisFuture<Long> hincrby(K key, K field, long amount) {
+        return delegate.hincrby(key, field, amount);
+    }
+
+    @Override
+    public RedisFuture<Double> hincrbyfloat(K key, K field, double amount) {
+        return delegate.hincrbyfloat(key, field, amount);
+    }
+
+    @Override
+    public RedisFuture<Map<K, V>> hgetall(K key) {
+        return delegate.hgetall(key);
+    }
+
+    @Override
+    public RedisFuture<Long> hgetall(KeyValueStreamingChannel<K, V> channel, K key) {
+        return delegate.hgetall(channel, key);
+    }
+
+    @Override
+    public RedisFuture<List<K>> hkeys(K key) {
+        return delegate.hkeys(key);
+    }
+
+    @Override
+    public RedisFuture<Long> hkeys(KeyStreamingChannel<K> channel, K key) {
+        return delegate.hkeys(channel, key);
+    }
+
+    @Override
+    public RedisFuture<Long> hlen(K key) {
+        return delegate.hlen(key);
+    }
+
+    @Override
+    public RedisFuture<List<KeyValue<K, V>>> hmget(K key, K... fields) {
+        return delegate.hmget(key, fields);
+    }
+
+    @Override
+    public RedisFuture<Long> hmget(KeyValueStreamingChannel<K, V> channel, K key, K... fields) {
+        return delegate.hmget(channel, key, fields);
+    }
+
+    @Override
+    public RedisFuture<String> hmset(K key, Map<K, V> map) {
+        return delegate.hmset(key, map);
+    }
+
+    @Override
+    public RedisFuture<MapScanCursor<K, V>> hscan(K key) {
+        return delegate.hscan(key);
+    }
+
+    @Override
+    public RedisFuture<MapScanCursor<K, V>> hscan(K key, ScanArgs scanArgs) {
+        return delegate.hscan(key, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<MapScanCursor<K, V>> hscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return delegate.hscan(key, scanCursor, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<MapScanCursor<K, V>> hscan(K key, ScanCursor scanCursor) {
+        return delegate.hscan(key, scanCursor);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> hscan(KeyValueStreamingChannel<K, V> channel, K key) {
+        return delegate.hscan(channel, key);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanArgs scanArgs) {
+        return delegate.hscan(channel, key, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanCursor scanCursor,
+            ScanArgs scanArgs) {
+        return delegate.hscan(channel, key, scanCursor, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanCursor scanCursor) {
+        return delegate.hscan(channel, key, scanCursor);
+    }
+
+    @Override
+    public RedisFuture<Boolean> hset(K key, K field, V value) {
+        return delegate.hset(key, field, value);
+    }
+
+    @Override
+    public RedisFuture<Boolean> hsetnx(K key, K field, V value) {
+        return delegate.hsetnx(key, field, value);
+    }
+
+    @Override
+    public RedisFuture<Long> hstrlen(K key, K field) {
+        return delegate.hstrlen(key, field);
+    }
+
+    @Override
+    public RedisFuture<List<V>> hvals(K key) {
+        return delegate.hvals(key);
+    }
+
+    @Override
+    public RedisFuture<Long> hvals(ValueStreamingChannel<V> channel, K key) {
+        return delegate.hvals(channel, key);
+    }
+
+    @Override
+    public RedisFuture<Long> pfadd(K key, V... values) {
+        return delegate.pfadd(key, values);
+    }
+
+    @Override
+    public RedisFuture<String> pfmerge(K destkey, K... sourcekeys) {
+        return delegate.pfmerge(destkey, sourcekeys);
+    }
+
+    @Override
+    public RedisFuture<Long> pfcount(K... keys) {
+        return delegate.pfcount(keys);
+    }
+
+    @Override
+    public RedisFuture<byte[]> dump(K key) {
+        return delegate.dump(key);
+    }
+
+    @Override
+    public RedisFuture<Boolean> expire(K key, long seconds) {
+        return delegate.expire(key, seconds);
+    }
+
+    @Override
+    public RedisFuture<Boolean> expireat(K key, Date timestamp) {
+        return delegate.expireat(key, timestamp);
+    }
+
+    @Override
+    public RedisFuture<Boolean> expireat(K key, long timestamp) {
+        return delegate.expireat(key, timestamp);
+    }
+
+    @Override
+    public RedisFuture<String> migrate(String host, int port, K key, int db, long timeout) {
+        return delegate.migrate(host, port, key, db, timeout);
+    }
+
+    @Override
+    public RedisFuture<String> migrate(String host, int port, int db, long timeout, MigrateArgs<K> migrateArgs) {
+        return delegate.migrate(host, port, db, timeout, migrateArgs);
+    }
+
+    @Override
+    public RedisFuture<Boolean> move(K key, int db) {
+        return delegate.move(key, db);
+    }
+
+    @Override
+    public RedisFuture<String> objectEncoding(K key) {
+        return delegate.objectEncoding(key);
+    }
+
+    @Override
+    public RedisFuture<Long> objectIdletime(K key) {
+        return delegate.objectIdletime(key);
+    }
+
+    @Override
+    public RedisFuture<Long> objectRefcount(K key) {
+        return delegate.objectRefcount(key);
+    }
+
+    @Override
+    public RedisFuture<Boolean> persist(K key) {
+        return delegate.persist(key);
+    }
+
+    @Override
+    public RedisFuture<Boolean> pexpire(K key, long milliseconds) {
+        return delegate.pexpire(key, milliseconds);
+    }
+
+    @Override
+    public RedisFuture<Boolean> pexpireat(K key, Date timestamp) {
+        return delegate.pexpireat(key, timestamp);
+    }
+
+    @Override
+    public RedisFuture<Boolean> pexpireat(K key, long timestamp) {
+        return delegate.pexpireat(key, timestamp);
+    }
+
+    @Override
+    public RedisFuture<Long> pttl(K key) {
+        return delegate.pttl(key);
+    }
+
+    @Override
+    public RedisFuture<String> rename(K key, K newKey) {
+        return delegate.rename(key, newKey);
+    }
+
+    @Override
+    public RedisFuture<Boolean> renamenx(K key, K newKey) {
+        return delegate.renamenx(key, newKey);
+    }
+
+    @Override
+    public RedisFuture<String> restore(K key, long ttl, byte[] value) {
+        return delegate.restore(key, ttl, value);
+    }
+
+    @Override
+    public RedisFuture<String> restore(K key, byte[] value, RestoreArgs args) {
+        return delegate.restore(key, value, args);
+    }
+
+    @Override
+    public RedisFuture<List<V>> sort(K key) {
+        return delegate.sort(key);
+    }
+
+    @Override
+    public RedisFuture<Long> sort(ValueStreamingChannel<V> channel, K key) {
+        return delegate.sort(channel, key);
+    }
+
+    @Override
+    public RedisFuture<List<V>> sort(K key, SortArgs sortArgs) {
+        return delegate.sort(key, sortArgs);
+    }
+
+    @Override
+    public RedisFuture<Long> sort(ValueStreamingChannel<V> channel, K key, SortArgs sortArgs) {
+        return delegate.sort(channel, key, sortArgs);
+    }
+
+    @Override
+    public RedisFuture<Long> sortStore(K key, SortArgs sortArgs, K destination) {
+        return delegate.sortStore(key, sortArgs, destination);
+    }
+
+    @Override
+    public RedisFuture<Long> ttl(K key) {
+        return delegate.ttl(key);
+    }
+
+    @Override
+    public RedisFuture<String> type(K key) {
+        return delegate.type(key);
+    }
+
+    @Override
+    public RedisFuture<KeyValue<K, V>> blpop(long timeout, K... keys) {
+        return delegate.blpop(timeout, keys);
+    }
+
+    @Override
+    public RedisFuture<KeyValue<K, V>> brpop(long timeout, K... keys) {
+        return delegate.brpop(timeout, keys);
+    }
+
+    @Override
+    public RedisFuture<V> brpoplpush(long timeout, K source, K destination) {
+        return delegate.brpoplpush(timeout, source, destination);
+    }
+
+    @Override
+    public RedisFuture<V> lindex(K key, long index) {
+        return delegate.lindex(key, index);
+    }
+
+    @Override
+    public RedisFuture<Long> linsert(K key, boolean before, V pivot, V value) {
+        return delegate.linsert(key, before, pivot, value);
+    }
+
+    @Override
+    public RedisFuture<Long> llen(K key) {
+        return delegate.llen(key);
+    }
+
+    @Override
+    public RedisFuture<V> lpop(K key) {
+        return delegate.lpop(key);
+    }
+
+    @Override
+    public RedisFuture<Long> lpush(K key, V... values) {
+        return delegate.lpush(key, values);
+    }
+
+    @Override
+    public RedisFuture<Long> lpushx(K key, V... values) {
+        return delegate.lpushx(key, values);
+    }
+
+    @Override
+    public RedisFuture<List<V>> lrange(K key, long start, long stop) {
+        return delegate.lrange(key, start, stop);
+    }
+
+    @Override
+    public RedisFuture<Long> lrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return delegate.lrange(channel, key, start, stop);
+    }
+
+    @Override
+    public RedisFuture<Long> lrem(K key, long count, V value) {
+        return delegate.lrem(key, count, value);
+    }
+
+    @Override
+    public RedisFuture<String> lset(K key, long index, V value) {
+        return delegate.lset(key, index, value);
+    }
+
+    @Override
+    public RedisFuture<String> ltrim(K key, long start, long stop) {
+        return delegate.ltrim(key, start, stop);
+    }
+
+    @Override
+    public RedisFuture<V> rpop(K key) {
+        return delegate.rpop(key);
+    }
+
+    @Override
+    public RedisFuture<V> rpoplpush(K source, K destination) {
+        return delegate.rpoplpush(source, destination);
+    }
+
+    @Override
+    public RedisFuture<Long> rpush(K key, V... values) {
+        return delegate.rpush(key, values);
+    }
+
+    @Override
+    public RedisFuture<Long> rpushx(K key, V... values) {
+        return delegate.rpushx(key, values);
+    }
+
+    @Override
+    public <T> RedisFuture<T> eval(String script, ScriptOutputType type, K... keys) {
+        return delegate.eval(script, type, keys);
+    }
+
+    @Override
+    public <T> RedisFuture<T> eval(String script, ScriptOutputType type, K[] keys, V... values) {
+        return delegate.eval(script, type, keys, values);
+    }
+
+    @Override
+    public <T> RedisFuture<T> evalsha(String digest, ScriptOutputType type, K... keys) {
+        return delegate.evalsha(digest, type, keys);
+    }
+
+    @Override
+    public <T> RedisFuture<T> evalsha(String digest, ScriptOutputType type, K[] keys, V... values) {
+        return delegate.evalsha(digest, type, keys, values);
+    }
+
+    @Override
+    public RedisFuture<List<Boolean>> scriptExists(String... digests) {
+        return delegate.scriptExists(digests);
+    }
+
+    @Override
+    public String digest(V script) {
+        return delegate.digest(script);
+    }
+
+    @Override
+    public RedisFuture<String> bgrewriteaof() {
+        return delegate.bgrewriteaof();
+    }
+
+    @Override
+    public RedisFuture<String> bgsave() {
+        return delegate.bgsave();
+    }
+
+    @Override
+    public RedisFuture<K> clientGetname() {
+        return delegate.clientGetname();
+    }
+
+    @Override
+    public RedisFuture<String> clientKill(String addr) {
+        return delegate.clientKill(addr);
+    }
+
+    @Override
+    public RedisFuture<Long> clientKill(KillArgs killArgs) {
+        return delegate.clientKill(killArgs);
+    }
+
+    @Override
+    public RedisFuture<Long> clientUnblock(long id, UnblockType type) {
+        return delegate.clientUnblock(id, type);
+    }
+
+    @Override
+    public RedisFuture<String> clientPause(long timeout) {
+        return delegate.clientPause(timeout);
+    }
+
+    @Override
+    public RedisFuture<String> clientList() {
+        return delegate.clientList();
+    }
+
+    @Override
+    public RedisFuture<List<Object>> command() {
+        return delegate.command();
+    }
+
+    @Override
+    public RedisFuture<List<Object>> commandInfo(String... commands) {
+        return delegate.commandInfo(commands);
+    }
+
+    @Override
+    public RedisFuture<List<Object>> commandInfo(CommandType... commands) {
+        return delegate.commandInfo(commands);
+    }
+
+    @Override
+    public RedisFuture<Long> commandCount() {
+        return delegate.commandCount();
+    }
+
+    @Override
+    public RedisFuture<Map<String, String>> configGet(String parameter) {
+        return delegate.configGet(parameter);
+    }
+
+    @Override
+    public RedisFuture<String> configResetstat() {
+        return delegate.configResetstat();
+    }
+
+    @Override
+    public RedisFuture<String> configRewrite() {
+        return delegate.configRewrite();
+    }
+
+    @Override
+    public RedisFuture<String> configSet(String parameter, String value) {
+        return delegate.configSet(parameter, value);
+    }
+
+    @Override
+    public RedisFuture<String> debugCrashAndRecover(Long delay) {
+        return delegate.debugCrashAndRecover(delay);
+    }
+
+    @Override
+    public RedisFuture<String> debugHtstats(int db) {
+        return delegate.debugHtstats(db);
+    }
+
+    @Override
+    public RedisFuture<String> debugObject(K key) {
+        return delegate.debugObject(key);
+    }
+
+    @Override
+    public void debugOom() {
+        delegate.debugOom();
+    }
+
+    @Override
+    public void debugSegfault() {
+        delegate.debugSegfault();
+    }
+
+    @Override
+    public RedisFuture<String> debugReload() {
+        return delegate.debugReload();
+    }
+
+    @Override
+    public RedisFuture<String> debugRestart(Long delay) {
+        return delegate.debugRestart(delay);
+    }
+
+    @Override
+    public RedisFuture<String> debugSdslen(K key) {
+        return delegate.debugSdslen(key);
+    }
+
+    @Override
+    public RedisFuture<String> flushallAsync() {
+        return delegate.flushallAsync();
+    }
+
+    @Override
+    public RedisFuture<String> flushdbAsync() {
+        return delegate.flushdbAsync();
+    }
+
+    @Override
+    public RedisFuture<String> info() {
+        return delegate.info();
+    }
+
+    @Override
+    public RedisFuture<String> info(String section) {
+        return delegate.info(section);
+    }
+
+    @Override
+    public RedisFuture<Date> lastsave() {
+        return delegate.lastsave();
+    }
+
+    @Override
+    public RedisFuture<String> save() {
+        return delegate.save();
+    }
+
+    @Override
+    public RedisFuture<String> slaveof(String host, int port) {
+        return delegate.slaveof(host, port);
+    }
+
+    @Override
+    public RedisFuture<String> slaveofNoOne() {
+        return delegate.slaveofNoOne();
+    }
+
+    @Override
+    public RedisFuture<List<Object>> slowlogGet() {
+        return delegate.slowlogGet();
+    }
+
+    @Override
+    public RedisFuture<List<Object>> slowlogGet(int count) {
+        return delegate.slowlogGet(count);
+    }
+
+    @Override
+    public RedisFuture<Long> slowlogLen() {
+        return delegate.slowlogLen();
+    }
+
+    @Override
+    public RedisFuture<String> slowlogReset() {
+        return delegate.slowlogReset();
+    }
+
+    @Override
+    public RedisFuture<List<V>> time() {
+        return delegate.time();
+    }
+
+    @Override
+    public RedisFuture<Long> sadd(K key, V... members) {
+        return delegate.sadd(key, members);
+    }
+
+    @Override
+    public RedisFuture<Long> scard(K key) {
+        return delegate.scard(key);
+    }
+
+    @Override
+    public RedisFuture<Set<V>> sdiff(K... keys) {
+        return delegate.sdiff(keys);
+    }
+
+    @Override
+    public RedisFuture<Long> sdiff(ValueStreamingChannel<V> channel, K... keys) {
+        return delegate.sdiff(channel, keys);
+    }
+
+    @Override
+    public RedisFuture<Long> sdiffstore(K destination, K... keys) {
+        return delegate.sdiffstore(destination, keys);
+    }
+
+    @Override
+    public RedisFuture<Set<V>> sinter(K... keys) {
+        return delegate.sinter(keys);
+    }
+
+    @Override
+    public RedisFuture<Long> sinter(ValueStreamingChannel<V> channel, K... keys) {
+        return delegate.sinter(channel, keys);
+    }
+
+    @Override
+    public RedisFuture<Long> sinterstore(K destination, K... keys) {
+        return delegate.sinterstore(destination, keys);
+    }
+
+    @Override
+    public RedisFuture<Boolean> sismember(K key, V member) {
+        return delegate.sismember(key, member);
+    }
+
+    @Override
+    public RedisFuture<Boolean> smove(K source, K destination, V member) {
+        return delegate.smove(source, destination, member);
+    }
+
+    @Override
+    public RedisFuture<Set<V>> smembers(K key) {
+        return delegate.smembers(key);
+    }
+
+    @Override
+    public RedisFuture<Long> smembers(ValueStreamingChannel<V> channel, K key) {
+        return delegate.smembers(channel, key);
+    }
+
+    @Override
+    public RedisFuture<V> spop(K key) {
+        return delegate.spop(key);
+    }
+
+    @Override
+    public RedisFuture<Set<V>> spop(K key, long count) {
+        return delegate.spop(key, count);
+    }
+
+    @Override
+    public RedisFuture<V> srandmember(K key) {
+        return delegate.srandmember(key);
+    }
+
+    @Override
+    public RedisFuture<List<V>> srandmember(K key, long count) {
+        return delegate.srandmember(key, count);
+    }
+
+    @Override
+    public RedisFuture<Long> srandmember(ValueStreamingChannel<V> channel, K key, long count) {
+        return delegate.srandmember(channel, key, count);
+    }
+
+    @Override
+    public RedisFuture<Long> srem(K key, V... members) {
+        return delegate.srem(key, members);
+    }
+
+    @Override
+    public RedisFuture<Set<V>> sunion(K... keys) {
+        return delegate.sunion(keys);
+    }
+
+    @Override
+    public RedisFuture<Long> sunion(ValueStreamingChannel<V> channel, K... keys) {
+        return delegate.sunion(channel, keys);
+    }
+
+    @Override
+    public RedisFuture<Long> sunionstore(K destination, K... keys) {
+        return delegate.sunionstore(destination, keys);
+    }
+
+    @Override
+    public RedisFuture<ValueScanCursor<V>> sscan(K key) {
+        return delegate.sscan(key);
+    }
+
+    @Override
+    public RedisFuture<ValueScanCursor<V>> sscan(K key, ScanArgs scanArgs) {
+        return delegate.sscan(key, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<ValueScanCursor<V>> sscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return delegate.sscan(key, scanCursor, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<ValueScanCursor<V>> sscan(K key, ScanCursor scanCursor) {
+        return delegate.sscan(key, scanCursor);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> sscan(ValueStreamingChannel<V> channel, K key) {
+        return delegate.sscan(channel, key);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> sscan(ValueStreamingChannel<V> channel, K key, ScanArgs scanArgs) {
+        return delegate.sscan(channel, key, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> sscan(ValueStreamingChannel<V> channel, K key, ScanCursor scanCursor,
+            ScanArgs scanArgs) {
+        return delegate.sscan(channel, key, scanCursor, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> sscan(ValueStreamingChannel<V> channel, K key, ScanCursor scanCursor) {
+        return delegate.sscan(channel, key, scanCursor);
+    }
+
+    @Override
+    public RedisFuture<KeyValue<K, ScoredValue<V>>> bzpopmin(long timeout, K... keys) {
+        return delegate.bzpopmin(timeout, keys);
+    }
+
+    @Override
+    public RedisFuture<KeyValue<K, ScoredValue<V>>> bzpopmax(long timeout, K... keys) {
+        return delegate.bzpopmax(timeout, keys);
+    }
+
+    @Override
+    public RedisFuture<Long> zadd(K key, double score, V member) {
+        return delegate.zadd(key, score, member);
+    }
+
+    @Override
+    public RedisFuture<Long> zadd(K key, Object... scoresAndValues) {
+        return delegate.zadd(key, scoresAndValues);
+    }
+
+    @Override
+    public RedisFuture<Long> zadd(K key, ScoredValue<V>... scoredValues) {
+        return delegate.zadd(key, scoredValues);
+    }
+
+    @Override
+    public RedisFuture<Long> zadd(K key, ZAddArgs zAddArgs, double score, V member) {
+        return delegate.zadd(key, zAddArgs, score, member);
+    }
+
+    @Override
+    public RedisFuture<Long> zadd(K key, ZAddArgs zAddArgs, Object... scoresAndValues) {
+        return delegate.zadd(key, zAddArgs, scoresAndValues);
+    }
+
+    @Override
+    public RedisFuture<Long> zadd(K key, ZAddArgs zAddArgs, ScoredValue<V>... scoredValues) {
+        return delegate.zadd(key, zAddArgs, scoredValues);
+    }
+
+    @Override
+    public RedisFuture<Double> zaddincr(K key, double score, V member) {
+        return delegate.zaddincr(key, score, member);
+    }
+
+    @Override
+    public RedisFuture<Double> zaddincr(K key, ZAddArgs zAddArgs, double score, V member) {
+        return delegate.zaddincr(key, zAddArgs, score, member);
+    }
+
+    @Override
+    public RedisFuture<Long> zcard(K key) {
+        return delegate.zcard(key);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zcount(K key, double min, double max) {
+        return delegate.zcount(key, min, max);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zcount(K key, String min, String max) {
+        return delegate.zcount(key, min, max);
+    }
+
+    @Override
+    public RedisFuture<Long> zcount(K key, Range<? extends Number> range) {
+        return delegate.zcount(key, range);
+    }
+
+    @Override
+    public RedisFuture<Double> zincrby(K key, double amount, V member) {
+        return delegate.zincrby(key, amount, member);
+    }
+
+    @Override
+    public RedisFuture<Long> zinterstore(K destination, K... keys) {
+        return delegate.zinterstore(destination, keys);
+    }
+
+    @Override
+    public RedisFuture<Long> zinterstore(K destination, ZStoreArgs storeArgs, K... keys) {
+        return delegate.zinterstore(destination, storeArgs, keys);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zlexcount(K key, String min, String max) {
+        return delegate.zlexcount(key, min, max);
+    }
+
+    @Override
+    public RedisFuture<Long> zlexcount(K key, Range<? extends V> range) {
+        return delegate.zlexcount(key, range);
+    }
+
+    @Override
+    public RedisFuture<ScoredValue<V>> zpopmin(K key) {
+        return delegate.zpopmin(key);
+    }
+
+    @Override
+    public RedisFuture<List<ScoredValue<V>>> zpopmin(K key, long count) {
+        return delegate.zpopmin(key, count);
+    }
+
+    @Override
+    public RedisFuture<ScoredValue<V>> zpopmax(K key) {
+        return delegate.zpopmax(key);
+    }
+
+    @Override
+    public RedisFuture<List<ScoredValue<V>>> zpopmax(K key, long count) {
+        return delegate.zpopmax(key, count);
+    }
+
+    @Override
+    public RedisFuture<List<V>> zrange(K key, long start, long stop) {
+        return delegate.zrange(key, start, stop);
+    }
+
+    @Override
+    public RedisFuture<Long> zrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return delegate.zrange(channel, key, start, stop);
+    }
+
+    @Override
+    public RedisFuture<List<ScoredValue<V>>> zrangeWithScores(K key, long start, long stop) {
+        return delegate.zrangeWithScores(key, start, stop);
+    }
+
+    @Override
+    public RedisFuture<Long> zrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return delegate.zrangeWithScores(channel, key, start, stop);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<V>> zrangebylex(K key, String min, String max) {
+        return delegate.zrangebylex(key, min, max);
+    }
+
+    @Override
+    public RedisFuture<List<V>> zrangebylex(K key, Range<? extends V> range) {
+        return delegate.zrangebylex(key, range);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<V>> zrangebylex(K key, String min, String max, long offset, long count) {
+        return delegate.zrangebylex(key, min, max, offset, count);
+    }
+
+    @Override
+    public RedisFuture<List<V>> zrangebylex(K key, Range<? extends V> range, Limit limit) {
+        return delegate.zrangebylex(key, range, limit);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<V>> zrangebyscore(K key, double min, double max) {
+        return delegate.zrangebyscore(key, min, max);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<V>> zrangebyscore(K key, String min, String max) {
+        return delegate.zrangebyscore(key, min, max);
+    }
+
+    @Override
+    public RedisFuture<List<V>> zrangebyscore(K key, Range<? extends Number> range) {
+        return delegate.zrangebyscore(key, range);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<V>> zrangebyscore(K key, double min, double max, long offset, long count) {
+        return delegate.zrangebyscore(key, min, max, offset, count);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<V>> zrangebyscore(K key, String min, String max, long offset, long count) {
+        return delegate.zrangebyscore(key, min, max, offset, count);
+    }
+
+    @Override
+    public RedisFuture<List<V>> zrangebyscore(K key, Range<? extends Number> range, Limit limit) {
+        return delegate.zrangebyscore(key, range, limit);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, double min, double max) {
+        return delegate.zrangebyscore(channel, key, min, max);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, String min, String max) {
+        return delegate.zrangebyscore(channel, key, min, max);
+    }
+
+    @Override
+    public RedisFuture<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range) {
+        return delegate.zrangebyscore(channel, key, range);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, double min, double max, long offset,
+            long count) {
+        return delegate.zrangebyscore(channel, key, min, max, offset, count);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, String min, String max, long offset,
+            long count) {
+        return delegate.zrangebyscore(channel, key, min, max, offset, count);
+    }
+
+    @Override
+    public RedisFuture<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range,
+            Limit limit) {
+        return delegate.zrangebyscore(channel, key, range, limit);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, double min, double max) {
+        return delegate.zrangebyscoreWithScores(key, min, max);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, String min, String max) {
+        return delegate.zrangebyscoreWithScores(key, min, max);
+    }
+
+    @Override
+    public RedisFuture<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, Range<? extends Number> range) {
+        return delegate.zrangebyscoreWithScores(key, range);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, double min, double max, long offset, long count) {
+        return delegate.zrangebyscoreWithScores(key, min, max, offset, count);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, String min, String max, long offset, long count) {
+        return delegate.zrangebyscoreWithScores(key, min, max, offset, count);
+    }
+
+    @Override
+    public RedisFuture<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, Range<? extends Number> range, Limit limit) {
+        return delegate.zrangebyscoreWithScores(key, range, limit);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double min, double max) {
+        return delegate.zrangebyscoreWithScores(channel, key, min, max);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String min, String max) {
+        return delegate.zrangebyscoreWithScores(channel, key, min, max);
+    }
+
+    @Override
+    public RedisFuture<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key,
+            Range<? extends Number> range) {
+        return delegate.zrangebyscoreWithScores(channel, key, range);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double min, double max,
+            long offset, long count) {
+        return delegate.zrangebyscoreWithScores(channel, key, min, max, offset, count);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String min, String max,
+            long offset, long count) {
+        return delegate.zrangebyscoreWithScores(channel, key, min, max, offset, count);
+    }
+
+    @Override
+    public RedisFuture<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key,
+            Range<? extends Number> range, Limit limit) {
+        return delegate.zrangebyscoreWithScores(channel, key, range, limit);
+    }
+
+    @Override
+    public RedisFuture<Long> zrank(K key, V member) {
+        return delegate.zrank(key, member);
+    }
+
+    @Override
+    public RedisFuture<Long> zrem(K key, V... members) {
+        return delegate.zrem(key, members);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zremrangebylex(K key, String min, String max) {
+        return delegate.zremrangebylex(key, min, max);
+    }
+
+    @Override
+    public RedisFuture<Long> zremrangebylex(K key, Range<? extends V> range) {
+        return delegate.zremrangebylex(key, range);
+    }
+
+    @Override
+    public RedisFuture<Long> zremrangebyrank(K key, long start, long stop) {
+        return delegate.zremrangebyrank(key, start, stop);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zremrangebyscore(K key, double min, double max) {
+        return delegate.zremrangebyscore(key, min, max);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zremrangebyscore(K key, String min, String max) {
+        return delegate.zremrangebyscore(key, min, max);
+    }
+
+    @Override
+    public RedisFuture<Long> zremrangebyscore(K key, Range<? extends Number> range) {
+        return delegate.zremrangebyscore(key, range);
+    }
+
+    @Override
+    public RedisFuture<List<V>> zrevrange(K key, long start, long stop) {
+        return delegate.zrevrange(key, start, stop);
+    }
+
+    @Override
+    public RedisFuture<Long> zrevrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return delegate.zrevrange(channel, key, start, stop);
+    }
+
+    @Override
+    public RedisFuture<List<ScoredValue<V>>> zrevrangeWithScores(K key, long start, long stop) {
+        return delegate.zrevrangeWithScores(key, start, stop);
+    }
+
+    @Override
+    public RedisFuture<Long> zrevrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return delegate.zrevrangeWithScores(channel, key, start, stop);
+    }
+
+    @Override
+    public RedisFuture<List<V>> zrevrangebylex(K key, Range<? extends V> range) {
+        return delegate.zrevrangebylex(key, range);
+    }
+
+    @Override
+    public RedisFuture<List<V>> zrevrangebylex(K key, Range<? extends V> range, Limit limit) {
+        return delegate.zrevrangebylex(key, range, limit);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<V>> zrevrangebyscore(K key, double max, double min) {
+        return delegate.zrevrangebyscore(key, max, min);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<V>> zrevrangebyscore(K key, String max, String min) {
+        return delegate.zrevrangebyscore(key, max, min);
+    }
+
+    @Override
+    public RedisFuture<List<V>> zrevrangebyscore(K key, Range<? extends Number> range) {
+        return delegate.zrevrangebyscore(key, range);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<V>> zrevrangebyscore(K key, double max, double min, long offset, long count) {
+        return delegate.zrevrangebyscore(key, max, min, offset, count);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<V>> zrevrangebyscore(K key, String max, String min, long offset, long count) {
+        return delegate.zrevrangebyscore(key, max, min, offset, count);
+    }
+
+    @Override
+    public RedisFuture<List<V>> zrevrangebyscore(K key, Range<? extends Number> range, Limit limit) {
+        return delegate.zrevrangebyscore(key, range, limit);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, double max, double min) {
+        return delegate.zrevrangebyscore(channel, key, max, min);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, String max, String min) {
+        return delegate.zrevrangebyscore(channel, key, max, min);
+    }
+
+    @Override
+    public RedisFuture<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range) {
+        return delegate.zrevrangebyscore(channel, key, range);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, double max, double min, long offset,
+            long count) {
+        return delegate.zrevrangebyscore(channel, key, max, min, offset, count);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, String max, String min, long offset,
+            long count) {
+        return delegate.zrevrangebyscore(channel, key, max, min, offset, count);
+    }
+
+    @Override
+    public RedisFuture<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range,
+            Limit limit) {
+        return delegate.zrevrangebyscore(channel, key, range, limit);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, double max, double min) {
+        return delegate.zrevrangebyscoreWithScores(key, max, min);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, String max, String min) {
+        return delegate.zrevrangebyscoreWithScores(key, max, min);
+    }
+
+    @Override
+    public RedisFuture<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, Range<? extends Number> range) {
+        return delegate.zrevrangebyscoreWithScores(key, range);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, double max, double min, long offset,
+            long count) {
+        return delegate.zrevrangebyscoreWithScores(key, max, min, offset, count);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, String max, String min, long offset,
+            long count) {
+        return delegate.zrevrangebyscoreWithScores(key, max, min, offset, count);
+    }
+
+    @Override
+    public RedisFuture<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, Range<? extends Number> range, Limit limit) {
+        return delegate.zrevrangebyscoreWithScores(key, range, limit);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double max, double min) {
+        return delegate.zrevrangebyscoreWithScores(channel, key, max, min);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String max, String min) {
+        return delegate.zrevrangebyscoreWithScores(channel, key, max, min);
+    }
+
+    @Override
+    public RedisFuture<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key,
+            Range<? extends Number> range) {
+        return delegate.zrevrangebyscoreWithScores(channel, key, range);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double max, double min,
+            long offset, long count) {
+        return delegate.zrevrangebyscoreWithScores(channel, key, max, min, offset, count);
+    }
+
+    @Override
+    @Deprecated
+    public RedisFuture<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String max, String min,
+            long offset, long count) {
+        return delegate.zrevrangebyscoreWithScores(channel, key, max, min, offset, count);
+    }
+
+    @Override
+    public RedisFuture<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key,
+            Range<? extends Number> range, Limit limit) {
+        return delegate.zrevrangebyscoreWithScores(channel, key, range, limit);
+    }
+
+    @Override
+    public RedisFuture<Long> zrevrank(K key, V member) {
+        return delegate.zrevrank(key, member);
+    }
+
+    @Override
+    public RedisFuture<ScoredValueScanCursor<V>> zscan(K key) {
+        return delegate.zscan(key);
+    }
+
+    @Override
+    public RedisFuture<ScoredValueScanCursor<V>> zscan(K key, ScanArgs scanArgs) {
+        return delegate.zscan(key, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<ScoredValueScanCursor<V>> zscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return delegate.zscan(key, scanCursor, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<ScoredValueScanCursor<V>> zscan(K key, ScanCursor scanCursor) {
+        return delegate.zscan(key, scanCursor);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> zscan(ScoredValueStreamingChannel<V> channel, K key) {
+        return delegate.zscan(channel, key);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> zscan(ScoredValueStreamingChannel<V> channel, K key, ScanArgs scanArgs) {
+        return delegate.zscan(channel, key, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> zscan(ScoredValueStreamingChannel<V> channel, K key, ScanCursor scanCursor,
+            ScanArgs scanArgs) {
+        return delegate.zscan(channel, key, scanCursor, scanArgs);
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> zscan(ScoredValueStreamingChannel<V> channel, K key, ScanCursor scanCursor) {
+        return delegate.zscan(channel, key, scanCursor);
+    }
+
+    @Override
+    public RedisFuture<Double> zscore(K key, V member) {
+        return delegate.zscore(key, member);
+    }
+
+    @Override
+    public RedisFuture<Long> zunionstore(K destination, K... keys) {
+        return delegate.zunionstore(destination, keys);
+    }
+
+    @Override
+    public RedisFuture<Long> zunionstore(K destination, ZStoreArgs storeArgs, K... keys) {
+        return delegate.zunionstore(destination, storeArgs, keys);
+    }
+
+    @Override
+    public RedisFuture<Long> xack(K key, K group, String... messageIds) {
+        return delegate.xack(key, group, messageIds);
+    }
+
+    @Override
+    public RedisFuture<String> xadd(K key, Map<K, V> body) {
+        return delegate.xadd(key, body);
+    }
+
+    @Override
+    public RedisFuture<String> xadd(K key, XAddArgs args, Map<K, V> body) {
+        return delegate.xadd(key, args, body);
+    }
+
+    @Override
+    public RedisFuture<String> xadd(K key, Object... keysAndValues) {
+        return delegate.xadd(key, keysAndValues);
+    }
+
+    @Override
+    public RedisFuture<String> xadd(K key, XAddArgs args, Object... keysAndValues) {
+        return delegate.xadd(key, args, keysAndValues);
+    }
+
+    @Override
+    public RedisFuture<List<StreamMessage<K, V>>> xclaim(K key, Consumer<K> consumer, long minIdleTime, String... messageIds) {
+        return delegate.xclaim(key, consumer, minIdleTime, messageIds);
+    }
+
+    @Override
+    public RedisFuture<List<StreamMessage<K, V>>> xclaim(K key, Consumer<K> consumer, XClaimArgs args, String... messageIds) {
+        return delegate.xclaim(key, consumer, args, messageIds);
+    }
+
+    @Override
+    public RedisFuture<Long> xdel(K key, String... messageIds) {
+        return delegate.xdel(key, messageIds);
+    }
+
+    @Override
+    public RedisFuture<String> xgroupCreate(StreamOffset<K> streamOffset, K group) {
+        return delegate.xgroupCreate(streamOffset, group);
+    }
+
+    @Override
+    public RedisFuture<Boolean> xgroupDelconsumer(K key, Consumer<K> consumer) {
+        return delegate.xgroupDelconsumer(key, consumer);
+    }
+
+    @Override
+    public RedisFuture<Boolean> xgroupDestroy(K key, K group) {
+        return delegate.xgroupDestroy(key, group);
+    }
+
+    @Override
+    public RedisFuture<String> xgroupSetid(StreamOffset<K> streamOffset, K group) {
+        return delegate.xgroupSetid(streamOffset, group);
+    }
+
+    @Override
+    public RedisFuture<Long> xlen(K key) {
+        return delegate.xlen(key);
+    }
+
+    @Override
+    public RedisFuture<List<Object>> xpending(K key, K group) {
+        return delegate.xpending(key, group);
+    }
+
+    @Override
+    public RedisFuture<List<Object>> xpending(K key, K group, Range<String> range, Limit limit) {
+        return delegate.xpending(key, group, range, limit);
+    }
+
+    @Override
+    public RedisFuture<List<Object>> xpending(K key, Consumer<K> consumer, Range<String> range, Limit limit) {
+        return delegate.xpending(key, consumer, range, limit);
+    }
+
+    @Override
+    public RedisFuture<List<StreamMessage<K, V>>> xrange(K key, Range<String> range) {
+        return delegate.xrange(key, range);
+    }
+
+    @Override
+    public RedisFuture<List<StreamMessage<K, V>>> xrange(K key, Range<String> range, Limit limit) {
+        return delegate.xrange(key, range, limit);
+    }
+
+    @Override
+    public RedisFuture<List<StreamMessage<K, V>>> xread(StreamOffset<K>... streams) {
+        return delegate.xread(streams);
+    }
+
+    @Override
+    public RedisFuture<List<StreamMessage<K, V>>> xread(XReadArgs args, StreamOffset<K>... streams) {
+        return delegate.xread(args, streams);
+    }
+
+    @Override
+    public RedisFuture<List<StreamMessage<K, V>>> xreadgroup(Consumer<K> consumer, StreamOffset<K>... streams) {
+        return delegate.xreadgroup(consumer, streams);
+    }
+
+    @Override
+    public RedisFuture<List<StreamMessage<K, V>>> xreadgroup(Consumer<K> consumer, XReadArgs args, StreamOffset<K>... streams) {
+        return delegate.xreadgroup(consumer, args, streams);
+    }
+
+    @Override
+    public RedisFuture<List<StreamMessage<K, V>>> xrevrange(K key, Range<String> range) {
+        return delegate.xrevrange(key, range);
+    }
+
+    @Override
+    public RedisFuture<List<StreamMessage<K, V>>> xrevrange(K key, Range<String> range, Limit limit) {
+        return delegate.xrevrange(key, range, limit);
+    }
+
+    @Override
+    public RedisFuture<Long> xtrim(K key, long count) {
+        return delegate.xtrim(key, count);
+    }
+
+    @Override
+    public RedisFuture<Long> xtrim(K key, boolean approximateTrimming, long count) {
+        return delegate.xtrim(key, approximateTrimming, count);
+    }
+
+    @Override
+    public RedisFuture<Long> append(K key, V value) {
+        return delegate.append(key, value);
+    }
+
+    @Override
+    public RedisFuture<Long> bitcount(K key) {
+        return delegate.bitcount(key);
+    }
+
+    @Override
+    public RedisFuture<Long> bitcount(K key, long start, long end) {
+        return delegate.bitcount(key, start, end);
+    }
+
+    @Override
+    public RedisFuture<List<Long>> bitfield(K key, BitFieldArgs bitFieldArgs) {
+        return delegate.bitfield(key, bitFieldArgs);
+    }
+
+    @Override
+    public RedisFuture<Long> bitpos(K key, boolean state) {
+        return delegate.bitpos(key, state);
+    }
+
+    @Override
+    public RedisFuture<Long> bitpos(K key, boolean state, long start) {
+        return delegate.bitpos(key, state, start);
+    }
+
+    @Override
+    public RedisFuture<Long> bitpos(K key, boolean state, long start, long end) {
+        return delegate.bitpos(key, state, start, end);
+    }
+
+    @Override
+    public RedisFuture<Long> bitopAnd(K destination, K... keys) {
+        return delegate.bitopAnd(destination, keys);
+    }
+
+    @Override
+    public RedisFuture<Long> bitopNot(K destination, K source) {
+        return delegate.bitopNot(destination, source);
+    }
+
+    @Override
+    public RedisFuture<Long> bitopOr(K destination, K... keys) {
+        return delegate.bitopOr(destination, keys);
+    }
+
+    @Override
+    public RedisFuture<Long> bitopXor(K destination, K... keys) {
+        return delegate.bitopXor(destination, keys);
+    }
+
+    @Override
+    public RedisFuture<Long> decr(K key) {
+        return delegate.decr(key);
+    }
+
+    @Override
+    public RedisFuture<Long> decrby(K key, long amount) {
+        return delegate.decrby(key, amount);
+    }
+
+    @Override
+    public RedisFuture<V> get(K key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public RedisFuture<Long> getbit(K key, long offset) {
+        return delegate.getbit(key, offset);
+    }
+
+    @Override
+    public RedisFuture<V> getrange(K key, long start, long end) {
+        return delegate.getrange(key, start, end);
+    }
+
+    @Override
+    public RedisFuture<V> getset(K key, V value) {
+        return delegate.getset(key, value);
+    }
+
+    @Override
+    public RedisFuture<Long> incr(K key) {
+        return delegate.incr(key);
+    }
+
+    @Override
+    public RedisFuture<Long> incrby(K key, long amount) {
+        return delegate.incrby(key, amount);
+    }
+
+    @Override
+    public RedisFuture<Double> incrbyfloat(K key, double amount) {
+        return delegate.incrbyfloat(key, amount);
+    }
+
+    @Override
+    public RedisFuture<Long> mget(KeyValueStreamingChannel<K, V> channel, K... keys) {
+        return delegate.mget(channel, keys);
+    }
+
+    @Override
+    public RedisFuture<String> set(K key, V value) {
+        return delegate.set(key, value);
+    }
+
+    @Override
+    public RedisFuture<String> set(K key, V value, SetArgs setArgs) {
+        return delegate.set(key, value, setArgs);
+    }
+
+    @Override
+    public RedisFuture<Long> setbit(K key, long offset, int value) {
+        return delegate.setbit(key, offset, value);
+    }
+
+    @Override
+    public RedisFuture<String> setex(K key, long seconds, V value) {
+        return delegate.setex(key, seconds, value);
+    }
+
+    @Override
+    public RedisFuture<String> psetex(K key, long milliseconds, V value) {
+        return delegate.psetex(key, milliseconds, value);
+    }
+
+    @Override
+    public RedisFuture<Boolean> setnx(K key, V value) {
+        return delegate.setnx(key, value);
+    }
+
+    @Override
+    public RedisFuture<Long> setrange(K key, long offset, V value) {
+        return delegate.setrange(key, offset, value);
+    }
+
+    @Override
+    public RedisFuture<Long> strlen(K key) {
+        return delegate.strlen(key);
+    }
+
+    @Override
+    public RedisFuture<String> fpwrite(FpWriteArgs fpWriteArgs) {
+        return delegate.fpwrite(fpWriteArgs);
+    }
+
+    @Override
+    public RedisFuture<List<String>> fpscan(FpScanArgs fpScanArgs) {
+        return delegate.fpscan(fpScanArgs);
+    }
+
+    @Override
+    public RedisFuture<List<String>> metakeys(MetakeysArgs metakeysArgs) {
+        return delegate.metakeys(metakeysArgs);
+    }
+}
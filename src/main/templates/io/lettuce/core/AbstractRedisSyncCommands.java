@@ -0,0 +1,106 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.concurrent.TimeUnit;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.internal.TimeoutProvider;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Base class for synchronous Redis command APIs. Commands are invoked on an {@link AbstractRedisAsyncCommands asynchronous API}
+ * and awaited directly instead of being dispatched through a reflective proxy.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 5.2
+ */
+@SuppressWarnings("unchecked")
+public abstract class AbstractRedisSyncCommands<K, V> implements RedisClusterCommands<K, V> {
+
+    private final StatefulConnection<K, V> connection;
+    private final AbstractRedisAsyncCommands<K, V> async;
+    private final TimeoutProvider timeoutProvider;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on.
+     * @param async the asynchronous API to invoke commands on.
+     */
+    protected AbstractRedisSyncCommands(StatefulConnection<K, V> connection, AbstractRedisAsyncCommands<K, V> async) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+        LettuceAssert.notNull(async, "Async commands must not be null");
+
+        this.connection = connection;
+        this.async = async;
+        this.timeoutProvider = new TimeoutProvider(() -> connection.getOptions().getTimeoutOptions(),
+                () -> connection.getTimeout().toNanos());
+    }
+
+    /**
+     * Await the result of a command. Returns {@literal null} without awaiting the result if the connection is in a transaction
+     * as the result is reported by {@literal EXEC}.
+     *
+     * @param future the command future.
+     * @param <T> result type.
+     * @return the command result.
+     */
+    protected <T> T await(RedisFuture<T> future) {
+
+        if (isTransactionActive()) {
+            return null;
+        }
+
+        return awaitOrCancel(future);
+    }
+
+    /**
+     * Await the result of a command regardless of an active transaction.
+     *
+     * @param future the command future.
+     * @param <T> result type.
+     * @return the command result.
+     */
+    protected <T> T awaitOrCancel(RedisFuture<T> future) {
+        return LettuceFutures.awaitOrCancel(future, getTimeoutNs(future), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the {@link TimeoutProvider} computing the timeout of commands awaited by this API.
+     */
+    protected TimeoutProvider getTimeoutProvider() {
+        return timeoutProvider;
+    }
+
+    private long getTimeoutNs(RedisFuture<?> future) {
+
+        if (future instanceof RedisCommand) {
+            return timeoutProvider.getTimeoutNs((RedisCommand<?, ?, ?>) future);
+        }
+
+        return connection.getTimeout().toNanos();
+    }
+
+    private boolean isTransactionActive() {
+        return connection instanceof StatefulRedisConnection && ((StatefulRedisConnection<?, ?>) connection).isMulti();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.apigenerator;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.comments.JavadocComment;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.stmt.Statement;
+
+import io.lettuce.core.internal.LettuceSets;
+
+/**
+ * Create the synchronous command implementation {@code AbstractRedisSyncCommands} based on the templates. Each generated method
+ * invokes the asynchronous API directly and awaits its result.
+ */
+class CreateSyncCommandsImpl {
+
+    private static final String TARGET_NAME = "AbstractRedisSyncCommands";
+
+    private Set<String> SKIP_TEMPLATES = LettuceSets.unmodifiableSet("RedisSentinelCommands", "RedisTransactionalCommands");
+
+    private Set<String> FILTER_METHODS = LettuceSets.unmodifiableSet("setAutoFlushCommands", "flushCommands");
+
+    private Set<String> KEEP_METHOD_RESULT_TYPE = LettuceSets.unmodifiableSet("shutdown", "debugOom", "debugSegfault", "digest",
+            "isOpen", "BaseRedisCommands.reset", "setTimeout", "auth");
+
+    @Test
+    void createClass() throws Exception {
+
+        CompilationUnit result = JavaParser.parse(new File(Constants.TEMPLATES, "io/lettuce/core/" + TARGET_NAME + ".java"));
+        ClassOrInterfaceDeclaration resultType = result.getClassByName(TARGET_NAME).get();
+
+        resultType.getComment().ifPresent(comment -> resultType.setComment(new JavadocComment(comment.getContent()
+                + "* @generated by " + getClass().getName() + "\r\n ")));
+
+        Set<String> signatures = new HashSet<>();
+
+        for (File source : sources()) {
+
+            CompilationUnit template = JavaParser.parse(source);
+
+            template.getImports().stream().filter(it -> !it.isAsterisk() && !result.getImports().contains(it))
+                    .forEach(result::addImport);
+
+            template.findAll(MethodDeclaration.class).stream() //
+                    .filter(it -> !it.isDefault() && !CompilationUnitFactory.contains(FILTER_METHODS, it)) //
+                    .filter(it -> signatures.add(it.getSignature().asString())) //
+                    .map(this::createMethod) //
+                    .forEach(resultType::addMember);
+        }
+
+        try (FileOutputStream fos = new FileOutputStream(new File(Constants.SOURCES, "io/lettuce/core/" + TARGET_NAME
+                + ".java"))) {
+            fos.write(result.toString().getBytes());
+        }
+    }
+
+    /**
+     * Command interfaces to implement. {@code AddbCommands} and {@code RedisClusterCommands} are not templated and are read
+     * from the sources.
+     *
+     * @return
+     */
+    private List<File> sources() {
+
+        List<File> sources = new ArrayList<>();
+
+        for (String templateName : Constants.TEMPLATE_NAMES) {
+            if (!SKIP_TEMPLATES.contains(templateName)) {
+                sources.add(new File(Constants.TEMPLATES, "io/lettuce/core/api/" + templateName + ".java"));
+            }
+        }
+
+        sources.add(new File(Constants.SOURCES, "io/lettuce/core/api/sync/AddbCommands.java"));
+        sources.add(new File(Constants.SOURCES, "io/lettuce/core/cluster/api/sync/RedisClusterCommands.java"));
+
+        return sources;
+    }
+
+    /**
+     * Create a method delegating to the asynchronous API. Methods whose asynchronous variant does not return a
+     * {@code RedisFuture} are delegated as-is.
+     *
+     * @param template
+     * @return
+     */
+    private MethodDeclaration createMethod(MethodDeclaration template) {
+
+        MethodDeclaration method = new MethodDeclaration(EnumSet.of(Modifier.PUBLIC), template.getType(),
+                template.getNameAsString());
+        method.setTypeParameters(template.getTypeParameters());
+        method.setParameters(template.getParameters());
+        method.addMarkerAnnotation(Override.class);
+
+        if (template.isAnnotationPresent(Deprecated.class)) {
+            method.addMarkerAnnotation(Deprecated.class);
+        }
+
+        MethodCallExpr call = new MethodCallExpr(new NameExpr("async"), template.getNameAsString());
+        template.getParameters().forEach(it -> call.addArgument(it.getNameAsString()));
+
+        Expression expression = CompilationUnitFactory.contains(KEEP_METHOD_RESULT_TYPE, template) ? call
+                : new MethodCallExpr(null, "await", NodeList.nodeList(call));
+
+        Statement statement = template.getType().isVoidType() ? new ExpressionStmt(expression) : new ReturnStmt(expression);
+        method.setBody(new BlockStmt(NodeList.nodeList(statement)));
+
+        return method;
+    }
+}
@@ -19,13 +19,15 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 /**
- * Entrypoint to generate all Redis command interfaces from {@code src/main/templates}.
+ * Entrypoint to generate all Redis command interfaces and the synchronous command implementation from
+ * {@code src/main/templates}.
  *
  * @author Mark Paluch
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({ CreateAsyncApi.class, CreateSyncApi.class, CreateReactiveApi.class,
-        CreateAsyncNodeSelectionClusterApi.class, CreateSyncNodeSelectionClusterApi.class })
+        CreateAsyncNodeSelectionClusterApi.class, CreateSyncNodeSelectionClusterApi.class,
+        CreateSyncCommandsImpl.class })
 public class GenerateCommandInterfaces {
 
 }
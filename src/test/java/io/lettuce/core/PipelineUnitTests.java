@@ -0,0 +1,197 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.support.AsyncConnectionPoolSupport;
+import io.lettuce.core.support.BoundedAsyncPool;
+import io.lettuce.core.support.BoundedPoolConfig;
+import io.lettuce.core.tracing.Tracing;
+import io.lettuce.test.Futures;
+
+/**
+ * Unit tests for {@link Pipeline}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PipelineUnitTests {
+
+    @Mock
+    RedisChannelWriter writer;
+
+    @Mock
+    ClientResources clientResources;
+
+    private StatefulRedisConnectionImpl<String, String> connection;
+
+    @BeforeEach
+    void before() {
+
+        when(writer.getClientResources()).thenReturn(clientResources);
+        when(clientResources.tracing()).thenReturn(Tracing.disabled());
+
+        connection = new StatefulRedisConnectionImpl<>(writer, StringCodec.UTF8, Duration.ofSeconds(1));
+    }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void shouldWriteBatchOnFlush() {
+
+        Pipeline<String, String> sut = Pipeline.create(connection);
+
+        RedisFuture<String> set = sut.commands().set("key", "value");
+        RedisFuture<String> get = sut.commands().get("key");
+
+        verify(writer, never()).write(any(Collection.class));
+        assertThat(sut.size()).isEqualTo(2);
+
+        CompletableFuture<Void> flushed = sut.flush();
+
+        ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(writer).write(captor.capture());
+        verify(writer, never()).write(any(RedisCommand.class));
+
+        List<RedisCommand<String, String, ?>> written = new ArrayList<>(captor.getValue());
+        assertThat(written).extracting(RedisCommand::getType).containsExactly(CommandType.SET, CommandType.GET);
+        assertThat(sut.size()).isZero();
+
+        written.get(0).getOutput().set(ByteBuffer.wrap("OK".getBytes()));
+        written.get(0).complete();
+
+        assertThat(flushed).isNotDone();
+
+        written.get(1).getOutput().set(ByteBuffer.wrap("value".getBytes()));
+        written.get(1).complete();
+
+        assertThat(flushed).isDone();
+        assertThat(set.toCompletableFuture().join()).isEqualTo("OK");
+        assertThat(get.toCompletableFuture().join()).isEqualTo("value");
+    }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void shouldSendOnlyCommandsRecordedSinceLastFlush() {
+
+        Pipeline<String, String> sut = Pipeline.create(connection);
+
+        sut.commands().set("key", "value");
+        sut.flush();
+
+        sut.commands().get("key");
+        sut.flush();
+
+        ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(writer, times(2)).write(captor.capture());
+
+        List<RedisCommand<String, String, ?>> second = new ArrayList<>(captor.getAllValues().get(1));
+        assertThat(second).extracting(RedisCommand::getType).containsExactly(CommandType.GET);
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    void flushCommandsShouldFlushPipeline() {
+
+        Pipeline<String, String> sut = Pipeline.create(connection);
+
+        sut.commands().get("key");
+        sut.commands().flushCommands();
+
+        verify(writer).write(any(Collection.class));
+        verify(writer, never()).flushCommands();
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    void shouldRejectConnectionWideMethods() {
+
+        Pipeline<String, String> sut = Pipeline.create(connection);
+
+        assertThatThrownBy(() -> sut.commands().setAutoFlushCommands(false))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> sut.commands().auth("secret")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> sut.commands().select(1)).isInstanceOf(UnsupportedOperationException.class);
+
+        verify(writer, never()).setAutoFlushCommands(anyBoolean());
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void shouldUnwrapPooledConnection() {
+
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool = AsyncConnectionPoolSupport.createBoundedObjectPool(
+                () -> CompletableFuture.completedFuture(connection), BoundedPoolConfig.create());
+        StatefulRedisConnection<String, String> pooled = Futures.get(pool.acquire());
+
+        assertThat(pooled).isNotSameAs(connection);
+
+        Pipeline<String, String> sut = Pipeline.create(pooled);
+
+        sut.commands().get("key");
+        sut.flush();
+
+        ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(writer).write(captor.capture());
+
+        assertThat((Collection<RedisCommand<String, String, ?>>) captor.getValue()).extracting(RedisCommand::getType)
+                .containsExactly(CommandType.GET);
+    }
+
+    @Test
+    void shouldRejectTransactionCommands() {
+
+        Pipeline<String, String> sut = Pipeline.create(connection);
+
+        assertThatThrownBy(() -> sut.commands().multi()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sut.commands().exec()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sut.commands().discard()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sut.commands().watch("key")).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(sut.size()).isZero();
+        assertThat(connection.isMulti()).isFalse();
+    }
+
+    @Test
+    void emptyFlushShouldNotWrite() {
+
+        Pipeline<String, String> sut = Pipeline.create(connection);
+
+        assertThat(sut.flush()).isDone();
+        verify(writer, never()).write(any(Collection.class));
+    }
+}
@@ -76,7 +76,12 @@ class ReactiveBackpressurePropagationUnitTests {
             return command;
         });
 
-        commandHandler = new CommandHandler(ClientOptions.create(), clientResources, endpoint);
+        connect(ClientOptions.builder().demandBufferSize(0).build());
+    }
+
+    private void connect(ClientOptions clientOptions) {
+
+        commandHandler = new CommandHandler(clientOptions, clientResources, endpoint);
 
         embeddedChannel = new EmbeddedChannel(commandHandler);
         embeddedChannel.connect(new LocalAddress("remote"));
@@ -135,6 +140,59 @@ class ReactiveBackpressurePropagationUnitTests {
         assertThat(embeddedChannel.config().isAutoRead()).isTrue();
     }
 
+    @Test
+    void writeCommandSpillsIntoDemandBuffer() throws Exception {
+
+        connect(ClientOptions.builder().demandBufferSize(1).build());
+
+        Command<String, String, List<String>> lrange = new Command<>(CommandType.LRANGE,
+                new ValueListOutput<>(StringCodec.UTF8));
+        RedisPublisher<String, String, String> publisher = new RedisPublisher<>(lrange, statefulConnection, true,
+                ImmediateEventExecutor.INSTANCE);
+
+        CountDownLatch pressureArrived = new CountDownLatch(1);
+        CountDownLatch buildPressure = new CountDownLatch(1);
+        CountDownLatch waitForWorkCompleted = new CountDownLatch(5);
+
+        Flux.from(publisher).limitRate(2).publishOn(Schedulers.single()).doOnNext(s -> {
+
+            try {
+                pressureArrived.countDown();
+                buildPressure.await();
+            } catch (InterruptedException e) {
+            }
+
+            waitForWorkCompleted.countDown();
+
+        }).subscribe();
+
+        embeddedChannel.writeInbound(Unpooled.wrappedBuffer(RESP.arrayHeader(5)));
+        embeddedChannel.writeInbound(Unpooled.wrappedBuffer(RESP.bulkString("one")));
+        pressureArrived.await();
+
+        embeddedChannel.writeInbound(Unpooled.wrappedBuffer(RESP.bulkString("two")));
+        embeddedChannel.writeInbound(Unpooled.wrappedBuffer(RESP.bulkString("three")));
+
+        // spilled into the per-command buffer
+        assertThat(embeddedChannel.config().isAutoRead()).isTrue();
+        assertThat(commandHandler.getBufferedElementCount()).isEqualTo(1);
+        assertThat(commandHandler.getSpilledElementCount()).isEqualTo(1);
+
+        // exceeds the per-command buffer
+        embeddedChannel.writeInbound(Unpooled.wrappedBuffer(RESP.bulkString("four")));
+        assertThat(embeddedChannel.config().isAutoRead()).isFalse();
+        assertThat(commandHandler.getChannelPauseCount()).isEqualTo(1);
+
+        // allow processing
+        buildPressure.countDown();
+
+        embeddedChannel.writeInbound(Unpooled.wrappedBuffer(RESP.bulkString("five")));
+
+        waitForWorkCompleted.await();
+        assertThat(embeddedChannel.config().isAutoRead()).isTrue();
+        assertThat(commandHandler.getBufferedElementCount()).isZero();
+    }
+
     @Test
     void writeCommandAndCancelInTheMiddle() throws Exception {
 
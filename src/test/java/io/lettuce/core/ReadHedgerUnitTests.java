@@ -0,0 +1,105 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ReadHedger} and {@link HedgingOptions}.
+ */
+class ReadHedgerUnitTests {
+
+    @Test
+    void hedgingDisabledByDefault() {
+
+        HedgingOptions options = HedgingOptions.create();
+
+        assertThat(options.isHedgeReads()).isFalse();
+        assertThat(ClientOptions.create().getHedgingOptions().isHedgeReads()).isFalse();
+    }
+
+    @Test
+    void shouldConfigureHedging() {
+
+        HedgingOptions options = HedgingOptions.builder().hedgeReads().percentile(99).minDelay(Duration.ofMillis(5))
+                .budget(10).build();
+
+        assertThat(options.isHedgeReads()).isTrue();
+        assertThat(options.getPercentile()).isEqualTo(99);
+        assertThat(options.getMinDelay()).isEqualTo(Duration.ofMillis(5));
+        assertThat(options.getBudget()).isEqualTo(10);
+
+        ClientOptions clientOptions = ClientOptions.builder().hedgingOptions(options).build();
+        assertThat(clientOptions.mutate().build().getHedgingOptions()).isSameAs(options);
+    }
+
+    @Test
+    void histogramRequiresMinimumSamples() {
+
+        ReadHedger.LatencyHistogram histogram = new ReadHedger.LatencyHistogram();
+
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1000);
+        }
+
+        assertThat(histogram.getPercentile(95)).isEqualTo(-1);
+
+        histogram.record(1000);
+
+        assertThat(histogram.getPercentile(95)).isBetween(512L, 2048L);
+    }
+
+    @Test
+    void histogramShouldNotDecayOnRead() {
+
+        ReadHedger.LatencyHistogram histogram = new ReadHedger.LatencyHistogram();
+
+        for (int i = 0; i < ReadHedger.LatencyHistogram.MIN_SAMPLES; i++) {
+            histogram.record(1000);
+        }
+
+        long p95 = histogram.getPercentile(95);
+
+        for (int i = 0; i < 100; i++) {
+            histogram.getPercentile(50);
+            histogram.getPercentile(95);
+        }
+
+        assertThat(histogram.getPercentile(95)).isEqualTo(p95);
+    }
+
+    @Test
+    void histogramShouldFollowRecentLatencies() {
+
+        ReadHedger.LatencyHistogram histogram = new ReadHedger.LatencyHistogram();
+
+        for (int i = 0; i < ReadHedger.LatencyHistogram.DECAY_INTERVAL; i++) {
+            histogram.record(1000);
+        }
+
+        assertThat(histogram.getPercentile(50)).isBetween(512L, 2048L);
+
+        for (int i = 0; i < ReadHedger.LatencyHistogram.DECAY_INTERVAL * 2; i++) {
+            histogram.record(1_000_000);
+        }
+
+        assertThat(histogram.getPercentile(50)).isBetween(524_288L, 2_097_152L);
+    }
+}
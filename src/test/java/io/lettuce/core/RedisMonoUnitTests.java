@@ -0,0 +1,125 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.ValueOutput;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Unit tests for {@link RedisMono}.
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisMonoUnitTests {
+
+    @Mock
+    StatefulConnection<String, String> connection;
+
+    private final AtomicReference<RedisCommand<String, String, String>> dispatched = new AtomicReference<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+        when(connection.dispatch(any(RedisCommand.class))).thenAnswer(invocation -> {
+
+            RedisCommand<String, String, String> command = invocation.getArgument(0);
+            dispatched.set(command);
+            return command;
+        });
+    }
+
+    @Test
+    void shouldEmitValue() {
+
+        RedisMono<String, String, String> sut = new RedisMono<>(RedisMonoUnitTests::newCommand, connection);
+
+        StepVerifier.create(sut).then(() -> {
+
+            RedisCommand<String, String, String> command = dispatched.get();
+            command.getOutput().set(ByteBuffer.wrap("value".getBytes()));
+            command.complete();
+        }).expectNext("value").verifyComplete();
+    }
+
+    @Test
+    void shouldCompleteEmptyOnNullValue() {
+
+        RedisMono<String, String, String> sut = new RedisMono<>(RedisMonoUnitTests::newCommand, connection);
+
+        StepVerifier.create(sut).then(() -> dispatched.get().complete()).verifyComplete();
+    }
+
+    @Test
+    void shouldEmitError() {
+
+        RedisMono<String, String, String> sut = new RedisMono<>(RedisMonoUnitTests::newCommand, connection);
+
+        StepVerifier.create(sut).then(() -> {
+
+            RedisCommand<String, String, String> command = dispatched.get();
+            command.getOutput().setError("ERR failure");
+            command.complete();
+        }).verifyError(RedisCommandExecutionException.class);
+    }
+
+    @Test
+    void cancelShouldCancelCommand() {
+
+        Command<String, String, String> command = newCommand();
+        RedisMono<String, String, String> sut = new RedisMono<>(() -> command, connection);
+
+        Disposable disposable = sut.subscribe();
+        disposable.dispose();
+
+        assertThat(command.isCancelled()).isTrue();
+    }
+
+    @Test
+    void shouldCreateNewCommandForSubsequentSubscriptions() {
+
+        RedisMono<String, String, String> sut = new RedisMono<>(RedisMonoUnitTests::newCommand, connection);
+
+        sut.subscribe();
+        RedisCommand<String, String, String> first = dispatched.get();
+
+        sut.subscribe();
+
+        assertThat(dispatched.get()).isNotSameAs(first);
+        verify(connection, times(2)).dispatch(any(RedisCommand.class));
+    }
+
+    private static Command<String, String, String> newCommand() {
+        return new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8));
+    }
+}
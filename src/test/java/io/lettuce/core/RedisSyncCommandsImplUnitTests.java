@@ -0,0 +1,109 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.output.ValueOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+
+/**
+ * Unit tests for {@link RedisSyncCommandsImpl}.
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisSyncCommandsImplUnitTests {
+
+    @Mock
+    private StatefulRedisConnection<String, String> connection;
+
+    @Mock
+    private RedisAsyncCommandsImpl<String, String> async;
+
+    private RedisSyncCommandsImpl<String, String> sut;
+
+    @BeforeEach
+    void before() {
+        sut = new RedisSyncCommandsImpl<>(connection, async);
+    }
+
+    @Test
+    void shouldAwaitCommandResult() {
+
+        when(connection.getOptions()).thenReturn(ClientOptions.create());
+        when(connection.getTimeout()).thenReturn(Duration.ofSeconds(1));
+        when(async.get("key")).thenReturn(completed(CommandType.GET, new ValueOutput<>(StringCodec.UTF8), "value"));
+
+        assertThat(sut.get("key")).isEqualTo("value");
+    }
+
+    @Test
+    void shouldNotAwaitCommandsWithinTransaction() {
+
+        when(connection.isMulti()).thenReturn(true);
+        when(async.set("key", "value")).thenReturn(new AsyncCommand<>(new Command<>(CommandType.SET, new StatusOutput<>(
+                StringCodec.UTF8))));
+
+        assertThat(sut.set("key", "value")).isNull();
+    }
+
+    @Test
+    void shouldAwaitTransactionControlWithinTransaction() {
+
+        when(connection.getOptions()).thenReturn(ClientOptions.create());
+        when(connection.getTimeout()).thenReturn(Duration.ofSeconds(1));
+        when(async.multi()).thenReturn(completed(CommandType.MULTI, new StatusOutput<>(StringCodec.UTF8), "OK"));
+
+        assertThat(sut.multi()).isEqualTo("OK");
+    }
+
+    @Test
+    void shouldDelegateNonFutureResults() {
+
+        when(async.isOpen()).thenReturn(true);
+        when(async.digest("script")).thenReturn("digest");
+
+        assertThat(sut.isOpen()).isTrue();
+        assertThat(sut.digest("script")).isEqualTo("digest");
+    }
+
+    @Test
+    void shouldExposeStatefulConnection() {
+        assertThat(sut.getStatefulConnection()).isSameAs(connection);
+    }
+
+    private static <T> AsyncCommand<String, String, T> completed(CommandType type, CommandOutput<String, String, T> output,
+            T value) {
+
+        AsyncCommand<String, String, T> command = new AsyncCommand<>(new Command<>(type, output));
+        command.complete(value);
+        return command;
+    }
+}
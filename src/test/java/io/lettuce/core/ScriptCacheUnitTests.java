@@ -0,0 +1,130 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.net.InetSocketAddress;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.DirectProcessor;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.event.Event;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.connection.ConnectionActivatedEvent;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Unit tests for {@link ScriptCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ScriptCacheUnitTests {
+
+    private final DirectProcessor<Event> events = DirectProcessor.create();
+
+    @Mock
+    StatefulRedisConnectionImpl<byte[], byte[]> connection;
+
+    @Mock
+    RedisAsyncCommands<byte[], byte[]> async;
+
+    @Mock
+    ClientResources clientResources;
+
+    @Mock
+    EventBus eventBus;
+
+    @BeforeEach
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void before() {
+
+        when(connection.getResources()).thenReturn(clientResources);
+        when(connection.async()).thenReturn(async);
+        when(clientResources.eventBus()).thenReturn(eventBus);
+        when(eventBus.get()).thenReturn(events);
+        when(async.dispatch(any(ProtocolKeyword.class), any(), any())).thenAnswer(invocation -> {
+
+            AsyncCommand<byte[], byte[], String> command = new AsyncCommand<>(new Command<>(CommandType.SCRIPT,
+                    new StatusOutput<>(ByteArrayCodec.INSTANCE)));
+            command.complete();
+            return command;
+        });
+    }
+
+    @Test
+    void shouldLoadScriptOnRegistration() {
+
+        ScriptCache sut = ScriptCache.create(connection);
+
+        ScriptHandle handle = sut.register("return 1");
+
+        assertThat(sut.register("return 1")).isSameAs(handle);
+        assertThat(sut.getScripts()).containsOnly(handle);
+        verify(async).dispatch(any(ProtocolKeyword.class), any(), any());
+
+        sut.close();
+    }
+
+    @Test
+    void shouldIgnoreActivationOfOtherConnections() {
+
+        when(connection.getActivationCount()).thenReturn(1L);
+
+        ScriptCache sut = ScriptCache.create(connection);
+
+        sut.register("return 1");
+
+        events.onNext(new ConnectionActivatedEvent(new InetSocketAddress(0), new InetSocketAddress(0)));
+
+        verify(async, times(1)).dispatch(any(ProtocolKeyword.class), any(), any());
+
+        sut.close();
+    }
+
+    @Test
+    void shouldReloadScriptsOnReconnect() {
+
+        when(connection.getActivationCount()).thenReturn(1L);
+
+        ScriptCache sut = ScriptCache.create(connection);
+
+        sut.register("return 1");
+        sut.register("return 2");
+
+        when(connection.getActivationCount()).thenReturn(2L);
+        events.onNext(new ConnectionActivatedEvent(new InetSocketAddress(0), new InetSocketAddress(0)));
+
+        verify(async, times(4)).dispatch(any(ProtocolKeyword.class), any(), any());
+
+        sut.close();
+        events.onNext(new ConnectionActivatedEvent(new InetSocketAddress(0), new InetSocketAddress(0)));
+
+        verify(async, times(4)).dispatch(any(ProtocolKeyword.class), any(), any());
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import io.lettuce.core.api.async.RedisScriptingAsyncCommands;
+import io.lettuce.core.api.reactive.RedisScriptingReactiveCommands;
+import io.lettuce.core.api.sync.RedisScriptingCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.LettuceCharsets;
+
+/**
+ * Unit tests for {@link ScriptHandle}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ScriptHandleUnitTests {
+
+    private static final String SCRIPT = "return redis.call('GET', KEYS[1])";
+
+    private final ScriptHandle sut = ScriptHandle.of(SCRIPT);
+    private final String[] keys = { "key" };
+
+    @Mock
+    RedisScriptingCommands<String, String> sync;
+
+    @Mock
+    RedisScriptingAsyncCommands<String, String> async;
+
+    @Mock
+    RedisScriptingReactiveCommands<String, String> reactive;
+
+    @Test
+    void shouldComputeDigest() {
+
+        assertThat(sut.getDigest()).isEqualTo(LettuceStrings.digest(SCRIPT.getBytes(LettuceCharsets.UTF8)));
+        assertThat(sut).isEqualTo(ScriptHandle.of(SCRIPT));
+    }
+
+    @Test
+    void shouldEncodeScriptUsingUtf8() {
+
+        String script = "return 'caf\u00e9'";
+        ScriptHandle handle = ScriptHandle.of(script);
+
+        assertThat(handle.getBytes()).isEqualTo(script.getBytes(LettuceCharsets.UTF8));
+        assertThat(handle.getDigest()).isEqualTo(LettuceStrings.digest(script.getBytes(LettuceCharsets.UTF8)));
+    }
+
+    @Test
+    void shouldExecuteUsingEvalsha() {
+
+        when(sync.evalsha(sut.getDigest(), ScriptOutputType.VALUE, keys, "arg")).thenReturn("value");
+
+        String result = sut.execute(sync, ScriptOutputType.VALUE, keys, "arg");
+
+        assertThat(result).isEqualTo("value");
+        verify(sync, never()).eval(any(String.class), any(ScriptOutputType.class), any(String[].class), any());
+    }
+
+    @Test
+    void shouldFallBackToEval() {
+
+        when(sync.evalsha(sut.getDigest(), ScriptOutputType.VALUE, keys, "arg")).thenThrow(
+                new RedisNoScriptException("NOSCRIPT"));
+        when(sync.eval(SCRIPT, ScriptOutputType.VALUE, keys, "arg")).thenReturn("value");
+
+        String result = sut.execute(sync, ScriptOutputType.VALUE, keys, "arg");
+
+        assertThat(result).isEqualTo("value");
+    }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void shouldFallBackToEvalAsync() {
+
+        when(async.evalsha(sut.getDigest(), ScriptOutputType.STATUS, keys, "arg")).thenReturn(
+                (RedisFuture) command("NOSCRIPT No matching script"));
+        when(async.eval(SCRIPT, ScriptOutputType.STATUS, keys, "arg")).thenReturn((RedisFuture) command(null));
+
+        RedisFuture<String> result = sut.executeAsync(async, ScriptOutputType.STATUS, keys, "arg");
+
+        assertThat(result.toCompletableFuture().join()).isEqualTo("OK");
+    }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void shouldNotFallBackOnOtherErrors() {
+
+        when(async.evalsha(sut.getDigest(), ScriptOutputType.STATUS, keys, "arg")).thenReturn(
+                (RedisFuture) command("ERR failure"));
+
+        RedisFuture<String> result = sut.executeAsync(async, ScriptOutputType.STATUS, keys, "arg");
+
+        assertThat(result.toCompletableFuture()).isCompletedExceptionally();
+        assertThat(result.getError()).isEqualTo("ERR failure");
+        verify(async, never()).eval(eq(SCRIPT), any(ScriptOutputType.class), any(String[].class), any());
+    }
+
+    @Test
+    void shouldFallBackToEvalReactive() {
+
+        when(reactive.evalsha(sut.getDigest(), ScriptOutputType.VALUE, keys, "arg")).thenReturn(
+                Flux.error(new RedisNoScriptException("NOSCRIPT")));
+        when(reactive.eval(SCRIPT, ScriptOutputType.VALUE, keys, "arg")).thenReturn(Flux.just("value"));
+
+        StepVerifier.create(sut.<String, String, String> executeReactive(reactive, ScriptOutputType.VALUE, keys, "arg"))
+                .expectNext("value").verifyComplete();
+    }
+
+    private static AsyncCommand<String, String, String> command(String error) {
+
+        StatusOutput<String, String> output = new StatusOutput<>(StringCodec.UTF8);
+
+        if (error != null) {
+            output.setError(error);
+        } else {
+            output.set(ByteBuffer.wrap("OK".getBytes()));
+        }
+
+        AsyncCommand<String, String, String> command = new AsyncCommand<>(new Command<>(CommandType.EVAL, output));
+        command.complete();
+        return command;
+    }
+}
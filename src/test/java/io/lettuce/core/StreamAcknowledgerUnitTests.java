@@ -0,0 +1,116 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.api.async.RedisStreamAsyncCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.IntegerOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+
+/**
+ * Unit tests for {@link StreamAcknowledger}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StreamAcknowledgerUnitTests {
+
+    @Mock
+    RedisStreamAsyncCommands<String, String> commands;
+
+    @BeforeEach
+    void before() {
+        when(commands.xack(anyString(), anyString(), any(String[].class))).thenAnswer(invocation -> {
+
+            IntegerOutput<String, String> output = new IntegerOutput<>(StringCodec.UTF8);
+            output.set((long) (invocation.getArguments().length - 2));
+
+            AsyncCommand<String, String, Long> command = new AsyncCommand<>(new Command<>(CommandType.XACK, output));
+            command.complete();
+            return command;
+        });
+    }
+
+    @Test
+    void shouldSendAcknowledgementsInBatches() {
+
+        StreamAcknowledger<String, String> sut = new StreamAcknowledger<>(commands, "group", 3, Duration.ofMinutes(1));
+
+        sut.acknowledge("stream", "1-0");
+        sut.acknowledge("stream", "2-0");
+
+        verifyZeroInteractions(commands);
+        assertThat(sut.getPendingCount()).isEqualTo(2);
+
+        sut.acknowledge("stream", "3-0");
+
+        verify(commands).xack("stream", "group", "1-0", "2-0", "3-0");
+        assertThat(sut.getPendingCount()).isZero();
+        assertThat(sut.getAcknowledgedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldSendOneAcknowledgementPerStream() {
+
+        StreamAcknowledger<String, String> sut = new StreamAcknowledger<>(commands, "group", 10, Duration.ofMinutes(1));
+
+        sut.acknowledge(new StreamMessage<>("stream1", "1-0", Collections.emptyMap()));
+        sut.acknowledge(new StreamMessage<>("stream2", "1-0", Collections.emptyMap()));
+        sut.acknowledge(new StreamMessage<>("stream1", "2-0", Collections.emptyMap()));
+
+        sut.flush().join();
+
+        verify(commands).xack("stream1", "group", "1-0", "2-0");
+        verify(commands).xack("stream2", "group", "1-0");
+        assertThat(sut.getAcknowledgedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void flushIfDueShouldConsiderInterval() {
+
+        StreamAcknowledger<String, String> sut = new StreamAcknowledger<>(commands, "group", 10, Duration.ofMinutes(1));
+
+        sut.acknowledge("stream", "1-0");
+        sut.flushIfDue().join();
+
+        verify(commands, never()).xack(anyString(), eq("group"), any(String[].class));
+
+        StreamAcknowledger<String, String> immediate = new StreamAcknowledger<>(commands, "group", 10, Duration.ZERO);
+
+        immediate.acknowledge("stream", "1-0");
+        immediate.flushIfDue().join();
+
+        verify(commands).xack("stream", "group", "1-0");
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import io.lettuce.core.XReadArgs.StreamOffset;
+import io.lettuce.core.api.async.RedisStreamAsyncCommands;
+import io.lettuce.core.api.reactive.RedisStreamReactiveCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.IntegerOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+
+/**
+ * Unit tests for {@link StreamConsumer}.
+ */
+@ExtendWith(MockitoExtension.class)
+class StreamConsumerUnitTests {
+
+    @Mock
+    RedisStreamAsyncCommands<String, String> commands;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldHandleAndAcknowledgeMessages() {
+
+        AsyncCommand<String, String, List<StreamMessage<String, String>>> first = readCommand(
+                new StreamMessage<>("stream", "1-0", Collections.emptyMap()),
+                new StreamMessage<>("stream", "2-0", Collections.emptyMap()));
+        first.complete();
+
+        AsyncCommand<String, String, List<StreamMessage<String, String>>> second = readCommand();
+
+        when(commands.xreadgroup(any(Consumer.class), any(XReadArgs.class), any(StreamOffset[].class))).thenReturn(first,
+                second);
+        when(commands.xack("stream", "group", "1-0")).thenReturn(ackCommand(1));
+
+        List<String> handled = new ArrayList<>();
+
+        StreamConsumer<String, String> sut = StreamConsumer
+                .builder(Consumer.from("group", "consumer"), StreamOffset.lastConsumed("stream")).prefetch(1)
+                .executor(Runnable::run).build(commands, message -> {
+
+                    if (message.getId().equals("2-0")) {
+                        throw new IllegalStateException();
+                    }
+
+                    handled.add(message.getId());
+                }).start();
+
+        assertThat(handled).containsOnly("1-0");
+        assertThat(sut.getProcessedCount()).isEqualTo(1);
+        assertThat(sut.getFailedCount()).isEqualTo(1);
+        verify(commands, times(2)).xreadgroup(any(Consumer.class), any(XReadArgs.class), any(StreamOffset[].class));
+
+        CompletableFuture<Void> close = sut.closeAsync();
+
+        assertThat(close).isNotDone();
+
+        second.complete();
+
+        assertThat(close).isDone();
+        assertThat(sut.isRunning()).isFalse();
+        verify(commands).xack("stream", "group", "1-0");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCompleteCloseFutureWithReadFailure() {
+
+        AsyncCommand<String, String, List<StreamMessage<String, String>>> first = readCommand();
+        AsyncCommand<String, String, List<StreamMessage<String, String>>> second = readCommand();
+
+        when(commands.xreadgroup(any(Consumer.class), any(XReadArgs.class), any(StreamOffset[].class))).thenReturn(first,
+                second);
+
+        StreamConsumer<String, String> sut = StreamConsumer
+                .builder(Consumer.from("group", "consumer"), StreamOffset.lastConsumed("stream")).prefetch(2)
+                .executor(Runnable::run).build(commands, message -> {
+                }).start();
+
+        CompletableFuture<Void> close = sut.closeAsync();
+
+        first.completeExceptionally(new RedisException("read failed"));
+        second.complete();
+
+        assertThat(close).isCompletedExceptionally();
+        assertThatThrownBy(close::join).hasRootCauseInstanceOf(RedisException.class).hasMessageContaining("read failed");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldAcknowledgeUsingSeparateCommands() {
+
+        RedisStreamAsyncCommands<String, String> ackCommands = mock(RedisStreamAsyncCommands.class);
+
+        AsyncCommand<String, String, List<StreamMessage<String, String>>> first = readCommand(
+                new StreamMessage<>("stream", "1-0", Collections.emptyMap()));
+        first.complete();
+
+        when(commands.xreadgroup(any(Consumer.class), any(XReadArgs.class), any(StreamOffset[].class))).thenReturn(first,
+                readCommand());
+        when(ackCommands.xack("stream", "group", "1-0")).thenReturn(ackCommand(1));
+
+        StreamConsumer<String, String> sut = StreamConsumer
+                .builder(Consumer.from("group", "consumer"), StreamOffset.lastConsumed("stream")).prefetch(1)
+                .executor(Runnable::run).build(commands, ackCommands, message -> {
+                }).start();
+
+        sut.getAcknowledger().flush();
+
+        verify(ackCommands).xack("stream", "group", "1-0");
+        verify(commands, never()).xack(any(), any(), any(String[].class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCancelInFlightReadOnDispose() {
+
+        RedisStreamReactiveCommands<String, String> reactive = mock(RedisStreamReactiveCommands.class);
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        when(reactive.xreadgroup(any(Consumer.class), any(XReadArgs.class), any(StreamOffset[].class)))
+                .thenReturn(Flux.<StreamMessage<String, String>> never().doOnCancel(() -> cancelled.set(true)));
+
+        Disposable subscription = StreamConsumer
+                .builder(Consumer.from("group", "consumer"), StreamOffset.lastConsumed("stream")).flux(reactive).subscribe();
+
+        assertThat(cancelled).isFalse();
+
+        subscription.dispose();
+
+        assertThat(cancelled).isTrue();
+    }
+
+    @SafeVarargs
+    private static AsyncCommand<String, String, List<StreamMessage<String, String>>> readCommand(
+            StreamMessage<String, String>... messages) {
+
+        CommandOutput<String, String, List<StreamMessage<String, String>>> output = new CommandOutput<String, String, List<StreamMessage<String, String>>>(
+                StringCodec.UTF8, Arrays.asList(messages)) {
+        };
+
+        return new AsyncCommand<>(new Command<>(CommandType.XREADGROUP, output));
+    }
+
+    private static AsyncCommand<String, String, Long> ackCommand(long count) {
+
+        IntegerOutput<String, String> output = new IntegerOutput<>(StringCodec.UTF8);
+        output.set(count);
+
+        AsyncCommand<String, String, Long> command = new AsyncCommand<>(new Command<>(CommandType.XACK, output));
+        command.complete();
+        return command;
+    }
+}
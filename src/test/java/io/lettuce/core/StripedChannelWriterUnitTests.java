@@ -0,0 +1,176 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * Unit tests for {@link StripedChannelWriter}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StripedChannelWriterUnitTests {
+
+    @Mock
+    private ClientResources clientResources;
+
+    @Mock
+    private StatefulRedisConnectionImpl<String, String> first;
+
+    @Mock
+    private StatefulRedisConnectionImpl<String, String> second;
+
+    @Mock
+    private RedisChannelWriter firstWriter;
+
+    @Mock
+    private RedisChannelWriter secondWriter;
+
+    private StripedChannelWriter writer;
+
+    @BeforeEach
+    void before() {
+
+        when(first.getChannelWriter()).thenReturn(firstWriter);
+        when(second.getChannelWriter()).thenReturn(secondWriter);
+
+        writer = new StripedChannelWriter(Arrays.asList(first, second), StripeRouting.KEY, clientResources);
+    }
+
+    @Test
+    void shouldRouteSameKeyToSameStripe() {
+
+        Command<String, String, String> get1 = command(CommandType.GET, "key");
+        Command<String, String, String> get2 = command(CommandType.GET, "key");
+
+        assertThat(writer.getStripeIndex(get1)).isEqualTo(writer.getStripeIndex(get2));
+    }
+
+    @Test
+    void shouldRouteHashTagsToSameStripe() {
+
+        Command<String, String, String> get1 = command(CommandType.GET, "{user}:a");
+        Command<String, String, String> get2 = command(CommandType.GET, "{user}:b");
+
+        assertThat(writer.getStripeIndex(get1)).isEqualTo(writer.getStripeIndex(get2));
+    }
+
+    @Test
+    void shouldRouteKeylessCommandsByThread() {
+
+        Command<String, String, String> ping = new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8));
+
+        assertThat(writer.getStripeIndex(ping)).isEqualTo((int) (Thread.currentThread().getId() % 2));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldBroadcastSelectAndCompleteWhenAllStripesComplete() {
+
+        AsyncCommand<String, String, String> select = new AsyncCommand<>(new Command<>(CommandType.SELECT,
+                new StatusOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).add(1)));
+
+        writer.write(select);
+
+        ArgumentCaptor<AsyncCommand<String, String, String>> firstCopy = ArgumentCaptor.forClass(AsyncCommand.class);
+        ArgumentCaptor<AsyncCommand<String, String, String>> secondCopy = ArgumentCaptor.forClass(AsyncCommand.class);
+        verify(first).dispatch(firstCopy.capture());
+        verify(second).dispatch(secondCopy.capture());
+
+        firstCopy.getValue().complete("OK");
+        assertThat(select.isDone()).isFalse();
+
+        secondCopy.getValue().complete("OK");
+        assertThat(select.join()).isEqualTo("OK");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFailBroadcastIfAnyStripeFails() {
+
+        AsyncCommand<String, String, String> select = new AsyncCommand<>(new Command<>(CommandType.SELECT,
+                new StatusOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).add(42)));
+
+        writer.write(select);
+
+        ArgumentCaptor<AsyncCommand<String, String, String>> firstCopy = ArgumentCaptor.forClass(AsyncCommand.class);
+        ArgumentCaptor<AsyncCommand<String, String, String>> secondCopy = ArgumentCaptor.forClass(AsyncCommand.class);
+        verify(first).dispatch(firstCopy.capture());
+        verify(second).dispatch(secondCopy.capture());
+
+        firstCopy.getValue().complete("OK");
+        secondCopy.getValue().completeExceptionally(new RedisCommandExecutionException("ERR DB index is out of range"));
+
+        assertThat(select.isCompletedExceptionally()).isTrue();
+    }
+
+    @Test
+    void shouldWriteToStripeWriter() {
+
+        Command<String, String, String> get = command(CommandType.GET, "key");
+
+        writer.write(get);
+
+        RedisChannelWriter target = writer.getStripeIndex(get) == 0 ? firstWriter : secondWriter;
+        verify(target).write(get);
+        verify(first, never()).dispatch(any(RedisCommand.class));
+        verify(second, never()).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldWriteBatchToSingleStripe() {
+
+        Command<String, String, String> get1 = command(CommandType.GET, "{user}:a");
+        Command<String, String, String> get2 = command(CommandType.GET, "{user}:b");
+
+        writer.write(Arrays.asList(get1, get2));
+
+        RedisChannelWriter target = writer.getStripeIndex(get1) == 0 ? firstWriter : secondWriter;
+        RedisChannelWriter other = target == firstWriter ? secondWriter : firstWriter;
+
+        verify(target).write(anyCollection());
+        verify(other, never()).write(anyCollection());
+    }
+
+    private static Command<String, String, String> command(CommandType type, String key) {
+        return new Command<>(type, new StatusOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).addKey(key));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.test.LettuceExtension;
+
+/**
+ * Integration tests for striped connections created through
+ * {@link RedisClient#connectStriped(io.lettuce.core.codec.RedisCodec, RedisURI, int, StripeRouting)}.
+ */
+@ExtendWith(LettuceExtension.class)
+class StripedConnectionIntegrationTests extends TestSupport {
+
+    private final RedisClient client;
+    private final RedisCommands<String, String> redis;
+
+    private StatefulRedisConnection<String, String> striped;
+
+    @Inject
+    StripedConnectionIntegrationTests(RedisClient client, StatefulRedisConnection<String, String> connection) {
+        this.client = client;
+        this.redis = connection.sync();
+    }
+
+    @BeforeEach
+    void setUp() {
+
+        redis.select(0);
+        redis.flushall();
+        striped = client.connectStriped(StringCodec.UTF8, RedisURI.create(host, port), 4, StripeRouting.KEY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        striped.close();
+    }
+
+    @Test
+    void shouldReadOwnWritesAcrossStripes() {
+
+        RedisCommands<String, String> sync = striped.sync();
+
+        for (int i = 0; i < 100; i++) {
+            sync.set("key" + i, "value" + i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(sync.get("key" + i)).isEqualTo("value" + i);
+            assertThat(redis.get("key" + i)).isEqualTo("value" + i);
+        }
+    }
+
+    @Test
+    void shouldSelectDatabaseOnAllStripes() {
+
+        RedisCommands<String, String> sync = striped.sync();
+
+        assertThat(sync.select(1)).isEqualTo("OK");
+
+        for (int i = 0; i < 100; i++) {
+            sync.set("key" + i, "value" + i);
+        }
+
+        assertThat(redis.dbsize()).isZero();
+
+        redis.select(1);
+        assertThat(redis.dbsize()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldFailSelectIfStripesFail() {
+        assertThatThrownBy(() -> striped.sync().select(100000)).isInstanceOf(RedisCommandExecutionException.class);
+    }
+
+    @Test
+    void shouldExecuteTransaction() {
+
+        StatefulRedisConnection<String, String> connection = client.connectStriped(StringCodec.UTF8,
+                RedisURI.create(host, port), 4, StripeRouting.THREAD);
+
+        try {
+            RedisCommands<String, String> sync = connection.sync();
+
+            assertThat(sync.multi()).isEqualTo("OK");
+            assertThat(sync.set(key, value)).isNull();
+            assertThat(sync.get(key)).isNull();
+
+            TransactionResult result = sync.exec();
+
+            assertThat(result.wasDiscarded()).isFalse();
+            assertThat(result).containsExactly("OK", value);
+        } finally {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.support.AsyncConnectionPoolSupport;
+import io.lettuce.core.support.BoundedAsyncPool;
+import io.lettuce.core.support.BoundedPoolConfig;
+import io.lettuce.core.tracing.Tracing;
+import io.lettuce.test.Futures;
+
+/**
+ * Unit tests for {@link TransactionBuilder}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionBuilderUnitTests {
+
+    @Mock
+    RedisChannelWriter writer;
+
+    @Mock
+    ClientResources clientResources;
+
+    private StatefulRedisConnectionImpl<String, String> connection;
+
+    @BeforeEach
+    void before() {
+
+        when(writer.getClientResources()).thenReturn(clientResources);
+        when(clientResources.tracing()).thenReturn(Tracing.disabled());
+
+        connection = new StatefulRedisConnectionImpl<>(writer, StringCodec.UTF8, Duration.ofSeconds(1));
+    }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void shouldWriteTransactionInSingleWrite() throws Exception {
+
+        TransactionBuilder<String, String> sut = TransactionBuilder.create(connection);
+
+        RedisFuture<String> set = sut.commands().set("key", "value");
+        RedisFuture<Long> incr = sut.commands().incr("counter");
+
+        RedisFuture<TransactionResult> result = sut.execute();
+
+        ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(writer).write(captor.capture());
+        verify(writer, never()).write(any(RedisCommand.class));
+
+        List<RedisCommand<String, String, ?>> written = new ArrayList<>(captor.getValue());
+
+        assertThat(written).extracting(RedisCommand::getType).containsExactly(CommandType.MULTI, CommandType.SET,
+                CommandType.INCR, CommandType.EXEC);
+        assertThat(connection.isMulti()).isFalse();
+
+        // QUEUED responses
+        written.get(0).complete();
+        written.get(1).complete();
+        written.get(2).complete();
+
+        assertThat(set.isDone()).isFalse();
+
+        CommandOutput<String, String, ?> exec = written.get(3).getOutput();
+        exec.multi(2);
+        exec.set(ByteBuffer.wrap("OK".getBytes()));
+        exec.complete(1);
+        exec.set(1L);
+        exec.complete(1);
+        exec.complete(0);
+        written.get(3).complete();
+
+        assertThat(set.get()).isEqualTo("OK");
+        assertThat(incr.get()).isEqualTo(1L);
+        assertThat(result.get()).containsExactly("OK", 1L);
+    }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void shouldUnwrapPooledConnection() {
+
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool = AsyncConnectionPoolSupport.createBoundedObjectPool(
+                () -> CompletableFuture.completedFuture(connection), BoundedPoolConfig.create());
+        StatefulRedisConnection<String, String> pooled = Futures.get(pool.acquire());
+
+        assertThat(pooled).isNotSameAs(connection);
+
+        TransactionBuilder<String, String> sut = TransactionBuilder.create(pooled);
+
+        sut.commands().get("key");
+        sut.execute();
+
+        ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(writer).write(captor.capture());
+
+        assertThat((Collection<RedisCommand<String, String, ?>>) captor.getValue()).extracting(RedisCommand::getType)
+                .containsExactly(CommandType.MULTI, CommandType.GET, CommandType.EXEC);
+        assertThat(connection.isMulti()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRejectConnectionWithoutChannelWriter() {
+
+        StatefulRedisConnection<String, String> custom = mock(StatefulRedisConnection.class);
+
+        assertThatThrownBy(() -> TransactionBuilder.create(custom, StringCodec.UTF8)).isInstanceOf(
+                IllegalArgumentException.class);
+        verifyZeroInteractions(custom);
+    }
+
+    @Test
+    void shouldRejectTransactionCommands() {
+
+        TransactionBuilder<String, String> sut = TransactionBuilder.create(connection);
+
+        assertThatThrownBy(() -> sut.commands().multi()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    void shouldExecuteOnce() {
+
+        TransactionBuilder<String, String> sut = TransactionBuilder.create(connection);
+
+        sut.execute();
+
+        assertThatThrownBy(sut::execute).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> sut.commands().ping()).isInstanceOf(IllegalStateException.class);
+    }
+}
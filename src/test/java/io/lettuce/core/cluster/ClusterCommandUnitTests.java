@@ -33,6 +33,7 @@ import io.lettuce.core.codec.Utf8StringCodec;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CommandType;
 
 /**
@@ -101,6 +102,18 @@ class ClusterCommandUnitTests {
         verify(writerMock).write(sut);
     }
 
+    @Test
+    void shouldRetainSlot() {
+
+        Command<String, String, String> get = new Command<>(CommandType.GET, new StatusOutput<>(new Utf8StringCodec()),
+                new CommandArgs<>(new Utf8StringCodec()).addKey("key"));
+
+        ClusterCommand<String, String, String> clusterCommand = new ClusterCommand<>(get, writerMock, 1);
+
+        assertThat(clusterCommand.getSlot()).isEqualTo(SlotHash.getSlot("key"));
+        assertThat(sut.getSlot()).isEqualTo(ClusterCommand.NO_SLOT);
+    }
+
     @Test
     void testCompleteListener() {
 
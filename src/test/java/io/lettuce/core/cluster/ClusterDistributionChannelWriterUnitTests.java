@@ -16,15 +16,30 @@
 package io.lettuce.core.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.Test;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelWriter;
+import io.lettuce.core.StatefulRedisConnectionImpl;
+import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.ClusterConnectionProvider.Intent;
+import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.HostAndPort;
+import io.lettuce.core.output.ValueOutput;
+import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.RedisCommand;
 
@@ -107,4 +122,55 @@ class ClusterDistributionChannelWriterUnitTests {
 
         assertThat(ClusterDistributionChannelWriter.getIntent(Collections.singletonList(set))).isEqualTo(Intent.WRITE);
     }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void shouldWriteBatchOnceNodeConnectionIsAvailable() {
+
+        PooledClusterConnectionProvider<String, String> provider = mock(PooledClusterConnectionProvider.class);
+        StatefulRedisConnectionImpl<String, String> connection = mock(StatefulRedisConnectionImpl.class);
+        RedisChannelWriter nodeWriter = mock(RedisChannelWriter.class);
+        CompletableFuture<StatefulRedisConnection<String, String>> connectFuture = new CompletableFuture<>();
+
+        when(provider.getConnectionAsync(eq(Intent.READ), anyInt(), any())).thenReturn((CompletableFuture) connectFuture);
+        when(connection.getChannelWriter()).thenReturn(nodeWriter);
+
+        ClusterDistributionChannelWriter writer = new ClusterDistributionChannelWriter(ClientOptions.create(),
+                mock(RedisChannelWriter.class), ClusterEventListener.NO_OP);
+        writer.setClusterConnectionProvider(provider);
+
+        AsyncCommand<String, String, String> get = new AsyncCommand<>(new Command<>(CommandType.GET, new ValueOutput<>(
+                StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).addKey("key")));
+
+        writer.write(Collections.singletonList(get));
+
+        verify(provider, never()).getConnection(any(Intent.class), anyInt());
+        verify(nodeWriter, never()).write(any(Collection.class));
+
+        connectFuture.complete(connection);
+
+        verify(nodeWriter).write(any(List.class));
+    }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void shouldFailBatchIfNodeConnectionFails() {
+
+        PooledClusterConnectionProvider<String, String> provider = mock(PooledClusterConnectionProvider.class);
+        CompletableFuture<StatefulRedisConnection<String, String>> connectFuture = new CompletableFuture<>();
+
+        when(provider.getConnectionAsync(eq(Intent.READ), anyInt(), any())).thenReturn((CompletableFuture) connectFuture);
+
+        ClusterDistributionChannelWriter writer = new ClusterDistributionChannelWriter(ClientOptions.create(),
+                mock(RedisChannelWriter.class), ClusterEventListener.NO_OP);
+        writer.setClusterConnectionProvider(provider);
+
+        AsyncCommand<String, String, String> get = new AsyncCommand<>(new Command<>(CommandType.GET, new ValueOutput<>(
+                StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).addKey("key")));
+
+        writer.write(Collections.singletonList(get));
+        connectFuture.completeExceptionally(new IllegalStateException("connect failed"));
+
+        assertThat(get.isCompletedExceptionally()).isTrue();
+    }
 }
@@ -39,6 +39,8 @@ class ClusterTopologyRefreshOptionsUnitTests {
                 .adaptiveRefreshTriggersTimeout(15, TimeUnit.MILLISECONDS)//
                 .closeStaleConnections(false)//
                 .refreshTriggersReconnectAttempts(2)//
+                .refreshTriggersMovedRedirects(3)//
+                .refreshSourcesSampleSize(4)//
                 .build();
 
         assertThat(options.getRefreshPeriod()).isEqualTo(Duration.ofMinutes(10));
@@ -48,6 +50,9 @@ class ClusterTopologyRefreshOptionsUnitTests {
         assertThat(options.getAdaptiveRefreshTimeout()).isEqualTo(Duration.ofMillis(15));
         assertThat(options.getAdaptiveRefreshTriggers()).containsOnly(RefreshTrigger.MOVED_REDIRECT);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(2);
+        assertThat(options.getRefreshTriggersMovedRedirects()).isEqualTo(3);
+        assertThat(options.getRefreshSourcesSampleSize()).isEqualTo(4);
+        assertThat(options.isIncrementalRefresh()).isFalse();
     }
 
     @Test
@@ -60,6 +65,8 @@ class ClusterTopologyRefreshOptionsUnitTests {
                 .adaptiveRefreshTriggersTimeout(15, TimeUnit.MILLISECONDS)//
                 .closeStaleConnections(false)//
                 .refreshTriggersReconnectAttempts(2)//
+                .refreshTriggersMovedRedirects(3)//
+                .refreshSourcesSampleSize(4)//
                 .build();
 
         ClusterTopologyRefreshOptions options = ClusterTopologyRefreshOptions.copyOf(master);
@@ -71,6 +78,9 @@ class ClusterTopologyRefreshOptionsUnitTests {
         assertThat(options.getAdaptiveRefreshTimeout()).isEqualTo(Duration.ofMillis(15));
         assertThat(options.getAdaptiveRefreshTriggers()).containsOnly(RefreshTrigger.MOVED_REDIRECT);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(2);
+        assertThat(options.getRefreshTriggersMovedRedirects()).isEqualTo(3);
+        assertThat(options.getRefreshSourcesSampleSize()).isEqualTo(4);
+        assertThat(options.isIncrementalRefresh()).isFalse();
     }
 
     @Test
@@ -90,6 +100,11 @@ class ClusterTopologyRefreshOptionsUnitTests {
                 ClusterTopologyRefreshOptions.DEFAULT_ADAPTIVE_REFRESH_TRIGGERS);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(
                 ClusterTopologyRefreshOptions.DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS);
+        assertThat(options.getRefreshTriggersMovedRedirects()).isEqualTo(
+                ClusterTopologyRefreshOptions.DEFAULT_REFRESH_TRIGGERS_MOVED_REDIRECTS);
+        assertThat(options.getRefreshSourcesSampleSize()).isEqualTo(
+                ClusterTopologyRefreshOptions.DEFAULT_REFRESH_SOURCES_SAMPLE_SIZE);
+        assertThat(options.isIncrementalRefresh()).isFalse();
     }
 
     @Test
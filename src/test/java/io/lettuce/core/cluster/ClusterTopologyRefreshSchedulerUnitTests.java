@@ -163,10 +163,25 @@ class ClusterTopologyRefreshSchedulerUnitTests {
 
         when(clusterClient.getClusterClientOptions()).thenReturn(clusterClientOptions);
 
-        sut.onMovedRedirection();
+        for (int i = 0; i < ClusterTopologyRefreshOptions.DEFAULT_REFRESH_TRIGGERS_MOVED_REDIRECTS; i++) {
+            sut.onMovedRedirection();
+        }
+
         verify(eventExecutors).submit(any(Runnable.class));
     }
 
+    @Test
+    void shouldNotTriggerRefreshOnFirstMovedRedirection() {
+
+        ClusterClientOptions clusterClientOptions = ClusterClientOptions.builder().topologyRefreshOptions(immediateRefresh)
+                .build();
+
+        when(clusterClient.getClusterClientOptions()).thenReturn(clusterClientOptions);
+
+        sut.onMovedRedirection();
+        verify(eventExecutors, never()).submit(any(Runnable.class));
+    }
+
     @Test
     void shouldTriggerRefreshOnReconnect() {
 
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * Unit tests for {@link PartitionedKeys}.
+ *
+ * @since 5.2
+ */
+class PartitionedKeysUnitTests {
+
+    @Test
+    void shouldPartitionBySlot() {
+
+        PartitionedKeys<String> partitioned = PartitionedKeys.of(StringCodec.UTF8, Arrays.asList("a", "b", "{a}c", "a"));
+
+        assertThat(partitioned.size()).isEqualTo(4);
+        assertThat(partitioned.getPartitionCount()).isEqualTo(2);
+        assertThat(partitioned.getPartitions().keySet()).containsExactly(SlotHash.getSlot("a"), SlotHash.getSlot("b"));
+        assertThat(partitioned.getPartitions().get(SlotHash.getSlot("a"))).containsExactly("a", "{a}c", "a");
+    }
+
+    @Test
+    void shouldIndexKeyPositions() {
+
+        List<String> keys = Arrays.asList("a", "b", "{a}c", "a");
+        PartitionedKeys<String> partitioned = PartitionedKeys.of(StringCodec.UTF8, keys);
+        List<List<String>> partitions = Arrays.asList(partitioned.getPartitions().values().toArray(new List[0]));
+
+        for (int i = 0; i < keys.size(); i++) {
+            List<String> partition = partitions.get(partitioned.getPartitionIndex(i));
+            assertThat(partition.get(partitioned.getPosition(i))).isEqualTo(keys.get(i));
+        }
+
+        assertThat(partitioned.getPosition(3)).isEqualTo(2);
+    }
+}
@@ -20,12 +20,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.net.SocketAddress;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -281,6 +284,81 @@ class PooledClusterConnectionProviderUnitTests {
         verify(clientMock).connectToNodeAsync(eq(CODEC), eq("localhost:2"), any(), any());
     }
 
+    @Test
+    void shouldRouteToReconfiguredPartitions() {
+
+        when(clientMock.connectToNodeAsync(eq(CODEC), any(), any(), any())).thenReturn(
+                ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+
+        Partitions reconfigured = new Partitions();
+        reconfigured.add(new RedisClusterNode(RedisURI.create("localhost", 2), "2", true, null, 0, 0, 0, IntStream
+                .range(0, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList()), Collections
+                .singleton(RedisClusterNode.NodeFlag.MASTER)));
+
+        sut.setPartitions(reconfigured);
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+
+        verify(clientMock).connectToNodeAsync(eq(CODEC), eq("localhost:1"), any(), any());
+        verify(clientMock).connectToNodeAsync(eq(CODEC), eq("localhost:2"), any(), any());
+    }
+
+    @Test
+    void shouldRetainReadFromNodesOnIncrementalUpdate() {
+
+        ReadFrom readFrom = mock(ReadFrom.class);
+        sut.setReadFrom(readFrom);
+
+        RedisClusterNode master = partitions.getPartition(0);
+        master.setSlots(IntStream.range(0, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList()));
+        partitions.reload(Collections.singletonList(master));
+
+        BitSet changedSlots = new BitSet(SlotHash.SLOT_COUNT);
+        changedSlots.set(8192, SlotHash.SLOT_COUNT);
+
+        sut.updateSlots(changedSlots);
+
+        verify(readFrom).retain(partitions);
+        assertThat(partitions).containsExactly(master);
+    }
+
+    @Test
+    void shouldWarmupMasterConnections() {
+
+        when(clientMock.connectToNodeAsync(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(
+                ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        CompletableFuture<Void> warmup = sut.warmup(false);
+
+        assertThat(warmup).isCompleted();
+        assertThat(sut.getWarmup()).isSameAs(warmup);
+        verify(clientMock).connectToNodeAsync(eq(CODEC), eq("localhost:1"), any(), any());
+        verify(clientMock, never()).connectToNodeAsync(eq(CODEC), eq("localhost:2"), any(), any());
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+        verify(clientMock).connectToNodeAsync(eq(CODEC), eq("localhost:1"), any(), any());
+    }
+
+    @Test
+    void shouldWarmupReplicaConnections() {
+
+        when(clientMock.connectToNodeAsync(eq(CODEC), any(), any(), any())).thenReturn(
+                ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        AsyncCommand<String, String, String> async = new AsyncCommand<>(new Command<>(CommandType.READONLY, null, null));
+        async.complete();
+
+        when(asyncCommandsMock.readOnly()).thenReturn(async);
+
+        assertThat(sut.warmup(true)).isCompleted();
+
+        verify(clientMock).connectToNodeAsync(eq(CODEC), eq("localhost:1"), any(), any());
+        verify(clientMock).connectToNodeAsync(eq(CODEC), eq("localhost:2"), any(), any());
+        verify(asyncCommandsMock).readOnly();
+    }
+
     @Test
     void shouldCloseConnections() {
 
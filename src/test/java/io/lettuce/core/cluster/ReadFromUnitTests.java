@@ -26,9 +26,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.models.role.RedisNodeDescription;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
 
 /**
  * @author Mark Paluch
@@ -83,6 +89,58 @@ class ReadFromUnitTests {
         assertThat(result).hasSize(3).containsExactly(nearest, master, slave);
     }
 
+    @Test
+    void lowestLatency() {
+
+        ReadFrom readFrom = ReadFrom.lowestLatency();
+
+        assertThat(readFrom.isDynamic()).isTrue();
+        assertThat(readFrom.select(getNodes())).hasSize(3).containsOnly(nearest, master, slave);
+    }
+
+    @Test
+    void lowestLatencyAvoidsNodesWithOutstandingCommands() {
+
+        master.setUri(RedisURI.create("localhost", 1));
+        slave.setUri(RedisURI.create("localhost", 2));
+        sut.remove(nearest);
+
+        ReadFrom readFrom = ReadFrom.lowestLatency();
+        AsyncCommand<String, String, String> command = new AsyncCommand<>(new Command<>(CommandType.GET,
+                new StatusOutput<>(StringCodec.UTF8)));
+
+        readFrom.track(master, command);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(readFrom.select(getNodes())).containsExactly(slave, master);
+        }
+    }
+
+    @Test
+    void lowestLatencyDropsNodesThatLeftTopology() {
+
+        master.setUri(RedisURI.create("localhost", 1));
+        slave.setUri(RedisURI.create("localhost", 2));
+        sut.remove(nearest);
+
+        ReadFrom readFrom = ReadFrom.lowestLatency();
+
+        readFrom.track(master, new AsyncCommand<>(new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8))));
+        readFrom.track(master, new AsyncCommand<>(new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8))));
+        readFrom.track(slave, new AsyncCommand<>(new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8))));
+
+        assertThat(readFrom.select(getNodes())).containsExactly(slave, master);
+
+        readFrom.retain(Collections.singletonList(slave));
+
+        assertThat(readFrom.select(getNodes())).containsExactly(master, slave);
+    }
+
+    @Test
+    void valueOfLowestLatency() {
+        assertThat(ReadFrom.valueOf("lowestLatency").isDynamic()).isTrue();
+    }
+
     @Test
     void valueOfNull() {
         assertThatThrownBy(() -> ReadFrom.valueOf(null)).isInstanceOf(IllegalArgumentException.class);
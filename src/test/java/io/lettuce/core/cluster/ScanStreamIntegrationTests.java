@@ -15,6 +15,11 @@
  */
 package io.lettuce.core.cluster;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.inject.Inject;
 
 import org.junit.jupiter.api.Test;
@@ -58,4 +63,32 @@ class ScanStreamIntegrationTests extends TestSupport {
                 .verifyComplete();
         StepVerifier.create(ScanStream.scan(reactive)).expectNextCount(1000).verifyComplete();
     }
+
+    @Test
+    void shouldScanNodesInParallel() {
+
+        for (int i = 0; i < 1000; i++) {
+            redis.set("key-" + i, value);
+        }
+
+        RedisAdvancedClusterReactiveCommands<String, String> reactive = connection.reactive();
+
+        StepVerifier.create(reactive.scanParallel(ScanArgs.Builder.limit(200), 2).take(250)).expectNextCount(250)
+                .verifyComplete();
+        StepVerifier.create(reactive.scanParallel(4)).expectNextCount(1000).verifyComplete();
+    }
+
+    @Test
+    void shouldScanNodesInParallelUsingStreamingChannel() {
+
+        for (int i = 0; i < 1000; i++) {
+            redis.set("key-" + i, value);
+        }
+
+        List<String> keys = new ArrayList<>();
+
+        StepVerifier.create(connection.reactive().scanParallel(keys::add, 4)).expectNext(1000L).verifyComplete();
+
+        assertThat(keys).hasSize(1000);
+    }
 }
@@ -118,6 +118,32 @@ class PartitionsUnitTests {
         assertThat(partitions.getPartitionBySlot(1)).isEqualTo(node1);
     }
 
+    @Test
+    void updateSlotCache() {
+
+        Partitions partitions = new Partitions();
+        partitions.addAll(Arrays.asList(node1, node2));
+
+        assertThat(partitions.updateSlotCache(1, "localhost", 6380)).isTrue();
+        assertThat(partitions.updateSlotCache(2, "unknown", 1234)).isFalse();
+
+        assertThat(partitions.getPartitionBySlot(1)).isEqualTo(node2);
+        assertThat(partitions.getPartitionBySlot(2)).isEqualTo(node1);
+
+        partitions.updateCache();
+        assertThat(partitions.getPartitionBySlot(1)).isEqualTo(node1);
+    }
+
+    @Test
+    void updateSlotCacheWithoutCache() {
+
+        Partitions partitions = new Partitions();
+        partitions.addPartition(node1);
+
+        assertThat(partitions.updateSlotCache(1, "localhost", 6379)).isFalse();
+        assertThat(new Partitions().getPartitionBySlot(1)).isNull();
+    }
+
     @Test
     void getPartitionByAlias() {
 
@@ -130,6 +156,19 @@ class PartitionsUnitTests {
         assertThat(partitions.getPartition("unknown", 1234)).isNull();
     }
 
+    @Test
+    void getPartitionByHostAndPortUsesReadView() {
+
+        Partitions partitions = new Partitions();
+        partitions.getPartitions().add(node2);
+
+        assertThat(partitions.getPartition("localhost", 6380)).isNull();
+        partitions.updateCache();
+        assertThat(partitions.getPartition("localhost", 6380)).isEqualTo(node2);
+        assertThat(partitions.getPartition("localhost", 6379)).isNull();
+        assertThat(partitions.getPartitionBySlot(5)).isEqualTo(node2);
+    }
+
     @Test
     void remove() {
 
@@ -44,6 +44,18 @@ class RedisClusterNodeUnitTests {
         assertThat(copy.getAliases()).contains(RedisURI.create("foo", 6379));
     }
 
+    @Test
+    void shouldReturnSlotRanges() {
+
+        RedisClusterNode node = new RedisClusterNode();
+
+        assertThat(node.getSlotRanges()).isEmpty();
+
+        node.setSlots(Arrays.asList(1, 2, 3, 7, SlotHash.SLOT_COUNT - 2, SlotHash.SLOT_COUNT - 1));
+
+        assertThat(node.getSlotRanges()).containsExactly(1, 3, 7, 7, SlotHash.SLOT_COUNT - 2, SlotHash.SLOT_COUNT - 1);
+    }
+
     @Test
     void testEquality() {
 
@@ -354,6 +354,41 @@ class TopologyComparatorsUnitTests {
         assertThat(isChanged(partitions1, partitions2)).isTrue();
     }
 
+    @Test
+    void changedSlotsShouldContainMovedSlots() {
+
+        String nodes1 = "3d005a179da7d8dc1adae6409d47b39c369e992b 127.0.0.1:7380 master - 0 1401258245007 2 connected 0-11999\n"
+                + "c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 master - 111 1401258245007 222 connected 12000-16383\n";
+
+        String nodes2 = "c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 master - 111 1401258245007 222 connected 11998-16383\n"
+                + "3d005a179da7d8dc1adae6409d47b39c369e992b 127.0.0.1:7380 master - 0 1401258245007 2 connected 0-11997\n";
+
+        BitSet changedSlots = TopologyComparators.getChangedSlots(ClusterPartitionParser.parse(nodes1),
+                ClusterPartitionParser.parse(nodes2));
+
+        assertThat(changedSlots.cardinality()).isEqualTo(2);
+        assertThat(changedSlots.get(11998)).isTrue();
+        assertThat(changedSlots.get(11999)).isTrue();
+    }
+
+    @Test
+    void changedSlotsShouldContainSlotsOfMasterWithChangedReplicas() {
+
+        String nodes1 = "3d005a179da7d8dc1adae6409d47b39c369e992b 127.0.0.1:7380 master - 0 1401258245007 2 connected 0-11999\n"
+                + "c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 master - 111 1401258245007 222 connected 12000-16383\n";
+
+        String nodes2 = nodes1
+                + "4213a8dabb94f92eb6a860f4d0729e6a25d43e0c 127.0.0.1:7382 slave c37ab8396be428403d4e55c0d317348be27ed973 0 1401258245007 2 connected\n";
+
+        BitSet changedSlots = TopologyComparators.getChangedSlots(ClusterPartitionParser.parse(nodes1),
+                ClusterPartitionParser.parse(nodes2));
+
+        assertThat(changedSlots.cardinality()).isEqualTo(16384 - 12000);
+        assertThat(changedSlots.nextSetBit(0)).isEqualTo(12000);
+        assertThat(TopologyComparators.getChangedSlots(ClusterPartitionParser.parse(nodes1),
+                ClusterPartitionParser.parse(nodes1)).isEmpty()).isTrue();
+    }
+
     void runTest(Map<String, Long> map, List<RedisClusterNodeSnapshot> expectation, List<RedisClusterNodeSnapshot> nodes) {
 
         for (RedisClusterNodeSnapshot node : nodes) {
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MpscArrayQueue}.
+ */
+class MpscArrayQueueUnitTests {
+
+    @Test
+    void shouldRetainFifoOrder() {
+
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(4);
+
+        assertThat(queue.offer(1)).isTrue();
+        assertThat(queue.offer(2)).isTrue();
+        assertThat(queue.offer(3)).isTrue();
+
+        assertThat(queue.peek()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldRejectElementsBeyondCapacity() {
+
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(3);
+
+        assertThat(queue.offer(1)).isTrue();
+        assertThat(queue.offer(2)).isTrue();
+        assertThat(queue.offer(3)).isTrue();
+        assertThat(queue.offer(4)).isFalse();
+        assertThat(queue.size()).isEqualTo(3);
+
+        queue.poll();
+
+        assertThat(queue.offer(4)).isTrue();
+        assertThat(queue.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldWrapAround() {
+
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(2);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(queue.offer(i)).isTrue();
+            assertThat(queue.poll()).isEqualTo(i);
+        }
+
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void shouldClear() {
+
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(8);
+        queue.offer(1);
+        queue.offer(2);
+
+        queue.clear();
+
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void shouldIterateInFifoOrder() {
+
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(4);
+        queue.offer(1);
+        queue.offer(2);
+        queue.offer(3);
+        queue.poll();
+
+        assertThat(queue).containsExactly(2, 3);
+        assertThat(queue.contains(3)).isTrue();
+        assertThat(queue.contains(1)).isFalse();
+        assertThat(queue.toArray()).containsExactly(2, 3);
+    }
+
+    @Test
+    void shouldRemoveElement() {
+
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(4);
+        queue.offer(1);
+        queue.offer(2);
+        queue.offer(3);
+
+        assertThat(queue.remove((Object) 2)).isTrue();
+        assertThat(queue.remove((Object) 2)).isFalse();
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue).containsExactly(1, 3);
+
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.peek()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldRemoveThroughIterator() {
+
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(4);
+        queue.offer(1);
+        queue.offer(2);
+
+        Iterator<Integer> iterator = queue.iterator();
+        assertThat(iterator.next()).isEqualTo(1);
+        iterator.remove();
+
+        assertThat(queue).containsExactly(2);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldAcceptConcurrentProducers() throws Exception {
+
+        int producers = 4;
+        int perProducer = 10000;
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(producers * perProducer);
+        CountDownLatch latch = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    queue.offer(i);
+                }
+                latch.countDown();
+            }).start();
+        }
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(queue.size()).isEqualTo(producers * perProducer);
+
+        List<Integer> drained = new ArrayList<>();
+        Integer element;
+        while ((element = queue.poll()) != null) {
+            drained.add(element);
+        }
+
+        assertThat(drained).hasSize(producers * perProducer);
+    }
+}
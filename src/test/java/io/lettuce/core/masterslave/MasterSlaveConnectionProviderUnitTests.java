@@ -33,6 +33,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import io.lettuce.core.ClientOptions;
 import io.lettuce.core.ConnectionFuture;
 import io.lettuce.core.RedisChannelHandler;
 import io.lettuce.core.RedisClient;
@@ -68,11 +69,30 @@ class MasterSlaveConnectionProviderUnitTests {
     void before() {
 
         nodeConnectionMock = (StatefulRedisConnection) channelHandlerMock;
+        when(clientMock.getOptions()).thenReturn(ClientOptions.create());
         sut = new MasterSlaveConnectionProvider<>(clientMock, CODEC, RedisURI.create("localhost", 1), Collections.emptyMap());
         sut.setKnownNodes(Arrays.asList(new RedisMasterSlaveNode("localhost", 1, RedisURI.create("localhost", 1),
                 RedisInstance.Role.MASTER)));
     }
 
+    @Test
+    void shouldWarmupConnections() {
+
+        when(clientMock.getOptions()).thenReturn(
+                ClientOptions.builder().connectionWarmup(ClientOptions.ConnectionWarmup.MASTERS).build());
+        when(clientMock.connectAsync(eq(CODEC), any())).thenReturn(ConnectionFuture.completed(null, nodeConnectionMock));
+
+        sut.setKnownNodes(Arrays.asList(
+                new RedisMasterSlaveNode("localhost", 1, RedisURI.create("localhost", 1), RedisInstance.Role.MASTER),
+                new RedisMasterSlaveNode("localhost", 2, RedisURI.create("localhost", 2), RedisInstance.Role.SLAVE)));
+
+        assertThat(sut.getWarmup()).isCompleted();
+        assertThat(sut.getConnectionCount()).isEqualTo(1);
+
+        assertThat(sut.warmup(true)).isCompleted();
+        assertThat(sut.getConnectionCount()).isEqualTo(2);
+    }
+
     @Test
     void shouldCloseConnections() {
 
@@ -138,6 +138,25 @@ class DefaultCommandLatencyCollectorUnitTests {
         sut.shutdown();
     }
 
+    @Test
+    void recorderShouldRecordLatenciesAcrossResets() {
+
+        sut = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.create());
+
+        CommandLatencyRecorder recorder = sut.createRecorder(LocalAddress.ANY, LocalAddress.ANY);
+
+        recorder.recordCommandLatency(CommandType.GET, MILLISECONDS.toNanos(100), MILLISECONDS.toNanos(1000));
+        assertThat(sut.retrieveMetrics()).hasSize(1);
+
+        recorder.recordCommandLatency(CommandType.GET, MILLISECONDS.toNanos(100), MILLISECONDS.toNanos(1000));
+        Map<CommandLatencyId, CommandMetrics> metrics = sut.retrieveMetrics();
+
+        assertThat(metrics).hasSize(1);
+        assertThat(metrics.values().iterator().next().getCount()).isEqualTo(1);
+
+        sut.shutdown();
+    }
+
     private void setupData() {
         sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.BGSAVE, MILLISECONDS.toNanos(100),
                 MILLISECONDS.toNanos(1000));
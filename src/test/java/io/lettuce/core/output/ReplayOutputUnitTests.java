@@ -79,4 +79,20 @@ class ReplayOutputUnitTests {
         assertThat(replay.getError()).isEqualTo("foo");
         assertThat(target.getError()).isEqualTo("foo");
     }
+
+    @Test
+    void shouldReplayMultipleTimes() {
+
+        ReplayOutput<String, String> replay = new ReplayOutput<>();
+        ValueOutput<String, String> first = new ValueOutput<>(StringCodec.ASCII);
+        ValueOutput<String, String> second = new ValueOutput<>(StringCodec.ASCII);
+
+        replay.set(ByteBuffer.wrap("foo".getBytes()));
+
+        replay.replay(first);
+        replay.replay(second);
+
+        assertThat(first.get()).isEqualTo("foo");
+        assertThat(second.get()).isEqualTo("foo");
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * Unit tests for {@link StreamReadOutput}.
+ */
+class StreamReadOutputUnitTests {
+
+    @Test
+    void shouldDecodeMapBody() {
+
+        StreamReadOutput<String, String> sut = new StreamReadOutput<>(StringCodec.UTF8);
+
+        emitMessage(sut);
+
+        StreamMessage<String, String> message = sut.get().get(0);
+
+        assertThat(message.getStream()).isEqualTo("stream");
+        assertThat(message.getId()).isEqualTo("1-0");
+        assertThat(message.getBody()).containsEntry("key1", "value1").containsEntry("key2", "value2");
+    }
+
+    @Test
+    void shouldDecodeFlatBody() {
+
+        StreamReadOutput<String, String> sut = new StreamReadOutput<>(StringCodec.UTF8, true);
+
+        emitMessage(sut);
+
+        StreamMessage<String, String> message = sut.get().get(0);
+        Map<String, String> fields = new LinkedHashMap<>();
+        message.forEachField(fields::put);
+
+        assertThat(message.getId()).isEqualTo("1-0");
+        assertThat(message.getFieldCount()).isEqualTo(2);
+        assertThat(fields).containsExactly(entry("key1", "value1"), entry("key2", "value2"));
+        assertThat(message.getBody()).isEqualTo(fields);
+        assertThat(message).isEqualTo(new StreamMessage<>("stream", "1-0", fields));
+    }
+
+    private static Map.Entry<String, String> entry(String key, String value) {
+        return new java.util.AbstractMap.SimpleEntry<>(key, value);
+    }
+
+    private static void emitMessage(StreamReadOutput<String, String> sut) {
+
+        sut.multi(1);
+        sut.multi(2);
+        sut.set(buffer("stream"));
+        sut.multi(1);
+        sut.multi(2);
+        sut.set(buffer("1-0"));
+        sut.multi(4);
+        sut.set(buffer("key1"));
+        sut.set(buffer("value1"));
+        sut.set(buffer("key2"));
+        sut.set(buffer("value2"));
+        sut.complete(4);
+        sut.complete(3);
+        sut.complete(2);
+        sut.complete(1);
+        sut.complete(0);
+    }
+
+    private static ByteBuffer buffer(String value) {
+        return ByteBuffer.wrap(value.getBytes());
+    }
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -106,6 +107,31 @@ class CommandArgsUnitTests {
         assertThat(CommandArgsAccessor.encodeFirstKey(args)).isEqualTo(ByteBuffer.wrap("one".getBytes()));
     }
 
+    @Test
+    void getFirstEncodedKeyShouldBeReusedForEncoding() {
+
+        AtomicInteger encodings = new AtomicInteger();
+        Utf8StringCodec countingCodec = new Utf8StringCodec() {
+
+            @Override
+            public ByteBuffer encodeKey(String key) {
+                encodings.incrementAndGet();
+                return super.encodeKey(key);
+            }
+        };
+
+        CommandArgs<String, String> args = new CommandArgs<>(countingCodec).addKey("one");
+
+        assertThat(args.getFirstEncodedKey()).isEqualTo(ByteBuffer.wrap("one".getBytes()));
+        assertThat(args.getFirstEncodedKey()).isEqualTo(ByteBuffer.wrap("one".getBytes()));
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo("$3\r\none\r\n");
+        assertThat(encodings).hasValue(1);
+    }
+
     @Test
     void addValues() {
 
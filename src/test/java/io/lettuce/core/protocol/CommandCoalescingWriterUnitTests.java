@@ -0,0 +1,259 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.lettuce.core.RedisChannelWriter;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.output.ValueOutput;
+
+/**
+ * Unit tests for {@link CommandCoalescingWriter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class CommandCoalescingWriterUnitTests {
+
+    @Mock
+    RedisChannelWriter writer;
+
+    private CommandCoalescingWriter sut;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() {
+
+        when(writer.write(any(RedisCommand.class))).then(invocation -> invocation.getArgument(0));
+        sut = new CommandCoalescingWriter(writer);
+    }
+
+    @Test
+    void shouldCoalesceIdenticalReads() throws Exception {
+
+        AsyncCommand<String, String, String> leader = get("key");
+        AsyncCommand<String, String, String> follower1 = get("key");
+        AsyncCommand<String, String, String> follower2 = get("key");
+
+        sut.write(leader);
+        sut.write(follower1);
+        sut.write(follower2);
+
+        verify(writer).write(leader);
+        verify(writer, never()).write(follower1);
+        verify(writer, never()).write(follower2);
+
+        leader.getOutput().set(ByteBuffer.wrap("value".getBytes()));
+        leader.complete();
+
+        assertThat(leader.get()).isEqualTo("value");
+        assertThat(follower1.get()).isEqualTo("value");
+        assertThat(follower2.get()).isEqualTo("value");
+    }
+
+    @Test
+    void shouldWriteNewCommandAfterCompletion() {
+
+        AsyncCommand<String, String, String> first = get("key");
+        AsyncCommand<String, String, String> second = get("key");
+
+        sut.write(first);
+        first.getOutput().set(ByteBuffer.wrap("value".getBytes()));
+        first.complete();
+
+        sut.write(second);
+
+        verify(writer).write(first);
+        verify(writer).write(second);
+        assertThat(second.isDone()).isFalse();
+    }
+
+    @Test
+    void shouldNotCoalesceDifferentArguments() {
+
+        AsyncCommand<String, String, String> first = get("key1");
+        AsyncCommand<String, String, String> second = get("key2");
+
+        sut.write(first);
+        sut.write(second);
+
+        verify(writer).write(first);
+        verify(writer).write(second);
+    }
+
+    @Test
+    void shouldNotCoalesceWriteCommands() {
+
+        AsyncCommand<String, String, String> first = set("key", "value");
+        AsyncCommand<String, String, String> second = set("key", "value");
+
+        sut.write(first);
+        sut.write(second);
+
+        verify(writer).write(first);
+        verify(writer).write(second);
+    }
+
+    @Test
+    void shouldReplayErrorResponse() {
+
+        AsyncCommand<String, String, String> leader = get("key");
+        AsyncCommand<String, String, String> follower = get("key");
+
+        sut.write(leader);
+        sut.write(follower);
+
+        leader.getOutput().setError(ByteBuffer.wrap("WRONGTYPE Operation against a key".getBytes()));
+        leader.complete();
+
+        assertThat(leader.isCompletedExceptionally()).isTrue();
+        assertThat(follower.isCompletedExceptionally()).isTrue();
+        assertThat(follower.getOutput().getError()).isEqualTo("WRONGTYPE Operation against a key");
+    }
+
+    @Test
+    void shouldPropagateFailure() {
+
+        AsyncCommand<String, String, String> leader = get("key");
+        AsyncCommand<String, String, String> follower = get("key");
+
+        sut.write(leader);
+        sut.write(follower);
+
+        leader.completeExceptionally(new IllegalStateException("connection lost"));
+
+        assertThat(follower.isCompletedExceptionally()).isTrue();
+        try {
+            follower.get();
+        } catch (InterruptedException | ExecutionException e) {
+            assertThat(e).hasRootCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void shouldWriteFollowersOnLeaderCancellation() {
+
+        AsyncCommand<String, String, String> leader = get("key");
+        AsyncCommand<String, String, String> follower = get("key");
+
+        sut.write(leader);
+        sut.write(follower);
+
+        leader.cancel();
+
+        verify(writer).write(follower);
+        assertThat(follower.isDone()).isFalse();
+    }
+
+    @Test
+    void shouldCancelFollowersOnReset() {
+
+        AsyncCommand<String, String, String> leader = get("key");
+        AsyncCommand<String, String, String> follower = get("key");
+
+        sut.write(leader);
+        sut.write(follower);
+
+        sut.reset();
+
+        verify(writer).reset();
+        assertThat(follower.isCancelled()).isTrue();
+    }
+
+    @Test
+    void shouldNotCoalesceAcrossSelect() {
+
+        AsyncCommand<String, String, String> leader = get("key");
+        AsyncCommand<String, String, String> follower = get("key");
+
+        sut.write(leader);
+        sut.write(select(1));
+        sut.write(follower);
+
+        verify(writer).write(leader);
+        verify(writer).write(follower);
+    }
+
+    @Test
+    void shouldNotCoalesceAcrossReconnect() {
+
+        ArgumentCaptor<ConnectionFacade> captor = ArgumentCaptor.forClass(ConnectionFacade.class);
+        ConnectionFacade facade = mock(ConnectionFacade.class);
+
+        sut.setConnectionFacade(facade);
+        verify(writer).setConnectionFacade(captor.capture());
+
+        AsyncCommand<String, String, String> leader = get("key");
+        AsyncCommand<String, String, String> follower = get("key");
+
+        sut.write(leader);
+        captor.getValue().activated();
+        sut.write(follower);
+
+        verify(facade).activated();
+        verify(writer).write(leader);
+        verify(writer).write(follower);
+    }
+
+    @Test
+    void shouldNotAttachOnceDecodingStartedWithoutFollowers() {
+
+        AsyncCommand<String, String, String> leader = get("key");
+        AsyncCommand<String, String, String> next = get("key");
+
+        sut.write(leader);
+        leader.getOutput().set(ByteBuffer.wrap("value".getBytes()));
+
+        sut.write(next);
+
+        verify(writer).write(leader);
+        verify(writer).write(next);
+
+        leader.complete();
+
+        assertThat(next.isDone()).isFalse();
+    }
+
+    private static AsyncCommand<String, String, String> get(String key) {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).addKey(key);
+        return new AsyncCommand<>(new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8), args));
+    }
+
+    private static AsyncCommand<String, String, String> select(int db) {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).add(db);
+        return new AsyncCommand<>(new Command<>(CommandType.SELECT, new StatusOutput<>(StringCodec.UTF8), args));
+    }
+
+    private static AsyncCommand<String, String, String> set(String key, String value) {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).addKey(key).addValue(value);
+        return new AsyncCommand<>(new Command<>(CommandType.SET, new StatusOutput<>(StringCodec.UTF8), args));
+    }
+}
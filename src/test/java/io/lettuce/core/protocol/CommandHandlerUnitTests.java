@@ -134,6 +134,7 @@ class CommandHandlerUnitTests {
         });
 
         when(latencyCollector.isEnabled()).thenReturn(true);
+        when(latencyCollector.createRecorder(any(), any())).thenCallRealMethod();
         when(clientResources.commandLatencyCollector()).thenReturn(latencyCollector);
         when(clientResources.tracing()).thenReturn(Tracing.disabled());
 
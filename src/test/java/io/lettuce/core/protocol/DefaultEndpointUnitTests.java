@@ -24,7 +24,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.channels.ClosedChannelException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -253,6 +255,46 @@ class DefaultEndpointUnitTests {
         assertThat(command.exception).isInstanceOf(EncoderException.class);
     }
 
+    @Test
+    void writeBatchShouldWriteCommandsInSingleChannelWrite() {
+
+        when(channel.isActive()).thenReturn(true);
+        sut.notifyChannelActive(channel);
+
+        Command<String, String, String> other = new Command<>(CommandType.GET, new StatusOutput<>(new Utf8StringCodec()),
+                null);
+        List<Command<String, String, String>> batch = Arrays.asList(command, other);
+
+        sut.write(batch);
+
+        assertThat(ConnectionTestUtil.getQueueSize(sut)).isEqualTo(2);
+        assertThat(queue).containsExactly(command, other);
+        verify(channel).writeAndFlush(batch);
+        verify(channel, never()).write(any());
+        verify(channel, never()).flush();
+    }
+
+    @Test
+    void shouldCancelBatchCommandsOnEncoderException() {
+
+        when(channel.isActive()).thenReturn(true);
+        sut.notifyChannelActive(channel);
+
+        DefaultChannelPromise promise = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+
+        when(channel.writeAndFlush(any())).thenReturn(promise);
+
+        promise.setFailure(new EncoderException("foo"));
+
+        Command<String, String, String> other = new Command<>(CommandType.GET, new StatusOutput<>(new Utf8StringCodec()),
+                null);
+
+        sut.write(Arrays.asList(command, other));
+
+        assertThat(command.exception).isInstanceOf(EncoderException.class);
+        assertThat(other.exception).isInstanceOf(EncoderException.class);
+    }
+
     @Test
     void writeShouldRejectCommandsInDisconnectedState() {
 
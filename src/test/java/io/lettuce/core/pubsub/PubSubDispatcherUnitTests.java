@@ -0,0 +1,179 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.PubSubDispatchOptions;
+import io.lettuce.core.PubSubDispatchOptions.OverflowPolicy;
+
+/**
+ * Unit tests for {@link PubSubDispatcher}.
+ */
+class PubSubDispatcherUnitTests {
+
+    @Test
+    void shouldRetainOrderPerKey() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        PubSubDispatcher sut = new PubSubDispatcher(PubSubDispatchOptions.builder().partitions(4).queueCapacity(10000)
+                .build(), executor);
+
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(4000);
+
+        for (int i = 0; i < 1000; i++) {
+            for (int channel = 0; channel < 4; channel++) {
+
+                String key = "channel" + channel;
+                int sequence = i;
+
+                sut.dispatch(key, () -> {
+                    received.computeIfAbsent(key, it -> new CopyOnWriteArrayList<>()).add(sequence);
+                    latch.countDown();
+                });
+            }
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(received).hasSize(4);
+        for (List<Integer> sequences : received.values()) {
+            for (int i = 0; i < sequences.size(); i++) {
+                assertThat(sequences.get(i)).isEqualTo(i);
+            }
+        }
+        assertThat(sut.getDispatchedCount()).isEqualTo(4000);
+        assertThat(sut.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void shouldAssignEqualBinaryKeysToSamePartition() {
+
+        PubSubDispatcher sut = new PubSubDispatcher(PubSubDispatchOptions.builder().partitions(16).build(), Runnable::run);
+
+        assertThat(sut.partition("channel".getBytes())).isEqualTo(sut.partition("channel".getBytes()));
+    }
+
+    @Test
+    void shouldDropNewestOnOverflow() {
+
+        List<Runnable> tasks = new ArrayList<>();
+        List<Integer> received = new ArrayList<>();
+
+        PubSubDispatcher sut = new PubSubDispatcher(PubSubDispatchOptions.builder().partitions(1).queueCapacity(2)
+                .overflowPolicy(OverflowPolicy.DROP_NEWEST).build(), tasks::add);
+
+        for (int i = 0; i < 4; i++) {
+            int value = i;
+            sut.dispatch("channel", () -> received.add(value));
+        }
+
+        assertThat(sut.getQueueDepth()).isEqualTo(2);
+        assertThat(sut.getDroppedCount()).isEqualTo(2);
+
+        tasks.forEach(Runnable::run);
+
+        assertThat(received).containsExactly(0, 1);
+    }
+
+    @Test
+    void shouldDropOldestOnOverflow() {
+
+        List<Runnable> tasks = new ArrayList<>();
+        List<Integer> received = new ArrayList<>();
+
+        PubSubDispatcher sut = new PubSubDispatcher(PubSubDispatchOptions.builder().partitions(1).queueCapacity(2)
+                .overflowPolicy(OverflowPolicy.DROP_OLDEST).build(), tasks::add);
+
+        for (int i = 0; i < 4; i++) {
+            int value = i;
+            sut.dispatch("channel", () -> received.add(value));
+        }
+
+        assertThat(sut.getMaxQueueDepth()).isEqualTo(2);
+        assertThat(sut.getDroppedCount()).isEqualTo(2);
+
+        tasks.forEach(Runnable::run);
+
+        assertThat(received).containsExactly(2, 3);
+    }
+
+    @Test
+    void shouldNotDropControlNotifications() {
+
+        List<Runnable> tasks = new ArrayList<>();
+        List<String> received = new ArrayList<>();
+
+        PubSubDispatcher sut = new PubSubDispatcher(PubSubDispatchOptions.builder().partitions(1).queueCapacity(1)
+                .overflowPolicy(OverflowPolicy.DROP_OLDEST).build(), tasks::add);
+
+        sut.dispatch("channel", () -> received.add("subscribe"), true);
+        sut.dispatch("channel", () -> received.add("message1"));
+        sut.dispatch("channel", () -> received.add("message2"));
+        sut.dispatch("channel", () -> received.add("unsubscribe"), true);
+
+        assertThat(sut.getQueueDepth()).isEqualTo(3);
+        assertThat(sut.getDroppedCount()).isEqualTo(1);
+
+        tasks.forEach(Runnable::run);
+
+        assertThat(received).containsExactly("subscribe", "message2", "unsubscribe");
+    }
+
+    @Test
+    void defaultExecutorShouldRunNotifications() throws Exception {
+
+        ExecutorService executor = PubSubDispatcher.createDefaultExecutor(2);
+        PubSubDispatcher sut = new PubSubDispatcher(PubSubDispatchOptions.builder().partitions(2).build(), executor);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        sut.dispatch("channel", latch::countDown);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldContinueAfterFailingNotification() {
+
+        List<Integer> received = new ArrayList<>();
+        PubSubDispatcher sut = new PubSubDispatcher(PubSubDispatchOptions.create(), Runnable::run);
+
+        sut.dispatch("channel", () -> {
+            throw new IllegalStateException();
+        });
+        sut.dispatch("channel", () -> received.add(1));
+
+        assertThat(received).containsExactly(1);
+        assertThat(sut.getDispatchedCount()).isEqualTo(2);
+    }
+}
@@ -18,12 +18,15 @@ package io.lettuce.core.pubsub;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import io.lettuce.core.ByteBufferCodec;
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.PubSubDispatchOptions;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
@@ -115,6 +118,154 @@ class PubSubEndpointUnitTests {
         assertThat(notified).hasValue(1);
     }
 
+    @Test
+    void shouldNotifyListenersUsingExecutor() {
+
+        List<Runnable> tasks = new ArrayList<>();
+        ClientOptions options = ClientOptions.builder()
+                .pubSubDispatchOptions(PubSubDispatchOptions.builder().executor(tasks::add).build()).build();
+
+        PubSubEndpoint<String, String> sut = new PubSubEndpoint<>(options, TestClientResources.get());
+
+        List<String> subscribed = new ArrayList<>();
+
+        sut.addListener(new RedisPubSubAdapter<String, String>() {
+            @Override
+            public void subscribed(String channel, long count) {
+                subscribed.add(channel);
+            }
+        });
+
+        sut.notifyMessage(createMessage("subscribe", "channel1", StringCodec.UTF8));
+
+        assertThat(sut.getChannels()).containsOnly("channel1");
+        assertThat(subscribed).isEmpty();
+        assertThat(sut.getDispatcher().getQueueDepth()).isEqualTo(1);
+
+        tasks.forEach(Runnable::run);
+
+        assertThat(subscribed).containsOnly("channel1");
+        assertThat(sut.getDispatcher().getDispatchedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRouteMessagesToChannelListeners() {
+
+        PubSubEndpoint<String, String> sut = new PubSubEndpoint<>(ClientOptions.create(), TestClientResources.get());
+
+        List<String> channel1 = new ArrayList<>();
+        List<String> channel2 = new ArrayList<>();
+        RedisPubSubAdapter<String, String> listener = new RedisPubSubAdapter<String, String>() {
+            @Override
+            public void message(String channel, String message) {
+                channel1.add(message);
+            }
+
+            @Override
+            public void subscribed(String channel, long count) {
+                channel1.add(channel);
+            }
+        };
+
+        sut.addChannelListener(listener, "channel1".getBytes());
+        sut.addChannelListener(new RedisPubSubAdapter<String, String>() {
+            @Override
+            public void message(String channel, String message) {
+                channel2.add(message);
+            }
+        }, "channel2".getBytes());
+
+        sut.notifyMessage(createMessage("subscribe", "channel1", StringCodec.UTF8));
+        sut.notifyMessage(createMessage("message", "channel1", "hello", StringCodec.UTF8));
+        sut.notifyMessage(createMessage("message", "channel2", "world", StringCodec.UTF8));
+        sut.notifyMessage(createMessage("message", "channel3", "other", StringCodec.UTF8));
+
+        assertThat(channel1).containsExactly("channel1", "hello");
+        assertThat(channel2).containsExactly("world");
+
+        sut.removeListener(listener);
+        sut.notifyMessage(createMessage("message", "channel1", "hello", StringCodec.UTF8));
+
+        assertThat(channel1).hasSize(2);
+    }
+
+    @Test
+    void shouldRoutePatternMessagesToPatternListeners() {
+
+        PubSubEndpoint<byte[], byte[]> sut = new PubSubEndpoint<>(ClientOptions.create(), TestClientResources.get());
+
+        List<String> received = new ArrayList<>();
+        RedisPubSubAdapter<byte[], byte[]> listener = new RedisPubSubAdapter<byte[], byte[]>() {
+            @Override
+            public void message(byte[] channel, byte[] message) {
+                received.add(new String(channel));
+            }
+
+            @Override
+            public void message(byte[] pattern, byte[] channel, byte[] message) {
+                received.add(new String(pattern) + ":" + new String(channel));
+            }
+        };
+
+        sut.addPatternListener(listener, "news.*".getBytes());
+        sut.addChannelListener(listener, "news.ai".getBytes());
+
+        sut.notifyMessage(createMessage("message", "news.tech", "hello", ByteArrayCodec.INSTANCE));
+        sut.notifyMessage(createPatternMessage("*", "news.ai", "hello"));
+        sut.notifyMessage(createPatternMessage("news.*", "news.ai", "hello"));
+        sut.notifyMessage(createMessage("message", "news.ai", "hello", ByteArrayCodec.INSTANCE));
+
+        assertThat(received).containsExactly("news.*:news.ai", "news.ai");
+    }
+
+    @Test
+    void shouldRetainEncodedNamesOnlyWithBoundListeners() {
+
+        PubSubEndpoint<String, String> sut = new PubSubEndpoint<>(ClientOptions.create(), TestClientResources.get());
+
+        assertThat(sut.hasBoundListeners()).isFalse();
+
+        List<String> received = new ArrayList<>();
+        sut.addChannelListener(new RedisPubSubAdapter<String, String>() {
+            @Override
+            public void message(String channel, String message) {
+                received.add(channel + ":" + message);
+            }
+        }, "channel1".getBytes());
+
+        assertThat(sut.hasBoundListeners()).isTrue();
+
+        PubSubOutput<String, String, String> output = new PubSubOutput<>(StringCodec.UTF8, true);
+        output.set(ByteBuffer.wrap("message".getBytes()));
+        output.set(ByteBuffer.wrap("channel1".getBytes()));
+        output.set(ByteBuffer.wrap("hello".getBytes()));
+
+        sut.notifyMessage(output);
+
+        assertThat(received).containsExactly("channel1:hello");
+    }
+
+    private static PubSubOutput<byte[], byte[], byte[]> createPatternMessage(String pattern, String channel, String message) {
+
+        PubSubOutput<byte[], byte[], byte[]> output = new PubSubOutput<>(ByteArrayCodec.INSTANCE);
+        output.set(ByteBuffer.wrap("pmessage".getBytes()));
+        output.set(ByteBuffer.wrap(pattern.getBytes()));
+        output.set(ByteBuffer.wrap(channel.getBytes()));
+        output.set(ByteBuffer.wrap(message.getBytes()));
+
+        return output;
+    }
+
+    private static <K, V> PubSubOutput<K, V, V> createMessage(String action, String channel, String message,
+            RedisCodec<K, V> codec) {
+
+        PubSubOutput<K, V, V> output = createMessage(action, channel, codec);
+
+        output.set(ByteBuffer.wrap(message.getBytes()));
+
+        return output;
+    }
+
     private static <K, V> PubSubOutput<K, V, V> createMessage(String action, String channel, RedisCodec<K, V> codec) {
 
         PubSubOutput<K, V, V> output = new PubSubOutput<>(codec);
@@ -157,12 +157,13 @@ class AsyncConnectionPoolSupportIntegrationTests extends TestSupport {
 
         assertThat(connection).isInstanceOf(StatefulRedisConnection.class).isNotInstanceOf(
                 StatefulRedisClusterConnectionImpl.class);
-        assertThat(Proxy.isProxyClass(connection.getClass())).isTrue();
+        assertThat(Proxy.isProxyClass(connection.getClass())).isFalse();
 
         assertThat(sync).isInstanceOf(RedisCommands.class);
-        assertThat(connection.async()).isInstanceOf(RedisAsyncCommands.class).isNotInstanceOf(RedisAsyncCommandsImpl.class);
-        assertThat(connection.reactive()).isInstanceOf(RedisReactiveCommands.class).isNotInstanceOf(
-                RedisReactiveCommandsImpl.class);
+        assertThat(connection.async()).isInstanceOf(RedisAsyncCommands.class);
+        assertThat(connection.async().getStatefulConnection()).isSameAs(connection);
+        assertThat(connection.reactive()).isInstanceOf(RedisReactiveCommands.class);
+        assertThat(connection.reactive().getStatefulConnection()).isSameAs(connection);
         assertThat(sync.getStatefulConnection()).isInstanceOf(StatefulRedisConnection.class)
                 .isNotInstanceOf(StatefulRedisConnectionImpl.class).isSameAs(connection);
 
@@ -16,9 +16,12 @@
 package io.lettuce.core.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -172,6 +175,155 @@ class BoundedAsyncPoolUnitTests {
         assertThat(pool.getObjectCount()).isEqualTo(4);
     }
 
+    @Test
+    void shouldHandReleasedObjectToWaiter() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.builder().maxTotal(1)
+                .maxWait(Duration.ofMinutes(1)).build());
+
+        String object = Futures.get(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        assertThat(waiter).isNotDone();
+        assertThat(pool.getPendingAcquireCount()).isEqualTo(1);
+        assertThat(pool.getUtilization()).isEqualTo(1);
+
+        pool.release(object);
+
+        assertThat(waiter).isCompletedWithValue(object);
+        assertThat(pool.getPendingAcquireCount()).isZero();
+        assertThat(pool.getWaitCount()).isEqualTo(1);
+        assertThat(pool.getIdle()).isZero();
+        assertThat(pool.getObjectCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeWaitersInOrder() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.builder().maxTotal(1)
+                .maxWait(Duration.ofMillis(-1)).build());
+
+        String object = Futures.get(pool.acquire());
+        CompletableFuture<String> first = pool.acquire();
+        CompletableFuture<String> second = pool.acquire();
+
+        pool.release(object);
+
+        assertThat(first).isCompletedWithValue(object);
+        assertThat(second).isNotDone();
+
+        pool.release(object);
+
+        assertThat(second).isCompletedWithValue(object);
+    }
+
+    @Test
+    void shouldTimeoutWaitingAcquire() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.builder().maxTotal(1)
+                .maxWait(Duration.ofMillis(10)).build());
+
+        String object = Futures.get(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        assertThatThrownBy(waiter::join).hasCauseInstanceOf(NoSuchElementException.class);
+        assertThat(pool.getPendingAcquireCount()).isZero();
+
+        pool.release(object);
+
+        assertThat(pool.getIdle()).isEqualTo(1);
+        assertThat(pool.getWaitCount()).isZero();
+    }
+
+    @Test
+    void shouldHandOffInsteadOfDestroyingIdleObject() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.builder().maxTotal(1)
+                .maxIdle(0).maxWait(Duration.ofMinutes(1)).build());
+
+        String object = Futures.get(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        pool.release(object);
+
+        assertThat(waiter).isCompletedWithValue(object);
+
+        pool.release(object);
+
+        assertThat(destroyed).containsOnly(object);
+        assertThat(pool.getObjectCount()).isZero();
+    }
+
+    @Test
+    void shouldCreateOneObjectPerWaiter() {
+
+        List<CompletableFuture<String>> progress = new ArrayList<>();
+        AsyncObjectFactory<String> factory = new AsyncObjectFactory<String>() {
+            @Override
+            public CompletableFuture<String> create() {
+
+                if (counter.get() < 4) {
+                    return CompletableFuture.completedFuture(counter.incrementAndGet() + "");
+                }
+
+                CompletableFuture<String> future = new CompletableFuture<>();
+                progress.add(future);
+
+                return future;
+            }
+
+            @Override
+            public CompletableFuture<Void> destroy(String object) {
+                destroyed.add(object);
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> validate(String object) {
+                return CompletableFuture.completedFuture(false);
+            }
+        };
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.builder().maxTotal(4)
+                .testOnRelease().maxWait(Duration.ofMinutes(1)).build());
+
+        List<String> objects = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            objects.add(Futures.get(pool.acquire()));
+        }
+
+        CompletableFuture<String> first = pool.acquire();
+        CompletableFuture<String> second = pool.acquire();
+
+        objects.forEach(pool::release);
+
+        assertThat(destroyed).hasSize(4);
+        assertThat(pool.getCreationInProgress()).isEqualTo(2);
+        assertThat(progress).hasSize(2);
+
+        progress.get(0).complete("5");
+        progress.get(1).complete("6");
+
+        assertThat(first).isCompletedWithValue("5");
+        assertThat(second).isCompletedWithValue("6");
+        assertThat(pool.getObjectCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFailWaitersOnClose() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.builder().maxTotal(1)
+                .maxWait(Duration.ofMinutes(1)).build());
+
+        Futures.get(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        pool.close();
+
+        assertThat(waiter).isCompletedExceptionally();
+        assertThat(pool.getPendingAcquireCount()).isZero();
+    }
+
     @Test
     void shouldClearPool() {
 
@@ -46,6 +46,9 @@ import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.masterslave.MasterSlave;
 import io.lettuce.core.masterslave.StatefulRedisMasterSlaveConnection;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnectionImpl;
+import io.lettuce.core.pubsub.api.sync.RedisPubSubCommands;
 import io.lettuce.test.Wait;
 import io.lettuce.test.resource.FastShutdown;
 import io.lettuce.test.resource.TestClientResources;
@@ -190,12 +193,13 @@ class ConnectionPoolSupportIntegrationTests extends TestSupport {
 
         assertThat(connection).isInstanceOf(StatefulRedisConnection.class).isNotInstanceOf(
                 StatefulRedisClusterConnectionImpl.class);
-        assertThat(Proxy.isProxyClass(connection.getClass())).isTrue();
+        assertThat(Proxy.isProxyClass(connection.getClass())).isFalse();
 
         assertThat(sync).isInstanceOf(RedisCommands.class);
-        assertThat(connection.async()).isInstanceOf(RedisAsyncCommands.class).isNotInstanceOf(RedisAsyncCommandsImpl.class);
-        assertThat(connection.reactive()).isInstanceOf(RedisReactiveCommands.class).isNotInstanceOf(
-                RedisReactiveCommandsImpl.class);
+        assertThat(connection.async()).isInstanceOf(RedisAsyncCommands.class);
+        assertThat(connection.async().getStatefulConnection()).isSameAs(connection);
+        assertThat(connection.reactive()).isInstanceOf(RedisReactiveCommands.class);
+        assertThat(connection.reactive().getStatefulConnection()).isSameAs(connection);
         assertThat(sync.getStatefulConnection()).isInstanceOf(StatefulRedisConnection.class)
                 .isNotInstanceOf(StatefulRedisConnectionImpl.class).isSameAs(connection);
 
@@ -214,12 +218,13 @@ class ConnectionPoolSupportIntegrationTests extends TestSupport {
         RedisCommands<String, String> sync = connection.sync();
 
         assertThat(connection).isInstanceOf(StatefulRedisMasterSlaveConnection.class);
-        assertThat(Proxy.isProxyClass(connection.getClass())).isTrue();
+        assertThat(Proxy.isProxyClass(connection.getClass())).isFalse();
 
         assertThat(sync).isInstanceOf(RedisCommands.class);
-        assertThat(connection.async()).isInstanceOf(RedisAsyncCommands.class).isNotInstanceOf(RedisAsyncCommandsImpl.class);
-        assertThat(connection.reactive()).isInstanceOf(RedisReactiveCommands.class).isNotInstanceOf(
-                RedisReactiveCommandsImpl.class);
+        assertThat(connection.async()).isInstanceOf(RedisAsyncCommands.class);
+        assertThat(connection.async().getStatefulConnection()).isSameAs(connection);
+        assertThat(connection.reactive()).isInstanceOf(RedisReactiveCommands.class);
+        assertThat(connection.reactive().getStatefulConnection()).isSameAs(connection);
         assertThat(sync.getStatefulConnection()).isInstanceOf(StatefulRedisConnection.class)
                 .isNotInstanceOf(StatefulRedisConnectionImpl.class).isSameAs(connection);
 
@@ -227,6 +232,31 @@ class ConnectionPoolSupportIntegrationTests extends TestSupport {
         pool.close();
     }
 
+    @Test
+    void wrappedPubSubConnectionShouldUseWrappers() throws Exception {
+
+        GenericObjectPool<StatefulRedisPubSubConnection<String, String>> pool = ConnectionPoolSupport.createGenericObjectPool(
+                () -> client.connectPubSub(), new GenericObjectPoolConfig<>());
+
+        StatefulRedisPubSubConnection<String, String> connection = pool.borrowObject();
+        RedisPubSubCommands<String, String> sync = connection.sync();
+
+        assertThat(connection).isInstanceOf(StatefulRedisPubSubConnection.class).isNotInstanceOf(
+                StatefulRedisPubSubConnectionImpl.class);
+        assertThat(Proxy.isProxyClass(connection.getClass())).isFalse();
+
+        assertThat(Proxy.isProxyClass(sync.getClass())).isFalse();
+        assertThat(sync.getStatefulConnection()).isSameAs(connection);
+        assertThat(connection.async().getStatefulConnection()).isSameAs(connection);
+        assertThat(connection.reactive().getStatefulConnection()).isSameAs(connection);
+
+        sync.subscribe("channel");
+        assertThat(sync.pubsubChannels()).contains("channel");
+
+        connection.close();
+        pool.close();
+    }
+
     @Test
     void wrappedClusterConnectionShouldUseWrappers() throws Exception {
 
@@ -241,13 +271,18 @@ class ConnectionPoolSupportIntegrationTests extends TestSupport {
 
         assertThat(connection).isInstanceOf(StatefulRedisClusterConnection.class).isNotInstanceOf(
                 StatefulRedisClusterConnectionImpl.class);
-        assertThat(Proxy.isProxyClass(connection.getClass())).isTrue();
+        assertThat(Proxy.isProxyClass(connection.getClass())).isFalse();
 
         assertThat(sync).isInstanceOf(RedisAdvancedClusterCommands.class);
         assertThat(connection.async()).isInstanceOf(RedisAdvancedClusterAsyncCommands.class).isNotInstanceOf(
                 RedisAdvancedClusterAsyncCommandsImpl.class);
+        assertThat(Proxy.isProxyClass(connection.async().getClass())).isFalse();
+        assertThat(connection.async().getStatefulConnection()).isSameAs(connection);
         assertThat(connection.reactive()).isInstanceOf(RedisAdvancedClusterReactiveCommands.class).isNotInstanceOf(
                 RedisAdvancedClusterReactiveCommandsImpl.class);
+        assertThat(Proxy.isProxyClass(connection.reactive().getClass())).isFalse();
+        assertThat(connection.reactive().getStatefulConnection()).isSameAs(connection);
+        assertThat(sync.getStatefulConnection()).isSameAs(connection);
         assertThat(sync.getStatefulConnection()).isInstanceOf(StatefulRedisClusterConnection.class)
                 .isNotInstanceOf(StatefulRedisClusterConnectionImpl.class).isSameAs(connection);
 
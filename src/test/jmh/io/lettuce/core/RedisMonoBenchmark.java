@@ -0,0 +1,82 @@
+/*
+ * Copyright 2011-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import reactor.core.publisher.Mono;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.protocol.RedisCommand;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+
+/**
+ * Benchmark comparing single-value command execution through the asynchronous API, {@link RedisPublisher} and
+ * {@link RedisMono}. Commands are completed on dispatch to measure the overhead of the API.
+ */
+@State(Scope.Benchmark)
+public class RedisMonoBenchmark {
+
+    private static final byte[] KEY = "benchmark".getBytes();
+
+    private RedisAsyncCommandsImpl<byte[], byte[]> asyncCommands;
+    private CompletingStatefulRedisConnection connection;
+    private Supplier<RedisCommand<byte[], byte[], String>> commandSupplier;
+
+    @Setup
+    public void setup() {
+
+        RedisCommandBuilder<byte[], byte[]> commandBuilder = new RedisCommandBuilder<>(ByteArrayCodec.INSTANCE);
+
+        connection = new CompletingStatefulRedisConnection();
+        asyncCommands = new RedisAsyncCommandsImpl<>(connection, ByteArrayCodec.INSTANCE);
+        commandSupplier = () -> commandBuilder.set(KEY, KEY);
+    }
+
+    @Benchmark
+    public Object async() {
+        return asyncCommands.set(KEY, KEY).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Object redisPublisher() {
+        return Mono.from(new RedisPublisher<>(commandSupplier, connection, false, ImmediateEventExecutor.INSTANCE)).block();
+    }
+
+    @Benchmark
+    public Object redisMono() {
+        return new RedisMono<>(commandSupplier, connection).block();
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static class CompletingStatefulRedisConnection extends EmptyStatefulRedisConnection {
+
+        CompletingStatefulRedisConnection() {
+            super(EmptyRedisChannelWriter.INSTANCE);
+        }
+
+        @Override
+        public RedisCommand dispatch(RedisCommand command) {
+
+            command.complete();
+            return command;
+        }
+    }
+}